@@ -0,0 +1,72 @@
+package benchmarks;
+
+import contrib.components.CollideComponent;
+import contrib.systems.CollisionSystem;
+import core.Entity;
+import core.Game;
+import core.components.PositionComponent;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks one execution of the {@link CollisionSystem}.
+ *
+ * <p>The entities are placed randomly (with a fixed seed) in a square area that grows with the
+ * number of entities, so each entity has about the same number of neighbours at each entity count.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class CollisionBenchmark {
+
+  private static final long SEED = 42;
+  private static final float AREA_PER_ENTITY = 4f;
+
+  @Param({"10", "100", "1000", "5000"})
+  private int entityCount;
+
+  private CollisionSystem system;
+
+  /** Create the system and the colliding entities. */
+  @Setup
+  public void setup() {
+    system = new CollisionSystem();
+    Game.add(system);
+    Random random = new Random(SEED);
+    float size = (float) Math.sqrt(entityCount * AREA_PER_ENTITY);
+    for (int i = 0; i < entityCount; i++) {
+      Entity entity = new Entity();
+      entity.add(new PositionComponent(random.nextFloat() * size, random.nextFloat() * size));
+      entity.add(new CollideComponent());
+      Game.add(entity);
+    }
+  }
+
+  /** Remove the entities and systems. */
+  @TearDown
+  public void cleanup() {
+    Game.removeAllEntities();
+    Game.removeAllSystems();
+  }
+
+  /** Check all entities for collisions. */
+  @Benchmark
+  public void execute() {
+    system.execute();
+  }
+}
@@ -0,0 +1,80 @@
+package benchmarks;
+
+import dsl.interpreter.DSLEntryPointFinder;
+import dsl.interpreter.DSLInterpreter;
+import dsl.parser.DungeonASTConverter;
+import dsl.parser.ast.Node;
+import entrypoint.DSLEntryPoint;
+import entrypoint.DSLFileLoader;
+import entrypoint.DungeonConfig;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the parsing and the interpretation of the example DSL scripts.
+ *
+ * <p>The script paths are relative to the dungeon project, which is the working directory of the
+ * benchmarks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class DSLBenchmark {
+
+  @Param({
+    "assets/scripts/example.dng",
+    "assets/scripts/template.dng",
+    "doc/dsl/examplescripts/example_scenario.dng"
+  })
+  private String script;
+
+  private String program;
+  private List<DSLEntryPoint> entryPoints;
+
+  /** Load the script and find its entry points. */
+  @Setup
+  public void setup() {
+    Path path = Path.of(script);
+    program = DSLFileLoader.fileToString(path);
+    entryPoints = new DSLEntryPointFinder().getEntryPoints(path).orElse(List.of());
+  }
+
+  /**
+   * Parse the script into an AST.
+   *
+   * @return The AST of the script.
+   */
+  @Benchmark
+  public Node parse() {
+    return DungeonASTConverter.getProgramAST(program);
+  }
+
+  /**
+   * Interpret each entry point of the script with a new interpreter.
+   *
+   * @param blackhole Consumes the configs.
+   */
+  @Benchmark
+  public void interpret(final Blackhole blackhole) {
+    for (DSLEntryPoint entryPoint : entryPoints) {
+      DungeonConfig config = new DSLInterpreter().interpretEntryPoint(entryPoint);
+      blackhole.consume(config);
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package benchmarks;
+
+import core.Entity;
+import core.Game;
+import core.components.PositionComponent;
+import core.components.VelocityComponent;
+import core.game.ECSManagment;
+import core.systems.PositionSystem;
+import core.systems.VelocitySystem;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the entity management of the {@link ECSManagment}.
+ *
+ * <p>The game contains the given number of entities with a {@link PositionComponent} and a {@link
+ * VelocityComponent}, and two systems that process them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ECSBenchmark {
+
+  @Param({"100", "1000", "10000"})
+  private int entityCount;
+
+  private final List<Entity> entities = new ArrayList<>();
+  private PositionSystem positionSystem;
+  private int next = 0;
+
+  /** Fill the game with the entities. */
+  @Setup
+  public void setup() {
+    positionSystem = new PositionSystem();
+    Game.add(positionSystem);
+    Game.add(new VelocitySystem());
+    for (int i = 0; i < entityCount; i++) {
+      Entity entity = new Entity();
+      entity.add(new PositionComponent(i % 100, i / 100f));
+      entity.add(new VelocityComponent(1, 1));
+      entities.add(entity);
+      Game.add(entity);
+    }
+  }
+
+  /** Remove the entities and systems. */
+  @TearDown
+  public void cleanup() {
+    Game.removeAllEntities();
+    Game.removeAllSystems();
+    entities.clear();
+  }
+
+  private Entity nextEntity() {
+    next = (next + 1) % entities.size();
+    return entities.get(next);
+  }
+
+  /** Remove one entity from the game and add it again. */
+  @Benchmark
+  public void removeAndAdd() {
+    Entity entity = nextEntity();
+    Game.remove(entity);
+    Game.add(entity);
+  }
+
+  /** Remove one component of an entity and add it again, each informs the game. */
+  @Benchmark
+  public void componentChange() {
+    Entity entity = nextEntity();
+    VelocityComponent vc = entity.fetch(VelocityComponent.class).orElseThrow();
+    entity.remove(VelocityComponent.class);
+    entity.add(vc);
+  }
+
+  /**
+   * Iterate over all entities of the game.
+   *
+   * @param blackhole Consumes the entities.
+   */
+  @Benchmark
+  public void entityStream(final Blackhole blackhole) {
+    Game.entityStream().forEach(blackhole::consume);
+  }
+
+  /**
+   * Iterate over the entities of a system.
+   *
+   * @param blackhole Consumes the entities.
+   */
+  @Benchmark
+  public void systemEntityStream(final Blackhole blackhole) {
+    positionSystem.entityStream().forEach(blackhole::consume);
+  }
+}
@@ -0,0 +1,81 @@
+package benchmarks;
+
+import contrib.level.generator.graphBased.RoomGenerator;
+import contrib.level.generator.graphBased.levelGraph.LevelGraph;
+import contrib.level.generator.graphBased.levelGraph.LevelNode;
+import core.level.elements.ILevel;
+import core.level.generator.randomwalk.RandomWalkGenerator;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+import core.level.utils.LevelSize;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the level generators.
+ *
+ * <p>The generated layouts are random, so the results vary more than those of the other
+ * benchmarks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class LevelGenerationBenchmark {
+
+  @Param({"SMALL", "MEDIUM", "LARGE"})
+  private LevelSize levelSize;
+
+  private final RandomWalkGenerator randomWalkGenerator = new RandomWalkGenerator();
+  private final RoomGenerator roomGenerator = new RoomGenerator();
+  private LevelNode[] doors;
+
+  /** Create a room node with a neighbour in each direction. */
+  @Setup
+  public void setup() {
+    LevelNode neighbour = new LevelNode(new LevelGraph());
+    doors = new LevelNode[] {neighbour, neighbour, neighbour, neighbour};
+  }
+
+  /**
+   * Generate the layout of a level with the random walk generator.
+   *
+   * @return The layout.
+   */
+  @Benchmark
+  public LevelElement[][] randomWalkLayout() {
+    return randomWalkGenerator.layout(levelSize);
+  }
+
+  /**
+   * Generate a level with the random walk generator, including its tiles and connections.
+   *
+   * @return The level.
+   */
+  @Benchmark
+  public ILevel randomWalkLevel() {
+    return randomWalkGenerator.level(DesignLabel.DEFAULT, levelSize);
+  }
+
+  /**
+   * Generate the layout of a room with a door in each direction.
+   *
+   * @return The layout.
+   */
+  @Benchmark
+  public LevelElement[][] roomLayout() {
+    return roomGenerator.layout(levelSize, doors);
+  }
+}
@@ -0,0 +1,88 @@
+package benchmarks;
+
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import core.Game;
+import core.level.Tile;
+import core.level.elements.ILevel;
+import core.level.generator.randomwalk.RandomWalkGenerator;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelSize;
+import core.level.utils.LevelUtils;
+import core.systems.LevelSystem;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the path finding and the range queries on a generated level.
+ *
+ * <p>The paths lead from the start tile to the end tile of a level that is generated by the {@link
+ * RandomWalkGenerator}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class PathfindingBenchmark {
+
+  @Param({"SMALL", "MEDIUM", "LARGE"})
+  private LevelSize levelSize;
+
+  @Param({"3", "10"})
+  private float radius;
+
+  private ILevel level;
+  private Tile start;
+  private Tile end;
+
+  /** Generate and load the level. */
+  @Setup
+  public void setup() {
+    RandomWalkGenerator generator = new RandomWalkGenerator();
+    Game.add(new LevelSystem(null, generator, () -> {}));
+    level = generator.level(DesignLabel.DEFAULT, levelSize);
+    Game.currentLevel(level);
+    start = level.startTile();
+    end = level.endTile();
+  }
+
+  /** Remove the level. */
+  @TearDown
+  public void cleanup() {
+    Game.removeAllEntities();
+    Game.removeAllSystems();
+  }
+
+  /**
+   * Find the path from the start to the end of the level.
+   *
+   * @return The path.
+   */
+  @Benchmark
+  public GraphPath<Tile> findPath() {
+    return level.findPath(start, end);
+  }
+
+  /**
+   * Get the tiles in the range around the start tile.
+   *
+   * @return The tiles in range.
+   */
+  @Benchmark
+  public List<Tile> tilesInRange() {
+    return LevelUtils.tilesInRange(start.position(), radius);
+  }
+}
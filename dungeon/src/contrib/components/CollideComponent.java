@@ -1,6 +1,6 @@
 package contrib.components;
 
-import core.Component;
+import core.CopyableComponent;
 import core.Entity;
 import core.components.PositionComponent;
 import core.level.Tile;
@@ -40,7 +40,7 @@ import java.util.logging.Logger;
  * @see contrib.systems.CollisionSystem
  */
 @DSLType(name = "hitbox_component")
-public final class CollideComponent implements Component {
+public final class CollideComponent implements CopyableComponent {
   public static final Point DEFAULT_OFFSET = new Point(0.25f, 0.25f);
   public static final Point DEFAULT_SIZE = new Point(0.5f, 0.5f);
   public static final TriConsumer<Entity, Entity, Tile.Direction> DEFAULT_COLLIDER =
@@ -190,6 +190,17 @@ public final class CollideComponent implements Component {
     this.collideLeave = collideLeave;
   }
 
+  /**
+   * Create a copy of this component with the same hitbox and collide functions.
+   *
+   * @return A new CollideComponent with the configuration of this component.
+   */
+  @Override
+  public CollideComponent copy() {
+    // offset and size are never modified, so they can be shared
+    return new CollideComponent(offset, size, collideEnter, collideLeave);
+  }
+
   /**
    * Get the size of the hitbox.
    *
@@ -4,7 +4,7 @@ import com.badlogic.gdx.utils.Null;
 import contrib.systems.HealthSystem;
 import contrib.utils.components.health.Damage;
 import contrib.utils.components.health.DamageType;
-import core.Component;
+import core.CopyableComponent;
 import core.Entity;
 import core.utils.logging.CustomLogLevel;
 import dsl.annotation.DSLCallback;
@@ -33,7 +33,7 @@ import java.util.logging.Logger;
  * <p>To determine the last cause of damage, the {@link #lastDamageCause()} method can be used.
  */
 @DSLType(name = "health_component")
-public final class HealthComponent implements Component {
+public final class HealthComponent implements CopyableComponent {
   private final List<Damage> damageToGet;
   private @DSLCallback(name = "on_death") final Consumer<Entity> onDeath;
   private final Logger LOGGER = Logger.getLogger(this.getClass().getName());
@@ -66,6 +66,22 @@ public final class HealthComponent implements Component {
     this(1, onDeath -> {});
   }
 
+  /**
+   * Create a copy of this component.
+   *
+   * <p>The copy has the same health points and on-death callback, but no pending damage and no
+   * last cause of damage.
+   *
+   * @return A new HealthComponent with the health points of this component.
+   */
+  @Override
+  public HealthComponent copy() {
+    HealthComponent copy = new HealthComponent(maximalHealthpoints, onDeath);
+    copy.currentHealthpoints = currentHealthpoints;
+    copy.godMode = godMode;
+    return copy;
+  }
+
   /**
    * Add damage, which is accounted for by the {@link HealthSystem}.
    *
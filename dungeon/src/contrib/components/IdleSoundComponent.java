@@ -1,13 +1,20 @@
 package contrib.components;
 
-import core.Component;
+import core.CopyableComponent;
 import core.utils.components.path.IPath;
 
 /**
  * Stores a String path to a sound file that can be played by the {@link
  * contrib.systems.IdleSoundSystem}.
  *
+ * <p>The component is immutable, so a {@link core.Prefab} shares it between all spawned entities.
+ *
  * @param soundEffect Path to the sound file to play.
  * @see contrib.systems.IdleSoundSystem
  */
-public record IdleSoundComponent(IPath soundEffect) implements Component {}
+public record IdleSoundComponent(IPath soundEffect) implements CopyableComponent {
+  @Override
+  public IdleSoundComponent copy() {
+    return this;
+  }
+}
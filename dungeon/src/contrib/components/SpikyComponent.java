@@ -2,7 +2,7 @@ package contrib.components;
 
 import contrib.utils.components.health.Damage;
 import contrib.utils.components.health.DamageType;
-import core.Component;
+import core.CopyableComponent;
 
 /**
  * Marks an Entity as "spiky".
@@ -28,7 +28,7 @@ import core.Component;
  *
  * @see contrib.entities.EntityFactory
  */
-public final class SpikyComponent implements Component {
+public final class SpikyComponent implements CopyableComponent {
   private final int damageAmount;
   private final DamageType damageType;
 
@@ -49,6 +49,16 @@ public final class SpikyComponent implements Component {
     this.currentCoolDown = coolDown;
   }
 
+  /**
+   * Create a copy of this component with a full cool down.
+   *
+   * @return A new SpikyComponent with the configuration of this component.
+   */
+  @Override
+  public SpikyComponent copy() {
+    return new SpikyComponent(damageAmount, damageType, coolDown);
+  }
+
   /**
    * Amount of damage to cause.
    *
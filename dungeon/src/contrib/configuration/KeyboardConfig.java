@@ -45,4 +45,7 @@ public class KeyboardConfig {
 
   public static final ConfigKey<Integer> DEBUG_TELEPORT_TO_CURSOR =
       new ConfigKey<>(new String[] {"debug", "teleport_cursor"}, new ConfigIntValue(Input.Keys.O));
+
+  public static final ConfigKey<Integer> DEBUG_TOGGLE_PROFILER =
+      new ConfigKey<>(new String[] {"debug", "toggle_profiler"}, new ConfigIntValue(Input.Keys.F3));
 }
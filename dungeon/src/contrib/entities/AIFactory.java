@@ -20,6 +20,7 @@ import core.Game;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -39,8 +40,6 @@ public final class AIFactory {
 
   // FightAI Parameters:
   // CollideAI
-  private static final float RUSH_RANGE_LOW = 0.5f;
-  private static final float RUSH_RANGE_HIGH = 2.0f;
   private static final int FIREBALL_COOL_DOWN = 750;
 
   // RangeAI
@@ -101,7 +100,7 @@ public final class AIFactory {
     int index = RANDOM.nextInt(0, 3);
 
     return switch (index) {
-      case 0 -> new CollideAI(RANDOM.nextFloat(RUSH_RANGE_LOW, RUSH_RANGE_HIGH));
+      case 0 -> new CollideAI();
       case 1 ->
           new RangeAI(
               RANDOM.nextFloat(ATTACK_RANGE_LOW, ATTACK_RANGE_HIGH),
@@ -183,9 +182,7 @@ public final class AIFactory {
    */
   private static Optional<Entity> randomMonster() {
     Stream<Entity> monsterStream =
-        Game.entityStream()
-            .filter(m -> m.fetch(HealthComponent.class).isPresent())
-            .filter(m -> m.fetch(AIComponent.class).isPresent());
+        Game.entityStream(Set.of(HealthComponent.class, AIComponent.class));
 
     List<Entity> monsterList = monsterStream.toList();
     Entity monster = null;
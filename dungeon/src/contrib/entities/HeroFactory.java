@@ -164,9 +164,7 @@ public final class HeroFactory {
         KeyboardConfig.CLOSE_UI.value(),
         (e) -> {
           var firstUI =
-              Game.entityStream() // would be nice to directly access HudSystems
-                  // stream (no access to the System object)
-                  .filter(x -> x.isPresent(UIComponent.class)) // find all Entities
+              Game.entities(UIComponent.class).stream() // find all Entities
                   // which have a
                   // UIComponent
                   .map(
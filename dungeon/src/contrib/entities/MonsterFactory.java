@@ -9,12 +9,14 @@ import contrib.utils.components.interaction.DropItemsInteraction;
 import contrib.utils.components.item.ItemGenerator;
 import core.Entity;
 import core.Game;
+import core.Prefab;
 import core.components.DrawComponent;
 import core.components.PositionComponent;
 import core.components.VelocityComponent;
 import core.utils.components.path.IPath;
 import core.utils.components.path.SimpleIPath;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Random;
 import java.util.function.BiConsumer;
 
@@ -46,7 +48,7 @@ public final class MonsterFactory {
   private static final float MAX_MONSTER_SPEED = 8.5f;
   private static final DamageType MONSTER_COLLIDE_DAMAGE_TYPE = DamageType.PHYSICAL;
   private static final int MONSTER_COLLIDE_DAMAGE = 10;
-  private static final int MONSTER_COLLIDE_COOL_DOWN = 2 * Game.frameRate();
+  private static final int MONSTER_COLLIDE_COOL_DOWN = 2 * Game.tickRate();
 
   /**
    * Get an Entity that can be used as a monster.
@@ -77,6 +79,9 @@ public final class MonsterFactory {
    * a 10% chance for an {@link * InventoryComponent}. If it has an Inventory it will use the {@link
    * DropItemsInteraction} on * death.
    *
+   * <p>The components that are equal for all monsters with the given textures are copied from a
+   * {@link Prefab}, so the animations are only loaded once per texture.
+   *
    * @param pathToTexture Textures to use for the monster.
    * @return A new Entity.
    * @throws IOException if the animation could not been loaded.
@@ -85,7 +90,7 @@ public final class MonsterFactory {
     int health = RANDOM.nextInt(MIN_MONSTER_HEALTH, MAX_MONSTER_HEALTH);
     float speed = RANDOM.nextFloat(MIN_MONSTER_SPEED, MAX_MONSTER_SPEED);
 
-    Entity monster = new Entity("monster");
+    Entity monster = prefab(pathToTexture).spawn();
     int itemRoll = RANDOM.nextInt(0, 10);
     BiConsumer<Entity, Entity> onDeath;
     if (itemRoll == 0) {
@@ -102,18 +107,37 @@ public final class MonsterFactory {
       onDeath = (e, who) -> playMonsterDieSound();
     }
     monster.add(new HealthComponent(health, (e) -> onDeath.accept(e, null)));
-    monster.add(new PositionComponent());
     monster.add(AIFactory.randomAI(monster));
-    monster.add(new DrawComponent(pathToTexture));
     monster.add(new VelocityComponent(speed, speed));
-    monster.add(new CollideComponent());
-    monster.add(
-        new SpikyComponent(
-            MONSTER_COLLIDE_DAMAGE, MONSTER_COLLIDE_DAMAGE_TYPE, MONSTER_COLLIDE_COOL_DOWN));
     monster.add(new IdleSoundComponent(randomMonsterIdleSound()));
     return monster;
   }
 
+  private static Prefab prefab(final IPath pathToTexture) throws IOException {
+    try {
+      return Prefab.get(
+          "monster:" + pathToTexture.pathString(),
+          () -> {
+            Entity template = new Entity("monster");
+            template.add(new PositionComponent());
+            try {
+              template.add(new DrawComponent(pathToTexture));
+            } catch (IOException e) {
+              throw new UncheckedIOException(e);
+            }
+            template.add(new CollideComponent());
+            template.add(
+                new SpikyComponent(
+                    MONSTER_COLLIDE_DAMAGE,
+                    MONSTER_COLLIDE_DAMAGE_TYPE,
+                    MONSTER_COLLIDE_COOL_DOWN));
+            return template;
+          });
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
   private static void playMonsterDieSound() {
     Sound dieSoundEffect;
     switch (RANDOM.nextInt(4)) {
@@ -0,0 +1,125 @@
+package contrib.hud;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.utils.Align;
+import core.Game;
+import core.game.FrameProfiler;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Shows the measurements of the {@link FrameProfiler} in the upper left corner of the screen.
+ *
+ * <p>The overlay shows the average and maximum frame time, the ticks, allocations, render calls,
+ * texture switches and sprites of the last frames, the slowest systems and the largest {@link
+ * core.utils.EntitySystemMapper}s. The text is refreshed a few times per second, so it stays
+ * readable.
+ *
+ * <p>Use {@link #toggle()} to show or hide the overlay, see {@link
+ * contrib.utils.components.Debugger#TOGGLE_PROFILER()}.
+ */
+public final class FrameProfilerOverlay extends Label {
+  private static final float REFRESH_INTERVAL = 0.25f;
+  private static final int AVERAGED_FRAMES = 60;
+  private static final int SHOWN_ROWS = 8;
+  private static final float MARGIN = 10f;
+  private static FrameProfilerOverlay overlay;
+
+  private float sinceRefresh = REFRESH_INTERVAL;
+
+  private FrameProfilerOverlay() {
+    super("", UIUtils.DEFAULT_SKIN);
+    setColor(Color.WHITE);
+    setAlignment(Align.topLeft);
+  }
+
+  /**
+   * Show or hide the overlay.
+   *
+   * <p>The {@link FrameProfiler} is enabled while the overlay is shown.
+   *
+   * @return true if the overlay is shown now, false if it was hidden.
+   */
+  public static boolean toggle() {
+    if (overlay != null && overlay.getStage() != null) {
+      overlay.remove();
+      FrameProfiler.enabled(false);
+      return false;
+    }
+    if (Game.stage().isEmpty()) return false;
+    if (overlay == null) overlay = new FrameProfilerOverlay();
+    Game.stage().get().addActor(overlay);
+    FrameProfiler.enabled(true);
+    return true;
+  }
+
+  @Override
+  public void act(final float delta) {
+    super.act(delta);
+    sinceRefresh += delta;
+    if (sinceRefresh < REFRESH_INTERVAL) return;
+    sinceRefresh = 0;
+    setText(text(FrameProfiler.frames()));
+    pack();
+    setPosition(MARGIN, getStage().getHeight() - getHeight() - MARGIN);
+  }
+
+  private static String text(final List<FrameProfiler.Frame> history) {
+    if (history.isEmpty()) return "no frames recorded";
+    List<FrameProfiler.Frame> frames =
+        history.subList(Math.max(0, history.size() - AVERAGED_FRAMES), history.size());
+    long total = 0;
+    long max = 0;
+    Map<String, Long> systems = new HashMap<>();
+    for (FrameProfiler.Frame frame : frames) {
+      total += frame.nanos();
+      max = Math.max(max, frame.nanos());
+      frame.systems().forEach((name, sample) -> systems.merge(name, sample.nanos(), Long::sum));
+    }
+    FrameProfiler.Frame last = frames.get(frames.size() - 1);
+    StringBuilder text = new StringBuilder();
+    text.append(
+        String.format(
+            Locale.ROOT,
+            "frame %.2f ms (max %.2f ms), %d ticks%n",
+            millis(total) / frames.size(),
+            millis(max),
+            last.ticks()));
+    text.append(
+        String.format(
+            Locale.ROOT,
+            "alloc %.1f KB, %d render calls, %d texture switches, %d sprites%n",
+            last.allocatedBytes() / 1024.0,
+            last.renderCalls(),
+            last.textureSwitches(),
+            last.sprites()));
+    systems.entrySet().stream()
+        .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+        .limit(SHOWN_ROWS)
+        .forEach(
+            entry ->
+                text.append(
+                    String.format(
+                        Locale.ROOT,
+                        "  %-24s %.3f ms%n",
+                        entry.getKey(),
+                        millis(entry.getValue()) / frames.size())));
+    last.entities().entrySet().stream()
+        .sorted(Map.Entry.comparingByValue(Comparator.reverseOrder()))
+        .limit(SHOWN_ROWS)
+        .forEach(
+            entry ->
+                text.append(
+                    String.format(
+                        Locale.ROOT, "  %-24s %d entities%n", entry.getKey(), entry.getValue())));
+    return text.toString().trim();
+  }
+
+  private static double millis(final long nanos) {
+    return nanos / 1_000_000.0;
+  }
+}
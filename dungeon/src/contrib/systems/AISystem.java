@@ -1,6 +1,7 @@
 package contrib.systems;
 
 import contrib.components.AIComponent;
+import contrib.utils.components.ai.PathService;
 import core.Entity;
 import core.System;
 import core.utils.components.MissingComponentException;
@@ -9,6 +10,9 @@ import core.utils.components.MissingComponentException;
  * Controls the AI.
  *
  * <p>Entities with the {@link AIComponent} will be processed by this system.
+ *
+ * <p>At the start of each frame, the finished searches of the {@link PathService} are delivered to
+ * the AIs that requested them.
  */
 public final class AISystem extends System {
 
@@ -19,7 +23,8 @@ public final class AISystem extends System {
 
   @Override
   public void execute() {
-    entityStream().forEach(this::executeAI);
+    PathService.update();
+    forEachEntity(this::executeAI);
   }
 
   private void executeAI(Entity entity) {
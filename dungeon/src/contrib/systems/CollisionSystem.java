@@ -1,13 +1,15 @@
 package contrib.systems;
 
+import com.badlogic.gdx.utils.LongArray;
+import com.badlogic.gdx.utils.LongMap;
 import contrib.components.CollideComponent;
 import core.Entity;
 import core.System;
 import core.level.Tile;
+import core.utils.Point;
 import core.utils.components.MissingComponentException;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.stream.Stream;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * System to check for collisions between two entities.
@@ -17,107 +19,214 @@ import java.util.stream.Stream;
  *
  * <p>The system does imply the hit boxes are axis aligned.
  *
+ * <p>To avoid checking every pair of entities, a sweep-and-prune broad phase along the x-axis is
+ * used: only entities whose hit boxes overlap on the x-axis are checked for a collision.
+ *
  * <p>Each CollideComponent should only be informed when a collision begins or ends. For this, a map
  * with all currently active collisions is stored and allows informing the entities when a collision
- * ended.
+ * ended. The collisions are keyed by the {@link Entity#id()}s of both partners packed into a long,
+ * so no key objects are allocated.
  *
  * <p>Entities with the {@link CollideComponent} will be processed by this system.
  */
 public final class CollisionSystem extends System {
 
-  private final Map<CollisionKey, CollisionData> collisions = new HashMap<>();
+  private static final int INITIAL_CAPACITY = 64;
+
+  // the collisions of the last frame, and the ones that still happen in this frame
+  private LongMap<CollisionData> collisions = new LongMap<>();
+  private LongMap<CollisionData> overlapping = new LongMap<>();
+  private final LongArray ended = new LongArray();
+
+  // per frame broad phase data, indexed by the position of the entity in the entity snapshot
+  private Entity[] entities = new Entity[INITIAL_CAPACITY];
+  private CollideComponent[] hitBoxes = new CollideComponent[INITIAL_CAPACITY];
+  private float[] minX = new float[INITIAL_CAPACITY];
+  private float[] minY = new float[INITIAL_CAPACITY];
+  private float[] maxX = new float[INITIAL_CAPACITY];
+  private float[] maxY = new float[INITIAL_CAPACITY];
+  private long[] sweepOrder = new long[INITIAL_CAPACITY];
 
   /** Create a new CollisionSystem. */
   public CollisionSystem() {
     super(CollideComponent.class);
+    // forget the collisions of entities that are no longer processed by this system
+    onEntityRemove =
+        entity -> {
+          forget(collisions, entity.id());
+          forget(overlapping, entity.id());
+        };
   }
 
   /**
-   * Test every CollideEntity with every other CollideEntity for collision.
+   * Check every CollideEntity against the other CollideEntities that could collide with it.
+   *
+   * <p>The broad phase sorts the hit boxes by their left edge and sweeps along the x-axis, so only
+   * entities whose hit boxes overlap on the x-axis are checked against each other. This avoids
+   * testing every pair of entities.
    *
    * <p>The collision check will be performed only once for a given tuple of entities, i.e. when
    * entity A does collide with entity B, it also means B collides with A.
+   *
+   * <p>Collisions that were stored in a previous frame but are no longer happening will be ended
+   * afterward.
    */
   @Override
   public void execute() {
-    entityStream().flatMap(this::createDataPairs).forEach(this::onEnterLeaveCheck);
+    int count = collectHitBoxes();
+    sweep(count);
+    endCollisions();
   }
 
   /**
-   * Create a stream of pairs of entities.
-   *
-   * <p>Pair a given entity with every other entity with a higher ID.
+   * Store the entity, the hit box and the bounds of each processed entity in the broad phase arrays
+   * and prepare the sweep order.
    *
-   * @param a Entity which is the lower ID partner.
-   * @return The stream which contains every valid pair of Entities.
+   * @return Number of collected entities.
    */
-  private Stream<CollisionData> createDataPairs(final Entity a) {
-    return entityStream().filter(b -> isSmallerThen(a, b)).map(b -> newDataPair(a, b));
+  private int collectHitBoxes() {
+    List<Entity> snapshot = entities();
+    int count = snapshot.size();
+    ensureCapacity(count);
+    for (int i = 0; i < count; i++) {
+      Entity entity = snapshot.get(i);
+      CollideComponent hitBox =
+          entity
+              .fetch(CollideComponent.class)
+              .orElseThrow(() -> MissingComponentException.build(entity, CollideComponent.class));
+      Point bottomLeft = hitBox.bottomLeft(entity);
+      Point topRight = hitBox.topRight(entity);
+      entities[i] = entity;
+      hitBoxes[i] = hitBox;
+      minX[i] = bottomLeft.x;
+      minY[i] = bottomLeft.y;
+      maxX[i] = topRight.x;
+      maxY[i] = topRight.y;
+      sweepOrder[i] = ((long) sortableBits(minX[i]) << 32) | i;
+    }
+    Arrays.sort(sweepOrder, 0, count);
+    return count;
   }
 
   /**
-   * Compare the entities.
-   *
-   * <p>This comparison is applied in the {@link #createDataPairs(Entity a) createDataPairs} method
-   * to create only tuples with entities with higher ID. This avoids performing a collision check
-   * twice for a pair of entities, first for (a,b) and second for (b,a).
+   * Sweep over the hit boxes sorted by their left edge and check each hit box against the
+   * following hit boxes until one starts right of its right edge.
    *
-   * @param a First Entity.
-   * @param b Second Entity
-   * @return true when the comparison between a and b is less than zero, otherwise false.
+   * @param count Number of collected entities.
    */
-  private boolean isSmallerThen(final Entity a, final Entity b) {
-    return a.compareTo(b) < 0;
+  private void sweep(final int count) {
+    for (int i = 0; i < count; i++) {
+      int a = (int) sweepOrder[i];
+      for (int j = i + 1; j < count; j++) {
+        int b = (int) sweepOrder[j];
+        if (minX[b] >= maxX[a]) break;
+        if (overlaps(a, b)) onCollision(a, b);
+      }
+      // drop the references, so removed entities can be collected
+      entities[a] = null;
+      hitBoxes[a] = null;
+    }
+  }
+
+  private boolean overlaps(final int a, final int b) {
+    return minX[a] < maxX[b] && maxX[a] > minX[b] && minY[a] < maxY[b] && maxY[a] > minY[b];
   }
 
   /**
-   * Create a pair of CollideComponents which is then used to check whether a collision is happening
-   * and to store in the internal map. Which allows informing the CollideComponents about an ended
-   * Collision.
+   * Handle the overlapping hit boxes at the given indices.
    *
-   * @param a The first Entity.
-   * @param b the second Entity.
-   * @return The pair of CollideComponents.
+   * <p>A new collision will call the onEnter of both hit boxes; an ongoing collision will not.
+   *
+   * @param a Index of the first entity.
+   * @param b Index of the second entity.
    */
-  private CollisionData newDataPair(final Entity a, final Entity b) {
-    CollideComponent cca =
-        a.fetch(CollideComponent.class)
-            .orElseThrow(() -> MissingComponentException.build(a, CollideComponent.class));
-    CollideComponent ccb =
-        b.fetch(CollideComponent.class)
-            .orElseThrow(() -> MissingComponentException.build(b, CollideComponent.class));
-
-    return new CollisionData(a, cca, b, ccb);
+  private void onCollision(final int a, final int b) {
+    // the entity with the lower ID is always the first partner of the pair
+    int first = isSmallerThen(entities[a], entities[b]) ? a : b;
+    int second = first == a ? b : a;
+    long key = key(entities[first].id(), entities[second].id());
+    CollisionData ongoing = collisions.remove(key);
+    if (ongoing != null) overlapping.put(key, ongoing);
+    else if (!overlapping.containsKey(key)) {
+      CollisionData cdata =
+          new CollisionData(entities[first], hitBoxes[first], entities[second], hitBoxes[second]);
+      // a new collision should call the onEnter on both entities
+      overlapping.put(key, cdata);
+      Tile.Direction d = checkDirectionOfCollision(cdata.ea, cdata.a, cdata.eb, cdata.b);
+      cdata.a.onEnter(cdata.ea, cdata.eb, d);
+      cdata.b.onEnter(cdata.eb, cdata.ea, inverse(d));
+    }
   }
 
   /**
-   * Check whether a new collision is happening or whether a collision has ended.
+   * Call the onLeave of both hit boxes for each stored collision that did not happen in this frame.
    *
-   * <p>Only allows a new collision to call the onEnter of the hitBoxes. An ongoing collision is not
-   * calling the onEnter of the hitBoxes. When a previous collision existed and no longer is an
-   * active collision, onLeave is called. onLeave is only called once.
-   *
-   * @param cdata The CollisionData where a collision change may happen.
+   * <p>onLeave is only called once.
    */
-  private void onEnterLeaveCheck(final CollisionData cdata) {
-    CollisionKey key = new CollisionKey(cdata.ea.id(), cdata.eb.id());
-
-    if (checkForCollision(cdata.ea, cdata.a, cdata.eb, cdata.b)) {
-      // a collision is currently happening
-      if (!collisions.containsKey(key)) {
-        // a new collision should call the onEnter on both entities
-        collisions.put(key, cdata);
-        Tile.Direction d = checkDirectionOfCollision(cdata.ea, cdata.a, cdata.eb, cdata.b);
-        cdata.a.onEnter(cdata.ea, cdata.eb, d);
-        cdata.b.onEnter(cdata.eb, cdata.ea, inverse(d));
-      }
-    } else if (collisions.remove(key) != null) {
-      // a collision was happening and the two entities are no longer colliding, on Leave
-      // called once
+  private void endCollisions() {
+    // the ongoing collisions were moved to overlapping, the remaining ones ended
+    LongMap<CollisionData> previous = collisions;
+    collisions = overlapping;
+    overlapping = previous;
+    ended.clear();
+    for (LongMap.Keys keys = previous.keys(); keys.hasNext; ) ended.add(keys.next());
+    for (int i = 0; i < ended.size; i++) {
+      CollisionData cdata = previous.remove(ended.get(i));
+      // the collision may have been removed by a callback of a previous onLeave
+      if (cdata == null) continue;
       Tile.Direction d = checkDirectionOfCollision(cdata.ea, cdata.a, cdata.eb, cdata.b);
       cdata.a.onLeave(cdata.ea, cdata.eb, d);
       cdata.b.onLeave(cdata.eb, cdata.ea, inverse(d));
     }
+    previous.clear();
+  }
+
+  private static long key(final int first, final int second) {
+    return ((long) first << 32) | (second & 0xFFFFFFFFL);
+  }
+
+  private static void forget(final LongMap<CollisionData> collisions, final int id) {
+    for (LongMap.Keys keys = collisions.keys(); keys.hasNext; ) {
+      long key = keys.next();
+      if ((int) (key >>> 32) == id || (int) key == id) keys.remove();
+    }
+  }
+
+  private void ensureCapacity(final int count) {
+    if (count <= entities.length) return;
+    int capacity = Math.max(count, entities.length * 2);
+    entities = Arrays.copyOf(entities, capacity);
+    hitBoxes = Arrays.copyOf(hitBoxes, capacity);
+    minX = Arrays.copyOf(minX, capacity);
+    minY = Arrays.copyOf(minY, capacity);
+    maxX = Arrays.copyOf(maxX, capacity);
+    maxY = Arrays.copyOf(maxY, capacity);
+    sweepOrder = Arrays.copyOf(sweepOrder, capacity);
+  }
+
+  /**
+   * Map the float to an int, so that the order of the ints equals the order of the floats.
+   *
+   * @param value Float to map.
+   * @return Int with the same order as the float.
+   */
+  private static int sortableBits(final float value) {
+    int bits = Float.floatToIntBits(value);
+    return bits ^ ((bits >> 31) & 0x7fffffff);
+  }
+
+  /**
+   * Compare the entities.
+   *
+   * <p>This comparison is applied to order the partners of a collision, so each pair of entities is
+   * stored only once, with the entity with the lower ID first.
+   *
+   * @param a First Entity.
+   * @param b Second Entity
+   * @return true when the comparison between a and b is less than zero, otherwise false.
+   */
+  private boolean isSmallerThen(final Entity a, final Entity b) {
+    return a.compareTo(b) < 0;
   }
 
   /**
@@ -182,7 +291,5 @@ public final class CollisionSystem extends System {
     }
   }
 
-  private record CollisionKey(int a, int b) {}
-
   protected record CollisionData(Entity ea, CollideComponent a, Entity eb, CollideComponent b) {}
 }
@@ -15,8 +15,7 @@ import core.components.PositionComponent;
 import core.systems.CameraSystem;
 import core.utils.Point;
 import core.utils.logging.CustomLogLevel;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 import java.util.logging.Logger;
 
 /**
@@ -25,6 +24,8 @@ import java.util.logging.Logger;
  *
  * <p>Entities with the {@link HealthComponent} and {@link PositionComponent} will be processed by
  * this system.
+ *
+ * <p>There is no stage in headless mode, so no health bars are created.
  */
 public final class HealthBarSystem extends System {
 
@@ -41,14 +42,17 @@ public final class HealthBarSystem extends System {
   // the width of the health bar which can´t be smaller than the nineslicedrawable
   private static final int HEALTH_BAR_WIDTH = 50;
 
-  /** Mapping from actual entity and health bar of this entity. */
-  private final Map<Integer, ProgressBar> healthBarMapping = new HashMap<>();
+  /** Health bar of each entity, indexed by the id of the entity. */
+  private ProgressBar[] healthBars = new ProgressBar[0];
 
   /** Create a new HealthBarSystem */
   public HealthBarSystem() {
     super(HealthComponent.class, PositionComponent.class);
+    // no declared access: the health bars are scene2d actors and must be updated on the render
+    // thread
     this.onEntityAdd =
         (x) -> {
+          if (Game.headless()) return;
           LOGGER.log(CustomLogLevel.TRACE, "HealthBarSystem got send a new Entity");
           ProgressBar newHealthBar =
               createNewHealthBar(x.fetch(PositionComponent.class).orElseThrow());
@@ -61,17 +65,26 @@ public final class HealthBarSystem extends System {
           e.add(new UIComponent(group, false, false));
           Game.add(e);
           LOGGER.log(CustomLogLevel.TRACE, "created a new UIComponent for the health bar");
-          healthBarMapping.put(x.id(), newHealthBar);
+          if (x.id() >= healthBars.length)
+            healthBars = Arrays.copyOf(healthBars, Math.max(x.id() + 1, healthBars.length * 2));
+          healthBars[x.id()] = newHealthBar;
           LOGGER.log(CustomLogLevel.TRACE, "HealthBarSystem added to temporary mapping");
         };
     LOGGER.log(CustomLogLevel.TRACE, "HealthBarSystem onEntityAdd was changed");
-    this.onEntityRemove = (x) -> healthBarMapping.remove(x.id()).remove();
+    this.onEntityRemove =
+        (x) -> {
+          if (x.id() >= healthBars.length) return;
+          ProgressBar healthBar = healthBars[x.id()];
+          healthBars[x.id()] = null;
+          if (healthBar != null) healthBar.remove();
+        };
     LOGGER.log(CustomLogLevel.TRACE, "HealthBarSystem onEntityRemove was changed");
     LOGGER.info("HealthBarSystem created");
   }
 
   @Override
   public void execute() {
+    if (Game.headless()) return;
     entityStream().map(this::buildDataObject).forEach(this::update);
   }
 
@@ -89,7 +102,7 @@ public final class HealthBarSystem extends System {
     return new EnemyData(
         entity.fetch(HealthComponent.class).orElseThrow(),
         entity.fetch(PositionComponent.class).orElseThrow(),
-        healthBarMapping.get(entity.id()));
+        healthBars[entity.id()]);
   }
 
   private ProgressBar createNewHealthBar(PositionComponent pc) {
@@ -117,4 +130,10 @@ public final class HealthBarSystem extends System {
   }
 
   private record EnemyData(HealthComponent hc, PositionComponent pc, ProgressBar pb) {}
+
+  /** Moves the health bars once per frame, so they follow the drawn entities. */
+  @Override
+  public boolean executesPerFrame() {
+    return true;
+  }
 }
@@ -113,4 +113,10 @@ public final class HudSystem extends System {
   /** HudSystem can´t be paused */
   @Override
   public void stop() {}
+
+  /** Updates the user interface once per frame. */
+  @Override
+  public boolean executesPerFrame() {
+    return true;
+  }
 }
@@ -22,6 +22,7 @@ public final class IdleSoundSystem extends System {
   /** Create a new {@link IdleSoundSystem}. */
   public IdleSoundSystem() {
     super(IdleSoundComponent.class);
+    // no declared access: sounds must be played on the render thread
   }
 
   @Override
@@ -1,13 +1,12 @@
 package contrib.systems;
 
 import contrib.components.ProjectileComponent;
-import core.Entity;
 import core.Game;
 import core.System;
 import core.components.PositionComponent;
 import core.components.VelocityComponent;
+import core.game.ComponentQuery;
 import core.utils.Point;
-import core.utils.components.MissingComponentException;
 
 /**
  * The ProjectileSystem class represents a system responsible for managing {@link
@@ -25,50 +24,30 @@ import core.utils.components.MissingComponentException;
  */
 public final class ProjectileSystem extends System {
 
+  private final ComponentQuery.Of3<ProjectileComponent, PositionComponent, VelocityComponent>
+      query;
+
   /** Create a new ProjectileSystem. */
   public ProjectileSystem() {
     super(ProjectileComponent.class, PositionComponent.class, VelocityComponent.class);
+    query = Game.query(ProjectileComponent.class, PositionComponent.class, VelocityComponent.class);
+    writes(VelocityComponent.class);
   }
 
   /** Sets the velocity and removes entities that have reached their endpoints. */
   @Override
   public void execute() {
-    entityStream()
-        // Consider only entities that have a ProjectileComponent
-        .map(this::buildDataObject)
-        .map(this::setVelocity)
-        // Filter all entities that have reached their endpoint
-        .filter(this::hasReachedEndpoint)
-        // Remove all entities who reached their endpoint
-        .forEach(this::removeEntitiesOnEndpoint);
-  }
-
-  private PSData buildDataObject(final Entity entity) {
-
-    ProjectileComponent prc =
-        entity
-            .fetch(ProjectileComponent.class)
-            .orElseThrow(() -> MissingComponentException.build(entity, ProjectileComponent.class));
-    PositionComponent pc =
-        entity
-            .fetch(PositionComponent.class)
-            .orElseThrow(() -> MissingComponentException.build(entity, PositionComponent.class));
-    VelocityComponent vc =
-        entity
-            .fetch(VelocityComponent.class)
-            .orElseThrow(() -> MissingComponentException.build(entity, VelocityComponent.class));
-    return new PSData(entity, prc, pc, vc);
+    query.forEach(
+        (entity, prc, pc, vc) -> {
+          setVelocity(vc);
+          // Remove all entities who reached their endpoint
+          if (hasReachedEndpoint(prc, pc)) Game.remove(entity);
+        });
   }
 
-  private PSData setVelocity(final PSData data) {
-    data.vc.currentYVelocity(data.vc.yVelocity());
-    data.vc.currentXVelocity(data.vc.xVelocity());
-
-    return data;
-  }
-
-  private void removeEntitiesOnEndpoint(final PSData data) {
-    Game.remove(data.e);
+  private void setVelocity(final VelocityComponent vc) {
+    vc.currentYVelocity(vc.yVelocity());
+    vc.currentXVelocity(vc.xVelocity());
   }
 
   /**
@@ -77,13 +56,14 @@ public final class ProjectileSystem extends System {
    * <p>A Projectile can be out of range if it "skips" the endpoint. It has already reached the
    * endpoint and can be removed.
    *
-   * @param psd The PSData to check if the projectile has reached the endpoint.
+   * @param prc The ProjectileComponent of the projectile.
+   * @param pc The PositionComponent of the projectile.
    * @return true if the endpoint was reached or passed, else false.
    */
-  private boolean hasReachedEndpoint(final PSData psd) {
-    Point start = psd.prc.startPosition();
-    Point end = psd.prc.goalLocation();
-    Point current = psd.pc.position();
+  private boolean hasReachedEndpoint(final ProjectileComponent prc, final PositionComponent pc) {
+    Point start = prc.startPosition();
+    Point end = prc.goalLocation();
+    Point current = pc.position();
 
     double distanceToStart = Point.calculateDistance(start, current);
 
@@ -91,8 +71,4 @@ public final class ProjectileSystem extends System {
 
     return distanceToStart > totalDistance;
   }
-
-  // private record to hold all data during streaming
-  private record PSData(
-      Entity e, ProjectileComponent prc, PositionComponent pc, VelocityComponent vc) {}
 }
@@ -15,10 +15,11 @@ public final class SpikeSystem extends System {
   /** Create new SpikeSystem. */
   public SpikeSystem() {
     super(SpikyComponent.class);
+    writes(SpikyComponent.class);
   }
 
   @Override
   public void execute() {
-    entityStream().forEach(e -> e.fetch(SpikyComponent.class).orElseThrow().reduceCoolDown());
+    forEachEntity(e -> e.fetch(SpikyComponent.class).orElseThrow().reduceCoolDown());
   }
 }
@@ -6,6 +6,7 @@ import contrib.components.CollideComponent;
 import contrib.components.HealthComponent;
 import contrib.components.UIComponent;
 import contrib.configuration.KeyboardConfig;
+import contrib.hud.FrameProfilerOverlay;
 import contrib.hud.dialogs.TextDialog;
 import contrib.utils.components.ai.fight.CollideAI;
 import contrib.utils.components.ai.idle.RadiusWalk;
@@ -16,6 +17,7 @@ import core.Game;
 import core.components.DrawComponent;
 import core.components.PositionComponent;
 import core.components.VelocityComponent;
+import core.game.FrameProfiler;
 import core.level.Tile;
 import core.level.utils.Coordinate;
 import core.level.utils.LevelSize;
@@ -26,6 +28,7 @@ import core.utils.components.MissingComponentException;
 import core.utils.components.path.SimpleIPath;
 import core.utils.logging.CustomLogLevel;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.logging.Logger;
 
 /**
@@ -41,6 +44,9 @@ import java.util.logging.Logger;
  */
 public class Debugger {
 
+  /** Directory (relative to the working directory) for the dumps of the frame profiler. */
+  public static final String PROFILER_DIRECTORY = "profiler";
+
   private static final Logger LOGGER = Logger.getLogger(Debugger.class.getSimpleName());
   private static Entity pauseMenu;
 
@@ -179,7 +185,7 @@ public class Debugger {
       monster.add(new HealthComponent());
       monster.add(new CollideComponent());
       monster.add(
-          new AIComponent(new CollideAI(1), new RadiusWalk(5, 1), new SelfDefendTransition()));
+          new AIComponent(new CollideAI(), new RadiusWalk(5, 1), new SelfDefendTransition()));
 
       Game.add(monster);
       // Log that the monster was spawned
@@ -190,6 +196,30 @@ public class Debugger {
     }
   }
 
+  /**
+   * Shows or hides the frame profiler overlay.
+   *
+   * <p>While the overlay is shown, the {@link FrameProfiler} writes a rolling dump of the recorded
+   * frames into the {@link #PROFILER_DIRECTORY}. When the overlay is hidden, the last frames are
+   * written to {@code frames.csv} and {@code frames.json}, so a frame spike that was just seen can
+   * be examined.
+   */
+  public static void TOGGLE_PROFILER() {
+    if (FrameProfilerOverlay.toggle()) {
+      FrameProfiler.clear();
+      FrameProfiler.dumpDirectory(Path.of(PROFILER_DIRECTORY));
+      LOGGER.info("Frame profiler enabled");
+      return;
+    }
+    FrameProfiler.dumpDirectory(null);
+    try {
+      FrameProfiler.dump(Path.of(PROFILER_DIRECTORY));
+      LOGGER.info("Frame profiler disabled, frames written to " + PROFILER_DIRECTORY);
+    } catch (IOException e) {
+      LOGGER.warning("Could not write the frame profile: " + e.getMessage());
+    }
+  }
+
   /** Pauses the game. */
   public static void PAUSE_GAME() {
     if (pauseMenu == null
@@ -224,6 +254,8 @@ public class Debugger {
       Debugger.TOGGLE_LEVEL_SIZE();
     if (Gdx.input.isKeyJustPressed(KeyboardConfig.DEBUG_SPAWN_MONSTER.value()))
       Debugger.SPAWN_MONSTER_ON_CURSOR();
+    if (Gdx.input.isKeyJustPressed(KeyboardConfig.DEBUG_TOGGLE_PROFILER.value()))
+      Debugger.TOGGLE_PROFILER();
     if (Gdx.input.isKeyJustPressed(core.configuration.KeyboardConfig.PAUSE.value()))
       Debugger.PAUSE_GAME();
   }
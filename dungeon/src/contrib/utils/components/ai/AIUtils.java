@@ -6,6 +6,7 @@ import core.Game;
 import core.components.PositionComponent;
 import core.components.VelocityComponent;
 import core.level.Tile;
+import core.level.utils.FlowField;
 import core.level.utils.LevelUtils;
 import core.utils.components.MissingComponentException;
 
@@ -45,7 +46,36 @@ public final class AIUtils {
     if (nextTile == null) {
       return;
     }
+    moveTo(vc, currentTile, nextTile);
+  }
+
+  /**
+   * Sets the velocity of the passed entity so that it takes the next step towards the target of
+   * the given flow field.
+   *
+   * <p>The entity will step to the neighbouring tile that is closest to the target. If the entity
+   * is already on the target or can not reach it, the velocity is not changed.
+   *
+   * @param entity Entity moving towards the target of the field.
+   * @param field Flow field to descend.
+   * @see FlowField#toHero()
+   */
+  public static void move(final Entity entity, final FlowField field) {
+    PositionComponent pc =
+        entity
+            .fetch(PositionComponent.class)
+            .orElseThrow(() -> MissingComponentException.build(entity, PositionComponent.class));
+    VelocityComponent vc =
+        entity
+            .fetch(VelocityComponent.class)
+            .orElseThrow(() -> MissingComponentException.build(entity, VelocityComponent.class));
+    Tile currentTile = Game.tileAT(pc.position());
+    if (currentTile == null) return;
+    field.next(currentTile).ifPresent(nextTile -> moveTo(vc, currentTile, nextTile));
+  }
 
+  private static void moveTo(
+      final VelocityComponent vc, final Tile currentTile, final Tile nextTile) {
     switch (currentTile.directionTo(nextTile)[0]) {
       case N -> vc.currentYVelocity(vc.yVelocity());
       case S -> vc.currentYVelocity(-vc.yVelocity());
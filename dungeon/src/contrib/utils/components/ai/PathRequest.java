@@ -0,0 +1,72 @@
+package contrib.utils.components.ai;
+
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import core.level.Tile;
+import java.util.Optional;
+
+/**
+ * Handle of a path search that is computed by the {@link PathService}.
+ *
+ * <p>The request is done once the {@link PathService} delivered the result, at the earliest on the
+ * frame after the request was made. Use {@link #isDone()} to check if the result is available and
+ * {@link #path()} to get it.
+ *
+ * <p>Requests with the same start and goal tile are coalesced, so the same handle (and the same
+ * path) may be shared by multiple AIs. The path must not be modified.
+ *
+ * @see PathService
+ */
+public final class PathRequest {
+  private final Tile start;
+  private final Tile goal;
+  private volatile boolean done = false;
+  private GraphPath<Tile> path;
+
+  PathRequest(final Tile start, final Tile goal) {
+    this.start = start;
+    this.goal = goal;
+  }
+
+  /**
+   * Get the start tile of the requested path.
+   *
+   * @return The start tile.
+   */
+  public Tile start() {
+    return start;
+  }
+
+  /**
+   * Get the goal tile of the requested path.
+   *
+   * @return The goal tile.
+   */
+  public Tile goal() {
+    return goal;
+  }
+
+  /**
+   * Check if the result of this request is available.
+   *
+   * @return true if the path was delivered (or no path exists), false if the search is still
+   *     running.
+   */
+  public boolean isDone() {
+    return done;
+  }
+
+  /**
+   * Get the result of this request.
+   *
+   * @return The path from the start to the goal tile, or an empty Optional if the request is not
+   *     done yet, or if there is no path between the tiles.
+   */
+  public Optional<GraphPath<Tile>> path() {
+    return done ? Optional.ofNullable(path) : Optional.empty();
+  }
+
+  void complete(final GraphPath<Tile> path) {
+    this.path = path;
+    this.done = true;
+  }
+}
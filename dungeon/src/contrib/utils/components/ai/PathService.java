@@ -0,0 +1,309 @@
+package contrib.utils.components.ai;
+
+import com.badlogic.gdx.ai.pfa.DefaultGraphPath;
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import core.Game;
+import core.level.Tile;
+import core.level.elements.ILevel;
+import core.level.utils.LevelUtils;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+/**
+ * Computes paths on worker threads, so path searches do not stall the game loop.
+ *
+ * <p>Use {@link #request(Tile, Tile)} to request a path. The search runs on a worker thread against
+ * an immutable snapshot of the walkable tiles of the level. The result is delivered to the returned
+ * {@link PathRequest} by {@link #update()}, which the {@link contrib.systems.AISystem} calls once
+ * per frame. So the path is available on a later frame, check {@link PathRequest#isDone()}.
+ *
+ * <p>{@link #update()} only delivers results until the frame budget (see {@link
+ * #frameBudget(Duration)}) is used up; the other results are delivered on the next frames. The
+ * budget only limits the delivery, which is cheap compared to the searches; the searches are
+ * started as soon as they are requested and only limited by the number of worker threads.
+ *
+ * <p>If another level is loaded, the requests for the old level are completed without a path and
+ * their results are dropped (see {@link #clear()}).
+ *
+ * <p>Requests with the same start and goal tile are coalesced while their search is running, they
+ * share one search and one {@link PathRequest}.
+ *
+ * <p>Tiles are connected to their four direct neighbours if both are accessible, like in {@link
+ * ILevel#findPath(Tile, Tile)}. {@link #request(Tile, Tile)} and {@link #update()} must be called
+ * on the thread that runs the game loop.
+ *
+ * @see PathRequest
+ */
+public final class PathService {
+  /** Default time per frame to deliver the results of finished searches (not to search). */
+  public static final Duration DEFAULT_FRAME_BUDGET = Duration.ofMillis(1);
+
+  private static final Logger LOGGER = Logger.getLogger(PathService.class.getSimpleName());
+  private static final ExecutorService WORKERS =
+      Executors.newFixedThreadPool(
+          Math.max(1, Runtime.getRuntime().availableProcessors() / 2),
+          runnable -> {
+            Thread thread = new Thread(runnable, "path-service");
+            thread.setDaemon(true);
+            return thread;
+          });
+  private static final Map<RequestKey, PathRequest> PENDING = new HashMap<>();
+  private static final Queue<Search> FINISHED = new ConcurrentLinkedQueue<>();
+  private static long frameBudgetNanos = DEFAULT_FRAME_BUDGET.toNanos();
+  private static Walkability walkability;
+
+  private PathService() {}
+
+  /**
+   * Request a path from the start to the goal tile.
+   *
+   * <p>If a search for the same tiles is still running, its request is returned.
+   *
+   * <p>If one of the tiles is null or the tiles are not in the same level, the returned request is
+   * already done, without a path.
+   *
+   * @param start Start tile of the path.
+   * @param goal Goal tile of the path.
+   * @return Handle to get the path from, once the search is done.
+   */
+  public static PathRequest request(final Tile start, final Tile goal) {
+    ILevel level = start == null ? null : start.level();
+    if (level == null || goal == null || goal.level() != level) {
+      PathRequest request = new PathRequest(start, goal);
+      request.complete(null);
+      return request;
+    }
+    if (walkability != null && walkability.level() != level) clear();
+    Walkability snapshot = walkability(level);
+    RequestKey key = new RequestKey(level, snapshot.cell(start), snapshot.cell(goal));
+    PathRequest pending = PENDING.get(key);
+    if (pending != null) return pending;
+
+    PathRequest request = new PathRequest(start, goal);
+    PENDING.put(key, request);
+    WORKERS.execute(
+        () -> {
+          int[] cells = null;
+          try {
+            cells = GridSearch.search(snapshot, key.start(), key.goal());
+          } catch (RuntimeException e) {
+            LOGGER.warning("Path search failed: " + e.getMessage());
+          }
+          FINISHED.add(new Search(key, snapshot, request, cells));
+        });
+    return request;
+  }
+
+  /**
+   * Deliver the results of the finished searches to their requests.
+   *
+   * <p>Stops if the frame budget is used up; the remaining results are delivered on the next call.
+   * If the current level of the game changed since the last request, the service is cleared first.
+   */
+  public static void update() {
+    ILevel current = Game.currentLevel();
+    if (current != null && walkability != null && walkability.level() != current) clear();
+    long deadline = System.nanoTime() + frameBudgetNanos;
+    Search search;
+    while ((search = FINISHED.poll()) != null) {
+      deliver(search);
+      if (System.nanoTime() >= deadline) break;
+    }
+  }
+
+  /**
+   * Set the time per frame to deliver the results of finished searches.
+   *
+   * @param budget Time per call of {@link #update()}. At least one result is delivered per call.
+   */
+  public static void frameBudget(final Duration budget) {
+    frameBudgetNanos = budget.toNanos();
+  }
+
+  /**
+   * Complete all pending requests without a path and forget the snapshot of the level.
+   *
+   * <p>Searches that are still running are dropped when they finish. Called automatically if the
+   * requests or the game switch to another level.
+   */
+  public static void clear() {
+    for (PathRequest request : PENDING.values()) request.complete(null);
+    PENDING.clear();
+    FINISHED.clear();
+    walkability = null;
+  }
+
+  /**
+   * Check if the search of a request is finished, but its result is not yet delivered.
+   *
+   * @param request Request to check.
+   * @return true if the result of the search is waiting for {@link #update()}.
+   */
+  static boolean finished(final PathRequest request) {
+    for (Search search : FINISHED) if (search.request() == request) return true;
+    return false;
+  }
+
+  private static void deliver(final Search search) {
+    PENDING.remove(search.key(), search.request());
+    // the level was changed while the search was running
+    boolean outdated = walkability == null || walkability.level() != search.snapshot().level();
+    if (search.cells() == null || outdated) {
+      search.request().complete(null);
+      return;
+    }
+    // the cells are indices into the layout the search ran on
+    Tile[][] layout = search.snapshot().layout();
+    int width = layout[0].length;
+    GraphPath<Tile> path = new DefaultGraphPath<>();
+    for (int cell : search.cells()) path.add(layout[cell / width][cell % width]);
+    search.request().complete(path);
+  }
+
+  private static Walkability walkability(final ILevel level) {
+    long signature = LevelUtils.accessibilitySignature(level);
+    if (walkability == null
+        || walkability.level() != level
+        || walkability.layout() != level.layout()
+        || walkability.signature() != signature) walkability = Walkability.of(level, signature);
+    return walkability;
+  }
+
+  private record RequestKey(ILevel level, int start, int goal) {}
+
+  private record Search(RequestKey key, Walkability snapshot, PathRequest request, int[] cells) {}
+
+  /** Immutable snapshot of the accessible tiles of a level, indexed by {@code y * width + x}. */
+  private record Walkability(
+      ILevel level, Tile[][] layout, long signature, int width, int height, boolean[] walkable) {
+    static Walkability of(final ILevel level, final long signature) {
+      Tile[][] layout = level.layout();
+      int height = layout.length;
+      int width = height == 0 ? 0 : layout[0].length;
+      boolean[] walkable = new boolean[width * height];
+      for (int y = 0; y < height; y++)
+        for (int x = 0; x < width; x++) walkable[y * width + x] = layout[y][x].isAccessible();
+      return new Walkability(level, layout, signature, width, height, walkable);
+    }
+
+    int cell(final Tile tile) {
+      return tile.coordinate().y * width + tile.coordinate().x;
+    }
+  }
+
+  /** A* on the grid of a {@link Walkability} snapshot, with reused buffers per worker thread. */
+  private static final class GridSearch {
+    private static final ThreadLocal<GridSearch> BUFFERS = ThreadLocal.withInitial(GridSearch::new);
+
+    private int[] cost = new int[0];
+    private int[] parent = new int[0];
+    private int[] seen = new int[0];
+    private int[] closed = new int[0];
+    private long[] heap = new long[64];
+    private int heapSize;
+    private int stamp = 0;
+
+    static int[] search(final Walkability grid, final int start, final int goal) {
+      int cells = grid.walkable().length;
+      if (start < 0 || goal < 0 || start >= cells || goal >= cells) return null;
+      if (!grid.walkable()[start] || !grid.walkable()[goal]) return null;
+      return BUFFERS.get().run(grid, start, goal);
+    }
+
+    private int[] run(final Walkability grid, final int start, final int goal) {
+      int cells = grid.walkable().length;
+      if (cost.length < cells) {
+        cost = new int[cells];
+        parent = new int[cells];
+        seen = new int[cells];
+        closed = new int[cells];
+        stamp = 0;
+      }
+      if (++stamp == Integer.MAX_VALUE) {
+        Arrays.fill(seen, 0);
+        Arrays.fill(closed, 0);
+        stamp = 1;
+      }
+      heapSize = 0;
+      cost[start] = 0;
+      parent[start] = -1;
+      seen[start] = stamp;
+      push(estimate(grid, start, goal), start);
+      while (heapSize > 0) {
+        int cell = (int) pop();
+        if (cell == goal) return path(goal);
+        if (closed[cell] == stamp) continue;
+        closed[cell] = stamp;
+        int x = cell % grid.width();
+        int y = cell / grid.width();
+        if (x > 0) visit(grid, cell, cell - 1, goal);
+        if (x < grid.width() - 1) visit(grid, cell, cell + 1, goal);
+        if (y > 0) visit(grid, cell, cell - grid.width(), goal);
+        if (y < grid.height() - 1) visit(grid, cell, cell + grid.width(), goal);
+      }
+      return null;
+    }
+
+    private void visit(final Walkability grid, final int from, final int to, final int goal) {
+      if (!grid.walkable()[to] || closed[to] == stamp) return;
+      int newCost = cost[from] + 1;
+      if (seen[to] == stamp && cost[to] <= newCost) return;
+      seen[to] = stamp;
+      cost[to] = newCost;
+      parent[to] = from;
+      push(newCost + estimate(grid, to, goal), to);
+    }
+
+    private int[] path(final int goal) {
+      int length = cost[goal] + 1;
+      int[] path = new int[length];
+      int cell = goal;
+      for (int i = length - 1; i >= 0; i--) {
+        path[i] = cell;
+        cell = parent[cell];
+      }
+      return path;
+    }
+
+    private static int estimate(final Walkability grid, final int from, final int to) {
+      return Math.abs(from % grid.width() - to % grid.width())
+          + Math.abs(from / grid.width() - to / grid.width());
+    }
+
+    private void push(final int priority, final int cell) {
+      if (heapSize == heap.length) heap = Arrays.copyOf(heap, heapSize * 2);
+      long entry = ((long) priority << 32) | cell;
+      int i = heapSize++;
+      while (i > 0) {
+        int up = (i - 1) >>> 1;
+        if (heap[up] <= entry) break;
+        heap[i] = heap[up];
+        i = up;
+      }
+      heap[i] = entry;
+    }
+
+    private long pop() {
+      long top = heap[0];
+      long last = heap[--heapSize];
+      int i = 0;
+      while (true) {
+        int child = 2 * i + 1;
+        if (child >= heapSize) break;
+        if (child + 1 < heapSize && heap[child + 1] < heap[child]) child++;
+        if (heap[child] >= last) break;
+        heap[i] = heap[child];
+        i = child;
+      }
+      heap[i] = last;
+      return top & 0xFFFFFFFFL;
+    }
+  }
+}
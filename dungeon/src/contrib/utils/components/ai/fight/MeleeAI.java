@@ -1,24 +1,22 @@
 package contrib.utils.components.ai.fight;
 
-import com.badlogic.gdx.ai.pfa.GraphPath;
 import contrib.utils.components.ai.AIUtils;
 import contrib.utils.components.skill.Skill;
 import core.Entity;
-import core.Game;
-import core.level.Tile;
+import core.level.utils.FlowField;
 import core.level.utils.LevelUtils;
 import java.util.function.Consumer;
 
 /**
  * Implements a fight AI. The entity attacks the player if he is in a given range. When the entity
  * is not in range but in fight mode, the entity will be moving to ward the player.
+ *
+ * <p>To move towards the player, the entity follows the shared {@link FlowField#toHero() flow
+ * field}, so no path search is needed per entity.
  */
 public class MeleeAI implements Consumer<Entity> {
   private final float attackRange;
-  private final int delay = Game.frameRate();
   private final Skill fightSkill;
-  private int timeSinceLastUpdate = 0;
-  private GraphPath<Tile> path;
 
   /**
    * Attacks the player if he is within the given range. Otherwise, it will move towards the player.
@@ -36,12 +34,7 @@ public class MeleeAI implements Consumer<Entity> {
     if (LevelUtils.playerInRange(entity, attackRange)) {
       fightSkill.execute(entity);
     } else {
-      if (path == null || timeSinceLastUpdate >= delay) {
-        path = LevelUtils.calculatePathToHero(entity);
-        timeSinceLastUpdate = -1;
-      }
-      timeSinceLastUpdate++;
-      AIUtils.move(entity, path);
+      FlowField.toHero().ifPresent(field -> AIUtils.move(entity, field));
     }
   }
 }
@@ -8,6 +8,7 @@ import contrib.utils.components.skill.Skill;
 import core.Entity;
 import core.Game;
 import core.level.Tile;
+import core.level.utils.FlowField;
 import core.level.utils.LevelUtils;
 import core.utils.Point;
 import java.util.List;
@@ -70,8 +71,7 @@ public final class RangeAI implements Consumer<Entity> {
         skill.execute(entity);
       }
     } else {
-      path = LevelUtils.calculatePathToHero(entity);
-      AIUtils.move(entity, path);
+      FlowField.toHero().ifPresent(field -> AIUtils.move(entity, field));
     }
   }
 }
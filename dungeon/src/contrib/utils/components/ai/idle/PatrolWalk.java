@@ -25,13 +25,13 @@ public final class PatrolWalk implements Consumer<Entity> {
   private static final Random RANDOM = new Random();
   private final List<Tile> checkpoints = new ArrayList<>();
   private final int numberCheckpoints;
-  private final int pauseFrames;
+  private final int pauseTicks;
   private final float radius;
   private final MODE mode;
   private GraphPath<Tile> currentPath;
   private boolean initialized = false;
   private boolean forward = true;
-  private int frameCounter = -1;
+  private int tickCounter = -1;
   private int currentCheckpoint = 0;
 
   /**
@@ -47,7 +47,7 @@ public final class PatrolWalk implements Consumer<Entity> {
   public PatrolWalk(float radius, int numberCheckpoints, int pauseTime, final MODE mode) {
     this.radius = radius;
     this.numberCheckpoints = numberCheckpoints;
-    this.pauseFrames = pauseTime / (1000 / Game.frameRate());
+    this.pauseTicks = pauseTime / (1000 / Game.tickRate());
     this.mode = mode;
   }
 
@@ -105,17 +105,17 @@ public final class PatrolWalk implements Consumer<Entity> {
     }
 
     if (currentPath != null && AIUtils.pathFinished(entity, currentPath)) {
-      frameCounter = 0;
+      tickCounter = 0;
       currentPath = null;
       return;
     }
 
-    if (frameCounter++ < pauseFrames && frameCounter != -1) {
+    if (tickCounter++ < pauseTicks && tickCounter != -1) {
       return;
     }
 
     // HERE: (Path to checkpoint finished + pause time over) OR currentPath = null
-    this.frameCounter = -1;
+    this.tickCounter = -1;
 
     switch (mode) {
       case RANDOM -> {
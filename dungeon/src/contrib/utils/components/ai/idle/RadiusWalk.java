@@ -2,19 +2,29 @@ package contrib.utils.components.ai.idle;
 
 import com.badlogic.gdx.ai.pfa.GraphPath;
 import contrib.utils.components.ai.AIUtils;
+import contrib.utils.components.ai.PathRequest;
+import contrib.utils.components.ai.PathService;
 import core.Entity;
 import core.Game;
+import core.components.PositionComponent;
 import core.level.Tile;
+import core.level.utils.Coordinate;
 import core.level.utils.LevelUtils;
+import core.utils.Point;
+import core.utils.components.MissingComponentException;
 import java.util.function.Consumer;
 
 /**
  * Implements an idle AI that lets the entity walk in a specific radius from its current position.
+ *
+ * <p>The paths are calculated by the {@link PathService}, so the entity starts walking a few frames
+ * after a new goal was chosen.
  */
 public final class RadiusWalk implements Consumer<Entity> {
   private final float radius;
   private final int breakTime;
   private GraphPath<Tile> path;
+  private PathRequest request;
   private int currentBreak = 0;
 
   /**
@@ -26,16 +36,30 @@ public final class RadiusWalk implements Consumer<Entity> {
    */
   public RadiusWalk(float radius, int breakTimeInSeconds) {
     this.radius = radius;
-    this.breakTime = breakTimeInSeconds * Game.frameRate();
+    this.breakTime = breakTimeInSeconds * Game.tickRate();
   }
 
   @Override
   public void accept(final Entity entity) {
+    if (request != null) {
+      if (!request.isDone()) return;
+      path = request.path().orElse(null);
+      request = null;
+    }
     if (path == null || AIUtils.pathFinishedOrLeft(entity, path)) {
       if (currentBreak >= breakTime) {
         currentBreak = 0;
-        path = LevelUtils.calculatePathToRandomTileInRange(entity, radius);
-        accept(entity);
+        path = null;
+        Point position =
+            entity
+                .fetch(PositionComponent.class)
+                .orElseThrow(() -> MissingComponentException.build(entity, PositionComponent.class))
+                .position();
+        Coordinate goal =
+            LevelUtils.randomAccessibleTileCoordinateInRange(position, radius)
+                .orElse(position.toCoordinate());
+        request = PathService.request(Game.tileAT(position), Game.tileAT(goal));
+        return;
       }
 
       currentBreak++;
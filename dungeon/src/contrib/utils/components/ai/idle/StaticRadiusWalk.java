@@ -2,6 +2,8 @@ package contrib.utils.components.ai.idle;
 
 import com.badlogic.gdx.ai.pfa.GraphPath;
 import contrib.utils.components.ai.AIUtils;
+import contrib.utils.components.ai.PathRequest;
+import contrib.utils.components.ai.PathService;
 import core.Entity;
 import core.Game;
 import core.components.PositionComponent;
@@ -12,11 +14,17 @@ import core.utils.Point;
 import core.utils.components.MissingComponentException;
 import java.util.function.Consumer;
 
-/** Implements an idle AI that lets the entity walk in a specific radius from a fixed point. */
+/**
+ * Implements an idle AI that lets the entity walk in a specific radius from a fixed point.
+ *
+ * <p>The paths are calculated by the {@link PathService}, so the entity starts walking a few frames
+ * after a new goal was chosen.
+ */
 public final class StaticRadiusWalk implements Consumer<Entity> {
   private final float radius;
   private final int breakTime;
   private GraphPath<Tile> path;
+  private PathRequest request;
   private int currentBreak = 0;
   private Point center;
 
@@ -29,11 +37,16 @@ public final class StaticRadiusWalk implements Consumer<Entity> {
    */
   public StaticRadiusWalk(float radius, int breakTimeInSeconds) {
     this.radius = radius;
-    this.breakTime = breakTimeInSeconds * Game.frameRate();
+    this.breakTime = breakTimeInSeconds * Game.tickRate();
   }
 
   @Override
   public void accept(final Entity entity) {
+    if (request != null) {
+      if (!request.isDone()) return;
+      path = request.path().orElse(null);
+      request = null;
+    }
     if (path == null || AIUtils.pathFinishedOrLeft(entity, path)) {
       if (center == null) {
         PositionComponent pc =
@@ -63,8 +76,9 @@ public final class StaticRadiusWalk implements Consumer<Entity> {
                 // center is the start position of the entity, so it must be
                 // accessible
                 .orElse(center);
-        path = LevelUtils.calculatePath(currentPosition, newEndTile);
-        accept(entity);
+        path = null;
+        request = PathService.request(Game.tileAT(currentPosition), Game.tileAT(newEndTile));
+        return;
       }
       currentBreak++;
 
@@ -36,8 +36,7 @@ public final class InteractionTool {
         who.fetch(PositionComponent.class)
             .orElseThrow(() -> MissingComponentException.build(who, PositionComponent.class));
     Optional<InteractionData> data =
-        Game.entityStream()
-            .filter(x -> x.isPresent(InteractionComponent.class))
+        Game.entities(InteractionComponent.class).stream()
             .map(x -> convertToData(x, heroPosition))
             .filter(iReachable::apply)
             .min((x, y) -> Float.compare(x.dist(), y.dist()));
@@ -6,7 +6,9 @@ import contrib.components.ProjectileComponent;
 import contrib.utils.components.health.Damage;
 import contrib.utils.components.health.DamageType;
 import core.Entity;
+import core.EntityPool;
 import core.Game;
+import core.Prefab;
 import core.components.DrawComponent;
 import core.components.PositionComponent;
 import core.components.VelocityComponent;
@@ -38,6 +40,7 @@ public abstract class DamageProjectile implements Consumer<Entity> {
   private final Point projectileHitBoxSize;
   private final Supplier<Point> selectionFunction;
   private final Consumer<Entity> onWallHit;
+  private final EntityPool pool;
 
   /**
    * The DamageProjectile constructor sets the path to the textures of the projectile, the speed of
@@ -73,6 +76,9 @@ public abstract class DamageProjectile implements Consumer<Entity> {
     this.projectileHitBoxSize = projectileHitBoxSize;
     this.selectionFunction = selectionFunction;
     this.onWallHit = onWallHit;
+    pool =
+        new EntityPool(
+            this::newProjectile, DamageProjectile::resetProjectile, EntityPool.DEFAULT_CAPACITY);
   }
 
   /**
@@ -118,28 +124,29 @@ public abstract class DamageProjectile implements Consumer<Entity> {
    * <p>The cause for the damage will not be the projectile, but the entity that casts the
    * projectile.
    *
+   * <p>Projectiles are taken from an {@link EntityPool}, so the entities and components of removed
+   * projectiles are reused.
+   *
    * @param entity The entity that casts the projectile. The entity's position will be the start
    *     position for the projectile.
    * @throws MissingComponentException if the entity does not have a PositionComponent.
    */
   @Override
   public void accept(final Entity entity) {
-    Entity projectile = new Entity("Projectile");
     // Get the PositionComponent of the entity
     PositionComponent epc =
         entity
             .fetch(PositionComponent.class)
             .orElseThrow(() -> MissingComponentException.build(entity, PositionComponent.class));
-    projectile.add(new PositionComponent(epc.position()));
-
-    try {
-      projectile.add(new DrawComponent(pathToTexturesOfProjectile));
-    } catch (IOException e) {
-      LOGGER.warning(
-          String.format("The DrawComponent for the projectile %s cant be created. ", entity)
-              + e.getMessage());
-      throw new RuntimeException();
-    }
+    Entity projectile = pool.obtain();
+    PositionComponent pc =
+        projectile
+            .fetch(PositionComponent.class)
+            .orElseThrow(
+                () -> MissingComponentException.build(projectile, PositionComponent.class));
+    pc.position(epc.position());
+    // do not interpolate from the position of a reused projectile
+    pc.storePreviousPosition();
 
     Point startPoint = new Point(0, 0);
     entity
@@ -159,9 +166,14 @@ public abstract class DamageProjectile implements Consumer<Entity> {
     // Calculate the velocity of the projectile
     Point velocity = SkillTools.calculateVelocity(startPoint, targetPoint, projectileSpeed);
 
-    // Add the VelocityComponent to the projectile
-    VelocityComponent vc = new VelocityComponent(velocity.x, velocity.y, onWallHit);
-    projectile.add(vc);
+    // Set the velocity of the projectile
+    VelocityComponent vc =
+        projectile
+            .fetch(VelocityComponent.class)
+            .orElseThrow(
+                () -> MissingComponentException.build(projectile, VelocityComponent.class));
+    vc.xVelocity(velocity.x);
+    vc.yVelocity(velocity.y);
 
     // Add the ProjectileComponent with the initial and target positions to the projectile
     projectile.add(new ProjectileComponent(startPoint, targetPoint));
@@ -182,14 +194,85 @@ public abstract class DamageProjectile implements Consumer<Entity> {
           }
         };
 
-    // Add the CollideComponent with the appropriate hit box size and collision handler to the
-    // projectile
-    projectile.add(
-        new CollideComponent(CollideComponent.DEFAULT_OFFSET, projectileHitBoxSize, collide, null));
+    // Set the collision handler of the projectile
+    projectile
+        .fetch(CollideComponent.class)
+        .orElseThrow(() -> MissingComponentException.build(projectile, CollideComponent.class))
+        .collideEnter(collide);
     Game.add(projectile);
     playSound();
   }
 
+  /**
+   * Create a new projectile for the pool.
+   *
+   * <p>The projectile has a {@link DrawComponent} from the {@link #prefab()}, a {@link
+   * PositionComponent}, a {@link VelocityComponent} and a {@link CollideComponent} with the hit box
+   * of this projectile. The values are set if the projectile is cast.
+   *
+   * @return A new projectile that is not part of the game.
+   */
+  private Entity newProjectile() {
+    Entity projectile = prefab().spawn();
+    projectile.add(new PositionComponent());
+    projectile.add(new VelocityComponent(0, 0, onWallHit));
+    projectile.add(
+        new CollideComponent(
+            CollideComponent.DEFAULT_OFFSET,
+            projectileHitBoxSize,
+            CollideComponent.DEFAULT_COLLIDER,
+            null));
+    return projectile;
+  }
+
+  /**
+   * Reset a projectile that returns to the pool.
+   *
+   * <p>Stops the projectile and drops the collision handler, so the pool does not keep the casting
+   * entity alive.
+   *
+   * @param projectile Projectile that was removed from the game.
+   */
+  private static void resetProjectile(final Entity projectile) {
+    projectile
+        .fetch(VelocityComponent.class)
+        .ifPresent(
+            vc -> {
+              vc.currentXVelocity(0);
+              vc.currentYVelocity(0);
+            });
+    projectile
+        .fetch(CollideComponent.class)
+        .ifPresent(cc -> cc.collideEnter(CollideComponent.DEFAULT_COLLIDER));
+  }
+
+  /**
+   * Get the prefab for the projectiles with the textures of this projectile.
+   *
+   * <p>The prefab is shared by all projectiles with the same textures, so the animations are only
+   * loaded once.
+   *
+   * @return Prefab with the {@link DrawComponent} of the projectile.
+   */
+  private Prefab prefab() {
+    return Prefab.get(
+        "projectile:" + pathToTexturesOfProjectile.pathString(),
+        () -> {
+          Entity template = new Entity("Projectile");
+          try {
+            template.add(new DrawComponent(pathToTexturesOfProjectile));
+          } catch (IOException e) {
+            LOGGER.warning(
+                String.format(
+                        "The DrawComponent for the projectile %s cant be created. ",
+                        pathToTexturesOfProjectile)
+                    + e.getMessage());
+            throw new RuntimeException();
+          }
+          return template;
+        });
+  }
+
   /** Override this method to play a Sound-effect on spawning the projectile if you want. */
   protected void playSound() {}
 }
@@ -13,6 +13,7 @@ import dsl.runtime.memoryspace.IMemorySpace;
 import dsl.runtime.memoryspace.MemorySpace;
 import dsl.runtime.value.*;
 import dsl.semanticanalysis.*;
+import dsl.semanticanalysis.analyzer.ConstantFolder;
 import dsl.semanticanalysis.analyzer.SemanticAnalyzer;
 import dsl.semanticanalysis.environment.GameEnvironment;
 import dsl.semanticanalysis.environment.IEnvironment;
@@ -26,6 +27,7 @@ import dsl.semanticanalysis.typesystem.instantiation.TypeInstantiator;
 import dsl.semanticanalysis.typesystem.typebuilding.type.*;
 import entrypoint.DSLEntryPoint;
 import entrypoint.DungeonConfig;
+import java.lang.reflect.Field;
 import java.util.*;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
@@ -44,6 +46,10 @@ public class DSLInterpreter implements AstVisitor<Object> {
   private RuntimeEnvironment environment;
   private final ArrayDeque<IMemorySpace> memoryStack;
   private final ArrayDeque<IMemorySpace> instanceMemoryStack;
+  // activation frames of the currently executed user defined functions
+  private final ArrayDeque<MemorySpace> frameStack;
+  private final FunctionCompiler functionCompiler;
+  private final ConstantFolder constantFolder = new ConstantFolder();
   private IMemorySpace globalSpace;
 
   private SymbolTable symbolTable() {
@@ -58,6 +64,10 @@ public class DSLInterpreter implements AstVisitor<Object> {
     return this.instanceMemoryStack.peek();
   }
 
+  private MemorySpace getCurrentFrame() {
+    return this.frameStack.peek();
+  }
+
   private final ArrayDeque<Node> statementStack;
 
   private static final String RETURN_VALUE_NAME = "$return_value$";
@@ -68,6 +78,8 @@ public class DSLInterpreter implements AstVisitor<Object> {
   public DSLInterpreter() {
     memoryStack = new ArrayDeque<>();
     instanceMemoryStack = new ArrayDeque<>();
+    frameStack = new ArrayDeque<>();
+    functionCompiler = new FunctionCompiler(this);
     globalSpace = new MemorySpace();
     statementStack = new ArrayDeque<>();
     scenarioBuilderStorage = new ScenarioBuilderStorage();
@@ -176,7 +188,7 @@ public class DSLInterpreter implements AstVisitor<Object> {
   }
 
   private PrototypeValue createItemPrototype(ItemPrototypeDefinitionNode node) {
-    var itemPrototypeDefinitionSymbol = this.symbolTable().getSymbolsForAstNode(node).get(0);
+    var itemPrototypeDefinitionSymbol = this.symbolTable().getSymbolForAstNode(node);
     assert itemPrototypeDefinitionSymbol instanceof AggregateType;
     AggregateType itemType = (AggregateType) itemPrototypeDefinitionSymbol;
 
@@ -193,7 +205,7 @@ public class DSLInterpreter implements AstVisitor<Object> {
 
       // get type of lhs (the assignee)
       var propertyName = propertyDefNode.getIdName();
-      Symbol propertySymbol = symbolTable().getSymbolsForAstNode(propDef).get(0);
+      Symbol propertySymbol = symbolTable().getSymbolForAstNode(propDef);
       if (propertySymbol.equals(Symbol.NULL)) {
         throw new RuntimeException(
             "Property of name '"
@@ -223,7 +235,7 @@ public class DSLInterpreter implements AstVisitor<Object> {
   }
 
   private PrototypeValue createComponentPrototype(AggregateValueDefinitionNode node) {
-    var componentSymbol = this.symbolTable().getSymbolsForAstNode(node).get(0);
+    var componentSymbol = this.symbolTable().getSymbolForAstNode(node);
     assert componentSymbol.getDataType() instanceof AggregateType;
 
     // the Prototype for a component does only live inside the
@@ -363,6 +375,8 @@ public class DSLInterpreter implements AstVisitor<Object> {
   public void initializeRuntime(IEnvironment environment) {
     // reinitialize global memory space
     this.memoryStack.clear();
+    this.frameStack.clear();
+    this.functionCompiler.reset();
     this.globalSpace = new MemorySpace();
     this.memoryStack.push(this.globalSpace);
 
@@ -437,12 +451,20 @@ public class DSLInterpreter implements AstVisitor<Object> {
   private Value bindFromSymbol(Symbol symbol, IMemorySpace ms) {
     if (!(symbol instanceof IType) && !(symbol instanceof PropertySymbol)) {
       var value = createDefaultValue(symbol.getDataType());
-      ms.bindValue(symbol.getName(), value);
+      bindValueForSymbol(symbol, ms, value);
       return value;
     }
     return Value.NONE;
   }
 
+  private static void bindValueForSymbol(Symbol symbol, IMemorySpace ms, Value value) {
+    if (symbol.getSlot() != Symbol.NO_SLOT && ms instanceof MemorySpace frame) {
+      frame.bindValue(symbol.getSlot(), value);
+    } else {
+      ms.bindValue(symbol.getName(), value);
+    }
+  }
+
   /**
    * Creates a DSL level instantiation of a type, which means, that all fields of an aggregate type
    * are set to their default value.
@@ -519,6 +541,8 @@ public class DSLInterpreter implements AstVisitor<Object> {
    *     IEnvironment} used by the DSLInterpreter (set by {@link #initializeRuntime(IEnvironment)})
    */
   public Object generateQuestConfig(Node programAST) {
+    // simplify the analyzed program before its execution
+    constantFolder.fold(programAST);
     createPrototypes(this.environment);
 
     // find quest_config definition
@@ -738,13 +762,16 @@ public class DSLInterpreter implements AstVisitor<Object> {
   // this is used for resolving object references
   @Override
   public Object visit(IdNode node) {
-    var symbol = this.symbolTable().getSymbolsForAstNode(node).get(0);
+    var symbol = this.symbolTable().getSymbolForAstNode(node);
     if (symbol instanceof NativeFunction nativeFunction) {
       return new FunctionValue(nativeFunction.getFunctionType(), nativeFunction);
     }
     if (symbol instanceof FunctionSymbol functionSymbol) {
       return new FunctionValue(functionSymbol.getFunctionType(), functionSymbol);
     }
+    if (symbol.getSlot() != Symbol.NO_SLOT && !frameStack.isEmpty()) {
+      return getCurrentFrame().resolve(symbol.getSlot());
+    }
 
     return this.getCurrentMemorySpace().resolve(node.getName(), true);
   }
@@ -752,7 +779,7 @@ public class DSLInterpreter implements AstVisitor<Object> {
   @Override
   public Object visit(FuncDefNode node) {
     // return function reference as value
-    var symbol = this.symbolTable().getSymbolsForAstNode(node).get(0);
+    var symbol = this.symbolTable().getSymbolForAstNode(node);
     return new Value(symbol.getDataType(), symbol);
   }
 
@@ -768,12 +795,8 @@ public class DSLInterpreter implements AstVisitor<Object> {
   public Object visit(StmtBlockNode node) {
     ArrayList<Node> statements = node.getStmts();
 
-    // push scope exit mark
-    statementStack.addFirst(new Node(Node.Type.ScopeExitMark));
-
-    // push new MemorySpace on top of memory stack
-    MemorySpace ms = new MemorySpace(this.getCurrentMemorySpace());
-    this.memoryStack.push(ms);
+    // no new MemorySpace is required, the local variables of the block are stored
+    // in their own slots of the function's frame
 
     // push statements in reverse order onto the statement stack
     // (as execution is done by popping the topmost statement from the stack)
@@ -789,7 +812,7 @@ public class DSLInterpreter implements AstVisitor<Object> {
   public Object visit(FuncCallNode node) {
     var funcName = node.getIdName();
 
-    var symbol = this.symbolTable().getSymbolsForAstNode(node).get(0);
+    var symbol = this.symbolTable().getSymbolForAstNode(node);
 
     if (!(symbol instanceof ICallable callable)) {
       throw new RuntimeException("Symbol for name '" + funcName + "' is not callable!");
@@ -804,24 +827,16 @@ public class DSLInterpreter implements AstVisitor<Object> {
     Value value = (Value) node.getInnerStmtNode().accept(this);
 
     if (value != Value.NONE) {
-      // walk the memorystack, find the first return value
-      // and set it according to the evaluated value
-      for (var ms : this.memoryStack) {
-        Value returnValue = ms.resolve(RETURN_VALUE_NAME);
-        if (returnValue != Value.NONE) {
-          setValue(returnValue, value);
-          break;
-        }
+      // the return value is bound in the frame of the current function
+      Value returnValue = getReturnValueFromMemorySpace(getCurrentFrame());
+      if (returnValue != Value.NONE) {
+        setValue(returnValue, value);
       }
     }
 
     // unroll the statement stack until we find a return mark
     while (statementStack.peek() != null && statementStack.peek().type != Node.Type.ReturnMark) {
-      // we still need to clean up the memory stack, if we find a ScopeExitMark
-      Node poppedNode = statementStack.pop();
-      if (poppedNode.type.equals(Node.Type.ScopeExitMark)) {
-        poppedNode.accept(this);
-      }
+      statementStack.pop();
     }
 
     return null;
@@ -831,14 +846,6 @@ public class DSLInterpreter implements AstVisitor<Object> {
   public Object visit(ConditionalStmtNodeIf node) {
     Value conditionValue = (Value) node.getCondition().accept(this);
     if (isBooleanTrue(conditionValue)) {
-      // if we only got one statement (no block), we need to create a new MemorySpace
-      // here
-      if (!node.getIfStmt().type.equals(Node.Type.Block)) {
-        MemorySpace ms = new MemorySpace(this.getCurrentMemorySpace());
-        memoryStack.push(ms);
-        statementStack.push(new Node(Node.Type.ScopeExitMark));
-      }
-
       statementStack.addFirst(node.getIfStmt());
     }
 
@@ -849,22 +856,8 @@ public class DSLInterpreter implements AstVisitor<Object> {
   public Object visit(ConditionalStmtNodeIfElse node) {
     Value conditionValue = (Value) node.getCondition().accept(this);
     if (isBooleanTrue(conditionValue)) {
-      // if we only got one statement (no block), we need to create a new MemorySpace
-      // here
-      if (!node.getIfStmt().type.equals(Node.Type.Block)) {
-        MemorySpace ms = new MemorySpace(this.getCurrentMemorySpace());
-        memoryStack.push(ms);
-        statementStack.push(new Node(Node.Type.ScopeExitMark));
-      }
       statementStack.addFirst(node.getIfStmt());
     } else {
-      // if we only got one statement (no block), we need to create a new MemorySpace
-      // here
-      if (!node.getElseStmt().type.equals(Node.Type.Block)) {
-        MemorySpace ms = new MemorySpace(this.getCurrentMemorySpace());
-        memoryStack.push(ms);
-        statementStack.push(new Node(Node.Type.ScopeExitMark));
-      }
       statementStack.addFirst(node.getElseStmt());
     }
 
@@ -889,14 +882,17 @@ public class DSLInterpreter implements AstVisitor<Object> {
       lhs = ((MemberAccessNode) currentNode).getLhs();
       rhs = ((MemberAccessNode) currentNode).getRhs();
 
-      Symbol lhsSymbol = symbolTable().getSymbolsForAstNode(lhs).get(0);
+      Symbol lhsSymbol = symbolTable().getSymbolForAstNode(lhs);
       if (lhsSymbol != Symbol.NULL && lhsSymbol instanceof EnumType enumType) {
-        Symbol rhsSymbol = symbolTable().getSymbolsForAstNode(rhs).get(0);
+        Symbol rhsSymbol = symbolTable().getSymbolForAstNode(rhs);
         if (rhsSymbol == Symbol.NULL) {
           throw new RuntimeException("Could not find enum variant for Node: " + rhs);
         }
         assert rhsSymbol.getDataType().getTypeKind().equals(IType.Kind.EnumType);
         rhsValue = new EnumValue(enumType, rhsSymbol);
+      } else if (lhsSymbol.getSlot() != Symbol.NO_SLOT && !frameStack.isEmpty()) {
+        // only the first lhs can be a local variable, all following lhs are members
+        lhsValue = getCurrentFrame().resolve(lhsSymbol.getSlot());
       } else if (lhs.type.equals(Node.Type.Identifier)) {
         String nameToResolve = ((IdNode) lhs).getName();
         lhsValue = memorySpaceToUse.resolve(nameToResolve);
@@ -914,7 +910,13 @@ public class DSLInterpreter implements AstVisitor<Object> {
       // if we arrive here, we have got two options:
       // 1. we resolve an IdNode at the rhs of the MemberAccessNode
       // 2. we resolve an FuncCallNode at the rhs of the MemberAccessNode
-      if (rhs.type.equals(Node.Type.Identifier)) {
+      Field rhsField = rhs.getLinkedField();
+      if (rhs instanceof IdNode rhsIdNode
+          && rhsField != null
+          && memorySpaceToUse instanceof EncapsulatedObject encapsulatedObject) {
+        // the field of the member was resolved by the semantic analysis
+        rhsValue = encapsulatedObject.resolve(rhsIdNode.getName(), rhsField);
+      } else if (rhs.type.equals(Node.Type.Identifier)) {
         this.memoryStack.push(memorySpaceToUse);
         rhsValue = (Value) rhs.accept(this);
         this.memoryStack.pop();
@@ -930,6 +932,13 @@ public class DSLInterpreter implements AstVisitor<Object> {
 
   @Override
   public Object visit(VarDeclNode node) {
+    Symbol variableSymbol = symbolTable().getSymbolForAstNode(node);
+    if (variableSymbol.getSlot() != Symbol.NO_SLOT
+        && node.getDeclType().equals(VarDeclNode.DeclType.typeDecl)) {
+      // bind a new Value in the variable's slot, each time the declaration is executed
+      return bindFromSymbol(variableSymbol, getCurrentFrame());
+    }
+
     String variableName = node.getVariableName();
 
     // check, if the current memory space already contains a value of the same name
@@ -943,9 +952,6 @@ public class DSLInterpreter implements AstVisitor<Object> {
     if (node.getDeclType().equals(VarDeclNode.DeclType.assignmentDecl)) {
       throw new UnsupportedOperationException("Assignment declaration currently not supported");
     } else {
-      // get variable symbol
-      // Node variableIdentifierNode = node.getIdentifier();
-      Symbol variableSymbol = symbolTable().getSymbolsForAstNode(node).get(0);
       value = bindFromSymbol(variableSymbol, this.getCurrentMemorySpace());
     }
     return value;
@@ -953,44 +959,58 @@ public class DSLInterpreter implements AstVisitor<Object> {
 
   @Override
   public Object visit(LogicOrNode node) {
-    // TODO: implement
-    throw new UnsupportedOperationException();
+    // the rhs is only evaluated, if the lhs is false
+    Value lhsValue = (Value) node.getLhs().accept(this);
+    if (isBooleanTrue(lhsValue)) {
+      return Operators.bool(true);
+    }
+    Value rhsValue = (Value) node.getRhs().accept(this);
+    return Operators.bool(isBooleanTrue(rhsValue));
   }
 
   @Override
   public Object visit(LogicAndNode node) {
-    // TODO: implement
-    throw new UnsupportedOperationException();
+    // the rhs is only evaluated, if the lhs is true
+    Value lhsValue = (Value) node.getLhs().accept(this);
+    if (!isBooleanTrue(lhsValue)) {
+      return Operators.bool(false);
+    }
+    Value rhsValue = (Value) node.getRhs().accept(this);
+    return Operators.bool(isBooleanTrue(rhsValue));
   }
 
   @Override
   public Object visit(EqualityNode node) {
-    // TODO: implement
-    throw new UnsupportedOperationException();
+    Value lhsValue = (Value) node.getLhs().accept(this);
+    Value rhsValue = (Value) node.getRhs().accept(this);
+    return Operators.equality(node.getEqualityType(), lhsValue, rhsValue);
   }
 
   @Override
   public Object visit(ComparisonNode node) {
-    // TODO: implement
-    throw new UnsupportedOperationException();
+    Value lhsValue = (Value) node.getLhs().accept(this);
+    Value rhsValue = (Value) node.getRhs().accept(this);
+    return Operators.comparison(node.getComparisonType(), lhsValue, rhsValue);
   }
 
   @Override
   public Object visit(TermNode node) {
-    // TODO: implement
-    throw new UnsupportedOperationException();
+    Value lhsValue = (Value) node.getLhs().accept(this);
+    Value rhsValue = (Value) node.getRhs().accept(this);
+    return Operators.term(node.getTermType(), lhsValue, rhsValue);
   }
 
   @Override
   public Object visit(FactorNode node) {
-    // TODO: implement
-    throw new UnsupportedOperationException();
+    Value lhsValue = (Value) node.getLhs().accept(this);
+    Value rhsValue = (Value) node.getRhs().accept(this);
+    return Operators.factor(node.getFactorType(), lhsValue, rhsValue);
   }
 
   @Override
   public Object visit(UnaryNode node) {
-    // TODO: implement
-    throw new UnsupportedOperationException();
+    Value innerValue = (Value) node.getInnerNode().accept(this);
+    return Operators.unary(node.getUnaryType(), innerValue);
   }
 
   @Override
@@ -1067,9 +1087,6 @@ public class DSLInterpreter implements AstVisitor<Object> {
 
   @Override
   public Object visit(Node node) {
-    if (node.type.equals(Node.Type.ScopeExitMark)) {
-      this.memoryStack.pop();
-    }
     return null;
   }
 
@@ -1196,7 +1213,7 @@ public class DSLInterpreter implements AstVisitor<Object> {
     return true;
   }
 
-  private boolean setValue(Value assignee, Value valueToAssign) {
+  boolean setValue(Value assignee, Value valueToAssign) {
     if (assignee == Value.NONE) {
       return false;
     }
@@ -1230,9 +1247,6 @@ public class DSLInterpreter implements AstVisitor<Object> {
 
   @Override
   public Object visit(WhileLoopStmtNode node) {
-    MemorySpace loopsMemorySpace = new MemorySpace(this.getCurrentMemorySpace());
-    this.memoryStack.push(loopsMemorySpace);
-
     // add loop-bottom-mark node for checking
     // and updating the loop condition and variable(s)
     LoopBottomMark loopBottomMark = new LoopBottomMark(node);
@@ -1265,21 +1279,20 @@ public class DSLInterpreter implements AstVisitor<Object> {
       throw new RuntimeException("Non iterable type '" + iterableType + "' used in for loop!");
     }
 
-    // create new loop-variable in surrounding (or loops?) memoryspace
-    MemorySpace loopMemorySpace = new MemorySpace(this.getCurrentMemorySpace());
-    this.memoryStack.push(loopMemorySpace);
+    // the loop variable and the counter variable are stored in the function's frame
+    MemorySpace frame = getCurrentFrame();
 
     // get the symbol for the loop variable
     Node variableIdNode = forLoopStmtNode.getVarIdNode();
-    Symbol variableSymbol = this.symbolTable().getSymbolsForAstNode(variableIdNode).get(0);
+    Symbol variableSymbol = this.symbolTable().getSymbolForAstNode(variableIdNode);
 
     Symbol counterVariableSymbol = Symbol.NULL;
     if (node.loopType().equals(LoopStmtNode.LoopType.countingForLoop)) {
       // get the symbol for the counter variable
       Node counterIdNode = ((CountingLoopStmtNode) node).getCounterIdNode();
-      counterVariableSymbol = this.symbolTable().getSymbolsForAstNode(counterIdNode).get(0);
+      counterVariableSymbol = this.symbolTable().getSymbolForAstNode(counterIdNode);
       // initialize counter variable
-      Value counterValue = bindFromSymbol(counterVariableSymbol, loopMemorySpace);
+      Value counterValue = bindFromSymbol(counterVariableSymbol, frame);
       counterValue.setInternalValue(-1);
     }
 
@@ -1302,8 +1315,7 @@ public class DSLInterpreter implements AstVisitor<Object> {
     return null;
   }
 
-  protected void updateForLoopState(
-      IMemorySpace previosIterationsLoopMemorySpace, LoopBottomMark node) {
+  protected void updateForLoopState(LoopBottomMark node) {
     LoopStmtNode loopNode = node.getLoopStmtNode();
     var loopType = loopNode.loopType();
     assert loopType.equals(LoopStmtNode.LoopType.forLoop)
@@ -1311,24 +1323,21 @@ public class DSLInterpreter implements AstVisitor<Object> {
 
     Iterator<Value> loopIterator = node.getInternalIterator();
     if (loopIterator.hasNext()) {
-      // create loops-memory space for next iteration
-      MemorySpace newLoopMemorySpace = new MemorySpace(this.getCurrentMemorySpace());
+      MemorySpace frame = getCurrentFrame();
 
-      // update loop variable
+      // bind a new value for the loop variable in each iteration
       Value nextIterationValue = loopIterator.next();
-      Value valueInMemorySpace = bindFromSymbol(node.getLoopVariableSymbol(), newLoopMemorySpace);
+      Value valueInMemorySpace = bindFromSymbol(node.getLoopVariableSymbol(), frame);
       setValue(valueInMemorySpace, nextIterationValue);
 
       if (loopType.equals(LoopStmtNode.LoopType.countingForLoop)) {
         // update counter variable
         Symbol counterSymbol = node.getCounterVariableSymbol();
-        Value counterValue = previosIterationsLoopMemorySpace.resolve(counterSymbol.getName());
+        Value counterValue = frame.resolve(counterSymbol.getSlot());
         counterValue.setInternalValue((Integer) counterValue.getInternalValue() + 1);
-        newLoopMemorySpace.bindValue(counterSymbol.getName(), counterValue);
       }
 
       // prepare next iteration
-      this.memoryStack.push(newLoopMemorySpace);
       this.statementStack.push(node);
       this.statementStack.push(loopNode.getStmtNode());
     }
@@ -1338,8 +1347,6 @@ public class DSLInterpreter implements AstVisitor<Object> {
   public Object visit(LoopBottomMark node) {
     LoopStmtNode loopNode = node.getLoopStmtNode();
 
-    // clean up the memoryspace
-    IMemorySpace loopsMemorySpace = this.memoryStack.pop();
     switch (loopNode.loopType()) {
       case whileLoop -> {
         WhileLoopStmtNode whileLoopStmtNode = (WhileLoopStmtNode) loopNode;
@@ -1347,16 +1354,12 @@ public class DSLInterpreter implements AstVisitor<Object> {
         // evaluate condition
         Value conditionValue = (Value) whileLoopStmtNode.getExpressionNode().accept(this);
         if (isBooleanTrue(conditionValue)) {
-          // setup memory space for next iteration
-          MemorySpace newIterationMemorySpace = new MemorySpace(this.getCurrentMemorySpace());
-          this.memoryStack.push(newIterationMemorySpace);
-
           // prepare execution of next iteration
           this.statementStack.push(node);
           this.statementStack.push(loopNode.getStmtNode());
         }
       }
-      case forLoop, countingForLoop -> updateForLoopState(loopsMemorySpace, node);
+      case forLoop, countingForLoop -> updateForLoopState(node);
       default -> {}
     }
 
@@ -1400,41 +1403,95 @@ public class DSLInterpreter implements AstVisitor<Object> {
   }
 
   /**
-   * Implement a call of an {@link ICallable} with raw {@link Object}s for the parameters. This
-   * method will create a new {@link IMemorySpace}, create {@link Value}s for each parameter of the
-   * {@link ICallable} and set these {@link Value}s to the passed {@link Objects}. It will also
-   * create new {@link IdNode}s with names, which match the parameter names of the {@link ICallable}
-   * and pass these IdNodes to the call.
+   * Implement a call of an {@link ICallable} with raw {@link Object}s for the parameters. The call
+   * is prepared with {@link #prepareCall(ICallable)} and executed with {@link
+   * #callCallableRawParameters(PreparedCall, Object...)}.
    *
    * @param callable The {@link ICallable} to call.
    * @param parameterObjects The raw {@link Object}s to call the callable with.
    * @return The returned {@link Object} of the call.
    */
   public Object callCallableRawParameters(ICallable callable, List<Object> parameterObjects) {
-    if (callable.getCallableType().equals(ICallable.Type.Native)) {
-      NativeFunction func = (NativeFunction) callable;
+    return callCallableRawParameters(prepareCall(callable), parameterObjects.toArray());
+  }
 
-      IMemorySpace functionMemorySpace = createFunctionMemorySpace(func);
-      setupFunctionParametersRaw(func, functionMemorySpace, parameterObjects);
+  /**
+   * Prepare the calls of an {@link ICallable} with raw {@link Object}s for the parameters, e.g. for
+   * a callback, which is called repeatedly from the Dungeon.
+   *
+   * @param callable The {@link ICallable} to prepare the calls for.
+   * @return The {@link PreparedCall} to pass to {@link #callCallableRawParameters(PreparedCall,
+   *     Object...)}.
+   */
+  public PreparedCall prepareCall(ICallable callable) {
+    return new PreparedCall(callable);
+  }
 
-      // create mock ID-nodes
-      var parameterSymbols = func.getSymbols();
-      List<Node> mockIdNodes = new ArrayList<>(parameterSymbols.size());
-      for (Symbol parameterSymbol : parameterSymbols) {
-        mockIdNodes.add(new IdNode(parameterSymbol.getName(), SourceFileReference.NULL));
+  /**
+   * Implement a call of a prepared {@link ICallable} with raw {@link Object}s for the parameters.
+   * This method will reuse the {@link IMemorySpace} of the last call, if possible, and bind a
+   * {@link Value} for each parameter of the {@link ICallable}. The translated parameter objects are
+   * bound directly, if the translation created a new {@link Value} of the parameter's type. A
+   * native function is called with {@link IdNode}s, whose names match the parameter names.
+   *
+   * @param call The {@link PreparedCall} of the {@link ICallable} to call.
+   * @param parameterObjects The raw {@link Object}s to call the callable with.
+   * @return The returned {@link Value} of the call.
+   */
+  public Value callCallableRawParameters(PreparedCall call, Object... parameterObjects) {
+    boolean isNative = call.functionSymbol instanceof NativeFunction;
+    if (!isNative && !(call.functionSymbol instanceof FunctionSymbol)) {
+      return Value.NONE;
+    }
+
+    IMemorySpace callerMemorySpace = memoryStack.peek();
+    // a nested call of the same callback needs its own memory space
+    boolean ownsFrame = !call.frameInUse;
+    MemorySpace functionMemorySpace;
+    if (ownsFrame && call.frame != null && call.frameParent == callerMemorySpace) {
+      functionMemorySpace = call.frame;
+      functionMemorySpace.clear();
+      if (!isNative) {
+        bindReturnValue(call.functionSymbol, functionMemorySpace);
+      }
+    } else {
+      functionMemorySpace =
+          isNative
+              ? new MemorySpace(callerMemorySpace)
+              : createFunctionMemorySpace(call.functionSymbol);
+      if (ownsFrame) {
+        call.frame = functionMemorySpace;
+        call.frameParent = callerMemorySpace;
       }
+    }
 
-      this.memoryStack.push(functionMemorySpace);
-      // call callable
-      Value returnValue = callCallable(callable, mockIdNodes);
-      this.memoryStack.pop();
+    call.frameInUse = true;
+    boolean memorySpacePushed = false;
+    boolean framePushed = false;
+    try {
+      setupFunctionParametersRaw(call, functionMemorySpace, parameterObjects);
 
-      return returnValue;
-    } else if (callable.getCallableType().equals(ICallable.Type.UserDefined)) {
-      FunctionSymbol functionSymbol = (FunctionSymbol) callable;
-      return executeUserDefinedFunctionRawParameters(functionSymbol, parameterObjects);
+      this.memoryStack.push(functionMemorySpace);
+      memorySpacePushed = true;
+      if (isNative) {
+        return callCallable(call.callable, call.parameterNodes);
+      }
+      this.frameStack.push(functionMemorySpace);
+      framePushed = true;
+      executeUserDefinedFunctionBody((FunctionSymbol) call.functionSymbol);
+      return getReturnValueFromMemorySpace(functionMemorySpace);
+    } finally {
+      // a throwing callback must not leave its memory space on the stacks
+      if (framePushed) {
+        this.frameStack.pop();
+      }
+      if (memorySpacePushed) {
+        this.memoryStack.pop();
+      }
+      if (ownsFrame) {
+        call.frameInUse = false;
+      }
     }
-    return null;
   }
 
   /**
@@ -1446,12 +1503,14 @@ public class DSLInterpreter implements AstVisitor<Object> {
    */
   protected Object executeUserDefinedFunctionRawParameters(
       FunctionSymbol symbol, List<Object> parameterObjects) {
-    IMemorySpace functionMemorySpace = createFunctionMemorySpace(symbol);
+    MemorySpace functionMemorySpace = createFunctionMemorySpace(symbol);
     setupFunctionParametersRaw(symbol, functionMemorySpace, parameterObjects);
 
     this.memoryStack.push(functionMemorySpace);
+    this.frameStack.push(functionMemorySpace);
     executeUserDefinedFunctionBody(symbol);
-    functionMemorySpace = memoryStack.pop();
+    this.frameStack.pop();
+    this.memoryStack.pop();
 
     return getReturnValueFromMemorySpace(functionMemorySpace);
   }
@@ -1464,19 +1523,54 @@ public class DSLInterpreter implements AstVisitor<Object> {
    * @return The return value of the function call
    */
   public Object executeUserDefinedFunction(FunctionSymbol symbol, List<Node> parameterNodes) {
-    IMemorySpace functionMemorySpace = createFunctionMemorySpace(symbol);
+    MemorySpace functionMemorySpace = createFunctionMemorySpace(symbol);
     // can't push memory space yet! If a passed argument has the same identifier
     // as a parameter, the name will be resolved in the new memory space and not
     // the enclosing memory space, containing the argument
     setupFunctionParameters(symbol, functionMemorySpace, parameterNodes);
 
     this.memoryStack.push(functionMemorySpace);
+    this.frameStack.push(functionMemorySpace);
     executeUserDefinedFunctionBody(symbol);
-    functionMemorySpace = memoryStack.pop();
+    this.frameStack.pop();
+    this.memoryStack.pop();
 
     return getReturnValueFromMemorySpace(functionMemorySpace);
   }
 
+  /**
+   * This implements a call to a user defined dsl-function with already evaluated arguments
+   *
+   * @param symbol The symbol corresponding to the function to call
+   * @param arguments The values of the parameters of the function call
+   * @return The return value of the function call
+   */
+  Value executeUserDefinedFunction(FunctionSymbol symbol, Value[] arguments) {
+    MemorySpace functionMemorySpace = createFunctionMemorySpace(symbol);
+    var parameterSymbols = symbol.getSymbols();
+    for (int i = 0; i < arguments.length; i++) {
+      Value assigneeValue = bindFromSymbol(parameterSymbols.get(i), functionMemorySpace);
+      setValue(assigneeValue, arguments[i]);
+    }
+
+    this.memoryStack.push(functionMemorySpace);
+    this.frameStack.push(functionMemorySpace);
+    executeUserDefinedFunctionBody(symbol);
+    this.frameStack.pop();
+    this.memoryStack.pop();
+
+    return getReturnValueFromMemorySpace(functionMemorySpace);
+  }
+
+  /**
+   * Getter for the {@link FunctionCompiler}, which compiles hot user defined functions
+   *
+   * @return the {@link FunctionCompiler} of this interpreter
+   */
+  FunctionCompiler getFunctionCompiler() {
+    return functionCompiler;
+  }
+
   /**
    * This function translates all passed parameters into DSL-Values and binds them as parameters in
    * the current memory space
@@ -1493,18 +1587,47 @@ public class DSLInterpreter implements AstVisitor<Object> {
     var parameterSymbols = functionSymbol.getSymbols();
     for (int i = 0; i < parameterObjects.size(); i++) {
       var parameterSymbol = parameterSymbols.get(i);
-      bindFromSymbol(parameterSymbol, functionsMemorySpace);
+      Value assigneeValue = bindFromSymbol(parameterSymbol, functionsMemorySpace);
 
       Object parameterObject = parameterObjects.get(i);
       Value paramValue =
           (Value)
               this.environment.translateRuntimeObject(
                   parameterObject, currentMemorySpace, parameterSymbol.getDataType());
-      Value assigneeValue = functionsMemorySpace.resolve(parameterSymbol.getName());
       setValue(assigneeValue, paramValue);
     }
   }
 
+  /**
+   * This function translates all passed parameters of a {@link PreparedCall} into DSL-Values and
+   * binds them as parameters in the function's memory space
+   *
+   * @param call The prepared call
+   * @param functionsMemorySpace The memory space of the function call
+   * @param parameterObjects Raw objects to use as values for the function's parameters
+   */
+  private void setupFunctionParametersRaw(
+      PreparedCall call, IMemorySpace functionsMemorySpace, Object[] parameterObjects) {
+    var currentMemorySpace = getCurrentMemorySpace();
+    for (int i = 0; i < parameterObjects.length; i++) {
+      Symbol parameterSymbol = call.parameterSymbols[i];
+      IType parameterType = parameterSymbol.getDataType();
+      Object parameterObject = parameterObjects[i];
+      Value paramValue =
+          (Value)
+              this.environment.translateRuntimeObject(
+                  parameterObject, currentMemorySpace, parameterType);
+      if (paramValue != parameterObject && paramValue.getDataType() == parameterType) {
+        // the translation created a new value of the parameter's type, so there is no need
+        // to copy it into a default value
+        bindValueForSymbol(parameterSymbol, functionsMemorySpace, paramValue);
+      } else {
+        Value assigneeValue = bindFromSymbol(parameterSymbol, functionsMemorySpace);
+        setValue(assigneeValue, paramValue);
+      }
+    }
+  }
+
   /**
    * This function evaluates all passed nodes as values and binds them as parameters in the current
    * memory space
@@ -1518,34 +1641,46 @@ public class DSLInterpreter implements AstVisitor<Object> {
     var parameterSymbols = functionSymbol.getSymbols();
     for (int i = 0; i < parameterNodes.size(); i++) {
       var parameterSymbol = parameterSymbols.get(i);
-      bindFromSymbol(parameterSymbol, functionsMemorySpace);
+      Value assigneeValue = bindFromSymbol(parameterSymbol, functionsMemorySpace);
 
       var paramValueNode = parameterNodes.get(i);
       Value paramValue = (Value) paramValueNode.accept(this);
 
-      Value assigneeValue = functionsMemorySpace.resolve(parameterSymbol.getName());
       setValue(assigneeValue, paramValue);
     }
   }
 
   /**
    * Create a new IMemorySpace for a function call and bind the return Value, if the function has a
-   * return type
+   * return type. For user defined functions, the IMemorySpace is the activation frame with a slot
+   * for each parameter and local variable of the function.
    *
    * @param functionSymbol The Symbol representing the function definition
    * @return The created IMemorySpace
    */
-  private IMemorySpace createFunctionMemorySpace(ScopedSymbol functionSymbol) {
-    // push new memorySpace and parameters on spaceStack
-    var functionMemSpace = new MemorySpace(memoryStack.peek());
+  private MemorySpace createFunctionMemorySpace(ScopedSymbol functionSymbol) {
+    int frameSize = 0;
+    if (functionSymbol instanceof FunctionSymbol userDefinedFunction) {
+      frameSize = userDefinedFunction.getFrameSize();
+    }
+    var functionMemSpace = new MemorySpace(memoryStack.peek(), frameSize);
+    bindReturnValue(functionSymbol, functionMemSpace);
+    return functionMemSpace;
+  }
 
-    // create and bind the return value
+  /**
+   * Create and bind the return value of a function in its IMemorySpace, if the function has a
+   * return type.
+   *
+   * @param functionSymbol The Symbol representing the function definition
+   * @param functionMemSpace The IMemorySpace of the function call
+   */
+  private void bindReturnValue(ScopedSymbol functionSymbol, MemorySpace functionMemSpace) {
     var functionType = (FunctionType) functionSymbol.getDataType();
     if (functionType.getReturnType() != BuiltInType.noType) {
       var returnValue = createDefaultValue(functionType.getReturnType());
       functionMemSpace.bindValue(RETURN_VALUE_NAME, returnValue);
     }
-    return functionMemSpace;
   }
 
   /**
@@ -1554,7 +1689,7 @@ public class DSLInterpreter implements AstVisitor<Object> {
    * @param ms The given memorySpace to resolve the return value in
    * @return The resolved return value
    */
-  private Value getReturnValueFromMemorySpace(IMemorySpace ms) {
+  static Value getReturnValueFromMemorySpace(IMemorySpace ms) {
     // only lookup the return value in the current memory space,
     // if a function does not define a return value, we don't want to
     // walk up into other memory spaces and falsely return a return value
@@ -1568,6 +1703,13 @@ public class DSLInterpreter implements AstVisitor<Object> {
    * @param symbol The symbol representing the function definition
    */
   private void executeUserDefinedFunctionBody(FunctionSymbol symbol) {
+    // hot functions are executed by their compiled body
+    var compiledBody = functionCompiler.compiledBody(symbol);
+    if (compiledBody != null) {
+      compiledBody.execute(getCurrentFrame());
+      return;
+    }
+
     // add return mark
     statementStack.addFirst(new Node(Node.Type.ReturnMark));
 
@@ -0,0 +1,635 @@
+package dsl.interpreter;
+
+import dsl.parser.ast.*;
+import dsl.runtime.callable.ICallable;
+import dsl.runtime.callable.NativeFunction;
+import dsl.runtime.memoryspace.MemorySpace;
+import dsl.runtime.value.FunctionValue;
+import dsl.runtime.value.ListValue;
+import dsl.runtime.value.SetValue;
+import dsl.runtime.value.Value;
+import dsl.semanticanalysis.SymbolTable;
+import dsl.semanticanalysis.symbol.FunctionSymbol;
+import dsl.semanticanalysis.symbol.Symbol;
+import dsl.semanticanalysis.typesystem.typebuilding.type.BuiltInType;
+import dsl.semanticanalysis.typesystem.typebuilding.type.IType;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Compilation tier for hot user defined functions.
+ *
+ * <p>The {@link DSLInterpreter} executes a function body by pushing its statements and marker nodes
+ * onto a statement stack and visiting them one by one, which resolves the symbols of each node in
+ * the {@link SymbolTable} on every execution. After a function was called {@link
+ * #COMPILATION_THRESHOLD} times, this class translates the body of the function once into a tree
+ * of {@link CompiledStatement}s and {@link CompiledExpression}s with pre-resolved symbols, slots
+ * and callees. The compiled body is executed directly on the activation frame of the function
+ * call.
+ *
+ * <p>Operator expressions, whose operands have a static `int`, `float` or `bool` type (literals,
+ * local variables and calls of user defined functions), are compiled into {@link IntExpression}s,
+ * {@link FloatExpression}s and {@link BoolExpression}s, which compute on unboxed values. A {@link
+ * Value} is only created for the result of the whole expression; conditions of `if` statements
+ * and `while` loops are evaluated without any {@link Value}.
+ *
+ * <p>Expressions without a compiled form (e.g. member access or assignments) are evaluated by the
+ * {@link DSLInterpreter}. If the body contains a statement, which can not be compiled, the function
+ * stays in the interpreter.
+ */
+public class FunctionCompiler {
+  /** Number of calls of a function, after which the function is compiled. */
+  public static final int COMPILATION_THRESHOLD = 10;
+
+  private final DSLInterpreter interpreter;
+  private final HashMap<FunctionSymbol, Tier> tiers = new HashMap<>();
+  private int threshold = COMPILATION_THRESHOLD;
+
+  /**
+   * A compiled statement.
+   *
+   * <p>Returns true, if a return statement was executed, so the execution of the function ends.
+   */
+  @FunctionalInterface
+  interface CompiledStatement {
+    boolean execute(MemorySpace frame);
+  }
+
+  /** A compiled expression. */
+  @FunctionalInterface
+  interface CompiledExpression {
+    Value evaluate(MemorySpace frame);
+  }
+
+  /** A compiled expression of static type `int`. */
+  @FunctionalInterface
+  interface IntExpression {
+    int evaluate(MemorySpace frame);
+  }
+
+  /** A compiled expression of static type `float`. */
+  @FunctionalInterface
+  interface FloatExpression {
+    float evaluate(MemorySpace frame);
+  }
+
+  /** A compiled expression, which is evaluated as a condition. */
+  @FunctionalInterface
+  interface BoolExpression {
+    boolean evaluate(MemorySpace frame);
+  }
+
+  // call count and compiled body of a function
+  private static final class Tier {
+    private int calls;
+    private CompiledStatement body;
+    private boolean unsupported;
+  }
+
+  // thrown, if a function contains a statement, which can not be compiled
+  private static final class UnsupportedNodeException extends RuntimeException {
+    UnsupportedNodeException(Node node) {
+      super("Node of type " + node.type + " can not be compiled");
+    }
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param interpreter the {@link DSLInterpreter} which executes the compiled functions
+   */
+  public FunctionCompiler(DSLInterpreter interpreter) {
+    this.interpreter = interpreter;
+  }
+
+  /**
+   * Count a call of the passed function and get its compiled body, if the function is hot.
+   *
+   * @param symbol the {@link FunctionSymbol} of the called function
+   * @return the compiled body of the function or null, if the function should be interpreted
+   */
+  CompiledStatement compiledBody(FunctionSymbol symbol) {
+    Tier tier = tiers.computeIfAbsent(symbol, s -> new Tier());
+    if (tier.body != null || tier.unsupported) {
+      return tier.body;
+    }
+    if (++tier.calls >= threshold) {
+      try {
+        tier.body = compileStatement(symbol.getAstRootNode().getStmtBlock());
+      } catch (UnsupportedNodeException e) {
+        tier.unsupported = true;
+      }
+    }
+    return tier.body;
+  }
+
+  /**
+   * Check, if the passed function was compiled.
+   *
+   * @param symbol the {@link FunctionSymbol} to check
+   * @return true, if the function is executed by its compiled body
+   */
+  boolean isCompiled(FunctionSymbol symbol) {
+    Tier tier = tiers.get(symbol);
+    return tier != null && tier.body != null;
+  }
+
+  /**
+   * Set the number of calls, after which a function is compiled.
+   *
+   * @param threshold the new threshold
+   */
+  void setThreshold(int threshold) {
+    this.threshold = threshold;
+  }
+
+  /** Drop all call counts and compiled functions, e.g. if the runtime is reinitialized. */
+  void reset() {
+    tiers.clear();
+  }
+
+  private SymbolTable symbolTable() {
+    return interpreter.getRuntimeEnvironment().getSymbolTable();
+  }
+
+  private Symbol symbolFor(Node node) {
+    return symbolTable().getSymbolForAstNode(node);
+  }
+
+  // region statements
+
+  private CompiledStatement compileStatement(Node node) {
+    if (node == Node.NONE) {
+      return frame -> false;
+    }
+    return switch (node.type) {
+      case Block -> compileBlock((StmtBlockNode) node);
+      case VarDeclNode -> compileVarDecl((VarDeclNode) node);
+      case ConditionalStmtIf -> compileIf((ConditionalStmtNodeIf) node);
+      case ConditionalStmtIfElse -> compileIfElse((ConditionalStmtNodeIfElse) node);
+      case ReturnStmt -> compileReturn((ReturnStmtNode) node);
+      case LoopStmtNode -> compileLoop((LoopStmtNode) node);
+      default -> {
+        // expression statement
+        CompiledExpression expression = compileExpression(node);
+        yield frame -> {
+          expression.evaluate(frame);
+          return false;
+        };
+      }
+    };
+  }
+
+  private CompiledStatement compileBlock(StmtBlockNode node) {
+    List<Node> stmts = node.getStmts();
+    CompiledStatement[] statements = new CompiledStatement[stmts.size()];
+    for (int i = 0; i < statements.length; i++) {
+      statements[i] = compileStatement(stmts.get(i));
+    }
+    return frame -> {
+      for (CompiledStatement statement : statements) {
+        if (statement.execute(frame)) {
+          return true;
+        }
+      }
+      return false;
+    };
+  }
+
+  private CompiledStatement compileVarDecl(VarDeclNode node) {
+    Symbol symbol = symbolFor(node);
+    if (!node.getDeclType().equals(VarDeclNode.DeclType.typeDecl)
+        || symbol.getSlot() == Symbol.NO_SLOT) {
+      throw new UnsupportedNodeException(node);
+    }
+    int slot = symbol.getSlot();
+    IType type = symbol.getDataType();
+    return frame -> {
+      frame.bindValue(slot, interpreter.createDefaultValue(type));
+      return false;
+    };
+  }
+
+  private CompiledStatement compileIf(ConditionalStmtNodeIf node) {
+    BoolExpression condition = compileBool(node.getCondition());
+    CompiledStatement ifStmt = compileStatement(node.getIfStmt());
+    return frame -> condition.evaluate(frame) && ifStmt.execute(frame);
+  }
+
+  private CompiledStatement compileIfElse(ConditionalStmtNodeIfElse node) {
+    BoolExpression condition = compileBool(node.getCondition());
+    CompiledStatement ifStmt = compileStatement(node.getIfStmt());
+    CompiledStatement elseStmt = compileStatement(node.getElseStmt());
+    return frame -> condition.evaluate(frame) ? ifStmt.execute(frame) : elseStmt.execute(frame);
+  }
+
+  private CompiledStatement compileReturn(ReturnStmtNode node) {
+    Node innerNode = node.getInnerStmtNode();
+    if (innerNode == Node.NONE) {
+      return frame -> true;
+    }
+    CompiledExpression inner = compileExpression(innerNode);
+    return frame -> {
+      Value value = inner.evaluate(frame);
+      if (value != Value.NONE) {
+        Value returnValue = DSLInterpreter.getReturnValueFromMemorySpace(frame);
+        if (returnValue != Value.NONE) {
+          interpreter.setValue(returnValue, value);
+        }
+      }
+      return true;
+    };
+  }
+
+  private CompiledStatement compileLoop(LoopStmtNode node) {
+    CompiledStatement body = compileStatement(node.getStmtNode());
+    return switch (node.loopType()) {
+      case whileLoop -> {
+        BoolExpression condition = compileBool(((WhileLoopStmtNode) node).getExpressionNode());
+        yield frame -> {
+          while (condition.evaluate(frame)) {
+            if (body.execute(frame)) {
+              return true;
+            }
+          }
+          return false;
+        };
+      }
+      case forLoop, countingForLoop -> compileForLoop((ForLoopStmtNode) node, body);
+    };
+  }
+
+  private CompiledStatement compileForLoop(ForLoopStmtNode node, CompiledStatement body) {
+    CompiledExpression iterable = compileExpression(node.getIterableIdNode());
+    Symbol variableSymbol = symbolFor(node.getVarIdNode());
+    Symbol counterSymbol =
+        node instanceof CountingLoopStmtNode countingLoop
+            ? symbolFor(countingLoop.getCounterIdNode())
+            : Symbol.NULL;
+    if (variableSymbol.getSlot() == Symbol.NO_SLOT
+        || (counterSymbol != Symbol.NULL && counterSymbol.getSlot() == Symbol.NO_SLOT)) {
+      throw new UnsupportedNodeException(node);
+    }
+    int variableSlot = variableSymbol.getSlot();
+    IType variableType = variableSymbol.getDataType();
+    int counterSlot = counterSymbol.getSlot();
+
+    return frame -> {
+      Value iterableValue = iterable.evaluate(frame);
+      Iterator<Value> iterator;
+      if (iterableValue instanceof ListValue listValue) {
+        iterator = listValue.internalList().iterator();
+      } else if (iterableValue instanceof SetValue setValue) {
+        iterator = setValue.internalSet().iterator();
+      } else {
+        throw new RuntimeException(
+            "Non iterable type '" + iterableValue.getDataType() + "' used in for loop!");
+      }
+
+      Value counterValue = Value.NONE;
+      if (counterSlot != Symbol.NO_SLOT) {
+        counterValue = new Value(BuiltInType.intType, -1);
+        frame.bindValue(counterSlot, counterValue);
+      }
+      while (iterator.hasNext()) {
+        // bind a new value for the loop variable in each iteration
+        Value loopVariable = interpreter.createDefaultValue(variableType);
+        frame.bindValue(variableSlot, loopVariable);
+        interpreter.setValue(loopVariable, iterator.next());
+        if (counterSlot != Symbol.NO_SLOT) {
+          counterValue.setInternalValue((Integer) counterValue.getInternalValue() + 1);
+        }
+        if (body.execute(frame)) {
+          return true;
+        }
+      }
+      return false;
+    };
+  }
+
+  // endregion
+
+  // region expressions
+
+  private CompiledExpression compileExpression(Node node) {
+    return switch (node.type) {
+      case Number -> {
+        int value = ((NumNode) node).getValue();
+        yield frame -> new Value(BuiltInType.intType, value);
+      }
+      case DecimalNumber -> {
+        float value = ((DecNumNode) node).getValue();
+        yield frame -> new Value(BuiltInType.floatType, value);
+      }
+      case StringLiteral -> {
+        String value = ((StringNode) node).getValue();
+        yield frame -> new Value(BuiltInType.stringType, value);
+      }
+      case Bool -> {
+        boolean value = ((BoolNode) node).getValue();
+        yield frame -> new Value(BuiltInType.boolType, value);
+      }
+      case Identifier -> compileIdentifier((IdNode) node);
+      case FuncCall -> compileFuncCall((FuncCallNode) node);
+      case LogicOr, LogicAnd, Equality, Comparison, Term, Factor, Unary -> compileOperator(node);
+      default -> frame -> (Value) node.accept(interpreter);
+    };
+  }
+
+  private CompiledExpression compileIdentifier(IdNode node) {
+    Symbol symbol = symbolFor(node);
+    if (symbol instanceof NativeFunction nativeFunction) {
+      return frame -> new FunctionValue(nativeFunction.getFunctionType(), nativeFunction);
+    }
+    if (symbol instanceof FunctionSymbol functionSymbol) {
+      return frame -> new FunctionValue(functionSymbol.getFunctionType(), functionSymbol);
+    }
+    if (symbol.getSlot() != Symbol.NO_SLOT) {
+      int slot = symbol.getSlot();
+      return frame -> frame.resolve(slot);
+    }
+    String name = node.getName();
+    return frame -> interpreter.getCurrentMemorySpace().resolve(name, true);
+  }
+
+  private CompiledExpression compileFuncCall(FuncCallNode node) {
+    Symbol symbol = symbolFor(node);
+    if (symbol instanceof FunctionSymbol functionSymbol) {
+      // evaluate the arguments of a call to a user defined function in compiled form
+      List<Node> parameterNodes = node.getParameters();
+      CompiledExpression[] parameters = new CompiledExpression[parameterNodes.size()];
+      for (int i = 0; i < parameters.length; i++) {
+        parameters[i] = compileExpression(parameterNodes.get(i));
+      }
+      return frame -> {
+        Value[] arguments = new Value[parameters.length];
+        for (int i = 0; i < arguments.length; i++) {
+          arguments[i] = parameters[i].evaluate(frame);
+        }
+        return interpreter.executeUserDefinedFunction(functionSymbol, arguments);
+      };
+    }
+    if (symbol instanceof ICallable callable) {
+      // native functions evaluate their parameter nodes themselves
+      List<Node> parameterNodes = node.getParameters();
+      return frame -> interpreter.callCallable(callable, parameterNodes);
+    }
+    return frame -> (Value) node.accept(interpreter);
+  }
+
+  // endregion
+
+  // region operators
+
+  /**
+   * Get the static type of an expression, as far as it is known without evaluating it.
+   *
+   * @param node the expression
+   * @return the type of the {@link Value} the expression evaluates to, or null if unknown
+   */
+  IType staticType(Node node) {
+    return switch (node.type) {
+      case Number -> BuiltInType.intType;
+      case DecimalNumber -> BuiltInType.floatType;
+      case Bool, LogicOr, LogicAnd, Equality, Comparison -> BuiltInType.boolType;
+      case StringLiteral -> BuiltInType.stringType;
+      case Identifier -> {
+        // only local variables and parameters are bound with their declared type
+        Symbol symbol = symbolFor(node);
+        yield symbol.getSlot() != Symbol.NO_SLOT ? symbol.getDataType() : null;
+      }
+      case FuncCall -> {
+        Symbol symbol = symbolFor(node);
+        yield symbol instanceof FunctionSymbol functionSymbol
+            ? functionSymbol.getFunctionType().getReturnType()
+            : null;
+      }
+      case Term -> {
+        TermNode termNode = (TermNode) node;
+        IType lhsType = staticType(termNode.getLhs());
+        IType rhsType = staticType(termNode.getRhs());
+        IType type = Operators.arithmeticType(lhsType, rhsType);
+        if (type == null
+            && termNode.getTermType() == TermNode.TermType.plus
+            && (lhsType == BuiltInType.stringType || rhsType == BuiltInType.stringType)) {
+          type = BuiltInType.stringType;
+        }
+        yield type;
+      }
+      case Factor -> {
+        FactorNode factorNode = (FactorNode) node;
+        yield Operators.arithmeticType(
+            staticType(factorNode.getLhs()), staticType(factorNode.getRhs()));
+      }
+      case Unary -> {
+        UnaryNode unaryNode = (UnaryNode) node;
+        if (unaryNode.getUnaryType() == UnaryNode.UnaryType.not) {
+          yield BuiltInType.boolType;
+        }
+        IType innerType = staticType(unaryNode.getInnerNode());
+        yield Operators.isNumeric(innerType) ? innerType : null;
+      }
+      default -> null;
+    };
+  }
+
+  private CompiledExpression compileOperator(Node node) {
+    IType type = staticType(node);
+    if (type == BuiltInType.intType) {
+      IntExpression expression = compileInt(node);
+      return frame -> new Value(BuiltInType.intType, expression.evaluate(frame));
+    } else if (type == BuiltInType.floatType) {
+      FloatExpression expression = compileFloat(node);
+      return frame -> new Value(BuiltInType.floatType, expression.evaluate(frame));
+    } else if (type == BuiltInType.boolType) {
+      BoolExpression expression = compileBool(node);
+      return frame -> Operators.bool(expression.evaluate(frame));
+    }
+
+    // the types of the operands are only known at runtime
+    if (node instanceof UnaryNode unaryNode) {
+      CompiledExpression inner = compileExpression(unaryNode.getInnerNode());
+      UnaryNode.UnaryType unaryType = unaryNode.getUnaryType();
+      return frame -> Operators.unary(unaryType, inner.evaluate(frame));
+    }
+    BinaryNode binaryNode = (BinaryNode) node;
+    CompiledExpression lhs = compileExpression(binaryNode.getLhs());
+    CompiledExpression rhs = compileExpression(binaryNode.getRhs());
+    if (node instanceof TermNode termNode) {
+      TermNode.TermType termType = termNode.getTermType();
+      return frame -> Operators.term(termType, lhs.evaluate(frame), rhs.evaluate(frame));
+    }
+    FactorNode.FactorType factorType = ((FactorNode) node).getFactorType();
+    return frame -> Operators.factor(factorType, lhs.evaluate(frame), rhs.evaluate(frame));
+  }
+
+  private IntExpression compileInt(Node node) {
+    switch (node.type) {
+      case Number -> {
+        int value = ((NumNode) node).getValue();
+        return frame -> value;
+      }
+      case Identifier -> {
+        int slot = symbolFor(node).getSlot();
+        if (slot != Symbol.NO_SLOT) {
+          return frame -> Operators.intValue(frame.resolve(slot));
+        }
+      }
+      case Term -> {
+        TermNode termNode = (TermNode) node;
+        IntExpression lhs = compileInt(termNode.getLhs());
+        IntExpression rhs = compileInt(termNode.getRhs());
+        return termNode.getTermType() == TermNode.TermType.plus
+            ? frame -> lhs.evaluate(frame) + rhs.evaluate(frame)
+            : frame -> lhs.evaluate(frame) - rhs.evaluate(frame);
+      }
+      case Factor -> {
+        FactorNode factorNode = (FactorNode) node;
+        IntExpression lhs = compileInt(factorNode.getLhs());
+        IntExpression rhs = compileInt(factorNode.getRhs());
+        return factorNode.getFactorType() == FactorNode.FactorType.multiply
+            ? frame -> lhs.evaluate(frame) * rhs.evaluate(frame)
+            : frame -> lhs.evaluate(frame) / rhs.evaluate(frame);
+      }
+      case Unary -> {
+        IntExpression inner = compileInt(((UnaryNode) node).getInnerNode());
+        return frame -> -inner.evaluate(frame);
+      }
+      default -> {}
+    }
+    CompiledExpression expression = compileExpression(node);
+    return frame -> Operators.intValue(expression.evaluate(frame));
+  }
+
+  private FloatExpression compileFloat(Node node) {
+    if (staticType(node) == BuiltInType.intType) {
+      IntExpression expression = compileInt(node);
+      return frame -> expression.evaluate(frame);
+    }
+    switch (node.type) {
+      case DecimalNumber -> {
+        float value = ((DecNumNode) node).getValue();
+        return frame -> value;
+      }
+      case Identifier -> {
+        int slot = symbolFor(node).getSlot();
+        if (slot != Symbol.NO_SLOT) {
+          return frame -> Operators.floatValue(frame.resolve(slot));
+        }
+      }
+      case Term -> {
+        TermNode termNode = (TermNode) node;
+        FloatExpression lhs = compileFloat(termNode.getLhs());
+        FloatExpression rhs = compileFloat(termNode.getRhs());
+        return termNode.getTermType() == TermNode.TermType.plus
+            ? frame -> lhs.evaluate(frame) + rhs.evaluate(frame)
+            : frame -> lhs.evaluate(frame) - rhs.evaluate(frame);
+      }
+      case Factor -> {
+        FactorNode factorNode = (FactorNode) node;
+        FloatExpression lhs = compileFloat(factorNode.getLhs());
+        FloatExpression rhs = compileFloat(factorNode.getRhs());
+        return factorNode.getFactorType() == FactorNode.FactorType.multiply
+            ? frame -> lhs.evaluate(frame) * rhs.evaluate(frame)
+            : frame -> lhs.evaluate(frame) / rhs.evaluate(frame);
+      }
+      case Unary -> {
+        FloatExpression inner = compileFloat(((UnaryNode) node).getInnerNode());
+        return frame -> -inner.evaluate(frame);
+      }
+      default -> {}
+    }
+    CompiledExpression expression = compileExpression(node);
+    return frame -> Operators.floatValue(expression.evaluate(frame));
+  }
+
+  private BoolExpression compileBool(Node node) {
+    switch (node.type) {
+      case Bool -> {
+        boolean value = ((BoolNode) node).getValue();
+        return frame -> value;
+      }
+      case LogicOr -> {
+        LogicOrNode logicOrNode = (LogicOrNode) node;
+        BoolExpression lhs = compileBool(logicOrNode.getLhs());
+        BoolExpression rhs = compileBool(logicOrNode.getRhs());
+        return frame -> lhs.evaluate(frame) || rhs.evaluate(frame);
+      }
+      case LogicAnd -> {
+        LogicAndNode logicAndNode = (LogicAndNode) node;
+        BoolExpression lhs = compileBool(logicAndNode.getLhs());
+        BoolExpression rhs = compileBool(logicAndNode.getRhs());
+        return frame -> lhs.evaluate(frame) && rhs.evaluate(frame);
+      }
+      case Unary -> {
+        UnaryNode unaryNode = (UnaryNode) node;
+        if (unaryNode.getUnaryType() == UnaryNode.UnaryType.not) {
+          BoolExpression inner = compileBool(unaryNode.getInnerNode());
+          return frame -> !inner.evaluate(frame);
+        }
+      }
+      case Comparison -> {
+        return compileComparison((ComparisonNode) node);
+      }
+      case Equality -> {
+        return compileEquality((EqualityNode) node);
+      }
+      default -> {}
+    }
+    CompiledExpression expression = compileExpression(node);
+    return frame -> DSLInterpreter.isBooleanTrue(expression.evaluate(frame));
+  }
+
+  private BoolExpression compileComparison(ComparisonNode node) {
+    ComparisonNode.ComparisonType comparisonType = node.getComparisonType();
+    IType operandType =
+        Operators.arithmeticType(staticType(node.getLhs()), staticType(node.getRhs()));
+    if (operandType == BuiltInType.intType) {
+      IntExpression lhs = compileInt(node.getLhs());
+      IntExpression rhs = compileInt(node.getRhs());
+      return switch (comparisonType) {
+        case greaterThan -> frame -> lhs.evaluate(frame) > rhs.evaluate(frame);
+        case greaterEquals -> frame -> lhs.evaluate(frame) >= rhs.evaluate(frame);
+        case lessThan -> frame -> lhs.evaluate(frame) < rhs.evaluate(frame);
+        case lessEquals -> frame -> lhs.evaluate(frame) <= rhs.evaluate(frame);
+      };
+    } else if (operandType == BuiltInType.floatType) {
+      FloatExpression lhs = compileFloat(node.getLhs());
+      FloatExpression rhs = compileFloat(node.getRhs());
+      return frame ->
+          Operators.comparison(comparisonType, lhs.evaluate(frame), rhs.evaluate(frame));
+    }
+    CompiledExpression lhs = compileExpression(node.getLhs());
+    CompiledExpression rhs = compileExpression(node.getRhs());
+    return frame ->
+        (Boolean)
+            Operators.comparison(comparisonType, lhs.evaluate(frame), rhs.evaluate(frame))
+                .getInternalValue();
+  }
+
+  private BoolExpression compileEquality(EqualityNode node) {
+    boolean equals = node.getEqualityType() == EqualityNode.EqualityType.equals;
+    IType lhsType = staticType(node.getLhs());
+    IType rhsType = staticType(node.getRhs());
+    IType operandType = Operators.arithmeticType(lhsType, rhsType);
+    if (operandType == BuiltInType.intType) {
+      IntExpression lhs = compileInt(node.getLhs());
+      IntExpression rhs = compileInt(node.getRhs());
+      return frame -> (lhs.evaluate(frame) == rhs.evaluate(frame)) == equals;
+    } else if (operandType == BuiltInType.floatType) {
+      FloatExpression lhs = compileFloat(node.getLhs());
+      FloatExpression rhs = compileFloat(node.getRhs());
+      return frame -> (lhs.evaluate(frame) == rhs.evaluate(frame)) == equals;
+    }
+    EqualityNode.EqualityType equalityType = node.getEqualityType();
+    CompiledExpression lhs = compileExpression(node.getLhs());
+    CompiledExpression rhs = compileExpression(node.getRhs());
+    return frame ->
+        (Boolean)
+            Operators.equality(equalityType, lhs.evaluate(frame), rhs.evaluate(frame))
+                .getInternalValue();
+  }
+
+  // endregion
+}
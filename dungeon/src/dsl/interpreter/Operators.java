@@ -0,0 +1,288 @@
+package dsl.interpreter;
+
+import dsl.parser.ast.ComparisonNode;
+import dsl.parser.ast.EqualityNode;
+import dsl.parser.ast.FactorNode;
+import dsl.parser.ast.TermNode;
+import dsl.parser.ast.UnaryNode;
+import dsl.runtime.value.Value;
+import dsl.semanticanalysis.typesystem.typebuilding.type.BuiltInType;
+import dsl.semanticanalysis.typesystem.typebuilding.type.IType;
+import java.util.Objects;
+
+/**
+ * Implementation of the arithmetic, comparison and logic operators of the DSL on {@link Value}s.
+ *
+ * <p>The operators are selected by the datatype of the operands: if both operands are of type
+ * `int`, the result is an `int`; if one of the operands is of type `float`, the result is a
+ * `float`. The `+` operator concatenates the operands, if one of them is a `string`. The logic
+ * operators and `!` use the same truth value as conditions (see {@link #isTrue(Value)}).
+ *
+ * <p>The same implementation is used by the {@link DSLInterpreter}, the {@link FunctionCompiler}
+ * and the constant folding of the semantic analysis, so the result of an expression does not
+ * depend on the way it is evaluated.
+ */
+public final class Operators {
+  private Operators() {}
+
+  /**
+   * Check, if the passed type is `int` or `float`.
+   *
+   * @param type the type to check
+   * @return true, if the type is numeric
+   */
+  public static boolean isNumeric(IType type) {
+    return type == BuiltInType.intType || type == BuiltInType.floatType;
+  }
+
+  /**
+   * Get the datatype of the result of an arithmetic operation.
+   *
+   * @param lhsType datatype of the left operand
+   * @param rhsType datatype of the right operand
+   * @return `int`, if both operands are `int`, `float` if both operands are numeric, or null
+   */
+  public static IType arithmeticType(IType lhsType, IType rhsType) {
+    if (lhsType == BuiltInType.intType && rhsType == BuiltInType.intType) {
+      return BuiltInType.intType;
+    }
+    if (isNumeric(lhsType) && isNumeric(rhsType)) {
+      return BuiltInType.floatType;
+    }
+    return null;
+  }
+
+  /**
+   * Read the internal value of a numeric {@link Value} as int.
+   *
+   * @param value the value to read
+   * @return the internal value as int
+   */
+  public static int intValue(Value value) {
+    return ((Number) value.getInternalValue()).intValue();
+  }
+
+  /**
+   * Read the internal value of a numeric {@link Value} as float.
+   *
+   * @param value the value to read
+   * @return the internal value as float
+   */
+  public static float floatValue(Value value) {
+    return ((Number) value.getInternalValue()).floatValue();
+  }
+
+  /**
+   * Get the truth value of a {@link Value}, as it is used for conditions and logic operators.
+   *
+   * @param value the value to check
+   * @return true, if the value counts as true
+   */
+  public static boolean isTrue(Value value) {
+    return DSLInterpreter.isBooleanTrue(value);
+  }
+
+  /**
+   * Create a new `bool` {@link Value}.
+   *
+   * @param value the internal value
+   * @return the new value
+   */
+  public static Value bool(boolean value) {
+    return new Value(BuiltInType.boolType, value);
+  }
+
+  /**
+   * Evaluate `lhs + rhs` or `lhs - rhs`.
+   *
+   * @param type the operator
+   * @param lhs the left operand
+   * @param rhs the right operand
+   * @return the result
+   */
+  public static Value term(TermNode.TermType type, Value lhs, Value rhs) {
+    IType resultType = arithmeticType(lhs.getDataType(), rhs.getDataType());
+    if (resultType == BuiltInType.intType) {
+      return new Value(resultType, term(type, intValue(lhs), intValue(rhs)));
+    } else if (resultType == BuiltInType.floatType) {
+      return new Value(resultType, term(type, floatValue(lhs), floatValue(rhs)));
+    } else if (type == TermNode.TermType.plus
+        && (lhs.getDataType() == BuiltInType.stringType
+            || rhs.getDataType() == BuiltInType.stringType)) {
+      return new Value(
+          BuiltInType.stringType,
+          String.valueOf(lhs.getInternalValue()) + rhs.getInternalValue());
+    }
+    throw unsupported(type.name(), lhs, rhs);
+  }
+
+  /**
+   * Evaluate `lhs + rhs` or `lhs - rhs` for `int` operands.
+   *
+   * @param type the operator
+   * @param lhs the left operand
+   * @param rhs the right operand
+   * @return the result
+   */
+  public static int term(TermNode.TermType type, int lhs, int rhs) {
+    return type == TermNode.TermType.plus ? lhs + rhs : lhs - rhs;
+  }
+
+  /**
+   * Evaluate `lhs + rhs` or `lhs - rhs` for `float` operands.
+   *
+   * @param type the operator
+   * @param lhs the left operand
+   * @param rhs the right operand
+   * @return the result
+   */
+  public static float term(TermNode.TermType type, float lhs, float rhs) {
+    return type == TermNode.TermType.plus ? lhs + rhs : lhs - rhs;
+  }
+
+  /**
+   * Evaluate `lhs * rhs` or `lhs / rhs`. The division of two `int` values is an integer division.
+   *
+   * @param type the operator
+   * @param lhs the left operand
+   * @param rhs the right operand
+   * @return the result
+   */
+  public static Value factor(FactorNode.FactorType type, Value lhs, Value rhs) {
+    IType resultType = arithmeticType(lhs.getDataType(), rhs.getDataType());
+    if (resultType == BuiltInType.intType) {
+      return new Value(resultType, factor(type, intValue(lhs), intValue(rhs)));
+    } else if (resultType == BuiltInType.floatType) {
+      return new Value(resultType, factor(type, floatValue(lhs), floatValue(rhs)));
+    }
+    throw unsupported(type.name(), lhs, rhs);
+  }
+
+  /**
+   * Evaluate `lhs * rhs` or `lhs / rhs` for `int` operands.
+   *
+   * @param type the operator
+   * @param lhs the left operand
+   * @param rhs the right operand
+   * @return the result
+   */
+  public static int factor(FactorNode.FactorType type, int lhs, int rhs) {
+    return type == FactorNode.FactorType.multiply ? lhs * rhs : lhs / rhs;
+  }
+
+  /**
+   * Evaluate `lhs * rhs` or `lhs / rhs` for `float` operands.
+   *
+   * @param type the operator
+   * @param lhs the left operand
+   * @param rhs the right operand
+   * @return the result
+   */
+  public static float factor(FactorNode.FactorType type, float lhs, float rhs) {
+    return type == FactorNode.FactorType.multiply ? lhs * rhs : lhs / rhs;
+  }
+
+  /**
+   * Compare two numeric values.
+   *
+   * @param type the comparison operator
+   * @param lhs the left operand
+   * @param rhs the right operand
+   * @return `bool` value of the comparison
+   */
+  public static Value comparison(ComparisonNode.ComparisonType type, Value lhs, Value rhs) {
+    IType operandType = arithmeticType(lhs.getDataType(), rhs.getDataType());
+    if (operandType == BuiltInType.intType) {
+      return bool(comparison(type, intValue(lhs), intValue(rhs)));
+    } else if (operandType == BuiltInType.floatType) {
+      return bool(comparison(type, floatValue(lhs), floatValue(rhs)));
+    }
+    throw unsupported(type.name(), lhs, rhs);
+  }
+
+  /**
+   * Compare two `float` values (`int` values are compared exactly as float).
+   *
+   * @param type the comparison operator
+   * @param lhs the left operand
+   * @param rhs the right operand
+   * @return the result of the comparison
+   */
+  public static boolean comparison(ComparisonNode.ComparisonType type, float lhs, float rhs) {
+    return switch (type) {
+      case greaterThan -> lhs > rhs;
+      case greaterEquals -> lhs >= rhs;
+      case lessThan -> lhs < rhs;
+      case lessEquals -> lhs <= rhs;
+    };
+  }
+
+  /**
+   * Compare two `int` values.
+   *
+   * @param type the comparison operator
+   * @param lhs the left operand
+   * @param rhs the right operand
+   * @return the result of the comparison
+   */
+  public static boolean comparison(ComparisonNode.ComparisonType type, int lhs, int rhs) {
+    return switch (type) {
+      case greaterThan -> lhs > rhs;
+      case greaterEquals -> lhs >= rhs;
+      case lessThan -> lhs < rhs;
+      case lessEquals -> lhs <= rhs;
+    };
+  }
+
+  /**
+   * Check two values for equality. Numeric values are compared by their numeric value, all other
+   * values by their internal value.
+   *
+   * @param type the equality operator
+   * @param lhs the left operand
+   * @param rhs the right operand
+   * @return `bool` value of the comparison
+   */
+  public static Value equality(EqualityNode.EqualityType type, Value lhs, Value rhs) {
+    boolean equals;
+    IType operandType = arithmeticType(lhs.getDataType(), rhs.getDataType());
+    if (operandType == BuiltInType.intType) {
+      equals = intValue(lhs) == intValue(rhs);
+    } else if (operandType == BuiltInType.floatType) {
+      equals = floatValue(lhs) == floatValue(rhs);
+    } else {
+      equals = Objects.equals(lhs.getInternalValue(), rhs.getInternalValue());
+    }
+    return bool(equals == (type == EqualityNode.EqualityType.equals));
+  }
+
+  /**
+   * Evaluate `!inner` or `-inner`.
+   *
+   * @param type the operator
+   * @param inner the operand
+   * @return the result
+   */
+  public static Value unary(UnaryNode.UnaryType type, Value inner) {
+    if (type == UnaryNode.UnaryType.not) {
+      return bool(!isTrue(inner));
+    } else if (inner.getDataType() == BuiltInType.intType) {
+      return new Value(BuiltInType.intType, -intValue(inner));
+    } else if (inner.getDataType() == BuiltInType.floatType) {
+      return new Value(BuiltInType.floatType, -floatValue(inner));
+    }
+    throw new RuntimeException(
+        "Operator '" + type.name() + "' is not defined for type '" + inner.getDataType() + "'");
+  }
+
+  private static RuntimeException unsupported(String operator, Value lhs, Value rhs) {
+    return new RuntimeException(
+        "Operator '"
+            + operator
+            + "' is not defined for types '"
+            + lhs.getDataType()
+            + "' and '"
+            + rhs.getDataType()
+            + "'");
+  }
+}
@@ -0,0 +1,67 @@
+package dsl.interpreter;
+
+import dsl.parser.ast.IdNode;
+import dsl.parser.ast.Node;
+import dsl.parser.ast.SourceFileReference;
+import dsl.runtime.callable.ICallable;
+import dsl.runtime.memoryspace.IMemorySpace;
+import dsl.runtime.memoryspace.MemorySpace;
+import dsl.semanticanalysis.symbol.ScopedSymbol;
+import dsl.semanticanalysis.symbol.Symbol;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stores everything, which is needed to call an {@link ICallable} with raw {@link Object}s for the
+ * parameters and does not change between the calls, e.g. for a callback of a component, which is
+ * called in each frame.
+ *
+ * <p>The parameter symbols and the {@link IdNode}s, which pass the parameters to a native
+ * function, are looked up and created once. The memory space of the last call is reused for the
+ * next call, if the call is not nested into another call of the same {@link PreparedCall}.
+ *
+ * <p>Created by {@link DSLInterpreter#prepareCall(ICallable)} and executed by {@link
+ * DSLInterpreter#callCallableRawParameters(PreparedCall, Object...)}.
+ */
+public final class PreparedCall {
+  final ICallable callable;
+  final ScopedSymbol functionSymbol;
+  final Symbol[] parameterSymbols;
+  // IdNodes with the names of the parameters, passed to native functions
+  final List<Node> parameterNodes;
+
+  // memory space of the last call and the memory space it was created in
+  MemorySpace frame;
+  IMemorySpace frameParent;
+  boolean frameInUse;
+
+  PreparedCall(ICallable callable) {
+    this.callable = callable;
+    if (callable instanceof ScopedSymbol scopedSymbol) {
+      this.functionSymbol = scopedSymbol;
+      this.parameterSymbols = scopedSymbol.getSymbols().toArray(new Symbol[0]);
+    } else {
+      // methods are not called with raw parameters
+      this.functionSymbol = null;
+      this.parameterSymbols = new Symbol[0];
+    }
+    if (callable.getCallableType().equals(ICallable.Type.Native)) {
+      List<Node> idNodes = new ArrayList<>(parameterSymbols.length);
+      for (Symbol parameterSymbol : parameterSymbols) {
+        idNodes.add(new IdNode(parameterSymbol.getName(), SourceFileReference.NULL));
+      }
+      this.parameterNodes = idNodes;
+    } else {
+      this.parameterNodes = List.of();
+    }
+  }
+
+  /**
+   * Getter for the prepared {@link ICallable}.
+   *
+   * @return the {@link ICallable}, which is called
+   */
+  public ICallable callable() {
+    return callable;
+  }
+}
@@ -1,5 +1,8 @@
 package dsl.parser.ast;
 
+import dsl.semanticanalysis.SymbolTable;
+import dsl.semanticanalysis.symbol.Symbol;
+import java.lang.reflect.Field;
 import java.util.ArrayList;
 
 public class Node {
@@ -84,6 +87,11 @@ public class Node {
   private SourceFileReference sourceFileReference = SourceFileReference.NULL;
   private final int idx;
 
+  // resolved symbol of this node, written by SymbolTable#link after the semantic analysis
+  private SymbolTable linkedSymbolTable;
+  private Symbol linkedSymbol;
+  private Field linkedField;
+
   /**
    * Constructor for AST-Node with children
    *
@@ -152,6 +160,17 @@ public class Node {
     node.parent = this;
   }
 
+  /**
+   * Replace the child at the passed index, e.g. if a subtree is simplified by a pass over the AST.
+   *
+   * @param idx The index of the child to replace
+   * @param node The new child
+   */
+  public void setChild(int idx, Node node) {
+    this.children.set(idx, node);
+    node.parent = this;
+  }
+
   public Node getParent() {
     return parent;
   }
@@ -189,6 +208,43 @@ public class Node {
     return SourceFileReference.NULL;
   }
 
+  /**
+   * Store the resolved {@link Symbol} of this node, so it can be read without a lookup in the
+   * {@link SymbolTable}. Is called by {@link SymbolTable#link()}.
+   *
+   * @param symbolTable The {@link SymbolTable}, in which the symbol was resolved
+   * @param symbol The resolved symbol
+   * @param field The field of the Java class, which stores the value of the symbol, if the symbol
+   *     is a member of an aggregate type; null otherwise
+   */
+  public void link(SymbolTable symbolTable, Symbol symbol, Field field) {
+    this.linkedSymbolTable = symbolTable;
+    this.linkedSymbol = symbol;
+    this.linkedField = field;
+  }
+
+  /**
+   * Get the resolved {@link Symbol} of this node.
+   *
+   * @param symbolTable The {@link SymbolTable} to get the symbol for
+   * @return The linked symbol, or null if this node was not linked for the passed {@link
+   *     SymbolTable}
+   */
+  public Symbol getLinkedSymbol(SymbolTable symbolTable) {
+    return linkedSymbolTable == symbolTable ? linkedSymbol : null;
+  }
+
+  /**
+   * Get the field of the Java class, which stores the value of the resolved member symbol of this
+   * node.
+   *
+   * @return The accessible field, or null if the symbol of this node is no member of an aggregate
+   *     type with a Java class
+   */
+  public Field getLinkedField() {
+    return linkedField;
+  }
+
   /**
    * Implementation of visitor pattern with {@link AstVisitor}.
    *
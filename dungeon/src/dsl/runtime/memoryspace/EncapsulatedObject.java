@@ -67,55 +67,7 @@ public class EncapsulatedObject extends Value implements IMemorySpace {
     if (correspondingField != null) {
       // read field value
       correspondingField.setAccessible(true);
-      try {
-        var fieldValue = correspondingField.get(this.getInternalValue());
-
-        // handle null
-        if (fieldValue == null) {
-          return NONE;
-        }
-
-        IType memberDSLType = null;
-        if (this.dataType instanceof AggregateType aggregateType) {
-          Symbol memberSymbol = aggregateType.resolve(name);
-          memberDSLType = memberSymbol.getDataType();
-        }
-        if (memberDSLType == null) {
-          memberDSLType = this.environment.getDSLTypeForClass(fieldValue.getClass());
-        }
-
-        // convert the read field value to a DSL 'Value'
-        // this may require recursive creation of encapsulated objects,
-        // if the field is a component for example
-
-        if (memberDSLType != BuiltInType.noType) {
-          switch (memberDSLType.getTypeKind()) {
-            case Basic:
-              // create encapsulated value (because the field is a POD-field, or
-              // "basic type") -> linking the value to the field is only required
-              // for setting the internal value
-              // NOTE: this behaviour differs from the default translation of the
-              // RuntimeObjectTranslator, because we know in this case, that the
-              // resolved name is a member of the underlying object
-              returnValue = new EncapsulatedField(memberDSLType, correspondingField, this.object);
-              break;
-            case AggregateAdapted:
-            case Aggregate:
-              returnValue =
-                  environment
-                      .getRuntimeObjectTranslator()
-                      .translateRuntimeObject(fieldValue, this, this.environment);
-              break;
-            case FunctionType:
-              returnValue = new EncapsulatedField(memberDSLType, correspondingField, this.object);
-              break;
-          }
-          // cache it
-          this.objectCache.put(name, returnValue);
-        }
-      } catch (IllegalAccessException e) {
-        // TODO: handle
-      }
+      returnValue = resolveField(name, correspondingField);
     } else {
       // it may be a property
       Symbol symbol = type.resolve(name);
@@ -141,6 +93,79 @@ public class EncapsulatedObject extends Value implements IMemorySpace {
     return returnValue;
   }
 
+  /**
+   * Resolve a member, which was linked to its field by the semantic analysis (see {@link
+   * dsl.parser.ast.Node#getLinkedField()}), without looking up the field by name.
+   *
+   * @param name the name of the member
+   * @param field the accessible field storing the value of the member
+   * @return the resolved value
+   */
+  public Value resolve(String name, Field field) {
+    Value cachedValue = objectCache.get(name);
+    if (cachedValue != null) {
+      return cachedValue;
+    }
+    if (!field.getDeclaringClass().isInstance(this.getInternalValue())) {
+      return resolve(name);
+    }
+    return resolveField(name, field);
+  }
+
+  private Value resolveField(String name, Field correspondingField) {
+    Value returnValue = NONE;
+    try {
+      var fieldValue = correspondingField.get(this.getInternalValue());
+
+      // handle null
+      if (fieldValue == null) {
+        return NONE;
+      }
+
+      IType memberDSLType = null;
+      if (this.dataType instanceof AggregateType aggregateType) {
+        Symbol memberSymbol = aggregateType.resolve(name);
+        memberDSLType = memberSymbol.getDataType();
+      }
+      if (memberDSLType == null) {
+        memberDSLType = this.environment.getDSLTypeForClass(fieldValue.getClass());
+      }
+
+      // convert the read field value to a DSL 'Value'
+      // this may require recursive creation of encapsulated objects,
+      // if the field is a component for example
+
+      if (memberDSLType != BuiltInType.noType) {
+        switch (memberDSLType.getTypeKind()) {
+          case Basic:
+            // create encapsulated value (because the field is a POD-field, or
+            // "basic type") -> linking the value to the field is only required
+            // for setting the internal value
+            // NOTE: this behaviour differs from the default translation of the
+            // RuntimeObjectTranslator, because we know in this case, that the
+            // resolved name is a member of the underlying object
+            returnValue = new EncapsulatedField(memberDSLType, correspondingField, this.object);
+            break;
+          case AggregateAdapted:
+          case Aggregate:
+            returnValue =
+                environment
+                    .getRuntimeObjectTranslator()
+                    .translateRuntimeObject(fieldValue, this, this.environment);
+            break;
+          case FunctionType:
+            returnValue = new EncapsulatedField(memberDSLType, correspondingField, this.object);
+            break;
+        }
+        // cache it
+        this.objectCache.put(name, returnValue);
+      }
+    } catch (IllegalAccessException e) {
+      // TODO: handle
+    }
+    return returnValue;
+  }
+
   @Override
   public Value resolve(String name, boolean resolveInParent) {
     return resolve(name);
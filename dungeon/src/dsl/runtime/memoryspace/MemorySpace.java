@@ -1,13 +1,17 @@
 package dsl.runtime.memoryspace;
 
 import dsl.runtime.value.Value;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 
 public class MemorySpace implements IMemorySpace {
+  private static final Value[] NO_SLOTS = new Value[0];
   public static MemorySpace NONE = new MemorySpace();
   private final HashMap<String, Value> values = new HashMap<>();
+  // values of parameters and local variables, if this MemorySpace is the frame of a function call
+  private final Value[] slots;
   // TODO: is this really needed?!
   private final IMemorySpace parent;
 
@@ -17,12 +21,32 @@ public class MemorySpace implements IMemorySpace {
    * @param parent parent MemorySpace
    */
   public MemorySpace(IMemorySpace parent) {
+    this(parent, 0);
+  }
+
+  /**
+   * Constructor for the activation frame of a function call. Parameters and local variables of
+   * the function are addressed by the slot of their {@link dsl.semanticanalysis.symbol.Symbol}
+   * instead of their name.
+   *
+   * @param parent parent MemorySpace
+   * @param slotCount number of slots in the frame
+   */
+  public MemorySpace(IMemorySpace parent, int slotCount) {
     this.parent = parent;
+    this.slots = slotCount == 0 ? NO_SLOTS : new Value[slotCount];
   }
 
   /** Constructor, parent will be set to NONE */
   public MemorySpace() {
     this.parent = MemorySpace.NONE;
+    this.slots = NO_SLOTS;
+  }
+
+  /** Remove all bound values, so this memory space can be reused for another function call. */
+  public void clear() {
+    values.clear();
+    Arrays.fill(slots, null);
   }
 
   /**
@@ -47,6 +71,27 @@ public class MemorySpace implements IMemorySpace {
     }
   }
 
+  /**
+   * Bind a value in a slot of this frame. An existing value in the slot is replaced.
+   *
+   * @param slot the slot to bind the value in
+   * @param value the value to bind
+   */
+  public void bindValue(int slot, Value value) {
+    slots[slot] = value;
+  }
+
+  /**
+   * Lookup the {@link Value} stored in the passed slot of this frame.
+   *
+   * @param slot the slot to resolve
+   * @return The stored {@link Value} or Value.NONE, if no value is bound in the slot
+   */
+  public Value resolve(int slot) {
+    Value value = slots[slot];
+    return value == null ? Value.NONE : value;
+  }
+
   /**
    * Lookup passed name and return the stored {@link Value}, if one exists. If no Value was found in
    * own stored values, resolve it in the parent {@link MemorySpace}
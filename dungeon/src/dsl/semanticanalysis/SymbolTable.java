@@ -24,6 +24,8 @@ package dsl.semanticanalysis;
 import dsl.parser.ast.Node;
 import dsl.semanticanalysis.scope.IScope;
 import dsl.semanticanalysis.symbol.Symbol;
+import dsl.semanticanalysis.typesystem.typebuilding.type.AggregateType;
+import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.HashMap;
 
@@ -119,6 +121,47 @@ public class SymbolTable {
     return returnList;
   }
 
+  /**
+   * Get the Symbol referenced by a specific AST node. Uses the symbol linked to the node by {@link
+   * #link()}, if the node was linked for this SymbolTable.
+   *
+   * @param node The AST node
+   * @return The first Symbol referenced by node, or Symbol.NULL, if no Symbol could be found
+   */
+  public Symbol getSymbolForAstNode(Node node) {
+    Symbol symbol = node.getLinkedSymbol(this);
+    if (symbol == null) {
+      symbol = getSymbolsForAstNode(node).get(0);
+    }
+    return symbol;
+  }
+
+  /**
+   * Write the first Symbol referenced by each AST node into the node, so that it is available
+   * without lookup in this SymbolTable (see {@link Node#getLinkedSymbol(SymbolTable)}). For
+   * members of aggregate types, which store their values in a Java class, the corresponding field
+   * is linked as well. Should be called after the semantic analysis; nodes, which are already
+   * linked, are skipped.
+   */
+  public void link() {
+    for (var entry : astNodeSymbolRelation.entrySet()) {
+      Node node = astNodeIdxToAstNode.get(entry.getKey());
+      if (node == null || node.getLinkedSymbol(this) != null) {
+        continue;
+      }
+      Symbol symbol = getSymbolsForAstNode(node).get(0);
+      Field field = null;
+      if (symbol.getScope() instanceof AggregateType aggregateType
+          && aggregateType.getTypeMemberToField() != null) {
+        field = aggregateType.getTypeMemberToField().get(symbol.getName());
+        if (field != null && !field.trySetAccessible()) {
+          field = null;
+        }
+      }
+      node.link(this, symbol, field);
+    }
+  }
+
   private void setCreationAstNode(Symbol symbol, Node creationNode) {
     symbolToAstNodeRelation.put(symbol.getIdx(), creationNode.getIdx());
   }
@@ -0,0 +1,157 @@
+package dsl.semanticanalysis.analyzer;
+
+import dsl.interpreter.Operators;
+import dsl.parser.ast.*;
+import dsl.runtime.value.Value;
+import dsl.semanticanalysis.typesystem.typebuilding.type.BuiltInType;
+import dsl.semanticanalysis.typesystem.typebuilding.type.IType;
+import java.util.ArrayList;
+
+/**
+ * Implements a pass over the AST after the semantic analysis, which replaces operator expressions
+ * with literal operands by the literal of their result and removes conditional statements and
+ * `while` loops with a literal condition.
+ *
+ * <p>The expressions are evaluated with the {@link Operators} of the interpreter, so a folded
+ * expression has the same value as at runtime. If an expression can not be evaluated (e.g. a
+ * division by zero), it is not folded and the error is reported by the interpreter.
+ */
+public class ConstantFolder {
+
+  /**
+   * Fold all constant expressions and remove all dead branches in the passed AST.
+   *
+   * @param rootNode the root {@link Node} of the AST
+   */
+  public void fold(Node rootNode) {
+    foldChildren(rootNode);
+  }
+
+  private void foldChildren(Node node) {
+    ArrayList<Node> children = node.getChildren();
+    for (int i = 0; i < children.size(); i++) {
+      Node child = children.get(i);
+      Node foldedChild = foldNode(child);
+      if (foldedChild != child) {
+        node.setChild(i, foldedChild);
+      }
+    }
+  }
+
+  private Node foldNode(Node node) {
+    if (node == Node.NONE) {
+      return node;
+    }
+    foldChildren(node);
+    return switch (node.type) {
+      case LogicOr, LogicAnd, Equality, Comparison, Term, Factor -> foldBinary((BinaryNode) node);
+      case Unary -> foldUnary((UnaryNode) node);
+      case ConditionalStmtIf -> foldIf((ConditionalStmtNodeIf) node);
+      case ConditionalStmtIfElse -> foldIfElse((ConditionalStmtNodeIfElse) node);
+      case LoopStmtNode -> foldLoop((LoopStmtNode) node);
+      default -> node;
+    };
+  }
+
+  private Node foldBinary(BinaryNode node) {
+    Value lhs = literalValue(node.getLhs());
+    if (lhs != null && (node.type == Node.Type.LogicOr || node.type == Node.Type.LogicAnd)) {
+      // the rhs is not evaluated, if the lhs decides the result
+      boolean lhsTrue = Operators.isTrue(lhs);
+      if (node.type == Node.Type.LogicOr && lhsTrue) {
+        return new BoolNode(true, node.getSourceFileReference());
+      } else if (node.type == Node.Type.LogicAnd && !lhsTrue) {
+        return new BoolNode(false, node.getSourceFileReference());
+      }
+    }
+    Value rhs = literalValue(node.getRhs());
+    if (lhs == null || rhs == null) {
+      return node;
+    }
+
+    Value result;
+    try {
+      result =
+          switch (node.type) {
+            case LogicOr, LogicAnd -> Operators.bool(Operators.isTrue(rhs));
+            case Equality -> Operators.equality(((EqualityNode) node).getEqualityType(), lhs, rhs);
+            case Comparison ->
+                Operators.comparison(((ComparisonNode) node).getComparisonType(), lhs, rhs);
+            case Term -> Operators.term(((TermNode) node).getTermType(), lhs, rhs);
+            case Factor -> Operators.factor(((FactorNode) node).getFactorType(), lhs, rhs);
+            default -> null;
+          };
+    } catch (RuntimeException e) {
+      return node;
+    }
+    return literalNode(result, node);
+  }
+
+  private Node foldUnary(UnaryNode node) {
+    Value inner = literalValue(node.getInnerNode());
+    if (inner == null) {
+      return node;
+    }
+    try {
+      return literalNode(Operators.unary(node.getUnaryType(), inner), node);
+    } catch (RuntimeException e) {
+      return node;
+    }
+  }
+
+  private Node foldIf(ConditionalStmtNodeIf node) {
+    Value condition = literalValue(node.getCondition());
+    if (condition == null) {
+      return node;
+    }
+    return Operators.isTrue(condition) ? node.getIfStmt() : emptyBlock();
+  }
+
+  private Node foldIfElse(ConditionalStmtNodeIfElse node) {
+    Value condition = literalValue(node.getCondition());
+    if (condition == null) {
+      return node;
+    }
+    return Operators.isTrue(condition) ? node.getIfStmt() : node.getElseStmt();
+  }
+
+  private Node foldLoop(LoopStmtNode node) {
+    if (node instanceof WhileLoopStmtNode whileLoop) {
+      Value condition = literalValue(whileLoop.getExpressionNode());
+      if (condition != null && !Operators.isTrue(condition)) {
+        return emptyBlock();
+      }
+    }
+    return node;
+  }
+
+  private static Node emptyBlock() {
+    return new StmtBlockNode(new Node(Node.Type.StmtList, new ArrayList<>()));
+  }
+
+  private static Value literalValue(Node node) {
+    return switch (node.type) {
+      case Number -> new Value(BuiltInType.intType, ((NumNode) node).getValue());
+      case DecimalNumber -> new Value(BuiltInType.floatType, ((DecNumNode) node).getValue());
+      case Bool -> new Value(BuiltInType.boolType, ((BoolNode) node).getValue());
+      case StringLiteral -> new Value(BuiltInType.stringType, ((StringNode) node).getValue());
+      default -> null;
+    };
+  }
+
+  private static Node literalNode(Value value, Node foldedNode) {
+    IType type = value.getDataType();
+    Object internalValue = value.getInternalValue();
+    var sourceFileReference = foldedNode.getSourceFileReference();
+    if (type == BuiltInType.intType) {
+      return new NumNode((Integer) internalValue, sourceFileReference);
+    } else if (type == BuiltInType.floatType) {
+      return new DecNumNode((Float) internalValue, sourceFileReference);
+    } else if (type == BuiltInType.boolType) {
+      return new BoolNode((Boolean) internalValue, sourceFileReference);
+    } else if (type == BuiltInType.stringType) {
+      return new StringNode((String) internalValue, sourceFileReference);
+    }
+    return foldedNode;
+  }
+}
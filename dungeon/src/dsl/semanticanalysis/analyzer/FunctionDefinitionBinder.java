@@ -157,6 +157,9 @@ public class FunctionDefinitionBinder implements AstVisitor<Void> {
 
       Symbol parameterSymbol = new Symbol(parameterName, currentScope, parameterType);
       currentScope.bind(parameterSymbol);
+      if (currentScope instanceof FunctionSymbol functionSymbol) {
+        functionSymbol.allocateSlot(parameterSymbol);
+      }
 
       symbolTable.addSymbolNodeRelation(parameterSymbol, parameterIdNode, true);
     }
@@ -46,6 +46,8 @@ public class SemanticAnalyzer implements AstVisitor<Void> {
   private SymbolTable symbolTable;
   private IEnvironment environment;
   Stack<IScope> scopeStack = new Stack<>();
+  // function, whose body is currently analyzed; local variables get a slot in its frame
+  private FunctionSymbol currentFunction;
   StringBuilder errorStringBuilder = new StringBuilder();
   private boolean setup = false;
 
@@ -173,6 +175,7 @@ public class SemanticAnalyzer implements AstVisitor<Void> {
       return new Result(symbolTable, errorStringBuilder.toString());
     }
     node.accept(this);
+    symbolTable.link();
 
     return new Result(symbolTable, errorStringBuilder.toString());
   }
@@ -398,9 +401,11 @@ public class SemanticAnalyzer implements AstVisitor<Void> {
     } else {
       FunctionSymbol funcSymbol = (FunctionSymbol) resolved;
       scopeStack.push(funcSymbol);
+      currentFunction = funcSymbol;
 
       // visit statements
       node.getStmtBlock().accept(this);
+      currentFunction = null;
 
       // create symbol table entry
       symbolTable.addSymbolNodeRelation(funcSymbol, node, false);
@@ -559,44 +564,44 @@ public class SemanticAnalyzer implements AstVisitor<Void> {
 
   @Override
   public Void visit(LogicOrNode node) {
-    // TODO: implement
-    throw new UnsupportedOperationException();
+    visitChildren(node);
+    return null;
   }
 
   @Override
   public Void visit(LogicAndNode node) {
-    // TODO: implement
-    throw new UnsupportedOperationException();
+    visitChildren(node);
+    return null;
   }
 
   @Override
   public Void visit(EqualityNode node) {
-    // TODO: implement
-    throw new UnsupportedOperationException();
+    visitChildren(node);
+    return null;
   }
 
   @Override
   public Void visit(ComparisonNode node) {
-    // TODO: implement
-    throw new UnsupportedOperationException();
+    visitChildren(node);
+    return null;
   }
 
   @Override
   public Void visit(TermNode node) {
-    // TODO: implement
-    throw new UnsupportedOperationException();
+    visitChildren(node);
+    return null;
   }
 
   @Override
   public Void visit(FactorNode node) {
-    // TODO: implement
-    throw new UnsupportedOperationException();
+    visitChildren(node);
+    return null;
   }
 
   @Override
   public Void visit(UnaryNode node) {
-    // TODO: implement
-    throw new UnsupportedOperationException();
+    visitChildren(node);
+    return null;
   }
 
   @Override
@@ -646,6 +651,9 @@ public class SemanticAnalyzer implements AstVisitor<Void> {
     // create variable symbol
     Symbol variableSymbol = new Symbol(name, scope, type);
     scope.bind(variableSymbol);
+    if (currentFunction != null) {
+      currentFunction.allocateSlot(variableSymbol);
+    }
     this.symbolTable.addSymbolNodeRelation(variableSymbol, nameIdNode, true);
 
     return variableSymbol;
@@ -11,6 +11,7 @@ import java.util.List;
 public class FunctionSymbol extends ScopedSymbol implements ICallable {
 
   private final FuncDefNode astRootNode;
+  private int frameSize;
 
   /**
    * @param astRootNode
@@ -40,4 +41,23 @@ public class FunctionSymbol extends ScopedSymbol implements ICallable {
   public FuncDefNode getAstRootNode() {
     return astRootNode;
   }
+
+  /**
+   * Assign the next free slot in the activation frame of this function to the passed symbol. Each
+   * parameter and local variable of the function gets its own slot.
+   *
+   * @param symbol the parameter or local variable symbol
+   */
+  public void allocateSlot(Symbol symbol) {
+    symbol.setSlot(frameSize++);
+  }
+
+  /**
+   * Getter for the number of slots in the activation frame of this function
+   *
+   * @return the number of parameters and local variables of this function
+   */
+  public int getFrameSize() {
+    return frameSize;
+  }
 }
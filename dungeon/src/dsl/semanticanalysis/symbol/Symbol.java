@@ -44,6 +44,12 @@ public class Symbol {
 
   private int idx;
 
+  // index of the value of the symbol in the activation frame of the enclosing function
+  private int slot = NO_SLOT;
+
+  /** Slot of symbols, which are not stored in an activation frame and are resolved by name. */
+  public static final int NO_SLOT = -1;
+
   public static Symbol NULL = new Symbol("NULL SYMBOL", null, null);
 
   /**
@@ -97,6 +103,26 @@ public class Symbol {
     return idx;
   }
 
+  /**
+   * Getter for the slot of the symbol. Local variables and parameters of a function are stored in
+   * the activation frame of a function call at the index given by the slot. All other symbols
+   * (global definitions, members of aggregate types) have no slot and are resolved by name.
+   *
+   * @return the slot of the symbol or {@link #NO_SLOT}
+   */
+  public int getSlot() {
+    return slot;
+  }
+
+  /**
+   * Setter for the slot of the symbol
+   *
+   * @param slot the index of the value of the symbol in the activation frame of a function call
+   */
+  public void setSlot(int slot) {
+    this.slot = slot;
+  }
+
   /**
    * Getter for the {@link Type} of the symbol
    *
@@ -2,11 +2,12 @@ package dsl.semanticanalysis.typesystem.callbackadapter;
 
 import core.utils.TriConsumer;
 import dsl.interpreter.DSLInterpreter;
+import dsl.interpreter.PreparedCall;
 import dsl.runtime.callable.ICallable;
 import dsl.runtime.environment.RuntimeEnvironment;
 import dsl.runtime.value.Value;
 import dsl.semanticanalysis.typesystem.typebuilding.type.FunctionType;
-import java.util.Arrays;
+import dsl.semanticanalysis.typesystem.typebuilding.type.IType;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -14,6 +15,10 @@ import java.util.function.Consumer;
  * Encapsulates the {@link RuntimeEnvironment} and {@link DSLInterpreter} needed to execute a
  * callback-function defined in the DSL. Implements the functional interfaces needed for assigning
  * an instance of this class to the callback-fields in the components of the Dungeons ECS.
+ *
+ * <p>The call of the callback-function is prepared once (see {@link
+ * DSLInterpreter#prepareCall(ICallable)}), so that each invocation only translates the passed
+ * objects and executes the function.
  */
 public class CallbackAdapter implements Consumer, TriConsumer, BiConsumer {
 
@@ -21,18 +26,18 @@ public class CallbackAdapter implements Consumer, TriConsumer, BiConsumer {
   private final FunctionType functionType;
   private final ICallable callable;
   private final DSLInterpreter interpreter;
+  private final PreparedCall preparedCall;
 
   CallbackAdapter(RuntimeEnvironment rtEnv, ICallable callable, DSLInterpreter interpreter) {
     this.rtEnv = rtEnv;
     this.functionType = callable.getFunctionType();
     this.callable = callable;
     this.interpreter = interpreter;
+    this.preparedCall = interpreter.prepareCall(callable);
   }
 
   public Object call(Object... params) {
-    Value returnValue =
-        (Value)
-            interpreter.callCallableRawParameters(this.callable, Arrays.stream(params).toList());
+    Value returnValue = interpreter.callCallableRawParameters(this.preparedCall, params);
 
     return convertValueToObject(returnValue);
   }
@@ -42,6 +47,10 @@ public class CallbackAdapter implements Consumer, TriConsumer, BiConsumer {
   }
 
   protected Object convertValueToObject(Value value) {
+    if (value.getDataType().getTypeKind().equals(IType.Kind.Basic)) {
+      // values of basic types (and Value.NONE) just wrap the object
+      return value.getInternalValue();
+    }
     return this.rtEnv.getTypeInstantiator().instantiate(value);
   }
 
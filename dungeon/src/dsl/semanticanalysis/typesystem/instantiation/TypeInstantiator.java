@@ -4,6 +4,8 @@ import dsl.annotation.DSLCallback;
 import dsl.annotation.DSLContextMember;
 import dsl.annotation.DSLTypeMember;
 import dsl.annotation.DSLTypeNameMember;
+import dsl.binding.DSLTypeBinding;
+import dsl.binding.DSLTypeBindings;
 import dsl.interpreter.DSLInterpreter;
 import dsl.runtime.callable.ICallable;
 import dsl.runtime.memoryspace.EncapsulatedObject;
@@ -247,7 +249,13 @@ public class TypeInstantiator {
             parameters.add(internalObject);
           }
 
-          convertedObject = method.invoke(null, parameters.toArray());
+          String methodName = method.getName();
+          Optional<DSLTypeBinding> binding = DSLTypeBindings.get(method.getDeclaringClass());
+          if (binding.isPresent() && binding.get().hasAdapter(methodName, parameters.size())) {
+            convertedObject = binding.get().invokeAdapter(methodName, parameters.toArray());
+          } else {
+            convertedObject = method.invoke(null, parameters.toArray());
+          }
         }
       } else if (valuesType.getTypeKind().equals(IType.Kind.ListType)) {
         convertedObject = instantiateList((ListValue) value);
@@ -290,6 +298,17 @@ public class TypeInstantiator {
   private Object instantiateRecord(Class<?> originalJavaClass, Value value) {
     IMemorySpace ms = value.getMemorySpace();
 
+    // the generated binding calls the canonical constructor with the values of the record-fields
+    Optional<DSLTypeBinding> binding = DSLTypeBindings.get(originalJavaClass);
+    if (binding.isPresent() && binding.get().isInstantiable()) {
+      Field[] fields = DSLTypeBindings.memberFields(originalJavaClass);
+      Object[] parameters = new Object[fields.length];
+      for (int i = 0; i < fields.length; i++) {
+        parameters[i] = getRecordParameter(fields[i], ms);
+      }
+      return binding.get().newInstance(parameters);
+    }
+
     Constructor<?> ctor = getConstructor(originalJavaClass);
     if (null == ctor) {
       throw new RuntimeException(
@@ -303,36 +322,7 @@ public class TypeInstantiator {
       ArrayList<Object> parameters = new ArrayList<>(ctor.getParameters().length);
       for (var param : ctor.getParameters()) {
         var field = originalJavaClass.getDeclaredField(param.getName());
-        if (field.isAnnotationPresent(DSLTypeMember.class)) {
-          String fieldName = TypeBuilder.getDSLFieldName(field);
-          var fieldValue = ms.resolve(fieldName);
-
-          // if a certain value is not found in the memory space,
-          // the record cannot be instantiated -> early return
-          if (fieldValue == null || fieldValue == Value.NONE) {
-            throw new RuntimeException(
-                "The name of field "
-                    + field.getName()
-                    + " cannot be resolved in the supplied memory space");
-          } else {
-            Object internalValue = convertValueToObject(fieldValue);
-            parameters.add(internalValue);
-          }
-        } else if (field.isAnnotationPresent(DSLCallback.class)) {
-          String fieldName = TypeBuilder.getDSLFieldName(field);
-          var fieldValue = ms.resolve(fieldName);
-
-          assert fieldValue.getDataType().getTypeKind() == IType.Kind.FunctionType;
-          assert fieldValue.getInternalValue() instanceof FunctionSymbol;
-
-          CallbackAdapter adapter =
-              callbackAdapterBuilder.buildAdapter((FunctionSymbol) fieldValue.getInternalValue());
-          parameters.add(adapter);
-        } else {
-          throw new RuntimeException(
-              "Instantiating a record using the TypeInstantiator requires that all "
-                  + "record members must be marked with @DSLTypeMember. Otherwise, no constructor invocation is possible");
-        }
+        parameters.add(getRecordParameter(field, ms));
       }
       ctor.setAccessible(true);
       return ctor.newInstance(parameters.toArray());
@@ -344,6 +334,36 @@ public class TypeInstantiator {
     }
   }
 
+  private Object getRecordParameter(Field field, IMemorySpace ms) {
+    if (field.isAnnotationPresent(DSLTypeMember.class)) {
+      String fieldName = TypeBuilder.getDSLFieldName(field);
+      var fieldValue = ms.resolve(fieldName);
+
+      // if a certain value is not found in the memory space,
+      // the record cannot be instantiated -> early return
+      if (fieldValue == null || fieldValue == Value.NONE) {
+        throw new RuntimeException(
+            "The name of field "
+                + field.getName()
+                + " cannot be resolved in the supplied memory space");
+      } else {
+        return convertValueToObject(fieldValue);
+      }
+    } else if (field.isAnnotationPresent(DSLCallback.class)) {
+      String fieldName = TypeBuilder.getDSLFieldName(field);
+      var fieldValue = ms.resolve(fieldName);
+
+      assert fieldValue.getDataType().getTypeKind() == IType.Kind.FunctionType;
+      assert fieldValue.getInternalValue() instanceof FunctionSymbol;
+
+      return callbackAdapterBuilder.buildAdapter((FunctionSymbol) fieldValue.getInternalValue());
+    } else {
+      throw new RuntimeException(
+          "Instantiating a record using the TypeInstantiator requires that all "
+              + "record members must be marked with @DSLTypeMember. Otherwise, no constructor invocation is possible");
+    }
+  }
+
   private Object instantiateAggregateValueAsClass(AggregateType type, AggregateValue value) {
     var originalJavaClass = type.getOriginType();
     if (null == originalJavaClass) {
@@ -353,39 +373,25 @@ public class TypeInstantiator {
       throw new RuntimeException("Cannot instantiate an inner class");
     }
 
-    Constructor<?> ctor = getConstructor(originalJavaClass);
-    if (null == ctor) {
-      throw new RuntimeException(
-          "Could not find a suitable constructor to instantiate class "
-              + originalJavaClass.getName());
-    }
-
     Object instance;
     try {
-      // get constructor
-      ctor.setAccessible(true);
-      ArrayList<Object> parameterValues = new ArrayList<>(ctor.getParameterCount());
-      for (var param : ctor.getParameters()) {
-        if (param.isAnnotationPresent(DSLContextMember.class)) {
-          String contextMemberName = param.getAnnotation(DSLContextMember.class).name();
-          Object contextMember = context.get(contextMemberName);
-          parameterValues.add(contextMember);
-        } else {
-          throw new RuntimeException(
-              "Constructor parameter with name "
-                  + param.getName()
-                  + " is not marked as context parameter, cannot "
-                  + "instantiate class "
-                  + originalJavaClass.getName());
+      Optional<DSLTypeBinding> binding = DSLTypeBindings.get(originalJavaClass);
+      if (binding.isPresent() && binding.get().isInstantiable()) {
+        // the generated binding calls the constructor directly
+        List<String> contextMemberNames = binding.get().constructorContextMembers();
+        Object[] parameterValues = new Object[contextMemberNames.size()];
+        for (int i = 0; i < parameterValues.length; i++) {
+          parameterValues[i] = context.get(contextMemberNames.get(i));
         }
+        instance = binding.get().newInstance(parameterValues);
+      } else {
+        instance = instantiateWithConstructor(originalJavaClass);
       }
 
-      instance = ctor.newInstance(parameterValues.toArray());
-
       // set values of the fields marked as DSLTypeMembers to corresponding values from
       // the memory space
       IMemorySpace ms = value.getMemorySpace();
-      for (Field field : originalJavaClass.getDeclaredFields()) {
+      for (Field field : DSLTypeBindings.memberFields(originalJavaClass)) {
         String fieldName = TypeBuilder.getDSLFieldName(field);
         var fieldValue = ms.resolve(fieldName);
         if (field.isAnnotationPresent(DSLTypeMember.class)) {
@@ -394,7 +400,6 @@ public class TypeInstantiator {
           if (fieldValue != Value.NONE && fieldValue.isDirty()) {
             Object internalValue = convertValueToObject(fieldValue);
 
-            field.setAccessible(true);
             field.set(instance, internalValue);
           }
         }
@@ -409,7 +414,6 @@ public class TypeInstantiator {
                   "Usage of non-FunctionSymbol callables as DSLCallback currently not supported");
             } else {
               CallbackAdapter adapter = callbackAdapterBuilder.buildAdapter(functionSymbol);
-              field.setAccessible(true);
               field.set(instance, adapter);
             }
           }
@@ -421,6 +425,35 @@ public class TypeInstantiator {
     return instance;
   }
 
+  private Object instantiateWithConstructor(Class<?> originalJavaClass)
+      throws InvocationTargetException, InstantiationException, IllegalAccessException {
+    Constructor<?> ctor = getConstructor(originalJavaClass);
+    if (null == ctor) {
+      throw new RuntimeException(
+          "Could not find a suitable constructor to instantiate class "
+              + originalJavaClass.getName());
+    }
+
+    ctor.setAccessible(true);
+    ArrayList<Object> parameterValues = new ArrayList<>(ctor.getParameterCount());
+    for (var param : ctor.getParameters()) {
+      if (param.isAnnotationPresent(DSLContextMember.class)) {
+        String contextMemberName = param.getAnnotation(DSLContextMember.class).name();
+        Object contextMember = context.get(contextMemberName);
+        parameterValues.add(contextMember);
+      } else {
+        throw new RuntimeException(
+            "Constructor parameter with name "
+                + param.getName()
+                + " is not marked as context parameter, cannot "
+                + "instantiate class "
+                + originalJavaClass.getName());
+      }
+    }
+
+    return ctor.newInstance(parameterValues.toArray());
+  }
+
   private Constructor<?> getConstructor(Class<?> originalJavaClass) {
     Constructor<?> ctor = null;
     for (Constructor<?> constructor : originalJavaClass.getDeclaredConstructors()) {
@@ -2,6 +2,7 @@ package dsl.semanticanalysis.typesystem.typebuilding;
 
 import core.utils.TriConsumer;
 import dsl.annotation.*;
+import dsl.binding.DSLTypeBindings;
 import dsl.runtime.callable.ExtensionMethod;
 import dsl.semanticanalysis.scope.IScope;
 import dsl.semanticanalysis.symbol.PropertySymbol;
@@ -116,7 +117,7 @@ public class TypeBuilder {
   public static HashMap<String, Field> mapTypeMembersToField(AggregateType type) {
     var originClass = type.getOriginType();
     HashMap<String, String> nameMap = new HashMap<>();
-    for (Field field : originClass.getDeclaredFields()) {
+    for (Field field : DSLTypeBindings.memberFields(originClass)) {
       // bind new Symbol
       if (field.isAnnotationPresent(DSLTypeMember.class)
           || field.isAnnotationPresent(DSLCallback.class)) {
@@ -596,7 +597,8 @@ public class TypeBuilder {
       var aggregateType = new AggregateType(typeName, globalScope, clazz);
 
       this.currentLookedUpTypes.add(clazz);
-      for (Field field : clazz.getDeclaredFields()) {
+      // the member fields are read from the generated binding of the class, if present
+      for (Field field : DSLTypeBindings.memberFields(clazz)) {
         // bind new Symbol
         if (field.isAnnotationPresent(DSLTypeMember.class)
             || field.isAnnotationPresent(DSLTypeNameMember.class)) {
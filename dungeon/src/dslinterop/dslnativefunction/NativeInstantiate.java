@@ -50,6 +50,10 @@ public class NativeInstantiate extends NativeFunction {
           "Wrong type ('"
               + param.getDataType().getName()
               + "') of parameter for call of instantiate()!");
+    }
+    var spawned = PrototypePrefabs.spawn((PrototypeValue) param, null);
+    if (spawned.isPresent()) {
+      return rtEnv.translateRuntimeObject(spawned.get(), interpreter.getCurrentMemorySpace());
     } else {
       var dslEntityInstance =
           (AggregateValue) interpreter.instantiateDSLValue((PrototypeValue) param);
@@ -113,6 +117,9 @@ public class NativeInstantiate extends NativeFunction {
       }
 
       instantiator.removeContextMember(contextName);
+      if (entityObject instanceof Entity entity) {
+        PrototypePrefabs.remember((PrototypeValue) param, entity);
+      }
 
       return rtEnv.translateRuntimeObject(entityObject, interpreter.getCurrentMemorySpace());
     }
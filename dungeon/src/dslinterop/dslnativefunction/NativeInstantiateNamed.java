@@ -50,6 +50,10 @@ public class NativeInstantiateNamed extends NativeFunction {
           "Wrong type ('"
               + prototypeValue.getDataType().getName()
               + "') of parameter for call of instantiate()!");
+    }
+    var spawned = PrototypePrefabs.spawn((PrototypeValue) prototypeValue, nameValue.toString());
+    if (spawned.isPresent()) {
+      return rtEnv.translateRuntimeObject(spawned.get(), interpreter.getCurrentMemorySpace());
     } else {
       var dslEntityInstance =
           (AggregateValue) interpreter.instantiateDSLValue((PrototypeValue) prototypeValue);
@@ -116,6 +120,7 @@ public class NativeInstantiateNamed extends NativeFunction {
       }
 
       instantiator.removeContextMember(contextName);
+      PrototypePrefabs.remember((PrototypeValue) prototypeValue, entityObject);
 
       return rtEnv.translateRuntimeObject(entityObject, interpreter.getCurrentMemorySpace());
     }
@@ -0,0 +1,55 @@
+package dslinterop.dslnativefunction;
+
+import core.Entity;
+import core.Prefab;
+import dsl.runtime.value.PrototypeValue;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+/**
+ * Stores a {@link Prefab} for each entity prototype that was instantiated by {@link
+ * NativeInstantiate} or {@link NativeInstantiateNamed}.
+ *
+ * <p>The default values of a prototype are evaluated once, when the prototype is defined, so each
+ * instantiation creates the same components. If all components of the first instance are {@link
+ * core.CopyableComponent}s, the following instances are spawned from a prefab instead of
+ * instantiating each component again. Prototypes with other components (e.g. an AI, which needs
+ * the instantiated entity) are always instantiated.
+ */
+final class PrototypePrefabs {
+  // the prototypes do not override equals, so they are compared by identity
+  private static final Map<PrototypeValue, Prefab> PREFABS =
+      Collections.synchronizedMap(new WeakHashMap<>());
+
+  private PrototypePrefabs() {}
+
+  /**
+   * Spawn an entity from the prefab of the given prototype.
+   *
+   * @param prototype Prototype of the entity.
+   * @param name Name of the new entity, or null for an entity without a name.
+   * @return The new entity, or an empty Optional if the prototype can not be spawned from a
+   *     prefab (yet).
+   */
+  static Optional<Entity> spawn(final PrototypeValue prototype, final String name) {
+    Prefab prefab = PREFABS.get(prototype);
+    if (prefab == null) return Optional.empty();
+    Entity entity = prefab.spawn();
+    entity.name(name);
+    return Optional.of(entity);
+  }
+
+  /**
+   * Remember the first instance of the given prototype.
+   *
+   * <p>Does nothing if a component of the instance is not copyable.
+   *
+   * @param prototype Prototype of the entity.
+   * @param instance Entity instantiated from the prototype, with all components.
+   */
+  static void remember(final PrototypeValue prototype, final Entity instance) {
+    if (Prefab.isCopyable(instance)) PREFABS.putIfAbsent(prototype, Prefab.of(instance));
+  }
+}
@@ -880,4 +880,78 @@ public class CollisionSystemTest {
       assertEquals("One interaction ends for e3", 1, sc3OnLeave.getCount());
       cleanUpEnvironment();
   }*/
+
+  /**
+   * Checks that onEnter is called once when a collision starts and onLeave is called once when it
+   * ends, while a third, distant entity is not involved.
+   */
+  @Test
+  public void checkExecuteEnterAndLeave() {
+    prepareEnvironment();
+    CollisionSystem cs = new CollisionSystem();
+    Game.add(cs);
+    SimpleCounter sc1OnEnter = new SimpleCounter();
+    SimpleCounter sc1OnLeave = new SimpleCounter();
+    Entity e1 = prepareEntityWithPosition(new Point(0, 0));
+    e1.add(
+        new CollideComponent(
+            new Point(0, 0),
+            new Point(1, 1),
+            (a, b, c) -> sc1OnEnter.inc(),
+            (a, b, c) -> sc1OnLeave.inc()));
+    SimpleCounter sc2OnEnter = new SimpleCounter();
+    SimpleCounter sc2OnLeave = new SimpleCounter();
+    Entity e2 = prepareEntityWithPosition(new Point(0.5f, 0.5f));
+    e2.add(
+        new CollideComponent(
+            new Point(0, 0),
+            new Point(1, 1),
+            (a, b, c) -> sc2OnEnter.inc(),
+            (a, b, c) -> sc2OnLeave.inc()));
+    SimpleCounter sc3OnEnter = new SimpleCounter();
+    Entity e3 = prepareEntityWithPosition(new Point(5, 0));
+    e3.add(
+        new CollideComponent(
+            new Point(0, 0), new Point(1, 1), (a, b, c) -> sc3OnEnter.inc(), (a, b, c) -> {}));
+    Game.add(e1);
+    Game.add(e2);
+    Game.add(e3);
+
+    cs.execute();
+    cs.execute();
+    assertEquals("Only one interaction begins for e1", 1, sc1OnEnter.getCount());
+    assertEquals("Only one interaction begins for e2", 1, sc2OnEnter.getCount());
+    assertEquals("No interaction ends for e1", 0, sc1OnLeave.getCount());
+    assertEquals("No interaction begins for e3", 0, sc3OnEnter.getCount());
+
+    e2.fetch(PositionComponent.class)
+        .ifPresentOrElse(
+            pc -> pc.position(new Point(3, 3)), () -> fail(MISSING_POSITION_COMPONENT));
+    cs.execute();
+    cs.execute();
+    assertEquals("One interaction ends for e1", 1, sc1OnLeave.getCount());
+    assertEquals("One interaction ends for e2", 1, sc2OnLeave.getCount());
+    cleanUpEnvironment();
+  }
+
+  /** Checks that the broad phase finds exactly the colliding pairs in a row of entities. */
+  @Test
+  public void checkExecuteManyEntities() {
+    prepareEnvironment();
+    CollisionSystem cs = new CollisionSystem();
+    Game.add(cs);
+    SimpleCounter enter = new SimpleCounter();
+    int count = 200;
+    for (int i = 0; i < count; i++) {
+      // each hit box overlaps only with its direct neighbours
+      Entity e = prepareEntityWithPosition(new Point(i * 0.75f, (i % 2) * 0.5f));
+      e.add(
+          new CollideComponent(
+              new Point(0, 0), new Point(1, 1), (a, b, c) -> enter.inc(), (a, b, c) -> {}));
+      Game.add(e);
+    }
+    cs.execute();
+    assertEquals("Each neighbour pair collides once", 2 * (count - 1), enter.getCount());
+    cleanUpEnvironment();
+  }
 }
@@ -0,0 +1,151 @@
+package contrib.utils.components.ai;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.badlogic.gdx.ai.pfa.GraphPath;
+import core.level.Tile;
+import core.level.TileLevel;
+import core.level.utils.Coordinate;
+import core.level.utils.DesignLabel;
+import core.level.utils.LevelElement;
+import java.time.Duration;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PathServiceTest {
+
+  private TileLevel level;
+
+  // layout is:
+  //
+  // F F F
+  // W W F
+  // F F F
+  @Before
+  public void setup() {
+    level =
+        new TileLevel(
+            new LevelElement[][] {
+              {LevelElement.FLOOR, LevelElement.FLOOR, LevelElement.FLOOR},
+              {LevelElement.WALL, LevelElement.WALL, LevelElement.FLOOR},
+              {LevelElement.FLOOR, LevelElement.FLOOR, LevelElement.FLOOR}
+            },
+            DesignLabel.DEFAULT);
+  }
+
+  @After
+  public void cleanup() {
+    PathService.frameBudget(PathService.DEFAULT_FRAME_BUDGET);
+    PathService.clear();
+  }
+
+  private static void await(final PathRequest request) throws InterruptedException {
+    for (int i = 0; i < 500 && !request.isDone(); i++) {
+      PathService.update();
+      if (!request.isDone()) Thread.sleep(5);
+    }
+    assertTrue(request.isDone());
+  }
+
+  private static void awaitSearch(final PathRequest request) throws InterruptedException {
+    for (int i = 0; i < 500 && !PathService.finished(request); i++) Thread.sleep(5);
+    assertTrue(PathService.finished(request));
+  }
+
+  @Test
+  public void request_deliversPath() throws InterruptedException {
+    Tile start = level.tileAt(new Coordinate(0, 0));
+    Tile goal = level.tileAt(new Coordinate(0, 2));
+    PathRequest request = PathService.request(start, goal);
+    await(request);
+    GraphPath<Tile> path = request.path().orElseThrow();
+    GraphPath<Tile> expected = level.findPath(start, goal);
+    assertEquals(expected.getCount(), path.getCount());
+    assertSame(start, path.get(0));
+    assertSame(goal, path.get(path.getCount() - 1));
+    // around the wall
+    assertEquals(7, path.getCount());
+  }
+
+  @Test
+  public void request_notDeliveredBeforeUpdate() {
+    PathRequest request =
+        PathService.request(
+            level.tileAt(new Coordinate(0, 0)), level.tileAt(new Coordinate(2, 0)));
+    assertFalse(request.isDone());
+    assertTrue(request.path().isEmpty());
+  }
+
+  @Test
+  public void request_coalesced() throws InterruptedException {
+    Tile start = level.tileAt(new Coordinate(2, 2));
+    Tile goal = level.tileAt(new Coordinate(0, 0));
+    PathRequest first = PathService.request(start, goal);
+    PathRequest second = PathService.request(start, goal);
+    assertSame(first, second);
+    await(first);
+    // finished requests are not reused
+    PathRequest third = PathService.request(start, goal);
+    await(third);
+    assertTrue(first != third);
+  }
+
+  @Test
+  public void request_inaccessibleGoal() throws InterruptedException {
+    PathRequest request =
+        PathService.request(
+            level.tileAt(new Coordinate(0, 0)), level.tileAt(new Coordinate(0, 1)));
+    await(request);
+    assertTrue(request.path().isEmpty());
+  }
+
+  @Test
+  public void request_nullTile() {
+    PathRequest request = PathService.request(level.tileAt(new Coordinate(0, 0)), null);
+    assertTrue(request.isDone());
+    assertTrue(request.path().isEmpty());
+  }
+
+  @Test
+  public void request_otherLevel_clearsPendingRequests() throws InterruptedException {
+    PathRequest old =
+        PathService.request(
+            level.tileAt(new Coordinate(0, 0)), level.tileAt(new Coordinate(0, 2)));
+    TileLevel other =
+        new TileLevel(
+            new LevelElement[][] {{LevelElement.FLOOR, LevelElement.FLOOR}}, DesignLabel.DEFAULT);
+    PathRequest request =
+        PathService.request(other.tileAt(new Coordinate(0, 0)), other.tileAt(new Coordinate(1, 0)));
+    assertTrue(old.isDone());
+    assertTrue(old.path().isEmpty());
+
+    await(request);
+    GraphPath<Tile> path = request.path().orElseThrow();
+    assertSame(other.tileAt(new Coordinate(1, 0)), path.get(path.getCount() - 1));
+  }
+
+  @Test
+  public void update_respectsBudget() throws InterruptedException {
+    PathService.frameBudget(Duration.ZERO);
+    PathRequest first =
+        PathService.request(
+            level.tileAt(new Coordinate(0, 0)), level.tileAt(new Coordinate(2, 1)));
+    PathRequest second =
+        PathService.request(
+            level.tileAt(new Coordinate(1, 0)), level.tileAt(new Coordinate(2, 2)));
+    awaitSearch(first);
+    awaitSearch(second);
+    // without budget, each update delivers exactly one result (searches left over from other
+    // tests may be delivered first)
+    for (int i = 0; i < 100 && !(first.isDone() && second.isDone()); i++) {
+      boolean noneDone = !first.isDone() && !second.isDone();
+      PathService.update();
+      assertFalse(noneDone && first.isDone() && second.isDone());
+    }
+    assertTrue(first.isDone() && second.isDone());
+  }
+}
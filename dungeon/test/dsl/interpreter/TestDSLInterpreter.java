@@ -14,6 +14,7 @@ import dsl.helpers.Helpers;
 import dsl.interpreter.mockecs.*;
 import dsl.parser.ast.IdNode;
 import dsl.parser.ast.Node;
+import dsl.runtime.callable.ICallable;
 import dsl.runtime.memoryspace.EncapsulatedObject;
 import dsl.runtime.value.AggregateValue;
 import dsl.runtime.value.PrototypeValue;
@@ -3379,6 +3380,321 @@ public class TestDSLInterpreter {
         output);
   }
 
+  @Test
+  public void testLocalVariablesInFunctionFrames() {
+    String program =
+        """
+            entity_type my_type {
+                test_component1 {},
+                test_component_with_callback {
+                    consumer: func
+                }
+            }
+
+            fn first_entry(int offset) -> int {
+                var my_list : int[];
+                my_list.add(offset);
+                my_list.add(0);
+                for int entry in my_list count i {
+                    return entry;
+                }
+            }
+
+            fn print_nested(int depth) {
+                var value : int;
+                value = depth;
+                if depth {
+                    // the recursive call uses its own frame
+                    print_nested(first_entry(0));
+                }
+                print(value);
+            }
+
+            fn func(entity ent) {
+                print(first_entry(4));
+                print_nested(1);
+            }
+
+            quest_config c {
+                entity: instantiate(my_type)
+            }
+            """;
+
+    // print currently just prints to system.out, so we need to
+    // check the contents for the printed string
+    var outputStream = new ByteArrayOutputStream();
+    System.setOut(new PrintStream(outputStream));
+
+    TestEnvironment env = new TestEnvironment();
+    DSLInterpreter interpreter = new DSLInterpreter();
+    env.getTypeBuilder().createDSLTypeForJavaTypeInScope(env.getGlobalScope(), Entity.class);
+    env.getTypeBuilder()
+        .createDSLTypeForJavaTypeInScope(
+            env.getGlobalScope(), TestComponentEntityConsumerCallback.class);
+    env.getTypeBuilder()
+        .createDSLTypeForJavaTypeInScope(env.getGlobalScope(), TestComponent1.class);
+
+    var config =
+        (CustomQuestConfig) Helpers.generateQuestConfigWithCustomTypes(program, env, interpreter);
+
+    var entity = config.entity();
+
+    TestComponentEntityConsumerCallback componentWithConsumer =
+        (TestComponentEntityConsumerCallback)
+            entity.components.stream()
+                .filter(c -> c instanceof TestComponentEntityConsumerCallback)
+                .toList()
+                .get(0);
+
+    componentWithConsumer.consumer.accept(entity);
+
+    String output = outputStream.toString();
+    assertEquals(
+        "4" + System.lineSeparator() + "0" + System.lineSeparator() + "1" + System.lineSeparator(),
+        output);
+  }
+
+  @Test
+  public void testHotFunctionIsCompiled() {
+    String program =
+        """
+            entity_type my_type {
+                test_component1 {},
+                test_component_with_callback {
+                    consumer: func
+                }
+            }
+
+            fn last_index(int[] my_list) -> int {
+                var last : int;
+                for int entry in my_list count i {
+                    last = i;
+                }
+                return last;
+            }
+
+            fn func(entity ent) {
+                var my_list : int[];
+                my_list.add(2);
+                my_list.add(0);
+                var list_entry : int;
+                list_entry = my_list.get(0);
+                while list_entry {
+                    print(list_entry);
+                    list_entry = my_list.get(1);
+                }
+                if list_entry print("zero"); else print("not zero");
+                print(last_index(my_list));
+            }
+
+            quest_config c {
+                entity: instantiate(my_type)
+            }
+            """;
+
+    // print currently just prints to system.out, so we need to
+    // check the contents for the printed string
+    var outputStream = new ByteArrayOutputStream();
+    System.setOut(new PrintStream(outputStream));
+
+    TestEnvironment env = new TestEnvironment();
+    DSLInterpreter interpreter = new DSLInterpreter();
+    env.getTypeBuilder().createDSLTypeForJavaTypeInScope(env.getGlobalScope(), Entity.class);
+    env.getTypeBuilder()
+        .createDSLTypeForJavaTypeInScope(
+            env.getGlobalScope(), TestComponentEntityConsumerCallback.class);
+    env.getTypeBuilder()
+        .createDSLTypeForJavaTypeInScope(env.getGlobalScope(), TestComponent1.class);
+
+    var config =
+        (CustomQuestConfig) Helpers.generateQuestConfigWithCustomTypes(program, env, interpreter);
+    interpreter.getFunctionCompiler().setThreshold(2);
+
+    var entity = config.entity();
+
+    TestComponentEntityConsumerCallback componentWithConsumer =
+        (TestComponentEntityConsumerCallback)
+            entity.components.stream()
+                .filter(c -> c instanceof TestComponentEntityConsumerCallback)
+                .toList()
+                .get(0);
+
+    var globalScope = interpreter.getRuntimeEnvironment().getGlobalScope();
+    var funcSymbol = (FunctionSymbol) globalScope.resolve("func");
+    var lastIndexSymbol = (FunctionSymbol) globalScope.resolve("last_index");
+    String expectedOutput =
+        "2" + System.lineSeparator() + "not zero" + System.lineSeparator() + "1"
+            + System.lineSeparator();
+
+    // the first call is interpreted, all following calls use the compiled function
+    for (int i = 0; i < 3; i++) {
+      outputStream.reset();
+      componentWithConsumer.consumer.accept(entity);
+      assertEquals(expectedOutput, outputStream.toString());
+    }
+    assertTrue(interpreter.getFunctionCompiler().isCompiled(funcSymbol));
+    assertTrue(interpreter.getFunctionCompiler().isCompiled(lastIndexSymbol));
+  }
+
+  @Test
+  public void testPreparedCall() {
+    String program =
+        """
+            entity_type my_type {
+                test_component1 {},
+                test_component_with_callback {
+                    consumer: func
+                }
+            }
+
+            fn twice(int x) -> int {
+                var y : int;
+                y = x * 2;
+                return y;
+            }
+
+            fn func(entity ent) {
+                print(twice(3));
+            }
+
+            quest_config c {
+                entity: instantiate(my_type)
+            }
+            """;
+
+    var outputStream = new ByteArrayOutputStream();
+    System.setOut(new PrintStream(outputStream));
+
+    TestEnvironment env = new TestEnvironment();
+    DSLInterpreter interpreter = new DSLInterpreter();
+    env.getTypeBuilder().createDSLTypeForJavaTypeInScope(env.getGlobalScope(), Entity.class);
+    env.getTypeBuilder()
+        .createDSLTypeForJavaTypeInScope(
+            env.getGlobalScope(), TestComponentEntityConsumerCallback.class);
+    env.getTypeBuilder()
+        .createDSLTypeForJavaTypeInScope(env.getGlobalScope(), TestComponent1.class);
+
+    var config =
+        (CustomQuestConfig) Helpers.generateQuestConfigWithCustomTypes(program, env, interpreter);
+    var entity = config.entity();
+    var globalScope = interpreter.getRuntimeEnvironment().getGlobalScope();
+
+    // the memory space of a call is reused by the next call
+    PreparedCall twiceCall = interpreter.prepareCall((FunctionSymbol) globalScope.resolve("twice"));
+    assertEquals(4, interpreter.callCallableRawParameters(twiceCall, 2).getInternalValue());
+    var frame = twiceCall.frame;
+    assertEquals(10, interpreter.callCallableRawParameters(twiceCall, 5).getInternalValue());
+    assertSame(frame, twiceCall.frame);
+    assertFalse(twiceCall.frameInUse);
+
+    PreparedCall funcCall = interpreter.prepareCall((FunctionSymbol) globalScope.resolve("func"));
+    interpreter.callCallableRawParameters(funcCall, entity);
+    interpreter.callCallableRawParameters(funcCall, entity);
+    assertEquals(
+        "6" + System.lineSeparator() + "6" + System.lineSeparator(), outputStream.toString());
+
+    // native functions are called with the prepared parameter nodes
+    outputStream.reset();
+    PreparedCall printCall = interpreter.prepareCall((ICallable) globalScope.resolve("print"));
+    interpreter.callCallableRawParameters(printCall, "hello");
+    interpreter.callCallableRawParameters(printCall, "world");
+    assertEquals(
+        "hello" + System.lineSeparator() + "world" + System.lineSeparator(),
+        outputStream.toString());
+
+    // a throwing call does not leave its memory space on the stack
+    var memorySpace = interpreter.getCurrentMemorySpace();
+    PreparedCall instantiateCall =
+        interpreter.prepareCall((ICallable) globalScope.resolve("instantiate"));
+    assertThrows(
+        RuntimeException.class,
+        () -> interpreter.callCallableRawParameters(instantiateCall, "no prototype"));
+    assertSame(memorySpace, interpreter.getCurrentMemorySpace());
+    assertFalse(instantiateCall.frameInUse);
+  }
+
+  @Test
+  public void testOperators() {
+    String program =
+        """
+            entity_type my_type {
+                test_component1 {},
+                test_component_with_callback {
+                    consumer: func
+                }
+            }
+
+            fn fib(int n) -> int {
+                if n < 2 {
+                    return n;
+                }
+                return fib(n - 1) + fib(n - 2);
+            }
+
+            fn func(entity ent) {
+                var a : int;
+                a = 7;
+                var f : float;
+                f = 1.5;
+                print(a / 2 * 3 - -1);
+                print(f * a);
+                print(a >= 7 and a != 8);
+                print(a < 7 or f <= 1.0);
+                print(!a);
+                print("a: " + a);
+                print(fib(10));
+                if 1 > 2 print("dead"); else print(2 * 3 + 1);
+                while false {
+                    print("dead");
+                }
+            }
+
+            quest_config c {
+                entity: instantiate(my_type)
+            }
+            """;
+
+    var outputStream = new ByteArrayOutputStream();
+    System.setOut(new PrintStream(outputStream));
+
+    TestEnvironment env = new TestEnvironment();
+    DSLInterpreter interpreter = new DSLInterpreter();
+    env.getTypeBuilder().createDSLTypeForJavaTypeInScope(env.getGlobalScope(), Entity.class);
+    env.getTypeBuilder()
+        .createDSLTypeForJavaTypeInScope(
+            env.getGlobalScope(), TestComponentEntityConsumerCallback.class);
+    env.getTypeBuilder()
+        .createDSLTypeForJavaTypeInScope(env.getGlobalScope(), TestComponent1.class);
+
+    var config =
+        (CustomQuestConfig) Helpers.generateQuestConfigWithCustomTypes(program, env, interpreter);
+    interpreter.getFunctionCompiler().setThreshold(2);
+
+    var entity = config.entity();
+
+    TestComponentEntityConsumerCallback componentWithConsumer =
+        (TestComponentEntityConsumerCallback)
+            entity.components.stream()
+                .filter(c -> c instanceof TestComponentEntityConsumerCallback)
+                .toList()
+                .get(0);
+
+    String expectedOutput =
+        String.join(
+                System.lineSeparator(), "10", "10.5", "true", "false", "false", "a: 7", "55", "7")
+            + System.lineSeparator();
+
+    // the interpreted and the compiled function evaluate the operators in the same way
+    for (int i = 0; i < 3; i++) {
+      outputStream.reset();
+      componentWithConsumer.consumer.accept(entity);
+      assertEquals(expectedOutput, outputStream.toString());
+    }
+    var funcSymbol =
+        (FunctionSymbol) interpreter.getRuntimeEnvironment().getGlobalScope().resolve("func");
+    assertTrue(interpreter.getFunctionCompiler().isCompiled(funcSymbol));
+  }
+
   @Test
   public void testItemTypeInstantiationSingleChoice() {
     String program =
@@ -8,6 +8,8 @@ import dsl.interpreter.TestEnvironment;
 import dsl.interpreter.mockecs.*;
 import dsl.parser.ast.*;
 import dsl.runtime.callable.ICallable;
+import dsl.semanticanalysis.SymbolTable;
+import dsl.semanticanalysis.analyzer.ConstantFolder;
 import dsl.semanticanalysis.analyzer.SemanticAnalyzer;
 import dsl.semanticanalysis.environment.GameEnvironment;
 import dsl.semanticanalysis.scope.Scope;
@@ -321,6 +323,37 @@ public class TestSemanticAnalyzer {
     Assert.assertEquals(parameterSymbolFromFunctionSymbol, symbolForParam1);
   }
 
+  @Test
+  public void funcDefFrameSlots() {
+    String program =
+        """
+                fn test_func(int param1, float param2) {
+                    var local : int;
+                    if param1 {
+                        var nested : int;
+                        print(nested);
+                    }
+                    print(local);
+                }
+                """;
+
+    var ast = Helpers.getASTFromString(program);
+    var symtableResult = Helpers.getSymtableForAST(ast);
+
+    var funcSymbol = (FunctionSymbol) symtableResult.symbolTable.globalScope.resolve("test_func");
+    Assert.assertEquals(Symbol.NO_SLOT, funcSymbol.getSlot());
+    Assert.assertEquals(0, funcSymbol.resolve("param1").getSlot());
+    Assert.assertEquals(1, funcSymbol.resolve("param2").getSlot());
+
+    // local variables of nested blocks get a slot in the frame of the function, too
+    Assert.assertEquals(4, funcSymbol.getFrameSize());
+    var stmtList = ast.getChild(0).getChild(3).getChild(0);
+    var localIdNode = stmtList.getChild(2).getChild(1).getChild(0);
+    var localSymbol = symtableResult.symbolTable.getSymbolsForAstNode(localIdNode).get(0);
+    Assert.assertEquals("local", localSymbol.getName());
+    Assert.assertEquals(2, localSymbol.getSlot());
+  }
+
   @Test
   public void funcDefFuncType() {
     String program =
@@ -559,6 +592,96 @@ public class TestSemanticAnalyzer {
     Assert.assertEquals(member1Symbol, symbolForMember1Identifier);
   }
 
+  @Test
+  public void memberAccessLinked() {
+    String program =
+        """
+            fn test_func(test_component2 comp)
+            {
+                var local : string;
+                print(comp.member1);
+            }
+            """;
+
+    TestEnvironment env = new TestEnvironment();
+    env.getTypeBuilder()
+        .createDSLTypeForJavaTypeInScope(env.getGlobalScope(), TestComponent2.class);
+
+    var ast = Helpers.getASTFromString(program);
+    var result = Helpers.getSymtableForASTWithCustomEnvironment(ast, env);
+    var symbolTable = result.symbolTable;
+
+    FuncDefNode funcDefNode = (FuncDefNode) ast.getChild(0);
+    FunctionSymbol functionSymbol = (FunctionSymbol) funcDefNode.getLinkedSymbol(symbolTable);
+    Assert.assertEquals(symbolTable.getSymbolsForAstNode(funcDefNode).get(0), functionSymbol);
+
+    // parameters and local variables get their own slot in the frame of the function
+    Symbol parameterSymbol = functionSymbol.resolve("comp");
+    VarDeclNode varDeclNode = (VarDeclNode) funcDefNode.getStmts().get(0);
+    Symbol localSymbol = varDeclNode.getLinkedSymbol(symbolTable);
+    Assert.assertEquals(0, parameterSymbol.getSlot());
+    Assert.assertEquals(1, localSymbol.getSlot());
+    Assert.assertEquals(2, functionSymbol.getFrameSize());
+
+    var printStmtFuncCall = (FuncCallNode) funcDefNode.getStmts().get(1);
+    MemberAccessNode printParameterNode =
+        (MemberAccessNode) (printStmtFuncCall.getParameters().get(0));
+    Node memberAccessLhs = printParameterNode.getLhs();
+    Assert.assertEquals(parameterSymbol, memberAccessLhs.getLinkedSymbol(symbolTable));
+    Assert.assertNull(memberAccessLhs.getLinkedField());
+
+    // the member is linked to the field of the java class
+    AggregateType testComponent2Type =
+        (AggregateType) symbolTable.globalScope.resolveType("test_component2");
+    Node memberAccessRhs = printParameterNode.getRhs();
+    Assert.assertEquals(
+        testComponent2Type.resolve("member1"), memberAccessRhs.getLinkedSymbol(symbolTable));
+    Assert.assertEquals("member1", memberAccessRhs.getLinkedField().getName());
+
+    // nodes are only linked for the symbol table of their semantic analysis
+    Assert.assertNull(memberAccessRhs.getLinkedSymbol(new SymbolTable(new Scope())));
+  }
+
+  @Test
+  public void constantFolding() {
+    String program =
+        """
+            fn test_func(int param) -> int
+            {
+                if 1 + 2 > 2 {
+                    return 3 * 4 - param;
+                }
+                while false and param {
+                    print(param);
+                }
+                print(-1.5 * 2);
+                print(true or param);
+                print(param / 0);
+            }
+            """;
+
+    var ast = Helpers.getASTFromString(program);
+    Helpers.getSymtableForAST(ast);
+    new ConstantFolder().fold(ast);
+    FuncDefNode funcDefNode = (FuncDefNode) ast.getChild(0);
+    var stmts = funcDefNode.getStmts();
+
+    // the if statement is replaced by its block, the while loop by an empty block
+    StmtBlockNode ifBlock = (StmtBlockNode) stmts.get(0);
+    ReturnStmtNode returnStmt = (ReturnStmtNode) ifBlock.getStmts().get(0);
+    TermNode term = (TermNode) returnStmt.getInnerStmtNode();
+    Assert.assertEquals(12, ((NumNode) term.getLhs()).getValue());
+    Assert.assertEquals(Node.Type.Identifier, term.getRhs().type);
+    Assert.assertTrue(((StmtBlockNode) stmts.get(1)).getStmts().isEmpty());
+
+    var floatParameter = ((FuncCallNode) stmts.get(2)).getParameters().get(0);
+    Assert.assertEquals(-3.0f, ((DecNumNode) floatParameter).getValue(), 0.0001f);
+    var boolParameter = ((FuncCallNode) stmts.get(3)).getParameters().get(0);
+    Assert.assertTrue(((BoolNode) boolParameter).getValue());
+    var divisionParameter = ((FuncCallNode) stmts.get(4)).getParameters().get(0);
+    Assert.assertEquals(Node.Type.Factor, divisionParameter.type);
+  }
+
   @Test
   public void memberAccessFuncCall() {
     String program =
@@ -1,9 +1,12 @@
 package dsl.semanticanalysis.typesystem;
 
+import dsl.binding.DSLTypeBinding;
+import dsl.binding.DSLTypeBindings;
 import dsl.helpers.Helpers;
 import dsl.interpreter.DSLInterpreter;
 import dsl.runtime.memoryspace.MemorySpace;
 import dsl.runtime.value.AggregateValue;
+import dsl.runtime.value.Value;
 import dsl.semanticanalysis.scope.Scope;
 import dsl.semanticanalysis.typesystem.instantiation.TypeInstantiator;
 import dsl.semanticanalysis.typesystem.typebuilding.TypeBuilder;
@@ -15,8 +18,13 @@ import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
 import org.junit.Assert;
 import org.junit.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import task.game.components.TaskComponent;
 
 public class TestTypeInstantiator {
   @Test
@@ -136,4 +144,46 @@ public class TestTypeInstantiator {
       }
     }
   }
+
+  @Test
+  public void testGeneratedBindings() {
+    // the annotation processor generates bindings for the @DSLType classes of the main sources
+    DSLTypeBinding recordBinding = DSLTypeBindings.get(DungeonConfig.class).orElseThrow();
+    Assert.assertEquals(
+        DSLTypeBindings.bindingClassName(DungeonConfig.class), recordBinding.getClass().getName());
+    Assert.assertTrue(recordBinding.isInstantiable());
+
+    DSLTypeBinding classBinding = DSLTypeBindings.get(TaskComponent.class).orElseThrow();
+    Assert.assertTrue(classBinding.isInstantiable());
+    Assert.assertEquals(List.of("entity"), classBinding.constructorContextMembers());
+  }
+
+  @Test
+  public void testInstantiatorRecordUsesBinding() {
+    MemorySpace ms = new MemorySpace();
+    TypeBuilder tb = new TypeBuilder();
+    Scope scope = new Scope();
+    DSLInterpreter interpreter = new DSLInterpreter();
+    var type = (AggregateType) tb.createDSLTypeForJavaTypeInScope(scope, DungeonConfig.class);
+    TaskDependencyGraph graph = new TaskDependencyGraph(new ArrayList<>(), new ArrayList<>());
+    ms.bindValue("dependency_graph", new Value(BuiltInType.graphType, graph));
+    ms.bindValue("name", new Value(BuiltInType.stringType, "Hello, World!"));
+
+    AggregateValue aggregateValue = new AggregateValue(type, null);
+    aggregateValue.setMemorySpace(ms);
+
+    // watch the generated binding, to check that it is used instead of the reflection fallback
+    DSLTypeBinding binding = Mockito.spy(DSLTypeBindings.get(DungeonConfig.class).orElseThrow());
+    Object instance;
+    try (MockedStatic<DSLTypeBindings> bindings =
+        Mockito.mockStatic(DSLTypeBindings.class, Mockito.CALLS_REAL_METHODS)) {
+      bindings
+          .when(() -> DSLTypeBindings.get(DungeonConfig.class))
+          .thenReturn(Optional.of(binding));
+      instance = new TypeInstantiator(interpreter).instantiate(aggregateValue);
+    }
+
+    Mockito.verify(binding).newInstance(Mockito.any());
+    Assert.assertEquals(new DungeonConfig(graph, "Hello, World!"), instance);
+  }
 }
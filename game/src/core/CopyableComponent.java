@@ -0,0 +1,21 @@
+package core;
+
+/**
+ * A {@link Component} that can be copied for another {@link Entity}.
+ *
+ * <p>{@link Prefab}s store the copyable components of a template entity and spawn new entities
+ * with copies of them. So only components that implement this interface can be part of a prefab.
+ *
+ * <p>A copy must not share mutable state with the original component. Immutable parts (e.g. the
+ * frames of an animation or callbacks) are shared, so copying is cheap. Immutable components can
+ * return themselves.
+ */
+public interface CopyableComponent extends Component {
+
+  /**
+   * Create a copy of this component.
+   *
+   * @return A component with the same configuration as this component.
+   */
+  CopyableComponent copy();
+}
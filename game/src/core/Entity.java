@@ -1,10 +1,12 @@
 package core;
 
 import core.game.ECSManagment;
+import core.utils.logging.CustomLogLevel;
 import dsl.annotation.DSLContextPush;
 import dsl.annotation.DSLType;
 import java.util.HashMap;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
 
@@ -28,6 +30,11 @@ import java.util.stream.Stream;
  * <p>With {@link #isPresent(Class)}, you can check if the entity has a component of the given
  * class.
  *
+ * <p>The {@link #id()} of an entity is allocated by {@link EntityIds}. Ids are reused after an
+ * entity was removed from the game, use {@link #generation()} to tell apart the entities that had
+ * the same id. Because ids are reused, they do not follow the creation order; entities are
+ * compared by the order in which they were created instead (see {@link #compareTo(Entity)}).
+ *
  * @see Component
  * @see System
  */
@@ -35,8 +42,14 @@ import java.util.stream.Stream;
 @DSLContextPush(name = "entity")
 public final class Entity implements Comparable<Entity> {
   private static final Logger LOGGER = Logger.getLogger(Entity.class.getSimpleName());
-  private static int nextId = 0;
-  private final int id;
+  private static final AtomicLong CREATED = new AtomicLong();
+  // assigned and renewed by EntityIds
+  int id;
+  int generation;
+  // the pool the entity returns to after it was removed from the game, see EntityPool
+  EntityPool pool;
+  // position in the creation order, unlike the id never reused
+  private final long sequence = CREATED.getAndIncrement();
   private final HashMap<Class<? extends Component>, Component> components;
   private String name;
 
@@ -48,10 +61,11 @@ public final class Entity implements Comparable<Entity> {
    * @param name the name of the entity, used for better logging and debugging
    */
   public Entity(final String name) {
-    id = nextId++;
+    id = EntityIds.allocate();
+    generation = EntityIds.generation(id);
     components = new HashMap<>();
     this.name = name;
-    LOGGER.info("The entity '" + name + "' was created.");
+    LOGGER.log(CustomLogLevel.TRACE, () -> "The entity '" + this + "' was created.");
   }
 
   /**
@@ -62,14 +76,15 @@ public final class Entity implements Comparable<Entity> {
    * <p>The name of the entity will be its id
    */
   public Entity() {
-    this("_" + nextId);
+    this(null);
   }
 
   /**
    * Add a new component to this entity.
    *
    * <p>Changes in the component map of the entity will trigger a call to {@link
-   * ECSManagment#informAboutChanges}.
+   * ECSManagment#informAboutChanges}. The systems are informed about the change at the next sync
+   * point, see {@link ECSManagment#applyChanges()}.
    *
    * <p>Remember that an entity can only store one component of each component class.
    *
@@ -78,21 +93,24 @@ public final class Entity implements Comparable<Entity> {
   public void add(final Component component) {
     components.put(component.getClass(), component);
     ECSManagment.informAboutChanges(this);
-    LOGGER.info(component.getClass().getName() + " Components from " + this + " was added.");
+    LOGGER.log(
+        CustomLogLevel.TRACE,
+        () -> component.getClass().getName() + " Components from " + this + " was added.");
   }
 
   /**
    * Remove a component from this entity.
    *
    * <p>Changes in the component map of the entity will trigger a call to {@link
-   * ECSManagment#informAboutChanges}.
+   * ECSManagment#informAboutChanges}. The systems are informed about the change at the next sync
+   * point, see {@link ECSManagment#applyChanges()}.
    *
    * @param klass the Class of the component
    */
   public void remove(final Class<? extends Component> klass) {
     if (components.remove(klass) != null) {
       ECSManagment.informAboutChanges(this);
-      LOGGER.info(klass.getName() + " from " + name + " was removed.");
+      LOGGER.log(CustomLogLevel.TRACE, () -> klass.getName() + " from " + name + " was removed.");
     }
   }
 
@@ -125,6 +143,18 @@ public final class Entity implements Comparable<Entity> {
     return id;
   }
 
+  /**
+   * Get the generation of the id of this entity.
+   *
+   * <p>The generation is increased each time the id is released, so the id and the generation
+   * together identify the entity, even after the id was reused.
+   *
+   * @return The generation of the id.
+   */
+  public int generation() {
+    return generation;
+  }
+
   /**
    * Set the name of this entity
    *
@@ -134,15 +164,32 @@ public final class Entity implements Comparable<Entity> {
     this.name = name;
   }
 
+  /**
+   * Get the name of this entity, as given at creation or by {@link #name(String)}.
+   *
+   * @return The name, or null if the entity has no name.
+   */
+  String name() {
+    return name;
+  }
+
   @Override
   public String toString() {
+    if (name == null) return "_" + id;
     if (name.contains("_" + id)) return name;
     else return name + "_" + id;
   }
 
+  /**
+   * Compare the creation order of this entity and the given entity.
+   *
+   * @param o Entity to compare with.
+   * @return A negative number if this entity was created before the given entity, 0 if they are
+   *     the same entity, a positive number otherwise.
+   */
   @Override
   public int compareTo(Entity o) {
-    return id - o.id;
+    return Long.compare(sequence, o.sequence);
   }
 
   /**
@@ -0,0 +1,100 @@
+package core;
+
+import java.util.Arrays;
+
+/**
+ * Allocates the ids of the {@link Entity}s.
+ *
+ * <p>Ids are dense: they start at 0, and the ids of entities that were removed from the game are
+ * reused for new entities. So the ids stay small even in long sessions with many short-lived
+ * entities (e.g. projectiles), and data of the entities can be stored in flat arrays indexed by
+ * their id, see {@link #capacity()}.
+ *
+ * <p>Each id has a generation that is increased if the id is released. An entity is {@link
+ * #isAlive(Entity) alive} as long as its generation matches the generation of its id. An entity
+ * whose id was released gets a new id if it is added to the game again (see {@link
+ * #renew(Entity)}).
+ *
+ * <p>Ids are released by {@link core.game.ECSManagment#releaseIds()} at the end of a frame, for
+ * the entities that were removed from the game and are not stored in any level.
+ */
+public final class EntityIds {
+  private static final int INITIAL_CAPACITY = 256;
+
+  private static int[] generations = new int[INITIAL_CAPACITY];
+  private static int[] free = new int[INITIAL_CAPACITY];
+  private static int freeCount = 0;
+  private static int capacity = 0;
+
+  private EntityIds() {}
+
+  /**
+   * Get the number of ids that were handed out so far.
+   *
+   * <p>Each id is smaller than the capacity, so an array of this size can store data for each
+   * entity.
+   *
+   * @return Upper bound of the ids.
+   */
+  public static synchronized int capacity() {
+    return capacity;
+  }
+
+  /**
+   * Check if the id of the given entity is still assigned to it.
+   *
+   * @param entity Entity to check.
+   * @return true if the id of the entity was not released since the entity got it.
+   */
+  public static synchronized boolean isAlive(final Entity entity) {
+    return generations[entity.id] == entity.generation;
+  }
+
+  /**
+   * Release the id of the given entity, so it can be reused by a new entity.
+   *
+   * <p>Does nothing if the id was already released.
+   *
+   * @param entity Entity that is no longer part of the game.
+   */
+  public static synchronized void release(final Entity entity) {
+    if (generations[entity.id] != entity.generation) return;
+    generations[entity.id]++;
+    if (freeCount == free.length) free = Arrays.copyOf(free, freeCount * 2);
+    free[freeCount++] = entity.id;
+  }
+
+  /**
+   * Give the given entity a new id if its id was released.
+   *
+   * @param entity Entity that is added to the game.
+   */
+  public static synchronized void renew(final Entity entity) {
+    if (generations[entity.id] == entity.generation) return;
+    entity.id = allocate();
+    entity.generation = generations[entity.id];
+  }
+
+  /**
+   * Get a free id.
+   *
+   * <p>The most recently released id is reused first.
+   *
+   * @return The id, its current generation is {@link #generation(int)}.
+   */
+  static synchronized int allocate() {
+    if (freeCount > 0) return free[--freeCount];
+    if (capacity == generations.length) generations = Arrays.copyOf(generations, capacity * 2);
+    return capacity++;
+  }
+
+  /**
+   * Get the current generation of the given id.
+   *
+   * @param id Id to get the generation of.
+   * @return Number of times the id was released.
+   */
+  static synchronized int generation(final int id) {
+    return generations[id];
+  }
+}
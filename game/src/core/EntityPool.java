@@ -0,0 +1,115 @@
+package core;
+
+import java.util.ArrayDeque;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A pool of reusable entities for short-lived entities like projectiles.
+ *
+ * <p>Use {@link #obtain()} instead of creating a new entity. The entity is either a new entity
+ * from the factory of the pool or an entity of the pool that was removed from the game before.
+ * Reused entities keep their id and their components, so the caller only has to update the values
+ * of the components before adding the entity to the game.
+ *
+ * <p>An obtained entity returns to its pool after it was removed from the game with {@link
+ * Game#remove(Entity)}. The systems are informed about the removal as usual, but instead of
+ * releasing the id of the entity at the end of the frame (see {@link
+ * core.game.ECSManagment#releaseIds()}), the entity is reset and stored in the pool. Entities that
+ * are moved to another level stay in the level and are not returned to the pool.
+ *
+ * <p>The pool stores at most the given number of entities. If the pool is full, the ids of
+ * returned entities are released as usual.
+ */
+public final class EntityPool {
+  /** Default number of entities a pool stores. */
+  public static final int DEFAULT_CAPACITY = 32;
+
+  private final Supplier<Entity> factory;
+  private final Consumer<Entity> reset;
+  private final int capacity;
+  private final ArrayDeque<Entity> free;
+
+  /**
+   * Create a new pool.
+   *
+   * @param factory Creates a new entity if the pool is empty.
+   * @param reset Resets the components of an entity that returns to the pool, e.g. to drop
+   *     references to other entities.
+   * @param capacity Maximal number of entities stored in the pool.
+   */
+  public EntityPool(final Supplier<Entity> factory, final Consumer<Entity> reset, int capacity) {
+    this.factory = factory;
+    this.reset = reset;
+    this.capacity = capacity;
+    free = new ArrayDeque<>(capacity);
+  }
+
+  /**
+   * Create a new pool with the {@link #DEFAULT_CAPACITY}, that does not reset the entities.
+   *
+   * @param factory Creates a new entity if the pool is empty.
+   */
+  public EntityPool(final Supplier<Entity> factory) {
+    this(factory, entity -> {}, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Return the given entity to its pool, if it was obtained from a pool.
+   *
+   * <p>Is called by {@link core.game.ECSManagment#releaseIds()} for each entity that was removed
+   * from the game and is not stored in any level.
+   *
+   * @param entity Entity that was removed from the game.
+   * @return true if the entity was returned to its pool, false if its id should be released.
+   */
+  public static boolean recycle(final Entity entity) {
+    EntityPool pool = entity.pool;
+    return pool != null && pool.put(entity);
+  }
+
+  /**
+   * Get an entity from the pool, or a new entity if the pool is empty.
+   *
+   * <p>The entity is not added to the game.
+   *
+   * @return An entity that is not part of the game.
+   */
+  public Entity obtain() {
+    Entity entity;
+    synchronized (free) {
+      entity = free.poll();
+    }
+    if (entity == null) {
+      entity = factory.get();
+      entity.pool = this;
+    }
+    return entity;
+  }
+
+  /**
+   * Get the number of entities in the pool.
+   *
+   * @return Number of entities that can be obtained without creating a new entity.
+   */
+  public int size() {
+    synchronized (free) {
+      return free.size();
+    }
+  }
+
+  private boolean put(final Entity entity) {
+    synchronized (free) {
+      if (free.size() >= capacity) {
+        // the entity leaves the pool for good and gets a new id if it is added again
+        entity.pool = null;
+        return false;
+      }
+    }
+    reset.accept(entity);
+    synchronized (free) {
+      free.push(entity);
+    }
+    return true;
+  }
+}
@@ -3,6 +3,7 @@ package core;
 import com.badlogic.gdx.ai.pfa.GraphPath;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import core.components.PositionComponent;
+import core.game.ComponentQuery;
 import core.game.ECSManagment;
 import core.game.GameLoop;
 import core.game.PreRunConfiguration;
@@ -17,6 +18,7 @@ import core.utils.Point;
 import core.utils.components.MissingComponentException;
 import core.utils.components.path.IPath;
 import java.io.IOException;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -56,6 +58,26 @@ public final class Game {
     GameLoop.run();
   }
 
+  /**
+   * Runs the dungeon without a window and without an OpenGL context for the given number of
+   * ticks.
+   *
+   * @param ticks Number of game ticks to simulate.
+   * @see GameLoop#runHeadless(long)
+   */
+  public static void runHeadless(long ticks) {
+    GameLoop.runHeadless(ticks);
+  }
+
+  /**
+   * Checks if the game runs without a window and without an OpenGL context.
+   *
+   * @return True if the game runs headless, false otherwise.
+   */
+  public static boolean headless() {
+    return PreRunConfiguration.headless();
+  }
+
   /**
    * Retrieves the window width from the pre-run configuration.
    *
@@ -110,6 +132,38 @@ public final class Game {
     PreRunConfiguration.frameRate(frameRate);
   }
 
+  /**
+   * Retrieves the number of simulation ticks per second from the pre-run configuration.
+   *
+   * <p>Use this to convert durations into ticks, e.g. for cool downs that are counted by a system.
+   *
+   * @return The tick rate.
+   */
+  public static int tickRate() {
+    return PreRunConfiguration.tickRate();
+  }
+
+  /**
+   * Sets the number of simulation ticks per second in the pre-run configuration.
+   *
+   * @param tickRate The new tick rate.
+   */
+  public static void tickRate(int tickRate) {
+    PreRunConfiguration.tickRate(tickRate);
+  }
+
+  /**
+   * Get the progress of the current frame between the last two simulation ticks.
+   *
+   * <p>Use this to interpolate between the state of the previous and the current tick when
+   * drawing, see {@link core.components.PositionComponent#interpolatedPosition(float)}.
+   *
+   * @return Value between 0 (state of the previous tick) and 1 (state of the current tick).
+   */
+  public static float interpolationAlpha() {
+    return GameLoop.interpolationAlpha();
+  }
+
   /**
    * Sets the window title in the pre-run configuration.
    *
@@ -293,6 +347,58 @@ public final class Game {
     return ECSManagment.entityStream(filter);
   }
 
+  /**
+   * Get all entities that contain a component of the given class.
+   *
+   * <p>The lookup does not iterate over all entities, use this instead of filtering {@link
+   * #entityStream()}.
+   *
+   * @param klass Component class the entities must contain.
+   * @return an unmodifiable list of all entities currently in the game that contain the given
+   *     component.
+   */
+  public static List<Entity> entities(final Class<? extends Component> klass) {
+    return ECSManagment.entities(klass);
+  }
+
+  /**
+   * Create a query over all entities that contain a component of the given class.
+   *
+   * @param a Class of the component.
+   * @return The query.
+   * @see ComponentQuery
+   */
+  public static <A extends Component> ComponentQuery.Of1<A> query(final Class<A> a) {
+    return ECSManagment.query(a);
+  }
+
+  /**
+   * Create a query over all entities that contain components of the two given classes.
+   *
+   * @param a Class of the first component.
+   * @param b Class of the second component.
+   * @return The query.
+   * @see ComponentQuery
+   */
+  public static <A extends Component, B extends Component> ComponentQuery.Of2<A, B> query(
+      final Class<A> a, final Class<B> b) {
+    return ECSManagment.query(a, b);
+  }
+
+  /**
+   * Create a query over all entities that contain components of the three given classes.
+   *
+   * @param a Class of the first component.
+   * @param b Class of the second component.
+   * @param c Class of the third component.
+   * @return The query.
+   * @see ComponentQuery
+   */
+  public static <A extends Component, B extends Component, C extends Component>
+      ComponentQuery.Of3<A, B, C> query(final Class<A> a, final Class<B> b, final Class<C> c) {
+    return ECSManagment.query(a, b, c);
+  }
+
   /**
    * Get the player character.
    *
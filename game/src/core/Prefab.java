@@ -0,0 +1,170 @@
+package core;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * A template to spawn many entities with the same configuration.
+ *
+ * <p>A prefab is built once from a fully configured template entity. Each call of {@link #spawn()}
+ * creates a new entity with copies of the components of the template (see {@link
+ * CopyableComponent}). Immutable parts of the components, like the frames of the animations in the
+ * {@link core.components.DrawComponent}, are shared between all spawned entities, so spawning an
+ * entity only allocates a few small objects and does not search the assets again.
+ *
+ * <p>Prefabs can be stored in a global registry by name, see {@link #register(String, Supplier)}
+ * and {@link #spawn(String)}. The template of a registered prefab is built the first time the
+ * prefab is needed.
+ *
+ * <p>Components that are different for each entity (e.g. a random AI) can be added to the spawned
+ * entity afterward.
+ */
+public final class Prefab {
+  private static final Map<String, Prefab> PREFABS = new ConcurrentHashMap<>();
+  private static final Map<String, Supplier<Entity>> TEMPLATES = new ConcurrentHashMap<>();
+
+  private final String name;
+  private final CopyableComponent[] components;
+
+  private Prefab(final String name, final CopyableComponent[] components) {
+    this.name = name;
+    this.components = components;
+  }
+
+  /**
+   * Create a prefab from the given template entity.
+   *
+   * <p>The prefab stores copies of the components of the template, so later changes to the
+   * template do not affect the prefab. The spawned entities get the name of the template. The
+   * template should not be added to the game.
+   *
+   * @param template Entity with the components for the spawned entities.
+   * @return The new prefab.
+   * @throws IllegalArgumentException if a component of the template is not a {@link
+   *     CopyableComponent}.
+   */
+  public static Prefab of(final Entity template) {
+    CopyableComponent[] components =
+        template
+            .componentStream()
+            .map(
+                component -> {
+                  if (component instanceof CopyableComponent copyable) return copyable.copy();
+                  throw new IllegalArgumentException(
+                      "The component "
+                          + component.getClass().getSimpleName()
+                          + " of "
+                          + template
+                          + " can not be copied.");
+                })
+            .toArray(CopyableComponent[]::new);
+    return new Prefab(template.name(), components);
+  }
+
+  /**
+   * Check if a prefab can be created from the given template entity.
+   *
+   * @param template Entity to check.
+   * @return true if each component of the template is a {@link CopyableComponent}.
+   */
+  public static boolean isCopyable(final Entity template) {
+    return template.componentStream().allMatch(CopyableComponent.class::isInstance);
+  }
+
+  /**
+   * Register a prefab with the given name.
+   *
+   * <p>The template is built the first time the prefab is used, so the assets for the components
+   * do not need to be available at registration. If a prefab with the given name is already
+   * registered, it is replaced.
+   *
+   * @param name Name of the prefab.
+   * @param template Builds the template entity for the prefab.
+   */
+  public static void register(final String name, final Supplier<Entity> template) {
+    TEMPLATES.put(name, template);
+    PREFABS.remove(name);
+  }
+
+  /**
+   * Get the registered prefab with the given name.
+   *
+   * <p>Builds the template of the prefab if the prefab is used for the first time.
+   *
+   * @param name Name of the prefab.
+   * @return The prefab, or an empty Optional if no prefab with the given name is registered.
+   * @throws IllegalArgumentException if a component of the template is not a {@link
+   *     CopyableComponent}.
+   */
+  public static Optional<Prefab> get(final String name) {
+    Supplier<Entity> template = TEMPLATES.get(name);
+    if (template == null) return Optional.empty();
+    Prefab prefab = PREFABS.get(name);
+    if (prefab == null) {
+      // not built inside computeIfAbsent, the template may use other prefabs
+      prefab = build(template);
+      Prefab other = PREFABS.putIfAbsent(name, prefab);
+      if (other != null) prefab = other;
+    }
+    return Optional.of(prefab);
+  }
+
+  /**
+   * Get the registered prefab with the given name, or register it if it is not registered yet.
+   *
+   * @param name Name of the prefab.
+   * @param template Builds the template entity if the prefab is not registered yet.
+   * @return The registered prefab.
+   */
+  public static Prefab get(final String name, final Supplier<Entity> template) {
+    TEMPLATES.putIfAbsent(name, template);
+    return get(name).orElseThrow();
+  }
+
+  /**
+   * Spawn a new entity from the registered prefab with the given name.
+   *
+   * <p>The entity is not added to the game.
+   *
+   * @param name Name of the prefab.
+   * @return The new entity.
+   * @throws IllegalArgumentException if no prefab with the given name is registered.
+   */
+  public static Entity spawn(final String name) {
+    return get(name)
+        .orElseThrow(() -> new IllegalArgumentException("No prefab " + name + " registered."))
+        .spawn();
+  }
+
+  private static Prefab build(final Supplier<Entity> templateBuilder) {
+    Entity template = templateBuilder.get();
+    Prefab prefab = of(template);
+    // the template is never part of the game, so its id can be used by the spawned entities
+    EntityIds.release(template);
+    return prefab;
+  }
+
+  /**
+   * Get the name of the entities spawned by this prefab.
+   *
+   * @return Name of the template entity, or null if the template has no name.
+   */
+  public String name() {
+    return name;
+  }
+
+  /**
+   * Create a new entity with copies of the components of the template.
+   *
+   * <p>The entity is not added to the game.
+   *
+   * @return The new entity.
+   */
+  public Entity spawn() {
+    Entity entity = new Entity(name);
+    for (CopyableComponent component : components) entity.add(component.copy());
+    return entity;
+  }
+}
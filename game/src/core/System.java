@@ -1,7 +1,11 @@
 package core;
 
+import core.game.ECSManagment;
+import core.game.SystemScheduler;
 import core.utils.EntitySystemMapper;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.logging.Logger;
@@ -27,12 +31,23 @@ import java.util.stream.Stream;
  * #triggerOnAdd(Entity)} or {@link #triggerOnRemove(Entity)} will be called by the {@link
  * EntitySystemMapper}. Set the {@link #onEntityAdd} or {@link #onEntityRemove} attributes in the
  * inheriting System to implement the corresponding logic for these events.
+ *
+ * <p>By default, a System is executed on the render thread, one after the other. A System that
+ * declares which Components it reads and writes (see {@link #reads(Class[])} and {@link
+ * #writes(Class[])}) may be executed concurrently with other declared Systems whose access does not
+ * conflict, see {@link SystemScheduler}. Such a System must not use OpenGL, must not access state
+ * outside of its declared Components that other Systems write, and must not add or remove
+ * Components of entities. Entities added to or removed from the Game by a concurrent System are
+ * added or removed after the concurrent Systems are finished.
  */
 public abstract class System {
   public static final int DEFAULT_EVERY_FRAME_EXECUTE = 1;
   protected static final Logger LOGGER = Logger.getLogger(System.class.getSimpleName());
   private final Set<Class<? extends Component>> filterRules;
   private final int executeEveryXFrames;
+  private final Set<Class<? extends Component>> reads = new HashSet<>();
+  private final Set<Class<? extends Component>> writes = new HashSet<>();
+  private boolean concurrent = false;
   protected boolean run;
 
   /**
@@ -70,7 +85,7 @@ public abstract class System {
   public System(int executeEveryXFrames, Class<? extends Component>... filterRules) {
     this.executeEveryXFrames = executeEveryXFrames;
     if (filterRules != null) this.filterRules = Set.of(filterRules);
-    else this.filterRules = new HashSet<>();
+    else this.filterRules = Set.of();
     run = true;
     LOGGER.info(String.format("A new %s was created", getClass().getName()));
   }
@@ -120,11 +135,109 @@ public abstract class System {
    * <p>The System will process Entities containing all the Components specified in the returned
    * set.
    *
-   * @return A {@link Set} of {@link Class} objects representing the Component classes used for
-   *     filtering Entities.
+   * @return An unmodifiable {@link Set} of {@link Class} objects representing the Component
+   *     classes used for filtering Entities.
    */
   public Set<Class<? extends Component>> filterRules() {
-    return new HashSet<>(filterRules);
+    return filterRules;
+  }
+
+  /**
+   * Check if this system is executed once per rendered frame.
+   *
+   * <p>By default, a system is a logic system that is executed once per simulation tick (see {@link
+   * Game#tickRate()}), so the simulation runs with the same speed regardless of the frame rate.
+   * Systems that draw, read the input or update the user interface override this to return true;
+   * they are executed once per frame, after the ticks of that frame.
+   *
+   * <p>{@link #executeEveryXFrames()} counts ticks for logic systems and frames for per-frame
+   * systems.
+   *
+   * @return true if the system is executed once per frame, false if it is executed once per tick.
+   */
+  public boolean executesPerFrame() {
+    return false;
+  }
+
+  /**
+   * Declare that this system only reads the given Components.
+   *
+   * <p>The filter rules are always read. Declaring the access allows the {@link SystemScheduler} to
+   * execute this system concurrently with other systems that do not write these Components.
+   *
+   * @param components Component classes that are read by {@link #execute()}.
+   */
+  @SafeVarargs
+  protected final void reads(final Class<? extends Component>... components) {
+    for (Class<? extends Component> component : components) {
+      reads.add(component);
+    }
+    concurrent = true;
+  }
+
+  /**
+   * Declare that this system writes the given Components.
+   *
+   * <p>Declaring the access allows the {@link SystemScheduler} to execute this system concurrently
+   * with other systems that do neither read nor write these Components.
+   *
+   * @param components Component classes that are modified by {@link #execute()}.
+   */
+  @SafeVarargs
+  protected final void writes(final Class<? extends Component>... components) {
+    for (Class<? extends Component> component : components) {
+      writes.add(component);
+    }
+    concurrent = true;
+  }
+
+  /**
+   * Get the Components this system reads, including the filter rules.
+   *
+   * @return An unmodifiable set of the read Component classes.
+   */
+  public final Set<Class<? extends Component>> readComponents() {
+    Set<Class<? extends Component>> components = new HashSet<>(filterRules);
+    components.addAll(reads);
+    return Collections.unmodifiableSet(components);
+  }
+
+  /**
+   * Get the Components this system writes.
+   *
+   * @return An unmodifiable set of the written Component classes.
+   */
+  public final Set<Class<? extends Component>> writeComponents() {
+    return Collections.unmodifiableSet(writes);
+  }
+
+  /**
+   * Check if this system declared its Component access and may run on a worker thread.
+   *
+   * @return true if the system can be executed concurrently with other systems, false if it must
+   *     be executed on the render thread.
+   */
+  public final boolean isConcurrent() {
+    return concurrent;
+  }
+
+  /**
+   * Check if this system and the given system must not be executed at the same time.
+   *
+   * <p>Two systems conflict if one of them writes a Component that the other one reads or writes,
+   * or if one of them is not {@link #isConcurrent() concurrent}.
+   *
+   * @param other The other system.
+   * @return true if the systems must be executed one after the other.
+   */
+  public final boolean conflictsWith(final System other) {
+    if (!concurrent || !other.concurrent) return true;
+    for (Class<? extends Component> component : writes)
+      if (other.writes.contains(component) || other.readComponents().contains(component))
+        return true;
+    for (Class<? extends Component> component : other.writes)
+      if (readComponents().contains(component)) return true;
+    return false;
   }
 
   /**
@@ -167,6 +280,32 @@ public abstract class System {
     return Game.entityStream(this);
   }
 
+  /**
+   * Get an index-based view of all active entities for this system.
+   *
+   * <p>The list is an unmodifiable snapshot. Unlike {@link #entityStream()}, the snapshot is only
+   * rebuilt if entities were added to or removed from this system, so iterating does not copy the
+   * entity set each time. Entities added or removed during the iteration will be visible the next
+   * time this method is called.
+   *
+   * @return a list of active entities that will be processed by the system
+   */
+  public final List<Entity> entities() {
+    return ECSManagment.entities(this);
+  }
+
+  /**
+   * Execute the given action for each active entity of this system.
+   *
+   * <p>Iterates over the snapshot returned by {@link #entities()}.
+   *
+   * @param action the action to execute for each entity
+   */
+  public final void forEachEntity(final Consumer<Entity> action) {
+    List<Entity> entities = entities();
+    for (int i = 0; i < entities.size(); i++) action.accept(entities.get(i));
+  }
+
   /**
    * @return the frame count the system should have between executes
    */
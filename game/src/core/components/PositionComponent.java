@@ -1,6 +1,6 @@
 package core.components;
 
-import core.Component;
+import core.CopyableComponent;
 import core.level.Tile;
 import core.utils.Point;
 import dsl.annotation.DSLType;
@@ -22,14 +22,23 @@ import dsl.annotation.DSLType;
  *
  * <p>Use {@link #position()} to get a copy of the position.
  *
+ * <p>The {@link core.game.GameLoop} remembers the position before each simulation tick. Use {@link
+ * #interpolatedPosition(float)} to get a position between the previous and the current tick, so
+ * movement looks smooth if the frame rate differs from the tick rate.
+ *
  * @see core.systems.PositionSystem
  * @see Point
  */
 @DSLType(name = "position_component")
-public final class PositionComponent implements Component {
+public final class PositionComponent implements CopyableComponent {
 
   public static final Point ILLEGAL_POSITION = new Point(Integer.MIN_VALUE, Integer.MIN_VALUE);
+
+  /** Larger changes of the position between two ticks are not interpolated (e.g. teleports). */
+  private static final float MAX_INTERPOLATION_DISTANCE = 1f;
+
   private Point position;
+  private Point previousPosition;
 
   /**
    * Create a new PositionComponent with given position.
@@ -65,6 +74,17 @@ public final class PositionComponent implements Component {
     position = ILLEGAL_POSITION;
   }
 
+  /**
+   * Create a copy of this component at the same position.
+   *
+   * @return A new PositionComponent with the position of this component.
+   */
+  @Override
+  public PositionComponent copy() {
+    // the position is never modified, only replaced, so the reference can be shared
+    return new PositionComponent(position);
+  }
+
   /**
    * Get the position.
    *
@@ -92,4 +112,29 @@ public final class PositionComponent implements Component {
   public void position(final Tile tile) {
     position(tile.position());
   }
+
+  /** Remember the current position as the position of the previous simulation tick. */
+  public void storePreviousPosition() {
+    // the position is never modified, only replaced, so the reference can be shared
+    previousPosition = position;
+  }
+
+  /**
+   * Get the position between the previous and the current simulation tick.
+   *
+   * <p>If there is no previous position or the entity moved more than one tile since the previous
+   * tick, the current position is returned.
+   *
+   * @param alpha Progress between the previous (0) and the current (1) tick.
+   * @return The interpolated position.
+   */
+  public Point interpolatedPosition(float alpha) {
+    if (previousPosition == null
+        || alpha >= 1f
+        || Point.calculateDistance(previousPosition, position) > MAX_INTERPOLATION_DISTANCE)
+      return position();
+    return new Point(
+        previousPosition.x + (position.x - previousPosition.x) * alpha,
+        previousPosition.y + (position.y - previousPosition.y) * alpha);
+  }
 }
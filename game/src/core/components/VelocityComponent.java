@@ -1,6 +1,6 @@
 package core.components;
 
-import core.Component;
+import core.CopyableComponent;
 import core.Entity;
 import dsl.annotation.DSLType;
 import dsl.annotation.DSLTypeMember;
@@ -29,7 +29,7 @@ import java.util.function.Consumer;
  * wall.
  */
 @DSLType(name = "velocity_component")
-public final class VelocityComponent implements Component {
+public final class VelocityComponent implements CopyableComponent {
 
   private static final Consumer<Entity> DEFAULT_ON_WALL_HIT = e -> {};
   private float currentXVelocity;
@@ -73,6 +73,18 @@ public final class VelocityComponent implements Component {
     this(0, 0, DEFAULT_ON_WALL_HIT);
   }
 
+  /**
+   * Create a copy of this component.
+   *
+   * <p>The copy has the same maximal velocities and on-wall-hit callback, but does not move yet.
+   *
+   * @return A new VelocityComponent with the configuration of this component.
+   */
+  @Override
+  public VelocityComponent copy() {
+    return new VelocityComponent(xVelocity, yVelocity, onWallHit);
+  }
+
   /**
    * Get the current x-velocity speed.
    *
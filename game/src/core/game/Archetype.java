@@ -0,0 +1,151 @@
+package core.game;
+
+import core.Component;
+import core.Entity;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Packed storage for all entities that share exactly the same set of component classes.
+ *
+ * <p>For each component class of the signature, the archetype holds one column (an array) of
+ * component instances. Row {@code i} of every column belongs to the entity stored at index {@code
+ * i} of {@link #entities()}. Rows are kept dense: removing an entity moves the last row into the
+ * freed slot.
+ *
+ * <p>The archetype only stores references; the components still live in the {@link Entity}. The
+ * {@link ArchetypeStorage} is responsible to keep both views in sync.
+ *
+ * @see ArchetypeStorage
+ * @see ComponentQuery
+ */
+final class Archetype {
+  private static final int INITIAL_CAPACITY = 16;
+
+  private final Set<Class<? extends Component>> signature;
+  private final Map<Class<? extends Component>, Integer> columnIndex;
+  private final Class<? extends Component>[] types;
+  private final Map<Entity, Integer> rows;
+  private Component[][] columns;
+  private Entity[] entities;
+  private int size;
+
+  /**
+   * Create a new, empty archetype.
+   *
+   * @param signature The component classes every entity in this archetype has.
+   */
+  @SuppressWarnings("unchecked")
+  Archetype(final Set<Class<? extends Component>> signature) {
+    this.signature = Set.copyOf(signature);
+    this.types = (Class<? extends Component>[]) this.signature.toArray(new Class<?>[0]);
+    this.columnIndex = new HashMap<>();
+    for (int i = 0; i < types.length; i++) columnIndex.put(types[i], i);
+    this.rows = new HashMap<>();
+    this.columns = new Component[types.length][INITIAL_CAPACITY];
+    this.entities = new Entity[INITIAL_CAPACITY];
+    this.size = 0;
+  }
+
+  /**
+   * Get the component classes of this archetype.
+   *
+   * @return Immutable set of the component classes.
+   */
+  Set<Class<? extends Component>> signature() {
+    return signature;
+  }
+
+  /**
+   * Append the given entity as a new row.
+   *
+   * <p>The component references are read from the entity.
+   *
+   * @param entity Entity to add, must match the signature.
+   */
+  void add(final Entity entity) {
+    if (size == entities.length) grow();
+    entities[size] = entity;
+    rows.put(entity, size);
+    fill(size, entity);
+    size++;
+  }
+
+  /**
+   * Re-read the component references of the given entity.
+   *
+   * <p>Needed if a component was replaced by another instance of the same class.
+   *
+   * @param entity Entity to refresh.
+   */
+  void refresh(final Entity entity) {
+    Integer row = rows.get(entity);
+    if (row != null) fill(row, entity);
+  }
+
+  /**
+   * Remove the row of the given entity.
+   *
+   * <p>The last row will be moved into the freed slot.
+   *
+   * @param entity Entity to remove.
+   */
+  void remove(final Entity entity) {
+    Integer row = rows.remove(entity);
+    if (row == null) return;
+    int last = size - 1;
+    if (row != last) {
+      entities[row] = entities[last];
+      rows.put(entities[row], row);
+      for (Component[] column : columns) column[row] = column[last];
+    }
+    entities[last] = null;
+    for (Component[] column : columns) column[last] = null;
+    size = last;
+  }
+
+  /**
+   * Get the column of the given component class.
+   *
+   * <p>The returned array may be longer than {@link #size()}; only the first {@link #size()}
+   * entries are valid.
+   *
+   * @param klass Component class of the column.
+   * @return The column, or null if the class is not part of the signature.
+   */
+  Component[] column(final Class<? extends Component> klass) {
+    Integer index = columnIndex.get(klass);
+    return index == null ? null : columns[index];
+  }
+
+  /**
+   * Get the entity column.
+   *
+   * <p>The returned array may be longer than {@link #size()}; only the first {@link #size()}
+   * entries are valid.
+   *
+   * @return The stored entities.
+   */
+  Entity[] entities() {
+    return entities;
+  }
+
+  /**
+   * @return Number of stored entities.
+   */
+  int size() {
+    return size;
+  }
+
+  private void fill(final int row, final Entity entity) {
+    for (int i = 0; i < types.length; i++) columns[i][row] = entity.fetch(types[i]).orElse(null);
+  }
+
+  private void grow() {
+    int capacity = entities.length * 2;
+    entities = Arrays.copyOf(entities, capacity);
+    for (int i = 0; i < columns.length; i++) columns[i] = Arrays.copyOf(columns[i], capacity);
+  }
+}
@@ -0,0 +1,185 @@
+package core.game;
+
+import core.Component;
+import core.Entity;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Stores the entities of one level grouped by their {@link Archetype}.
+ *
+ * <p>Each entity is stored in the archetype that matches its current set of component classes. If
+ * the components of an entity change, it will be moved to the matching archetype.
+ *
+ * <p>The membership and the archetype of each entity are stored in flat arrays indexed by the
+ * {@link Entity#id()}, see {@link core.EntityIds}.
+ *
+ * <p>While a {@link ComponentQuery} iterates over the storage, the storage is locked (see {@link
+ * #lock()}). Structural changes that happen while the storage is locked are recorded and applied
+ * once the last lock is released, so a running query never sees rows move.
+ *
+ * <p>Queries can run on concurrent systems (see {@link SystemScheduler}): the query cache and the
+ * lock count are thread-safe. Structural changes are only made on the thread that runs the game
+ * loop, while no concurrent systems are running.
+ *
+ * @see Archetype
+ * @see ComponentQuery
+ */
+final class ArchetypeStorage {
+  private final Map<Set<Class<? extends Component>>, Archetype> archetypes = new HashMap<>();
+  private final Map<QueryKey, List<Archetype>> queryCache = new ConcurrentHashMap<>();
+  // indexed by the id of the entities
+  private Entity[] members = new Entity[0];
+  private Archetype[] locations = new Archetype[0];
+  private final Set<Entity> pending = new LinkedHashSet<>();
+  private final AtomicInteger lockDepth = new AtomicInteger();
+
+  /**
+   * Add the given entity to the storage.
+   *
+   * @param entity Entity to add.
+   */
+  void add(final Entity entity) {
+    if (contains(entity)) return;
+    int id = entity.id();
+    if (id >= members.length) {
+      int capacity = Math.max(id + 1, members.length * 2);
+      members = Arrays.copyOf(members, capacity);
+      locations = Arrays.copyOf(locations, capacity);
+    }
+    members[id] = entity;
+    sync(entity);
+  }
+
+  /**
+   * Remove the given entity from the storage.
+   *
+   * @param entity Entity to remove.
+   */
+  void remove(final Entity entity) {
+    if (!contains(entity)) return;
+    members[entity.id()] = null;
+    sync(entity);
+  }
+
+  /**
+   * Move the given entity to the archetype that matches its current components.
+   *
+   * <p>Does nothing if the entity is not stored.
+   *
+   * @param entity Entity whose components have changed.
+   */
+  void update(final Entity entity) {
+    if (contains(entity)) sync(entity);
+  }
+
+  /**
+   * Check if the given entity is stored.
+   *
+   * @param entity Entity to check.
+   * @return true if the entity is part of this storage, false if not.
+   */
+  boolean contains(final Entity entity) {
+    int id = entity.id();
+    // another entity may have got the id of a removed entity
+    return id < members.length && members[id] == entity;
+  }
+
+  /**
+   * Get all archetypes that contain each of the given component classes and none of the excluded
+   * ones.
+   *
+   * <p>The result is cached and kept up to date if new archetypes are created.
+   *
+   * @param filter Component classes that must be present.
+   * @param excluded Component classes that must not be present.
+   * @return List of matching archetypes.
+   */
+  List<Archetype> matching(
+      final Set<Class<? extends Component>> filter,
+      final Set<Class<? extends Component>> excluded) {
+    return queryCache.computeIfAbsent(
+        new QueryKey(filter, excluded),
+        key ->
+            archetypes.values().stream()
+                .filter(key::matches)
+                .collect(Collectors.toCollection(ArrayList::new)));
+  }
+
+  /**
+   * Lock the storage.
+   *
+   * <p>Until {@link #unlock()} is called, structural changes are deferred. Locks can be nested.
+   */
+  void lock() {
+    lockDepth.incrementAndGet();
+  }
+
+  /**
+   * Release one lock.
+   *
+   * <p>If the last lock is released, all deferred changes are applied.
+   */
+  void unlock() {
+    int depth = lockDepth.updateAndGet(current -> Math.max(0, current - 1));
+    if (depth == 0 && !pending.isEmpty()) {
+      List<Entity> changed = new ArrayList<>(pending);
+      pending.clear();
+      changed.forEach(this::apply);
+    }
+  }
+
+  private void sync(final Entity entity) {
+    if (lockDepth.get() > 0) pending.add(entity);
+    else apply(entity);
+  }
+
+  private void apply(final Entity entity) {
+    int id = entity.id();
+    Archetype current = locations[id];
+    Archetype target = contains(entity) ? archetype(signature(entity)) : null;
+    if (current == target) {
+      if (current != null) current.refresh(entity);
+      return;
+    }
+    if (current != null) current.remove(entity);
+    if (target != null) target.add(entity);
+    locations[id] = target;
+  }
+
+  private Archetype archetype(final Set<Class<? extends Component>> signature) {
+    Archetype archetype = archetypes.get(signature);
+    if (archetype == null) {
+      archetype = new Archetype(signature);
+      archetypes.put(archetype.signature(), archetype);
+      for (Map.Entry<QueryKey, List<Archetype>> entry : queryCache.entrySet())
+        if (entry.getKey().matches(archetype)) entry.getValue().add(archetype);
+    }
+    return archetype;
+  }
+
+  private static Set<Class<? extends Component>> signature(final Entity entity) {
+    Set<Class<? extends Component>> signature = new HashSet<>();
+    entity.componentStream().forEach(component -> signature.add(component.getClass()));
+    return signature;
+  }
+
+  private record QueryKey(
+      Set<Class<? extends Component>> filter, Set<Class<? extends Component>> excluded) {
+    private boolean matches(final Archetype archetype) {
+      if (!archetype.signature().containsAll(filter)) return false;
+      for (Class<? extends Component> klass : excluded)
+        if (archetype.signature().contains(klass)) return false;
+      return true;
+    }
+  }
+}
@@ -0,0 +1,209 @@
+package core.game;
+
+import core.Component;
+import core.Entity;
+import core.utils.QuadConsumer;
+import core.utils.TriConsumer;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * A typed query over the entities of the currently active level.
+ *
+ * <p>A query iterates over all entities that contain each of the queried component classes (and
+ * none of the excluded ones, see {@code without}). The components are read from the packed {@link
+ * Archetype} columns, so iterating does not need a map lookup or an {@link java.util.Optional} per
+ * entity.
+ *
+ * <p>Create a query once (for example, as a field of a {@link core.System}) via {@link
+ * ECSManagment#query(Class)}, {@link ECSManagment#query(Class, Class)} or {@link
+ * ECSManagment#query(Class, Class, Class)} and call {@code forEach} in each execute.
+ *
+ * <p>Entities or components that are added or removed inside of {@code forEach} will be applied
+ * after the iteration is done.
+ *
+ * @see ECSManagment
+ */
+public abstract sealed class ComponentQuery
+    permits ComponentQuery.Of1, ComponentQuery.Of2, ComponentQuery.Of3 {
+  private final Set<Class<? extends Component>> filter;
+  private final Set<Class<? extends Component>> excluded;
+
+  private ComponentQuery(
+      final Set<Class<? extends Component>> filter,
+      final Set<Class<? extends Component>> excluded) {
+    this.filter = filter;
+    this.excluded = excluded;
+  }
+
+  /**
+   * Count the entities that currently match this query.
+   *
+   * @return Number of matching entities in the currently active level.
+   */
+  public final int count() {
+    int count = 0;
+    for (Archetype archetype : ECSManagment.archetypeStorage().matching(filter, excluded))
+      count += archetype.size();
+    return count;
+  }
+
+  /**
+   * Iterate over all matching archetypes while the storage is locked.
+   *
+   * @param action Action to execute for each archetype.
+   */
+  final void eachArchetype(final Consumer<Archetype> action) {
+    ArchetypeStorage storage = ECSManagment.archetypeStorage();
+    storage.lock();
+    try {
+      for (Archetype archetype : storage.matching(filter, excluded)) action.accept(archetype);
+    } finally {
+      storage.unlock();
+    }
+  }
+
+  /**
+   * Query over entities with one component.
+   *
+   * @param <A> Type of the component.
+   */
+  public static final class Of1<A extends Component> extends ComponentQuery {
+    private final Class<A> a;
+
+    Of1(final Class<A> a, final Set<Class<? extends Component>> excluded) {
+      super(Set.of(a), excluded);
+      this.a = a;
+    }
+
+    /**
+     * Create a copy of this query that skips entities with any of the given components.
+     *
+     * @param excluded Component classes the entities must not have.
+     * @return The new query.
+     */
+    @SafeVarargs
+    public final Of1<A> without(final Class<? extends Component>... excluded) {
+      Set<Class<? extends Component>> excludedSet = new HashSet<>();
+      for (Class<? extends Component> component : excluded) excludedSet.add(component);
+      return new Of1<>(a, excludedSet);
+    }
+
+    /**
+     * Execute the given action for each matching entity.
+     *
+     * @param action Action that gets the entity and its component.
+     */
+    public void forEach(final BiConsumer<Entity, A> action) {
+      eachArchetype(
+          archetype -> {
+            Entity[] entities = archetype.entities();
+            Component[] as = archetype.column(a);
+            for (int i = 0; i < archetype.size(); i++) action.accept(entities[i], a.cast(as[i]));
+          });
+    }
+  }
+
+  /**
+   * Query over entities with two components.
+   *
+   * @param <A> Type of the first component.
+   * @param <B> Type of the second component.
+   */
+  public static final class Of2<A extends Component, B extends Component> extends ComponentQuery {
+    private final Class<A> a;
+    private final Class<B> b;
+
+    Of2(final Class<A> a, final Class<B> b, final Set<Class<? extends Component>> excluded) {
+      super(Set.of(a, b), excluded);
+      this.a = a;
+      this.b = b;
+    }
+
+    /**
+     * Create a copy of this query that skips entities with any of the given components.
+     *
+     * @param excluded Component classes the entities must not have.
+     * @return The new query.
+     */
+    @SafeVarargs
+    public final Of2<A, B> without(final Class<? extends Component>... excluded) {
+      Set<Class<? extends Component>> excludedSet = new HashSet<>();
+      for (Class<? extends Component> component : excluded) excludedSet.add(component);
+      return new Of2<>(a, b, excludedSet);
+    }
+
+    /**
+     * Execute the given action for each matching entity.
+     *
+     * @param action Action that gets the entity and its components.
+     */
+    public void forEach(final TriConsumer<Entity, A, B> action) {
+      eachArchetype(
+          archetype -> {
+            Entity[] entities = archetype.entities();
+            Component[] as = archetype.column(a);
+            Component[] bs = archetype.column(b);
+            for (int i = 0; i < archetype.size(); i++)
+              action.accept(entities[i], a.cast(as[i]), b.cast(bs[i]));
+          });
+    }
+  }
+
+  /**
+   * Query over entities with three components.
+   *
+   * @param <A> Type of the first component.
+   * @param <B> Type of the second component.
+   * @param <C> Type of the third component.
+   */
+  public static final class Of3<A extends Component, B extends Component, C extends Component>
+      extends ComponentQuery {
+    private final Class<A> a;
+    private final Class<B> b;
+    private final Class<C> c;
+
+    Of3(
+        final Class<A> a,
+        final Class<B> b,
+        final Class<C> c,
+        final Set<Class<? extends Component>> excluded) {
+      super(Set.of(a, b, c), excluded);
+      this.a = a;
+      this.b = b;
+      this.c = c;
+    }
+
+    /**
+     * Create a copy of this query that skips entities with any of the given components.
+     *
+     * @param excluded Component classes the entities must not have.
+     * @return The new query.
+     */
+    @SafeVarargs
+    public final Of3<A, B, C> without(final Class<? extends Component>... excluded) {
+      Set<Class<? extends Component>> excludedSet = new HashSet<>();
+      for (Class<? extends Component> component : excluded) excludedSet.add(component);
+      return new Of3<>(a, b, c, excludedSet);
+    }
+
+    /**
+     * Execute the given action for each matching entity.
+     *
+     * @param action Action that gets the entity and its components.
+     */
+    public void forEach(final QuadConsumer<Entity, A, B, C> action) {
+      eachArchetype(
+          archetype -> {
+            Entity[] entities = archetype.entities();
+            Component[] as = archetype.column(a);
+            Component[] bs = archetype.column(b);
+            Component[] cs = archetype.column(c);
+            for (int i = 0; i < archetype.size(); i++)
+              action.accept(entities[i], a.cast(as[i]), b.cast(bs[i]), c.cast(cs[i]));
+          });
+    }
+  }
+}
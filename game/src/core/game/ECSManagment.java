@@ -2,11 +2,15 @@ package core.game;
 
 import core.Component;
 import core.Entity;
+import core.EntityIds;
+import core.EntityPool;
 import core.System;
 import core.components.PlayerComponent;
 import core.level.elements.ILevel;
 import core.utils.EntitySystemMapper;
+import core.utils.logging.CustomLogLevel;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
 
@@ -23,31 +27,133 @@ import java.util.stream.Stream;
  *
  * <p>Get access via: {@link #entityStream()}, {@link #systems()}
  *
+ * <p>Next to the {@link EntitySystemMapper}s, the entities of each level are also stored grouped by
+ * their set of component classes (their archetype). Use {@link #query(Class)}, {@link
+ * #query(Class, Class)} or {@link #query(Class, Class, Class)} to iterate over these packed
+ * component arrays without per-entity lookups.
+ *
+ * <p>Component changes of an entity (see {@link #informAboutChanges(Entity)}) are recorded in a
+ * buffer and applied together at the next sync point, once per entity. Sync points are the
+ * execution of each system (see {@link SystemScheduler}), each access to the entities, and {@link
+ * #applyChanges()}.
+ *
  * <p>All API methods can also be accessed via the {@link core.Game} class.
  */
 public final class ECSManagment {
   private static final Logger LOGGER = Logger.getLogger(ECSManagment.class.getSimpleName());
   private static final Map<Class<? extends System>, System> SYSTEMS = new LinkedHashMap<>();
   private static final Map<ILevel, Set<EntitySystemMapper>> LEVEL_STORAGE_MAP = new HashMap<>();
+  private static final Map<Set<EntitySystemMapper>, ArchetypeStorage> ARCHETYPE_STORAGE_MAP =
+      new IdentityHashMap<>();
+  // the mappers of each entity storage by their filter rules
+  private static final Map<
+          Set<EntitySystemMapper>, Map<Set<Class<? extends Component>>, EntitySystemMapper>>
+      MAPPER_INDEX = new IdentityHashMap<>();
+  // reused single-class filters for entities(Class)
+  private static final Map<Class<? extends Component>, Set<Class<? extends Component>>> TAGS =
+      new ConcurrentHashMap<>();
+  private static final Set<Class<? extends Component>> PLAYER = Set.of(PlayerComponent.class);
+  private static final Set<Entity> CHANGED = new LinkedHashSet<>();
+  private static final Set<Entity> REMOVED = new HashSet<>();
   private static Set<EntitySystemMapper> activeEntityStorage = new HashSet<>();
+  private static ArchetypeStorage activeArchetypeStorage = new ArchetypeStorage();
+  // concurrent systems look up the mappers at the same time, see mapper(Set)
+  private static Map<Set<Class<? extends Component>>, EntitySystemMapper> activeMappers =
+      new ConcurrentHashMap<>();
+  private static volatile boolean changesPending = false;
+  private static boolean applyingChanges = false;
 
   static {
     LEVEL_STORAGE_MAP.put(null, activeEntityStorage);
+    ARCHETYPE_STORAGE_MAP.put(activeEntityStorage, activeArchetypeStorage);
+    MAPPER_INDEX.put(activeEntityStorage, activeMappers);
     activeEntityStorage.add(new EntitySystemMapper());
   }
 
   /**
-   * Inform each {@link System} that the given Entity has changes on component bases.
+   * Record that the given Entity has changes on component bases.
+   *
+   * <p>The change is applied at the next sync point (see {@link #applyChanges()}). Multiple changes
+   * of the same entity are applied at once, so adding several components to an entity only updates
+   * the {@link EntitySystemMapper}s once.
    *
-   * <p>If necessary, the {@link System}s will trigger {@link System#triggerOnAdd(Entity)} or {@link
-   * System#triggerOnRemove(Entity)}.
+   * <p>If necessary, the {@link System}s will then trigger {@link System#triggerOnAdd(Entity)} or
+   * {@link System#triggerOnRemove(Entity)}.
+   *
+   * <p>Changes of entities that are not in the game are ignored, {@link #add(Entity)} uses the
+   * current components of an entity anyway. Can be called from any thread.
    *
    * @param entity the entity that has changes in its Component Collection.
    */
   public static void informAboutChanges(Entity entity) {
-    if (entityStream().anyMatch(entity1 -> entity1.equals(entity))) {
-      activeEntityStorage.forEach(f -> f.update(entity));
-      LOGGER.info("Entity: " + entity + " informed the Game about component changes.");
+    if (!activeArchetypeStorage.contains(entity)) return;
+    synchronized (CHANGED) {
+      CHANGED.add(entity);
+      changesPending = true;
+    }
+  }
+
+  /**
+   * Apply all recorded component changes.
+   *
+   * <p>Each changed entity is updated once in each {@link EntitySystemMapper}. Changes that are
+   * recorded while the changes are applied (e.g. by {@link System#triggerOnAdd(Entity)}) are
+   * applied as well.
+   *
+   * <p>Is called automatically before each system is executed and before the entities are
+   * accessed. Does nothing while concurrent systems are running (see {@link SystemScheduler}).
+   */
+  public static void applyChanges() {
+    if (!changesPending || applyingChanges || SystemScheduler.deferring()) return;
+    applyingChanges = true;
+    try {
+      while (changesPending) {
+        Entity[] changed;
+        synchronized (CHANGED) {
+          changed = CHANGED.toArray(new Entity[0]);
+          CHANGED.clear();
+          changesPending = false;
+        }
+        for (Entity entity : changed) {
+          if (!activeArchetypeStorage.contains(entity)) continue;
+          activeEntityStorage.forEach(f -> f.update(entity));
+          activeArchetypeStorage.update(entity);
+        }
+      }
+    } finally {
+      applyingChanges = false;
+    }
+  }
+
+  /**
+   * Release the ids of the entities that were removed from the game.
+   *
+   * <p>The id of an entity is only released if the entity is not stored in any level, so entities
+   * that are only moved to another level keep their id. The released ids will be reused for new
+   * entities, see {@link EntityIds}. Entities that were obtained from an {@link EntityPool} return
+   * to their pool instead and keep their id.
+   *
+   * <p>Is called by the {@link GameLoop} at the end of each frame.
+   */
+  public static void releaseIds() {
+    if (REMOVED.isEmpty() || SystemScheduler.deferring()) return;
+    for (Entity entity : REMOVED) {
+      boolean stored = false;
+      for (ArchetypeStorage storage : ARCHETYPE_STORAGE_MAP.values())
+        if (storage.contains(entity)) {
+          stored = true;
+          break;
+        }
+      if (!stored && !EntityPool.recycle(entity)) EntityIds.release(entity);
+    }
+    REMOVED.clear();
+  }
+
+  /** Drop the recorded changes of the given entity, because it is added or removed anyway. */
+  private static void forgetChanges(final Entity entity) {
+    if (!changesPending) return;
+    synchronized (CHANGED) {
+      CHANGED.remove(entity);
     }
   }
 
@@ -58,11 +164,22 @@ public final class ECSManagment {
    *
    * <p>If necessary, the {@link System} will trigger {@link System#triggerOnAdd(Entity)} .
    *
+   * <p>If concurrent systems are running, the entity is added after they are finished, see {@link
+   * SystemScheduler}.
+   *
    * @param entity the entity to add.
    */
   public static void add(Entity entity) {
+    if (SystemScheduler.deferring()) {
+      SystemScheduler.defer(() -> add(entity));
+      return;
+    }
+    forgetChanges(entity);
+    REMOVED.remove(entity);
+    EntityIds.renew(entity);
     activeEntityStorage.forEach(f -> f.add(entity));
-    LOGGER.info("Entity: " + entity + " will be added to the Game.");
+    activeArchetypeStorage.add(entity);
+    LOGGER.log(CustomLogLevel.DEBUG, () -> "Entity: " + entity + " will be added to the Game.");
   }
 
   /**
@@ -70,11 +187,22 @@ public final class ECSManagment {
    *
    * <p>If necessary, the {@link System}s will trigger {@link System#triggerOnAdd(Entity)} .
    *
+   * <p>If concurrent systems are running, the entity is removed after they are finished, see {@link
+   * SystemScheduler}.
+   *
    * @param entity the entity to remove
    */
   public static void remove(Entity entity) {
+    if (SystemScheduler.deferring()) {
+      SystemScheduler.defer(() -> remove(entity));
+      return;
+    }
+    forgetChanges(entity);
+    if (activeArchetypeStorage.contains(entity)) REMOVED.add(entity);
     activeEntityStorage.forEach(f -> f.remove(entity));
-    LOGGER.info("Entity: " + entity + " will be removed from the Game.");
+    activeArchetypeStorage.remove(entity);
+    LOGGER.log(
+        CustomLogLevel.DEBUG, () -> "Entity: " + entity + " will be removed from the Game.");
   }
 
   /**
@@ -96,6 +224,7 @@ public final class ECSManagment {
       Set<Class<? extends Component>> filter) {
     EntitySystemMapper mapper = new EntitySystemMapper(filter);
     activeEntityStorage.add(mapper);
+    activeMappers.put(mapper.filterRules(), mapper);
     entityStream().forEach(mapper::add);
     return mapper;
   }
@@ -117,13 +246,11 @@ public final class ECSManagment {
    * @see Optional
    */
   public static Optional<System> add(final System system) {
+    applyChanges();
     System currentSystem = SYSTEMS.get(system.getClass());
     SYSTEMS.put(system.getClass(), system);
     // add to existing filter or create new filter if no matching exists
-    Optional<EntitySystemMapper> filter =
-        activeEntityStorage.stream().filter(f -> f.equals(system.filterRules())).findFirst();
-    filter.ifPresentOrElse(
-        f -> f.add(system), () -> createNewEntitySystemMapper(system.filterRules()).add(system));
+    mapper(system.filterRules()).add(system);
     LOGGER.info("A new " + system.getClass().getName() + " was added to the game");
     return Optional.ofNullable(currentSystem);
   }
@@ -140,10 +267,80 @@ public final class ECSManagment {
   /**
    * Set the current active {@link EntitySystemMapper}.
    *
+   * <p>The archetype storage and the mapper index that belong to the given entity storage will be
+   * activated as well.
+   *
    * @param entityStorage The new active {@link EntitySystemMapper}
    */
   public static void activeEntityStorage(final Set<EntitySystemMapper> entityStorage) {
+    applyChanges();
     activeEntityStorage = entityStorage;
+    activeArchetypeStorage =
+        ARCHETYPE_STORAGE_MAP.computeIfAbsent(entityStorage, k -> new ArchetypeStorage());
+    activeMappers = MAPPER_INDEX.computeIfAbsent(entityStorage, k -> new ConcurrentHashMap<>());
+  }
+
+  /**
+   * Get the {@link EntitySystemMapper}s of the currently active level.
+   *
+   * @return The currently active entity storage.
+   */
+  static Set<EntitySystemMapper> activeEntityStorage() {
+    return activeEntityStorage;
+  }
+
+  /**
+   * Get the archetype storage of the currently active level.
+   *
+   * @return The currently active {@link ArchetypeStorage}.
+   */
+  static ArchetypeStorage archetypeStorage() {
+    applyChanges();
+    return activeArchetypeStorage;
+  }
+
+  /**
+   * Create a query over all entities that contain a component of the given class.
+   *
+   * <p>The query always iterates over the entities of the currently active level.
+   *
+   * @param a Class of the component.
+   * @return The query.
+   * @see ComponentQuery
+   */
+  public static <A extends Component> ComponentQuery.Of1<A> query(final Class<A> a) {
+    return new ComponentQuery.Of1<>(a, Set.of());
+  }
+
+  /**
+   * Create a query over all entities that contain components of the two given classes.
+   *
+   * <p>The query always iterates over the entities of the currently active level.
+   *
+   * @param a Class of the first component.
+   * @param b Class of the second component.
+   * @return The query.
+   * @see ComponentQuery
+   */
+  public static <A extends Component, B extends Component> ComponentQuery.Of2<A, B> query(
+      final Class<A> a, final Class<B> b) {
+    return new ComponentQuery.Of2<>(a, b, Set.of());
+  }
+
+  /**
+   * Create a query over all entities that contain components of the three given classes.
+   *
+   * <p>The query always iterates over the entities of the currently active level.
+   *
+   * @param a Class of the first component.
+   * @param b Class of the second component.
+   * @param c Class of the third component.
+   * @return The query.
+   * @see ComponentQuery
+   */
+  public static <A extends Component, B extends Component, C extends Component>
+      ComponentQuery.Of3<A, B, C> query(final Class<A> a, final Class<B> b, final Class<C> c) {
+    return new ComponentQuery.Of3<>(a, b, c, Set.of());
   }
 
   /**
@@ -166,7 +363,7 @@ public final class ECSManagment {
    * @return a stream of all entities currently in the game
    */
   public static Stream<Entity> entityStream() {
-    return entityStream(new HashSet<>());
+    return entityStream(Set.of());
   }
 
   /**
@@ -186,23 +383,83 @@ public final class ECSManagment {
    * @return a stream of all entities currently in the game that contains the given components.
    */
   public static Stream<Entity> entityStream(Set<Class<? extends Component>> filter) {
-    Stream<Entity> returnStream;
-    Optional<EntitySystemMapper> rf =
-        activeEntityStorage.stream().filter(f -> f.equals(filter)).findFirst();
-
-    if (rf.isEmpty()) {
-      EntitySystemMapper newMapper = createNewEntitySystemMapper(filter);
-      returnStream = newMapper.stream();
-    } else returnStream = rf.get().stream();
-    return returnStream;
+    return mapper(filter).stream();
   }
 
   /**
-   * @return the player character, can be null if not initialized
+   * Get an index-based view of all entities that contain the necessary Components to be processed
+   * by the given system.
+   *
+   * <p>The returned list is an unmodifiable snapshot that is only rebuilt if the entities of the
+   * system have changed. Use this instead of {@link #entityStream(System)} in hot loops.
+   *
+   * @param system the system to get the entities for
+   * @return a list of all entities currently in the game that should be processed by the given
+   *     system.
+   * @see EntitySystemMapper#entities()
+   */
+  public static List<Entity> entities(final System system) {
+    return mapper(system.filterRules()).entities();
+  }
+
+  /**
+   * Get all entities that contain a component of the given class.
+   *
+   * <p>The entities are looked up in an {@link EntitySystemMapper} for the given class, that is
+   * kept up to date while entities are added, removed or changed. So the lookup does not iterate
+   * over all entities, use this instead of filtering {@link #entityStream()}.
+   *
+   * <p>The returned list is an unmodifiable snapshot, see {@link EntitySystemMapper#entities()}.
+   *
+   * @param klass Component class the entities must contain.
+   * @return a list of all entities currently in the game that contain the given component.
+   */
+  public static List<Entity> entities(final Class<? extends Component> klass) {
+    return mapper(TAGS.computeIfAbsent(klass, Set::of)).entities();
+  }
+
+  /**
+   * Get the {@link EntitySystemMapper} of the active level with the given filter rules.
+   *
+   * <p>The mappers are indexed by their filter rules. A new {@link EntitySystemMapper} will be
+   * created if none exists.
+   *
+   * <p>Can be called by concurrent systems (see {@link SystemScheduler}): the index is a concurrent
+   * map, and new mappers are only created while holding the lock of the index.
+   *
+   * @param filter Set of Component classes that define the filter rules.
+   * @return the matching {@link EntitySystemMapper}.
+   */
+  private static EntitySystemMapper mapper(final Set<Class<? extends Component>> filter) {
+    applyChanges();
+    Map<Set<Class<? extends Component>>, EntitySystemMapper> mappers = activeMappers;
+    EntitySystemMapper indexed = mappers.get(filter);
+    if (indexed != null) return indexed;
+    synchronized (mappers) {
+      indexed = mappers.get(filter);
+      if (indexed != null) return indexed;
+      // the entity storage may contain mappers that were not created by this class
+      for (EntitySystemMapper mapper : activeEntityStorage)
+        if (mapper.equals(filter)) {
+          mappers.put(mapper.filterRules(), mapper);
+          return mapper;
+        }
+      return createNewEntitySystemMapper(filter);
+    }
+  }
+
+  /**
+   * Get the player character.
+   *
+   * <p>The hero is looked up in the {@link EntitySystemMapper} for the {@link PlayerComponent}, so
+   * this does not iterate over all entities and can be called each frame.
+   *
+   * @return the player character, can be empty if not initialized
    * @see Optional
    */
   public static Optional<Entity> hero() {
-    return entityStream().filter(e -> e.isPresent(PlayerComponent.class)).findFirst();
+    List<Entity> heroes = mapper(PLAYER).entities();
+    return heroes.isEmpty() ? Optional.empty() : Optional.of(heroes.get(0));
   }
 
   /**
@@ -235,6 +492,7 @@ public final class ECSManagment {
    * @return a stream of all entities currently in the game
    */
   public static Stream<Entity> allEntities() {
+    applyChanges();
     Set<Entity> allEntities = new HashSet<>();
     LEVEL_STORAGE_MAP
         .values()
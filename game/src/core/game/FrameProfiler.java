@@ -0,0 +1,434 @@
+package core.game;
+
+import com.google.gson.GsonBuilder;
+import core.Component;
+import core.System;
+import core.utils.EntitySystemMapper;
+import core.utils.components.draw.Painter;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * Records where the time of each frame goes.
+ *
+ * <p>If {@link #enabled(boolean) enabled}, the {@link GameLoop} records for each frame: the time
+ * of the frame, the number of simulation ticks, the time and the allocated memory of each {@link
+ * System}, the number of entities in each {@link EntitySystemMapper} and the render calls, texture
+ * switches and drawn sprites of the {@link Painter}. The last frames are kept in a {@link
+ * #history(int) history}, see {@link #frames()}.
+ *
+ * <p>Allocations are measured with the {@link com.sun.management.ThreadMXBean} of the JVM, if it
+ * is supported, otherwise they are reported as -1. The allocations of a frame contain the
+ * allocations of the render thread and of the systems that the {@link SystemScheduler} executed on
+ * other threads.
+ *
+ * <p>Use {@link #dump(Path)} to write the history as CSV and JSON files, or {@link
+ * #dumpDirectory(Path)} to write it each time the history was filled with new frames. The rolling
+ * dump keeps the last {@link #ROLLING_FILES} files of each format, and writes them on a background
+ * thread, so the dump itself does not cause a frame spike.
+ *
+ * <p>The profiler is disabled by default. If it is disabled, nothing is measured. Changes of the
+ * settings take effect on the next frame.
+ */
+public final class FrameProfiler {
+  /** Default number of frames kept in the history. */
+  public static final int DEFAULT_HISTORY = 600;
+
+  /** Number of files of each format that are kept by the rolling dump. */
+  public static final int ROLLING_FILES = 5;
+
+  private static final Logger LOGGER = Logger.getLogger(FrameProfiler.class.getSimpleName());
+  private static final com.sun.management.ThreadMXBean THREADS = threads();
+  private static final Map<Class<? extends System>, SystemTimer> SYSTEMS =
+      new ConcurrentHashMap<>();
+  private static final AtomicLong OFF_THREAD_BYTES = new AtomicLong();
+  private static final Deque<Frame> HISTORY = new ArrayDeque<>();
+  private static final ExecutorService WRITER =
+      Executors.newSingleThreadExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "frame-profiler");
+            thread.setDaemon(true);
+            return thread;
+          });
+  private static boolean enabled = false;
+  private static volatile boolean recording = false;
+  private static int history = DEFAULT_HISTORY;
+  private static Path dumpDirectory;
+  private static long frameIndex = 0;
+  private static int framesSinceDump = 0;
+  private static int dumps = 0;
+  private static Thread renderThread;
+  private static long frameStart;
+  private static long frameStartBytes;
+  private static int ticks;
+
+  private FrameProfiler() {}
+
+  /**
+   * Check if the profiler is enabled.
+   *
+   * @return true if the frames are recorded.
+   */
+  public static boolean enabled() {
+    return enabled;
+  }
+
+  /**
+   * Enable or disable the profiler.
+   *
+   * @param enable true to record the next frames, false to stop recording.
+   */
+  public static void enabled(final boolean enable) {
+    enabled = enable;
+  }
+
+  /**
+   * Set the number of frames kept in the history.
+   *
+   * @param frames Number of frames, at least 1.
+   */
+  public static void history(final int frames) {
+    if (frames < 1) throw new IllegalArgumentException("The history needs at least one frame.");
+    history = frames;
+    while (HISTORY.size() > history) HISTORY.removeFirst();
+  }
+
+  /**
+   * Set the directory for the rolling dump.
+   *
+   * <p>Each time the history was filled with new frames, it is written to {@code frames-N.csv} and
+   * {@code frames-N.json} in the given directory, where N counts from 0 to {@link #ROLLING_FILES}
+   * - 1 and starts over.
+   *
+   * @param directory Directory to write the files into, or null to stop the rolling dump.
+   */
+  public static void dumpDirectory(final Path directory) {
+    dumpDirectory = directory;
+    framesSinceDump = 0;
+  }
+
+  /**
+   * Get the recorded frames.
+   *
+   * @return Copy of the history, the oldest frame first.
+   */
+  public static List<Frame> frames() {
+    return List.copyOf(HISTORY);
+  }
+
+  /**
+   * Get the last recorded frame.
+   *
+   * @return The last frame, or an empty Optional if no frame was recorded.
+   */
+  public static Optional<Frame> lastFrame() {
+    return Optional.ofNullable(HISTORY.peekLast());
+  }
+
+  /** Remove all recorded frames. */
+  public static void clear() {
+    HISTORY.clear();
+    SYSTEMS.clear();
+    framesSinceDump = 0;
+  }
+
+  /**
+   * Write the recorded frames to {@code frames.csv} and {@code frames.json} in the given
+   * directory.
+   *
+   * @param directory Directory to write the files into, will be created if needed.
+   * @throws IOException If the files could not be written.
+   */
+  public static void dump(final Path directory) throws IOException {
+    write(frames(), directory, "frames");
+  }
+
+  /**
+   * Start recording a frame, if the profiler is enabled.
+   *
+   * <p>Called by the {@link GameLoop} at the beginning of each frame.
+   */
+  static void beginFrame() {
+    recording = enabled;
+    if (!recording) return;
+    renderThread = Thread.currentThread();
+    ticks = 0;
+    OFF_THREAD_BYTES.set(0);
+    SYSTEMS.values().forEach(SystemTimer::reset);
+    frameStartBytes = allocatedBytes();
+    frameStart = java.lang.System.nanoTime();
+  }
+
+  /**
+   * Check if the current frame is recorded.
+   *
+   * @return true if the systems should be measured.
+   */
+  static boolean recording() {
+    return recording;
+  }
+
+  /** Count a simulation tick of the current frame. */
+  static void tick() {
+    if (recording) ticks++;
+  }
+
+  /**
+   * Record one execution of the given system.
+   *
+   * <p>Can be called from any thread.
+   *
+   * @param system The executed system.
+   * @param nanos Execution time in nanoseconds.
+   * @param bytes Memory allocated by the execution, in bytes.
+   */
+  static void record(final System system, final long nanos, final long bytes) {
+    if (!recording) return;
+    SYSTEMS.computeIfAbsent(system.getClass(), k -> new SystemTimer()).add(nanos, bytes);
+    if (Thread.currentThread() != renderThread) OFF_THREAD_BYTES.addAndGet(bytes);
+  }
+
+  /**
+   * Get the memory allocated by the current thread so far.
+   *
+   * @return Allocated bytes, or 0 if the JVM does not support the measurement.
+   */
+  static long allocatedBytes() {
+    return THREADS == null ? 0 : THREADS.getCurrentThreadAllocatedBytes();
+  }
+
+  /**
+   * Finish the current frame and add it to the history.
+   *
+   * <p>Called by the {@link GameLoop} at the end of each frame. The statistics of the painter are
+   * reset, even if the frame is not recorded.
+   *
+   * @param painter Painter that drew the frame, or null if nothing was drawn.
+   */
+  static void endFrame(final Painter painter) {
+    if (!recording) {
+      if (painter != null) painter.resetStatistics();
+      return;
+    }
+    recording = false;
+    long nanos = java.lang.System.nanoTime() - frameStart;
+    long bytes =
+        THREADS == null ? -1 : allocatedBytes() - frameStartBytes + OFF_THREAD_BYTES.get();
+    Map<String, SystemSample> systems = new LinkedHashMap<>();
+    for (System system : ECSManagment.systems().values()) {
+      SystemTimer timer = SYSTEMS.get(system.getClass());
+      if (timer != null && timer.executions > 0) systems.put(name(system), timer.sample());
+    }
+    Map<String, Integer> entities = new LinkedHashMap<>();
+    for (EntitySystemMapper mapper : ECSManagment.activeEntityStorage())
+      entities.put(name(mapper), mapper.size());
+    Frame frame =
+        new Frame(
+            frameIndex++,
+            nanos,
+            ticks,
+            bytes,
+            painter == null ? 0 : painter.renderCalls(),
+            painter == null ? 0 : painter.textureSwitches(),
+            painter == null ? 0 : painter.spritesDrawn(),
+            systems,
+            entities);
+    if (painter != null) painter.resetStatistics();
+
+    HISTORY.addLast(frame);
+    while (HISTORY.size() > history) HISTORY.removeFirst();
+    if (dumpDirectory != null && ++framesSinceDump >= history) rollingDump();
+  }
+
+  private static void rollingDump() {
+    framesSinceDump = 0;
+    List<Frame> frames = frames();
+    Path directory = dumpDirectory;
+    String name = "frames-" + dumps;
+    dumps = (dumps + 1) % ROLLING_FILES;
+    WRITER.execute(
+        () -> {
+          try {
+            write(frames, directory, name);
+          } catch (IOException e) {
+            LOGGER.warning("Could not write the frame profile: " + e.getMessage());
+          }
+        });
+  }
+
+  private static void write(final List<Frame> frames, final Path directory, final String name)
+      throws IOException {
+    Files.createDirectories(directory);
+    try (Writer writer =
+        Files.newBufferedWriter(directory.resolve(name + ".csv"), StandardCharsets.UTF_8)) {
+      writeCsv(frames, writer);
+    }
+    try (Writer writer =
+        Files.newBufferedWriter(directory.resolve(name + ".json"), StandardCharsets.UTF_8)) {
+      new GsonBuilder().create().toJson(frames, writer);
+    }
+  }
+
+  /**
+   * Write the given frames as CSV.
+   *
+   * <p>Each frame is one row. There are columns for the time and allocations of each system and
+   * for the entities of each mapper that occur in any of the frames; they are empty in the frames
+   * in which the system was not executed or the mapper did not exist.
+   *
+   * @param frames Frames to write.
+   * @param writer Writer to write to.
+   * @throws IOException If the writer fails.
+   */
+  static void writeCsv(final List<Frame> frames, final Writer writer) throws IOException {
+    Set<String> systems = new LinkedHashSet<>();
+    Set<String> mappers = new LinkedHashSet<>();
+    for (Frame frame : frames) {
+      systems.addAll(frame.systems().keySet());
+      mappers.addAll(frame.entities().keySet());
+    }
+    StringBuilder line =
+        new StringBuilder("frame,frame_ms,ticks,allocated_bytes,render_calls,texture_switches,");
+    line.append("sprites");
+    for (String system : systems) line.append(',').append(system).append("_ms");
+    for (String system : systems) line.append(',').append(system).append("_bytes");
+    for (String mapper : mappers) line.append(",entities_").append(mapper);
+    writer.write(line.append('\n').toString());
+
+    for (Frame frame : frames) {
+      line.setLength(0);
+      line.append(frame.index())
+          .append(',')
+          .append(millis(frame.nanos()))
+          .append(',')
+          .append(frame.ticks())
+          .append(',')
+          .append(frame.allocatedBytes())
+          .append(',')
+          .append(frame.renderCalls())
+          .append(',')
+          .append(frame.textureSwitches())
+          .append(',')
+          .append(frame.sprites());
+      for (String system : systems) {
+        SystemSample sample = frame.systems().get(system);
+        line.append(',').append(sample == null ? "" : millis(sample.nanos()));
+      }
+      for (String system : systems) {
+        SystemSample sample = frame.systems().get(system);
+        line.append(',').append(sample == null ? "" : String.valueOf(sample.allocatedBytes()));
+      }
+      for (String mapper : mappers) {
+        Integer entities = frame.entities().get(mapper);
+        line.append(',').append(entities == null ? "" : String.valueOf(entities));
+      }
+      writer.write(line.append('\n').toString());
+    }
+  }
+
+  private static String millis(final long nanos) {
+    return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+  }
+
+  private static String name(final System system) {
+    String name = system.getClass().getSimpleName();
+    return name.isEmpty() ? system.getClass().getName() : name;
+  }
+
+  /**
+   * Name of a mapper, the simple names of its filter rules joined with "+", or "all" for the
+   * mapper without filter rules.
+   */
+  private static String name(final EntitySystemMapper mapper) {
+    if (mapper.filterRules().isEmpty()) return "all";
+    return mapper.filterRules().stream()
+        .map(Class::getSimpleName)
+        .sorted()
+        .collect(Collectors.joining("+"));
+  }
+
+  private static com.sun.management.ThreadMXBean threads() {
+    if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+        && threads.isThreadAllocatedMemorySupported()) {
+      threads.setThreadAllocatedMemoryEnabled(true);
+      return threads;
+    }
+    return null;
+  }
+
+  /**
+   * Measurements of one frame.
+   *
+   * @param index Number of the frame, counted since the start of the game.
+   * @param nanos Time between the beginning and the end of the frame, in nanoseconds.
+   * @param ticks Number of simulation ticks in the frame.
+   * @param allocatedBytes Memory allocated in the frame, or -1 if not supported.
+   * @param renderCalls Render calls of the {@link Painter}.
+   * @param textureSwitches Texture switches of the {@link Painter}.
+   * @param sprites Sprites drawn by the {@link Painter}.
+   * @param systems Measurements of each executed system, by its class name, in execution order.
+   * @param entities Number of entities in each {@link EntitySystemMapper}, by its {@link Component}
+   *     filter.
+   */
+  public record Frame(
+      long index,
+      long nanos,
+      int ticks,
+      long allocatedBytes,
+      int renderCalls,
+      int textureSwitches,
+      int sprites,
+      Map<String, SystemSample> systems,
+      Map<String, Integer> entities) {}
+
+  /**
+   * Measurements of one system in one frame.
+   *
+   * @param nanos Total execution time in nanoseconds.
+   * @param allocatedBytes Total memory allocated by the executions, in bytes.
+   * @param executions Number of executions in the frame (e.g. one per tick).
+   */
+  public record SystemSample(long nanos, long allocatedBytes, int executions) {}
+
+  /** Accumulates the executions of one system; each system is only executed by one thread. */
+  private static final class SystemTimer {
+    private long nanos;
+    private long bytes;
+    private int executions;
+
+    void add(final long nanos, final long bytes) {
+      this.nanos += nanos;
+      this.bytes += bytes;
+      executions++;
+    }
+
+    void reset() {
+      nanos = 0;
+      bytes = 0;
+      executions = 0;
+    }
+
+    SystemSample sample() {
+      return new SystemSample(nanos, bytes, executions);
+    }
+  }
+}
@@ -6,8 +6,11 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.ScreenAdapter;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Files;
+import com.badlogic.gdx.backends.lwjgl3.audio.mock.MockAudio;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.utils.GdxNativesLoader;
 import com.badlogic.gdx.utils.Scaling;
 import com.badlogic.gdx.utils.viewport.ScalingViewport;
 import core.Entity;
@@ -19,7 +22,11 @@ import core.level.generator.randomwalk.RandomWalkGenerator;
 import core.systems.*;
 import core.utils.IVoidFunction;
 import core.utils.components.MissingComponentException;
+import core.utils.components.draw.TextureAtlasPacker;
+import core.utils.components.draw.TextureMap;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -31,13 +38,23 @@ import java.util.logging.Logger;
  * flow, will execute the Systems, and triggers the event callbacks configured in the {@link
  * PreRunConfiguration}.
  *
- * <p>Use {@link #run()} to start the game.
+ * <p>Use {@link #run()} to start the game, or {@link #runHeadless(long)} to simulate the game
+ * without a window.
  *
  * <p>All API methods can also be accessed via the {@link core.Game} class.
  */
 public final class GameLoop extends ScreenAdapter {
   private static final Logger LOGGER = Logger.getLogger(GameLoop.class.getSimpleName());
+
+  /** Longer frames are clamped, so a slow frame does not cause a burst of ticks. */
+  private static final float MAX_FRAME_TIME = 0.25f;
+
   private static Stage stage;
+  private static boolean running = false;
+  private static float interpolationAlpha = 1f;
+  private final ComponentQuery.Of1<PositionComponent> positions =
+      ECSManagment.query(PositionComponent.class);
+  private float accumulator = 0f;
   private boolean doSetup = true;
   private boolean newLevelWasLoadedInThisLoop = false;
 
@@ -108,6 +125,57 @@ public final class GameLoop extends ScreenAdapter {
         config);
   }
 
+  /**
+   * Runs the dungeon without a window and without an OpenGL context.
+   *
+   * <p>The loop is driven by a fixed tick of one {@link PreRunConfiguration#tickRate() tick} and
+   * runs as fast as possible, so bots, automated grading and load tests can simulate many ticks per
+   * second on machines without a GPU. Returns after the given number of ticks.
+   *
+   * <p>Nothing is drawn: the {@link DrawSystem} only updates the animations, the {@link
+   * LevelSystem} does not draw the level, and the {@link CameraSystem} uses a virtual viewport with
+   * the configured window size. There is no {@link Stage} and no input. Files are read from the
+   * working directory and the classpath, audio is muted.
+   *
+   * <p>The headless flag is only set while this method runs, so a later windowed run in the same
+   * JVM draws again.
+   *
+   * @param ticks Number of game ticks to simulate.
+   */
+  public static void runHeadless(final long ticks) {
+    boolean wasHeadless = PreRunConfiguration.headless();
+    PreRunConfiguration.headless(true);
+    try {
+      GdxNativesLoader.load();
+      if (Gdx.files == null) Gdx.files = new Lwjgl3Files();
+      if (Gdx.audio == null) Gdx.audio = new MockAudio();
+      GameLoop loop = new GameLoop();
+      float delta = 1f / PreRunConfiguration.tickRate();
+      for (long tick = 0; tick < ticks; tick++) loop.render(delta);
+    } finally {
+      running = false;
+      PreRunConfiguration.headless(wasHeadless);
+    }
+  }
+
+  /**
+   * Check if the game loop was started.
+   *
+   * @return true if the game runs (with or without a window), false otherwise (e.g. in tests).
+   */
+  public static boolean running() {
+    return running;
+  }
+
+  /**
+   * Get the progress of the current frame between the last two simulation ticks.
+   *
+   * @return Value between 0 (state of the previous tick) and 1 (state of the current tick).
+   */
+  public static float interpolationAlpha() {
+    return interpolationAlpha;
+  }
+
   /**
    * Get the {@link Stage} that can be used to draw HUD elements.
    *
@@ -136,10 +204,19 @@ public final class GameLoop extends ScreenAdapter {
   /**
    * Main game loop.
    *
-   * <p>Triggers the execution of the systems and the event callbacks.
+   * <p>Triggers the execution of the systems and the event callbacks. The systems are executed by
+   * the {@link SystemScheduler}.
+   *
+   * <p>The simulation uses a fixed timestep: the time of each frame is accumulated, and the logic
+   * systems are executed once for each full {@link PreRunConfiguration#tickRate() tick} in the
+   * accumulator, so a slow frame does not slow down the simulation. Afterwards, the systems that
+   * {@link System#executesPerFrame() execute per frame} are executed once. They can use {@link
+   * #interpolationAlpha()} to draw between the last two ticks.
    *
    * <p>Will trigger {@link #frame} and {@link PreRunConfiguration#userOnFrame()}.
    *
+   * <p>If the {@link FrameProfiler} is enabled, the frame is recorded.
+   *
    * <p>On the first frame, {@link #setup()} and {@link PreRunConfiguration#userOnSetup()} are
    * triggered.
    *
@@ -148,23 +225,37 @@ public final class GameLoop extends ScreenAdapter {
   @Override
   public void render(float delta) {
     if (doSetup) setup();
-    DrawSystem.batch().setProjectionMatrix(CameraSystem.camera().combined);
+    FrameProfiler.beginFrame();
+    if (!PreRunConfiguration.headless()) {
+      DrawSystem.batch().setProjectionMatrix(CameraSystem.camera().combined);
+    }
     frame();
-    clearScreen();
-
-    for (System system : ECSManagment.systems().values()) {
-      // if a new level was loaded, stop this loop-run
-      if (newLevelWasLoadedInThisLoop) break;
-      system.lastExecuteInFrames(system.lastExecuteInFrames() + 1);
-      if (system.isRunning() && system.lastExecuteInFrames() >= system.executeEveryXFrames()) {
-        system.execute();
-        system.lastExecuteInFrames(0);
-      }
+    if (!PreRunConfiguration.headless()) clearScreen();
+
+    List<System> logicSystems = new ArrayList<>();
+    List<System> frameSystems = new ArrayList<>();
+    for (System system : ECSManagment.systems().values())
+      (system.executesPerFrame() ? frameSystems : logicSystems).add(system);
+
+    float tickDuration = 1f / PreRunConfiguration.tickRate();
+    accumulator += Math.min(delta, MAX_FRAME_TIME);
+    // if a new level was loaded, stop this loop-run
+    while (accumulator >= tickDuration && !newLevelWasLoadedInThisLoop) {
+      accumulator -= tickDuration;
+      // there is nothing to simulate before the first level is loaded
+      if (Game.currentLevel() == null) continue;
+      FrameProfiler.tick();
+      positions.forEach((entity, pc) -> pc.storePreviousPosition());
+      SystemScheduler.execute(logicSystems, () -> newLevelWasLoadedInThisLoop);
     }
+    interpolationAlpha = accumulator / tickDuration;
+    SystemScheduler.execute(frameSystems, () -> newLevelWasLoadedInThisLoop);
     newLevelWasLoadedInThisLoop = false;
     CameraSystem.camera().update();
     // stage logic
     stage().ifPresent(GameLoop::updateStage);
+    ECSManagment.releaseIds();
+    FrameProfiler.endFrame(PreRunConfiguration.headless() ? null : DrawSystem.painter());
   }
 
   /**
@@ -174,8 +265,11 @@ public final class GameLoop extends ScreenAdapter {
    */
   private void setup() {
     doSetup = false;
+    running = true;
+    if (!PreRunConfiguration.headless())
+      TextureAtlasPacker.loadOrPack().ifPresent(TextureMap.instance()::useAtlas);
     createSystems();
-    setupStage();
+    if (!PreRunConfiguration.headless()) setupStage();
     PreRunConfiguration.userOnSetup().execute();
   }
 
@@ -186,7 +280,7 @@ public final class GameLoop extends ScreenAdapter {
    * <p>This is the place to add basic logic that isn't part of any system.
    */
   private void frame() {
-    fullscreenKey();
+    if (!PreRunConfiguration.headless()) fullscreenKey();
     PreRunConfiguration.userOnFrame().execute();
   }
 
@@ -242,9 +336,12 @@ public final class GameLoop extends ScreenAdapter {
   private void createSystems() {
     ECSManagment.add(new PositionSystem());
     ECSManagment.add(new CameraSystem());
+    // there is no OpenGL context to create the painter in headless mode
     ECSManagment.add(
         new LevelSystem(
-            DrawSystem.painter(), new WallGenerator(new RandomWalkGenerator()), onLevelLoad));
+            PreRunConfiguration.headless() ? null : DrawSystem.painter(),
+            new WallGenerator(new RandomWalkGenerator()),
+            onLevelLoad));
     ECSManagment.add(new DrawSystem());
     ECSManagment.add(new VelocitySystem());
     ECSManagment.add(new PlayerSystem());
@@ -25,10 +25,12 @@ public final class PreRunConfiguration {
   private static int WINDOW_WIDTH = 1280;
   private static int WINDOW_HEIGHT = 720;
   private static int FRAME_RATE = 30;
+  private static int TICK_RATE = 0;
   private static boolean FULL_SCREEN = false;
   private static String WINDOW_TITLE = "PM-Dungeon";
   private static IPath LOGO_PATH = new SimpleIPath("logo/cat_logo_35x35.png");
   private static boolean DISABLE_AUDIO = false;
+  private static boolean HEADLESS = false;
   private static IVoidFunction userOnFrame = () -> {};
   private static IVoidFunction userOnSetup = () -> {};
   private static Consumer<Boolean> userOnLevelLoad = (b) -> {};
@@ -87,6 +89,28 @@ public final class PreRunConfiguration {
     FRAME_RATE = frameRate;
   }
 
+  /**
+   * Gets the number of simulation ticks per second.
+   *
+   * <p>If no tick rate was set, the frame rate is used.
+   *
+   * @return The tick rate of the game.
+   */
+  public static int tickRate() {
+    return TICK_RATE > 0 ? TICK_RATE : FRAME_RATE;
+  }
+
+  /**
+   * Sets the number of simulation ticks per second.
+   *
+   * <p>The logic systems are executed with this rate, independent of the frame rate.
+   *
+   * @param tickRate The tick rate of the game.
+   */
+  public static void tickRate(int tickRate) {
+    TICK_RATE = tickRate;
+  }
+
   /**
    * Checks if the game is in full-screen mode.
    *
@@ -159,6 +183,27 @@ public final class PreRunConfiguration {
     DISABLE_AUDIO = disableAudio;
   }
 
+  /**
+   * Checks if the game runs without a window and without an OpenGL context.
+   *
+   * @return True if the game runs headless, false otherwise.
+   * @see GameLoop#runHeadless(long)
+   */
+  public static boolean headless() {
+    return HEADLESS;
+  }
+
+  /**
+   * Sets whether the game runs without a window and without an OpenGL context.
+   *
+   * <p>This is set by {@link GameLoop#runHeadless(long)}.
+   *
+   * @param headless True if the game runs headless, false otherwise.
+   */
+  public static void headless(boolean headless) {
+    HEADLESS = headless;
+  }
+
   /**
    * Gets the user-defined function for frame logic.
    *
@@ -0,0 +1,146 @@
+package core.game;
+
+import core.System;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Executes the {@link System}s of one frame.
+ *
+ * <p>The systems are executed in the given order. Systems that are not {@link
+ * System#isConcurrent() concurrent} are executed on the calling (render) thread and act as a
+ * barrier: all systems before them are finished before they start, and all systems after them start
+ * after they are finished.
+ *
+ * <p>Consecutive concurrent systems form a group. Inside a group, each system depends on the
+ * earlier systems of the group it {@link System#conflictsWith(System) conflicts with}. Systems
+ * without a dependency between them are executed at the same time on a {@link ForkJoinPool}, the
+ * others keep their order.
+ *
+ * <p>While a group is executed, entities that are added to or removed from the Game (see {@link
+ * ECSManagment#add(core.Entity)} and {@link ECSManagment#remove(core.Entity)}) are only queued.
+ * The queued changes are applied on the calling thread once the group is finished, so the {@link
+ * core.utils.EntitySystemMapper}s are never modified while a system is iterating over them.
+ * Component changes are recorded by {@link ECSManagment#informAboutChanges(core.Entity)} and
+ * applied before the next system (or group) starts, see {@link ECSManagment#applyChanges()}.
+ *
+ * <p>Concurrent systems can look up entities (e.g. with {@link core.Game#entities(Class)} or {@link
+ * core.Game#hero()}) and run {@link ComponentQuery}s; the mapper index, the entity snapshots and
+ * the query cache are thread-safe. Work that needs the render thread (graphics, audio, input)
+ * must stay in systems that do not declare their access.
+ *
+ * <p>If the {@link FrameProfiler} records the current frame, the time and allocations of each
+ * execution are reported to it.
+ *
+ * @see System#reads(Class[])
+ * @see System#writes(Class[])
+ */
+public final class SystemScheduler {
+  private static final ForkJoinPool POOL =
+      new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+  private static final Queue<Runnable> DEFERRED = new ConcurrentLinkedQueue<>();
+  private static volatile boolean deferring = false;
+
+  private SystemScheduler() {}
+
+  /**
+   * Execute the given systems for one frame.
+   *
+   * <p>Each system is only executed if it is running and its {@link System#executeEveryXFrames()}
+   * are reached.
+   *
+   * @param systems Systems to execute, in order.
+   * @param cancelled Checked before each system, if true, the remaining systems are skipped for
+   *     this frame (e.g. because a new level was loaded).
+   */
+  public static void execute(final Collection<System> systems, final BooleanSupplier cancelled) {
+    List<System> group = new ArrayList<>();
+    for (System system : List.copyOf(systems)) {
+      if (cancelled.getAsBoolean()) break;
+      system.lastExecuteInFrames(system.lastExecuteInFrames() + 1);
+      if (!system.isRunning() || system.lastExecuteInFrames() < system.executeEveryXFrames())
+        continue;
+      system.lastExecuteInFrames(0);
+      if (system.isConcurrent()) group.add(system);
+      else {
+        executeGroup(group);
+        group.clear();
+        if (cancelled.getAsBoolean()) continue;
+        ECSManagment.applyChanges();
+        run(system);
+      }
+    }
+    executeGroup(group);
+  }
+
+  /**
+   * Check if structural changes of the Game have to be queued, because concurrent systems are
+   * running.
+   *
+   * @return true if a group of concurrent systems is executed.
+   */
+  static boolean deferring() {
+    return deferring;
+  }
+
+  /**
+   * Queue a structural change, to be applied once the running concurrent systems are finished.
+   *
+   * @param change The change to apply.
+   */
+  static void defer(final Runnable change) {
+    DEFERRED.add(change);
+  }
+
+  private static void executeGroup(final List<System> group) {
+    if (group.isEmpty()) return;
+    ECSManagment.applyChanges();
+    if (group.size() == 1) {
+      run(group.get(0));
+      return;
+    }
+    // build the entity snapshots on this thread, systems with the same filter share them
+    group.forEach(System::entities);
+    deferring = true;
+    try {
+      CompletableFuture<?>[] tasks = new CompletableFuture<?>[group.size()];
+      for (int i = 0; i < group.size(); i++) {
+        System system = group.get(i);
+        List<CompletableFuture<?>> dependencies = new ArrayList<>();
+        for (int j = 0; j < i; j++)
+          if (system.conflictsWith(group.get(j))) dependencies.add(tasks[j]);
+        tasks[i] =
+            CompletableFuture.allOf(dependencies.toArray(CompletableFuture<?>[]::new))
+                .thenRunAsync(() -> run(system), POOL);
+      }
+      CompletableFuture.allOf(tasks).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) throw cause;
+      if (e.getCause() instanceof Error cause) throw cause;
+      throw e;
+    } finally {
+      deferring = false;
+      Runnable change;
+      while ((change = DEFERRED.poll()) != null) change.run();
+    }
+  }
+
+  private static void run(final System system) {
+    if (!FrameProfiler.recording()) {
+      system.execute();
+      return;
+    }
+    long bytes = FrameProfiler.allocatedBytes();
+    long start = java.lang.System.nanoTime();
+    system.execute();
+    long nanos = java.lang.System.nanoTime() - start;
+    FrameProfiler.record(system, nanos, FrameProfiler.allocatedBytes() - bytes);
+  }
+}
@@ -83,6 +83,7 @@ public abstract class Tile {
    */
   public void texturePath(final IPath texture) {
     this.texturePath = texture;
+    if (level != null) level.tileChanged(this);
   }
 
   /**
@@ -1,5 +1,6 @@
 package core.level;
 
+import com.badlogic.gdx.ai.pfa.indexed.IndexedAStarPathFinder;
 import core.level.elements.ILevel;
 import core.level.elements.astar.TileConnection;
 import core.level.elements.astar.TileHeuristic;
@@ -13,6 +14,8 @@ import core.utils.components.path.IPath;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 /**
  * Basic 2D-Matrix Tile-based level.
@@ -41,8 +44,11 @@ public class TileLevel implements ILevel {
   protected ArrayList<ExitTile> exitTiles = new ArrayList<>();
   protected ArrayList<SkipTile> skipTiles = new ArrayList<>();
   private IVoidFunction onFirstLoad = () -> {};
+  private final List<Consumer<Tile>> tileChangeListeners = new CopyOnWriteArrayList<>();
 
   private boolean wasLoaded = false;
+  private IndexedAStarPathFinder<Tile> pathFinder;
+  private int pathFinderNodeCount;
 
   /**
    * Create a new level
@@ -107,6 +113,16 @@ public class TileLevel implements ILevel {
     return tileHeuristic;
   }
 
+  @Override
+  public IndexedAStarPathFinder<Tile> pathFinder() {
+    // the node records of the pathfinder are indexed by the tile index
+    if (pathFinder == null || pathFinderNodeCount != nodeCount) {
+      pathFinder = new IndexedAStarPathFinder<>(this);
+      pathFinderNodeCount = nodeCount;
+    }
+    return pathFinder;
+  }
+
   /**
    * Check each tile around the tile, if it is accessible add it to the connectionList.
    *
@@ -138,6 +154,21 @@ public class TileLevel implements ILevel {
     }
   }
 
+  @Override
+  public void addTileChangeListener(Consumer<Tile> listener) {
+    tileChangeListeners.add(listener);
+  }
+
+  @Override
+  public boolean removeTileChangeListener(Consumer<Tile> listener) {
+    return tileChangeListeners.remove(listener);
+  }
+
+  @Override
+  public void tileChanged(Tile tile) {
+    for (Consumer<Tile> listener : tileChangeListeners) listener.accept(tile);
+  }
+
   @Override
   public void addFloorTile(FloorTile tile) {
     floorTiles.add(tile);
@@ -251,6 +282,7 @@ public class TileLevel implements ILevel {
       tile.index(nodeCount++);
     }
     tile.level(this);
+    tileChanged(tile);
   }
 
   @Override
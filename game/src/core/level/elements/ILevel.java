@@ -19,6 +19,7 @@ import core.utils.Point;
 import core.utils.components.MissingComponentException;
 import java.util.List;
 import java.util.Random;
+import java.util.function.Consumer;
 
 /**
  * Defines the API for Levels in the dungeon.
@@ -280,6 +281,34 @@ public interface ILevel extends IndexedGraph<Tile> {
    */
   void onLoad();
 
+  /**
+   * Adds a function that should be executed when a tile of this level was replaced or changed its
+   * texture.
+   *
+   * <p>The {@link core.systems.LevelSystem} uses this to update the cached static tiles. All added
+   * functions are executed, in the order they were added.
+   *
+   * @param listener The function to be executed with the changed tile.
+   */
+  void addTileChangeListener(final Consumer<Tile> listener);
+
+  /**
+   * Removes a function added with {@link #addTileChangeListener(Consumer)}.
+   *
+   * @param listener The function to remove.
+   * @return true if the function was added before, false otherwise.
+   */
+  boolean removeTileChangeListener(final Consumer<Tile> listener);
+
+  /**
+   * Notifies the level that the given tile was replaced or changed its texture.
+   *
+   * <p>Executes the functions added with {@link #addTileChangeListener(Consumer)}.
+   *
+   * @param tile The changed tile.
+   */
+  void tileChanged(final Tile tile);
+
   /**
    * Retrieves the count of nodes in the level for use in libGDX pathfinding algorithms.
    *
@@ -308,10 +337,23 @@ public interface ILevel extends IndexedGraph<Tile> {
           "Cannot calculate path because the end point is non-accessible.");
 
     GraphPath<Tile> path = new DefaultGraphPath<>();
-    new IndexedAStarPathFinder<>(this).searchNodePath(start, end, tileHeuristic(), path);
+    pathFinder().searchNodePath(start, end, tileHeuristic(), path);
     return path;
   }
 
+  /**
+   * Retrieves the A* pathfinder of the level.
+   *
+   * <p>The pathfinder keeps one node record per node of the level and resets them for each search,
+   * so it should be reused instead of creating a new one for each search. If the number of nodes
+   * changed (see {@link #getNodeCount()}), a new pathfinder has to be created.
+   *
+   * <p>The pathfinder is not thread-safe, use it only on the thread that runs the game loop.
+   *
+   * @return The pathfinder of the level.
+   */
+  IndexedAStarPathFinder<Tile> pathFinder();
+
   @Override
   default int getIndex(final Tile tile) {
     return tile.index();
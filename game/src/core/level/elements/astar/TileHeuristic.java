@@ -1,10 +1,15 @@
 package core.level.elements.astar;
 
 import com.badlogic.gdx.ai.pfa.Heuristic;
-import com.badlogic.gdx.math.Vector2;
 import core.level.Tile;
 
 /**
+ * Estimates the cost of the path between two tiles.
+ *
+ * <p>Tiles are only connected to their four direct neighbours, each step costs 1. So the Manhattan
+ * distance is never greater than the real cost of the path (admissible), and A* explores only the
+ * tiles that can be part of a shortest path.
+ *
  * @author Marti Stuwe
  */
 public class TileHeuristic implements Heuristic<Tile> {
@@ -18,7 +23,7 @@ public class TileHeuristic implements Heuristic<Tile> {
    */
   @Override
   public float estimate(Tile start, Tile goal) {
-    return Vector2.dst2(
-        start.coordinate().x, start.coordinate().y, goal.coordinate().x, goal.coordinate().y);
+    return Math.abs(start.coordinate().x - goal.coordinate().x)
+        + Math.abs(start.coordinate().y - goal.coordinate().y);
   }
 }
@@ -0,0 +1,171 @@
+package core.level.utils;
+
+import com.badlogic.gdx.ai.pfa.Connection;
+import com.badlogic.gdx.utils.Array;
+import core.Entity;
+import core.Game;
+import core.level.Tile;
+import core.level.elements.ILevel;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Distance field (Dijkstra map) of a level towards one target tile.
+ *
+ * <p>For each tile of the level, the field stores the number of steps on the shortest path to the
+ * target. The field follows the same connections between the tiles as {@link
+ * ILevel#findPath(Tile, Tile)}. An entity that wants to reach the target only has to step to the
+ * neighbour with the smallest distance (see {@link #next(Tile)}), so any number of entities can
+ * share one field instead of searching their own path.
+ *
+ * <p>Use {@link #toHero()} to get the shared field towards the hero. It is only recalculated if the
+ * hero moves to another tile or the accessible tiles of the level change (see {@link
+ * LevelUtils#accessibilitySignature(ILevel)}), e.g. if a door is opened or closed.
+ *
+ * <p>The field is not thread-safe, use it only on the thread that runs the game loop.
+ *
+ * @see LevelUtils
+ */
+public final class FlowField {
+  /** Distance of tiles that cannot reach the target. */
+  public static final int UNREACHABLE = -1;
+
+  private static FlowField heroField;
+
+  private final ILevel level;
+  private Tile target;
+  private int nodeCount = -1;
+  private long signature;
+  private int[] distances = new int[0];
+  private Tile[] queue = new Tile[0];
+
+  /**
+   * Create a new field for the given level, without a target.
+   *
+   * @param level Level to create the field for.
+   */
+  public FlowField(final ILevel level) {
+    this.level = level;
+  }
+
+  /**
+   * Get the field towards the tile of the hero in the current level.
+   *
+   * <p>The field is shared and will be updated on the first call after the hero moved to another
+   * tile or another level was loaded.
+   *
+   * @return The field towards the hero, or an empty Optional if there is no hero or level.
+   */
+  public static Optional<FlowField> toHero() {
+    ILevel level = Game.currentLevel();
+    Optional<Entity> hero = Game.hero();
+    if (level == null || hero.isEmpty()) return Optional.empty();
+    Tile heroTile = Game.tileAT(Game.positionOf(hero.get()));
+    if (heroTile == null || !heroTile.isAccessible()) return Optional.empty();
+    if (heroField == null || heroField.level != level) heroField = new FlowField(level);
+    heroField.target(heroTile);
+    return Optional.of(heroField);
+  }
+
+  /**
+   * Get the level of this field.
+   *
+   * @return The level of this field.
+   */
+  public ILevel level() {
+    return level;
+  }
+
+  /**
+   * Get the current target of this field.
+   *
+   * @return The target tile, or null if no target was set.
+   */
+  public Tile target() {
+    return target;
+  }
+
+  /**
+   * Set the target of this field.
+   *
+   * <p>The distances are only recalculated if the target or the accessible tiles of the level
+   * changed.
+   *
+   * @param target New target tile, must be an accessible tile of the level.
+   */
+  public void target(final Tile target) {
+    long signature = LevelUtils.accessibilitySignature(level);
+    if (target == this.target && nodeCount >= 0 && signature == this.signature) return;
+    this.target = target;
+    this.signature = signature;
+    recalculate();
+  }
+
+  /**
+   * Get the number of steps from the given tile to the target.
+   *
+   * @param tile Tile to get the distance for.
+   * @return Number of steps to the target, or {@link #UNREACHABLE}.
+   */
+  public int distance(final Tile tile) {
+    return isNode(tile) ? distances[tile.index()] : UNREACHABLE;
+  }
+
+  /**
+   * Get the next tile on a shortest path from the given tile to the target.
+   *
+   * @param from Tile to start from.
+   * @return The neighbour that is closer to the target, or an empty Optional if the given tile is
+   *     the target or cannot reach it.
+   */
+  public Optional<Tile> next(final Tile from) {
+    int best = distance(from);
+    if (best <= 0) return Optional.empty();
+    Tile next = null;
+    Array<Connection<Tile>> connections = from.connections();
+    for (int i = 0; i < connections.size; i++) {
+      Tile neighbour = connections.get(i).getToNode();
+      int distance = distance(neighbour);
+      if (distance != UNREACHABLE && distance < best) {
+        best = distance;
+        next = neighbour;
+      }
+    }
+    return Optional.ofNullable(next);
+  }
+
+  private void recalculate() {
+    nodeCount = level.getNodeCount();
+    if (distances.length < nodeCount) {
+      distances = new int[nodeCount];
+      queue = new Tile[nodeCount];
+    }
+    Arrays.fill(distances, 0, nodeCount, UNREACHABLE);
+    if (target == null || !isNode(target)) return;
+
+    // breadth-first search, each step costs 1
+    int head = 0;
+    int tail = 0;
+    distances[target.index()] = 0;
+    queue[tail++] = target;
+    while (head < tail) {
+      Tile tile = queue[head++];
+      int next = distances[tile.index()] + 1;
+      Array<Connection<Tile>> connections = tile.connections();
+      for (int i = 0; i < connections.size; i++) {
+        Tile neighbour = connections.get(i).getToNode();
+        int index = neighbour.index();
+        if (index < 0 || index >= nodeCount || distances[index] != UNREACHABLE) continue;
+        // closed doors stay connected to their neighbours
+        if (!neighbour.isAccessible()) continue;
+        distances[index] = next;
+        queue[tail++] = neighbour;
+      }
+    }
+    Arrays.fill(queue, 0, tail, null);
+  }
+
+  private boolean isNode(final Tile tile) {
+    return tile.isAccessible() && tile.index() >= 0 && tile.index() < nodeCount;
+  }
+}
@@ -5,6 +5,7 @@ import core.Entity;
 import core.Game;
 import core.components.PositionComponent;
 import core.level.Tile;
+import core.level.elements.ILevel;
 import core.level.elements.tile.DoorTile;
 import core.utils.Point;
 import core.utils.components.MissingComponentException;
@@ -284,4 +285,21 @@ public final class LevelUtils {
     Optional<Entity> hero = Game.hero();
     return hero.filter(value -> entityInRange(entity, value, range)).isPresent();
   }
+
+  /**
+   * Get a signature of the accessible tiles of the given level.
+   *
+   * <p>The signature changes if the number of nodes of the level changes or if a door is opened or
+   * closed. Doors change their accessibility without changing the number of nodes, so caches of
+   * paths or distances in the level can use the signature to check if they are outdated.
+   *
+   * @param level Level to get the signature for.
+   * @return Signature of the accessible tiles.
+   */
+  public static long accessibilitySignature(final ILevel level) {
+    long signature = level.getNodeCount();
+    for (DoorTile door : level.doorTiles())
+      signature = signature * 31 + (door.isAccessible() ? 1 : 0);
+    return signature;
+  }
 }
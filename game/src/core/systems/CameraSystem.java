@@ -72,16 +72,23 @@ public final class CameraSystem extends System {
   public void execute() {
     if (entityStream().findAny().isEmpty()) focus();
     else entityStream().forEach(this::focus);
-    // Check if Gdx.graphics is null which happens when the game is run in headless mode (e.g.
-    // in tests)
-    if (Gdx.graphics != null) {
-      float aspectRatio = Gdx.graphics.getWidth() / (float) Gdx.graphics.getHeight();
-      CAMERA.viewportWidth = viewportWidth();
-      CAMERA.viewportHeight = viewportWidth() / aspectRatio;
-    }
+    CAMERA.viewportWidth = viewportWidth();
+    CAMERA.viewportHeight = viewportWidth() / aspectRatio();
     CAMERA.update();
   }
 
+  /**
+   * Get the aspect ratio of the window.
+   *
+   * <p>Without a window (in headless mode or in tests), the configured window size is used as a
+   * virtual viewport.
+   */
+  private static float aspectRatio() {
+    if (Game.headless() || Gdx.graphics == null)
+      return Game.windowWidth() / (float) Game.windowHeight();
+    return Gdx.graphics.getWidth() / (float) Gdx.graphics.getHeight();
+  }
+
   private void focus() {
     Point focusPoint;
     if (Game.currentLevel() == null) focusPoint = new Point(0, 0);
@@ -94,10 +101,16 @@ public final class CameraSystem extends System {
         entity
             .fetch(PositionComponent.class)
             .orElseThrow(() -> MissingComponentException.build(entity, PositionComponent.class));
-    focus(pc.position());
+    focus(pc.interpolatedPosition(Game.interpolationAlpha()));
   }
 
   private void focus(Point point) {
     CAMERA.position.set(point.x, point.y, 0);
   }
+
+  /** Follows the focus once per frame, so the camera moves smoothly. */
+  @Override
+  public boolean executesPerFrame() {
+    return true;
+  }
 }
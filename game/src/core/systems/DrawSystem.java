@@ -1,18 +1,17 @@
 package core.systems;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import core.Entity;
+import core.Game;
 import core.System;
 import core.components.DrawComponent;
 import core.components.PlayerComponent;
 import core.components.PositionComponent;
-import core.utils.components.MissingComponentException;
+import core.game.ComponentQuery;
 import core.utils.components.draw.Animation;
 import core.utils.components.draw.Painter;
 import core.utils.components.draw.PainterConfig;
 import core.utils.components.path.IPath;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * This system draws the entities on the screen.
@@ -29,45 +28,63 @@ import java.util.stream.Collectors;
  *
  * <p>The DrawSystem can't be paused.
  *
+ * <p>The entities are drawn at their {@link PositionComponent#interpolatedPosition(float)
+ * interpolated position}, so they move smoothly even if the frame rate differs from the tick rate.
+ *
+ * <p>In headless mode, the animations are updated but nothing is drawn. The {@link SpriteBatch} is
+ * only created on the first call of {@link #batch()} or {@link #painter()}, so the system can be
+ * used without an OpenGL context.
+ *
  * @see DrawComponent
  * @see Animation
  * @see Painter
  */
 public final class DrawSystem extends System {
 
+  /** Maximum number of sprites a {@link SpriteBatch} can hold. */
+  private static final int MAX_BATCH_SIZE = 8191;
+
   /**
    * The batch is necessary to draw ALL the stuff. Every object that uses draw need to know the
    * batch.
+   *
+   * <p>Uses the maximum batch size, so a whole level fits in as few draw calls as possible.
    */
-  private static final SpriteBatch BATCH = new SpriteBatch();
+  private static SpriteBatch batch;
 
   /** Draws objects */
-  private static final Painter PAINTER = new Painter(BATCH);
+  private static Painter painter;
 
   private final Map<IPath, PainterConfig> configs;
+  private final ComponentQuery.Of2<DrawComponent, PositionComponent> npcs;
+  private final ComponentQuery.Of3<DrawComponent, PositionComponent, PlayerComponent> players;
 
   /** Create a new DrawSystem. */
   public DrawSystem() {
     super(DrawComponent.class, PositionComponent.class);
     configs = new HashMap<>();
+    npcs = Game.query(DrawComponent.class, PositionComponent.class).without(PlayerComponent.class);
+    players = Game.query(DrawComponent.class, PositionComponent.class, PlayerComponent.class);
   }
 
   /**
    * Get the {@link Painter} that is used by this system.
    *
-   * @return the {@link #PAINTER} of the DrawSystem
+   * @return the {@link #painter} of the DrawSystem
    */
   public static Painter painter() {
-    return PAINTER;
+    if (painter == null) painter = new Painter(batch());
+    return painter;
   }
 
   /**
    * Get the {@link SpriteBatch} that is used by this system.
    *
-   * @return the {@link #BATCH} of the DrawSystem
+   * @return the {@link #batch} of the DrawSystem
    */
   public static SpriteBatch batch() {
-    return BATCH;
+    if (batch == null) batch = new SpriteBatch(MAX_BATCH_SIZE);
+    return batch;
   }
 
   /**
@@ -80,25 +97,42 @@ public final class DrawSystem extends System {
    */
   @Override
   public void execute() {
-    Map<Boolean, List<Entity>> partitionedEntities =
-        entityStream()
-            .collect(Collectors.partitioningBy(entity -> entity.isPresent(PlayerComponent.class)));
-    List<Entity> players = partitionedEntities.get(true);
-    List<Entity> npcs = partitionedEntities.get(false);
-
-    npcs.forEach(entity -> draw(buildDataObject(entity)));
-    players.forEach(entity -> draw(buildDataObject(entity)));
+    if (Game.headless()) {
+      npcs.forEach((entity, dc, pc) -> animate(dc));
+      players.forEach((entity, dc, pc, player) -> animate(dc));
+      return;
+    }
+    Painter painter = painter();
+    painter.begin();
+    npcs.forEach((entity, dc, pc) -> draw(painter, dc, pc));
+    // players are drawn in a separate pass, so they are always on top
+    painter.flush();
+    players.forEach((entity, dc, pc, player) -> draw(painter, dc, pc));
+    painter.end();
   }
 
-  private void draw(final DSData dsd) {
-    reduceFrameTimer(dsd.dc);
-    setNextAnimation(dsd.dc);
-    final Animation animation = dsd.dc.currentAnimation();
-    IPath currentAnimationTexture = animation.nextAnimationTexturePath();
+  private void draw(final Painter painter, final DrawComponent dc, final PositionComponent pc) {
+    IPath currentAnimationTexture = animate(dc);
     if (!configs.containsKey(currentAnimationTexture)) {
       configs.put(currentAnimationTexture, new PainterConfig(currentAnimationTexture));
     }
-    PAINTER.draw(dsd.pc.position(), currentAnimationTexture, configs.get(currentAnimationTexture));
+    painter.draw(
+        pc.interpolatedPosition(Game.interpolationAlpha()),
+        currentAnimationTexture,
+        configs.get(currentAnimationTexture));
+  }
+
+  /**
+   * Select the next animation and advance it by one frame.
+   *
+   * @param dc DrawComponent to animate
+   * @return path of the current frame of the animation
+   */
+  private IPath animate(final DrawComponent dc) {
+    reduceFrameTimer(dc);
+    setNextAnimation(dc);
+    final Animation animation = dc.currentAnimation();
+    return animation.nextAnimationTexturePath();
   }
 
   /**
@@ -147,17 +181,9 @@ public final class DrawSystem extends System {
     run = true;
   }
 
-  private DSData buildDataObject(final Entity entity) {
-    DrawComponent dc =
-        entity
-            .fetch(DrawComponent.class)
-            .orElseThrow(() -> MissingComponentException.build(entity, DrawComponent.class));
-    PositionComponent pc =
-        entity
-            .fetch(PositionComponent.class)
-            .orElseThrow(() -> MissingComponentException.build(entity, PositionComponent.class));
-    return new DSData(entity, dc, pc);
+  /** Draws the entities once per frame. */
+  @Override
+  public boolean executesPerFrame() {
+    return true;
   }
-
-  private record DSData(Entity e, DrawComponent dc, PositionComponent pc) {}
 }
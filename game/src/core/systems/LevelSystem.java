@@ -12,12 +12,12 @@ import core.level.elements.ILevel;
 import core.level.elements.tile.DoorTile;
 import core.level.generator.IGenerator;
 import core.level.utils.DesignLabel;
-import core.level.utils.LevelElement;
 import core.level.utils.LevelSize;
 import core.utils.IVoidFunction;
 import core.utils.components.MissingComponentException;
 import core.utils.components.draw.Painter;
 import core.utils.components.draw.PainterConfig;
+import core.utils.components.draw.StaticTileLayer;
 import core.utils.components.path.IPath;
 import java.util.HashMap;
 import java.util.Map;
@@ -29,9 +29,10 @@ import java.util.logging.Logger;
  *
  * <p>The system will store the currently active level.
  *
- * <p>Each frame, this system will draw the level on the screen. The system will also check if one
- * of the entities managed by this system is positioned on the end tile of the level. If so, the
- * next level will be loaded.
+ * <p>Each frame, this system will draw the level on the screen. The tiles that do not change are
+ * drawn from a {@link StaticTileLayer}, only the doors are drawn tile by tile. The system will also
+ * check if one of the entities managed by this system is positioned on the end tile of the level.
+ * If so, the next level will be loaded.
  *
  * <p>The system uses the configured {@link IGenerator} to generate levels in the configured {@link
  * LevelSize}. Use {@link #generator(IGenerator)} to change the used level generator. Use {@link
@@ -66,6 +67,9 @@ public final class LevelSystem extends System {
   private static ILevel currentLevel;
   private final IVoidFunction onLevelLoad;
   private final Painter painter;
+  private final StaticTileLayer tileLayer =
+      new StaticTileLayer(tile -> config(tile.texturePath()));
+  private final Map<IPath, PainterConfig> configs = new HashMap<>();
   private final Logger levelAPI_logger = Logger.getLogger(this.getClass().getSimpleName());
   private IGenerator generator;
 
@@ -173,21 +177,19 @@ public final class LevelSystem extends System {
   }
 
   private void drawLevel() {
-    Map<IPath, PainterConfig> mapping = new HashMap<>();
-
-    Tile[][] layout = currentLevel.layout();
-    for (Tile[] tiles : layout) {
-      for (int x = 0; x < layout[0].length; x++) {
-        Tile t = tiles[x];
-        if (t.levelElement() != LevelElement.SKIP) {
-          IPath texturePath = t.texturePath();
-          if (!mapping.containsKey(texturePath)) {
-            mapping.put(texturePath, new PainterConfig(texturePath, X_OFFSET, Y_OFFSET));
-          }
-          painter.draw(t.position(), texturePath, mapping.get(texturePath));
-        }
-      }
+    painter.draw(tileLayer, currentLevel);
+    // doors change their texture if they are opened or closed, so they are drawn each frame
+    painter.begin();
+    for (DoorTile door : currentLevel.doorTiles()) {
+      IPath texturePath = door.texturePath();
+      painter.draw(door.position(), texturePath, config(texturePath));
     }
+    painter.end();
+  }
+
+  private PainterConfig config(final IPath texturePath) {
+    return configs.computeIfAbsent(
+        texturePath, path -> new PainterConfig(path, X_OFFSET, Y_OFFSET));
   }
 
   /**
@@ -250,7 +252,7 @@ public final class LevelSystem extends System {
    *
    * <p>Will load a new level if no level exists or one of the managed entities are on the end tile.
    *
-   * <p>Will draw the level.
+   * <p>Will draw the level, unless the game runs headless.
    */
   @Override
   public void execute() {
@@ -266,7 +268,7 @@ public final class LevelSystem extends System {
                             loadLevel(iLevel);
                             playSound();
                           }));
-    drawLevel();
+    if (!Game.headless()) drawLevel();
   }
 
   /** LevelSystem can't be paused. If it is paused, the level will not be shown anymore. */
@@ -274,4 +276,10 @@ public final class LevelSystem extends System {
   public void stop() {
     run = true;
   }
+
+  /** Draws the level once per frame, level changes are also checked once per frame. */
+  @Override
+  public boolean executesPerFrame() {
+    return true;
+  }
 }
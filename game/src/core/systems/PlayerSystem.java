@@ -2,6 +2,7 @@ package core.systems;
 
 import com.badlogic.gdx.Gdx;
 import core.Entity;
+import core.Game;
 import core.System;
 import core.components.PlayerComponent;
 import core.utils.components.MissingComponentException;
@@ -14,6 +15,8 @@ import java.util.Map;
  *
  * <p>This System will check for each registered callback in the {@link PlayerComponent} if the Key
  * is pressed, and if so, will execute the Callback.
+ *
+ * <p>There is no input in headless mode, so no callback is executed.
  */
 public final class PlayerSystem extends System {
 
@@ -25,6 +28,7 @@ public final class PlayerSystem extends System {
 
   @Override
   public void execute() {
+    if (Game.headless()) return;
     entityStream().forEach(this::execute);
   }
 
@@ -75,4 +79,10 @@ public final class PlayerSystem extends System {
       data.callback().accept(entity);
     }
   }
+
+  /** The input is polled once per frame, so no key press is missed or handled twice. */
+  @Override
+  public boolean executesPerFrame() {
+    return true;
+  }
 }
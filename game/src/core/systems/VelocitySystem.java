@@ -1,6 +1,5 @@
 package core.systems;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.Vector2;
 import core.Entity;
 import core.Game;
@@ -8,8 +7,9 @@ import core.System;
 import core.components.DrawComponent;
 import core.components.PositionComponent;
 import core.components.VelocityComponent;
+import core.game.ComponentQuery;
+import core.game.GameLoop;
 import core.utils.Point;
-import core.utils.components.MissingComponentException;
 import core.utils.components.draw.CoreAnimationPriorities;
 import core.utils.components.draw.CoreAnimations;
 
@@ -41,107 +41,115 @@ public final class VelocitySystem extends System {
   // default time an Animation should be enqueued
   private static final int DEFAULT_FRAME_TIME = 1;
 
+  private final ComponentQuery.Of3<VelocityComponent, PositionComponent, DrawComponent> query;
+
   /** Create a new VelocitySystem */
   public VelocitySystem() {
     super(VelocityComponent.class, PositionComponent.class, DrawComponent.class);
+    query = Game.query(VelocityComponent.class, PositionComponent.class, DrawComponent.class);
   }
 
   /** Updates the position of all entities based on their velocity */
   @Override
   public void execute() {
-    entityStream().map(this::buildDataObject).forEach(this::updatePosition);
+    query.forEach(this::updatePosition);
   }
 
-  private void updatePosition(VSData vsd) {
-    Vector2 velocity = new Vector2(vsd.vc.currentXVelocity(), vsd.vc.currentYVelocity());
-    float maxSpeed = Math.max(Math.abs(vsd.vc.xVelocity()), Math.abs(vsd.vc.yVelocity()));
+  private void updatePosition(
+      final Entity entity,
+      final VelocityComponent vc,
+      final PositionComponent pc,
+      final DrawComponent dc) {
+    Vector2 velocity = new Vector2(vc.currentXVelocity(), vc.currentYVelocity());
+    float maxSpeed = Math.max(Math.abs(vc.xVelocity()), Math.abs(vc.yVelocity()));
     // Limit velocity to maxSpeed (primarily for diagonal movement)
     if (velocity.len() > maxSpeed) {
       velocity.nor();
       velocity.scl(maxSpeed);
     }
-    if (Gdx.graphics != null) {
-      velocity.scl(Gdx.graphics.getDeltaTime());
+    // the velocity is given per second, each execution simulates one tick
+    if (GameLoop.running()) {
+      velocity.scl(1f / Game.tickRate());
     }
 
-    float newX = vsd.pc.position().x + velocity.x;
-    float newY = vsd.pc.position().y + velocity.y;
+    float newX = pc.position().x + velocity.x;
+    float newY = pc.position().y + velocity.y;
     boolean hitWall = false;
     try {
       if (Game.tileAT(new Point(newX, newY)).isAccessible()) {
         // no change in direction
-        vsd.pc.position(new Point(newX, newY));
-        this.movementAnimation(vsd);
-      } else if (Game.tileAT(new Point(newX, vsd.pc.position().y)).isAccessible()) {
+        pc.position(new Point(newX, newY));
+        this.movementAnimation(vc, dc);
+      } else if (Game.tileAT(new Point(newX, pc.position().y)).isAccessible()) {
         // redirect not moving along y
         hitWall = true;
-        vsd.pc.position(new Point(newX, vsd.pc.position().y));
-        this.movementAnimation(vsd);
-        vsd.vc.currentYVelocity(0.0f);
-      } else if (Game.tileAT(new Point(vsd.pc.position().x, newY)).isAccessible()) {
+        pc.position(new Point(newX, pc.position().y));
+        this.movementAnimation(vc, dc);
+        vc.currentYVelocity(0.0f);
+      } else if (Game.tileAT(new Point(pc.position().x, newY)).isAccessible()) {
         // redirect not moving along x
         hitWall = true;
-        vsd.pc.position(new Point(vsd.pc.position().x, newY));
-        this.movementAnimation(vsd);
-        vsd.vc.currentXVelocity(0.0f);
+        pc.position(new Point(pc.position().x, newY));
+        this.movementAnimation(vc, dc);
+        vc.currentXVelocity(0.0f);
       } else {
         hitWall = true;
       }
 
-      if (hitWall) vsd.vc.onWallHit().accept(vsd.e);
+      if (hitWall) vc.onWallHit().accept(entity);
 
-      float friction = Game.tileAT(vsd.pc.position()).friction();
-      float newVX = vsd.vc.currentXVelocity() * (Math.min(1.0f, 1.0f - friction));
+      float friction = Game.tileAT(pc.position()).friction();
+      float newVX = vc.currentXVelocity() * (Math.min(1.0f, 1.0f - friction));
       if (Math.abs(newVX) < 0.01f) newVX = 0.0f;
-      float newVY = vsd.vc.currentYVelocity() * (Math.min(1.0f, 1.0f - friction));
+      float newVY = vc.currentYVelocity() * (Math.min(1.0f, 1.0f - friction));
       if (Math.abs(newVY) < 0.01f) newVY = 0.0f;
 
-      vsd.vc.currentYVelocity(newVY);
-      vsd.vc.currentXVelocity(newVX);
+      vc.currentYVelocity(newVY);
+      vc.currentXVelocity(newVX);
     } catch (NullPointerException e) {
       // for some reason the entity is out of bound
-      vsd.pc().position(PositionComponent.ILLEGAL_POSITION);
+      pc.position(PositionComponent.ILLEGAL_POSITION);
       LOGGER.warning("Entity " + e + " is out of bound");
     }
   }
 
-  private void movementAnimation(VSData vsd) {
-    float x = vsd.vc.currentXVelocity();
-    float y = vsd.vc.currentYVelocity();
+  private void movementAnimation(final VelocityComponent vc, final DrawComponent dc) {
+    float x = vc.currentXVelocity();
+    float y = vc.currentYVelocity();
 
     // move
     if (x != 0 || y != 0) {
-      vsd.dc.deQueueByPriority(CoreAnimationPriorities.RUN.priority());
-      if (x > 0) vsd.dc.queueAnimation(CoreAnimations.RUN_RIGHT, CoreAnimations.RUN);
-      else if (x < 0) vsd.dc.queueAnimation(CoreAnimations.RUN_LEFT, CoreAnimations.RUN);
-      else if (y > 0) vsd.dc.queueAnimation(CoreAnimations.RUN_UP, CoreAnimations.RUN);
-      else if (y < 0) vsd.dc.queueAnimation(CoreAnimations.RUN_DOWN, CoreAnimations.RUN);
-      vsd.vc.previousXVelocity(x);
-      vsd.vc.previousYVelocity(y);
-
-      vsd.dc.deQueueByPriority(CoreAnimationPriorities.IDLE.priority());
+      dc.deQueueByPriority(CoreAnimationPriorities.RUN.priority());
+      if (x > 0) dc.queueAnimation(CoreAnimations.RUN_RIGHT, CoreAnimations.RUN);
+      else if (x < 0) dc.queueAnimation(CoreAnimations.RUN_LEFT, CoreAnimations.RUN);
+      else if (y > 0) dc.queueAnimation(CoreAnimations.RUN_UP, CoreAnimations.RUN);
+      else if (y < 0) dc.queueAnimation(CoreAnimations.RUN_DOWN, CoreAnimations.RUN);
+      vc.previousXVelocity(x);
+      vc.previousYVelocity(y);
+
+      dc.deQueueByPriority(CoreAnimationPriorities.IDLE.priority());
     }
     // idle
     else {
       // each drawComponent has an idle animation, so no check is needed
-      if (vsd.vc.previousXVelocity() < 0)
-        vsd.dc.queueAnimation(
+      if (vc.previousXVelocity() < 0)
+        dc.queueAnimation(
             DEFAULT_FRAME_TIME,
             CoreAnimations.IDLE_LEFT,
             CoreAnimations.IDLE,
             CoreAnimations.IDLE_RIGHT,
             CoreAnimations.IDLE_DOWN,
             CoreAnimations.IDLE_UP);
-      else if (vsd.vc.previousXVelocity() > 0)
-        vsd.dc.queueAnimation(
+      else if (vc.previousXVelocity() > 0)
+        dc.queueAnimation(
             DEFAULT_FRAME_TIME,
             CoreAnimations.IDLE_RIGHT,
             CoreAnimations.IDLE,
             CoreAnimations.IDLE_LEFT,
             CoreAnimations.IDLE_DOWN,
             CoreAnimations.IDLE_UP);
-      else if (vsd.vc.previousYVelocity() > 0)
-        vsd.dc.queueAnimation(
+      else if (vc.previousYVelocity() > 0)
+        dc.queueAnimation(
             DEFAULT_FRAME_TIME,
             CoreAnimations.IDLE_UP,
             CoreAnimations.IDLE,
@@ -149,7 +157,7 @@ public final class VelocitySystem extends System {
             CoreAnimations.IDLE_LEFT,
             CoreAnimations.IDLE_RIGHT);
       else
-        vsd.dc.queueAnimation(
+        dc.queueAnimation(
             DEFAULT_FRAME_TIME,
             CoreAnimations.IDLE_DOWN,
             CoreAnimations.IDLE,
@@ -158,22 +166,4 @@ public final class VelocitySystem extends System {
             CoreAnimations.IDLE_RIGHT);
     }
   }
-
-  private VSData buildDataObject(Entity e) {
-    VelocityComponent vc =
-        e.fetch(VelocityComponent.class)
-            .orElseThrow(() -> MissingComponentException.build(e, VelocityComponent.class));
-
-    PositionComponent pc =
-        e.fetch(PositionComponent.class)
-            .orElseThrow(() -> MissingComponentException.build(e, PositionComponent.class));
-
-    DrawComponent dc =
-        e.fetch(DrawComponent.class)
-            .orElseThrow(() -> MissingComponentException.build(e, DrawComponent.class));
-
-    return new VSData(e, vc, pc, dc);
-  }
-
-  private record VSData(Entity e, VelocityComponent vc, PositionComponent pc, DrawComponent dc) {}
 }
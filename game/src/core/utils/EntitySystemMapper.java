@@ -3,8 +3,12 @@ package core.utils;
 import core.Component;
 import core.Entity;
 import core.System;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 /**
@@ -29,7 +33,18 @@ import java.util.stream.Stream;
  * <p>Systems can be added using {@link #add(System)} or removed using {@link #remove(System)}. When
  * a system is added, {@link System#triggerOnAdd(Entity)} is called for each stored entity.
  *
- * <p>You can query the stored entities as a stream using {@link #stream()}.
+ * <p>You can query the stored entities as a stream using {@link #stream()}, as an index-based list
+ * using {@link #entities()} or iterate over them using {@link #forEach(Consumer)}.
+ *
+ * <p>Each change of the stored entities increases the {@link #version()} of the mapper. The
+ * iteration methods work on an immutable array snapshot that is only rebuilt if the version has
+ * changed since the last snapshot was taken. Changes made while iterating are therefore applied
+ * the next time the entities are requested (usually by the next system), and iterating without
+ * changes does not allocate.
+ *
+ * <p>The iteration methods can be called by concurrent systems (see {@link
+ * core.game.SystemScheduler}); the snapshot is rebuilt under a lock and published as a whole. The
+ * entities themselves must only be changed on the thread that runs the game loop.
  *
  * <p>The {@link #equals(Object)} and {@link #equals(Set)} methods return true if the filter rules
  * are identical.
@@ -39,6 +54,8 @@ public final class EntitySystemMapper {
   private final Set<Class<? extends Component>> filterRules;
   private final Set<Entity> entities;
   private final Set<System> systems;
+  private int version = 0;
+  private volatile Snapshot snapshot = new Snapshot(0, new Entity[0]);
 
   /**
    * Creates a new EntitySystemMapper with the given filter rules.
@@ -114,6 +131,7 @@ public final class EntitySystemMapper {
   public boolean add(final Entity entity) {
     if (!entities.contains(entity) && accept(entity)) {
       entities.add(entity);
+      version++;
       systems.forEach(system -> system.triggerOnAdd(entity));
       return true;
     }
@@ -134,6 +152,7 @@ public final class EntitySystemMapper {
   public boolean remove(final Entity entity) {
     if (entities.contains(entity)) {
       entities.remove(entity);
+      version++;
       systems.forEach(system -> system.triggerOnRemove(entity));
       return true;
     }
@@ -161,7 +180,60 @@ public final class EntitySystemMapper {
    * @return A Stream of Entities currently present in the EntitySystemMapper.
    */
   public Stream<Entity> stream() {
-    return new HashSet<>(entities).stream();
+    return entities().stream();
+  }
+
+  /**
+   * Returns an unmodifiable, index-based view of the Entities in the EntitySystemMapper.
+   *
+   * <p>The returned list is a snapshot; it will not change if entities are added or removed
+   * afterward. The same list is returned until the stored entities change.
+   *
+   * @return List of the Entities currently present in the EntitySystemMapper.
+   */
+  public List<Entity> entities() {
+    return currentSnapshot().view();
+  }
+
+  /**
+   * Execute the given action for each Entity in the EntitySystemMapper.
+   *
+   * <p>Iterates over the same snapshot as {@link #entities()}, so entities added or removed by the
+   * action will not affect the running iteration.
+   *
+   * @param action Action to execute for each Entity.
+   */
+  public void forEach(final Consumer<Entity> action) {
+    for (Entity entity : currentSnapshot().entities()) action.accept(entity);
+  }
+
+  /**
+   * Returns the number of Entities in the EntitySystemMapper.
+   *
+   * @return Number of stored Entities.
+   */
+  public int size() {
+    return entities.size();
+  }
+
+  /**
+   * Returns the filter rules of the EntitySystemMapper.
+   *
+   * @return The Component classes an Entity needs to be stored in this EntitySystemMapper.
+   */
+  public Set<Class<? extends Component>> filterRules() {
+    return Collections.unmodifiableSet(filterRules);
+  }
+
+  /**
+   * Returns the version of the EntitySystemMapper.
+   *
+   * <p>The version is increased each time an Entity is added or removed.
+   *
+   * @return Current version.
+   */
+  public int version() {
+    return version;
   }
 
   /**
@@ -210,6 +282,16 @@ public final class EntitySystemMapper {
     return true;
   }
 
+  private Snapshot currentSnapshot() {
+    Snapshot current = snapshot;
+    if (current.version() == version) return current;
+    synchronized (this) {
+      if (snapshot.version() != version)
+        snapshot = new Snapshot(version, entities.toArray(new Entity[0]));
+      return snapshot;
+    }
+  }
+
   /**
    * Checks if the given System is present in the EntitySystemMapper.
    *
@@ -219,4 +301,10 @@ public final class EntitySystemMapper {
   public boolean has(final System system) {
     return systems.contains(system);
   }
+
+  private record Snapshot(int version, Entity[] entities, List<Entity> view) {
+    private Snapshot(final int version, final Entity[] entities) {
+      this(version, entities, Collections.unmodifiableList(Arrays.asList(entities)));
+    }
+  }
 }
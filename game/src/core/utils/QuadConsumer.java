@@ -0,0 +1,22 @@
+package core.utils;
+
+/**
+ * Represents an operation that accepts four input arguments and returns no result.
+ *
+ * @param <T> Type of the first argument.
+ * @param <U> Type of the second argument.
+ * @param <V> Type of the third argument.
+ * @param <W> Type of the fourth argument.
+ */
+@FunctionalInterface
+public interface QuadConsumer<T, U, V, W> {
+  /**
+   * Performs this operation with the given arguments.
+   *
+   * @param t Argument 1
+   * @param u Argument 2
+   * @param v Argument 3
+   * @param w Argument 4
+   */
+  void accept(final T t, final U u, final V v, final W w);
+}
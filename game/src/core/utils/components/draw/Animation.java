@@ -57,7 +57,8 @@ public final class Animation {
   private Animation(
       final Collection<IPath> animationFrames, int frameTime, boolean looping, int prio) {
     assert (animationFrames != null && !animationFrames.isEmpty());
-    this.animationFrames = new ArrayList<>(animationFrames);
+    // immutable lists (e.g. from the AnimationRegistry) are shared, not copied
+    this.animationFrames = List.copyOf(animationFrames);
     frames = animationFrames.size();
     if (frameTime == 0) {
       throw new IllegalArgumentException(
@@ -137,6 +138,17 @@ public final class Animation {
     return new Animation(Set.of(MISSING_TEXTURE), DEFAULT_FRAME_TIME, DEFAULT_IS_LOOP, 0);
   }
 
+  /**
+   * Create a copy of this animation that starts at the first frame.
+   *
+   * <p>The list of frames is shared with this animation.
+   *
+   * @return A new animation with the frames and configuration of this animation.
+   */
+  public Animation copy() {
+    return new Animation(animationFrames, timeBetweenFrames, looping, priority);
+  }
+
   /**
    * Get the texture to draw.
    *
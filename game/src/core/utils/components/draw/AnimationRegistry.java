@@ -0,0 +1,73 @@
+package core.utils.components.draw;
+
+import core.utils.components.path.AssetIndex;
+import core.utils.components.path.IPath;
+import core.utils.components.path.SimpleIPath;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Global registry of the animation frames in the asset directories.
+ *
+ * <p>The frames are looked up in the {@link AssetIndex}, so the assets are only scanned once,
+ * regardless of whether the game is running from a JAR or from the file system. The frames of an
+ * asset directory are collected once and then shared by all {@link core.components.DrawComponent}s
+ * that use this directory.
+ *
+ * <p>Each subdirectory of an asset directory is one animation, the files inside the subdirectory
+ * are the frames of the animation, in lexicographic order. For example, the files in
+ * "character/knight/idle" are the frames of the animation "idle" of the directory
+ * "character/knight".
+ *
+ * <p>The returned frame lists are immutable. {@link Animation}s that are created from these lists
+ * share them by reference, only the playback state is stored per Animation.
+ *
+ * <p>This class is thread-safe.
+ *
+ * @see core.components.DrawComponent
+ * @see Animation
+ */
+public final class AnimationRegistry {
+  private static final Map<String, Optional<Map<String, List<IPath>>>> FRAMES =
+      new ConcurrentHashMap<>();
+
+  private AnimationRegistry() {}
+
+  /**
+   * Get the frames of all animations in the given asset directory.
+   *
+   * @param path Path to the asset directory, e.g. "character/knight".
+   * @return Immutable map of the animation names (the names of the subdirectories) to the
+   *     immutable, sorted list of their frames, or an empty Optional if the directory does not
+   *     exist.
+   */
+  public static Optional<Map<String, List<IPath>>> animationFrames(final IPath path) {
+    return FRAMES.computeIfAbsent(path.pathString(), AnimationRegistry::collect);
+  }
+
+  private static Optional<Map<String, List<IPath>>> collect(final String directory) {
+    String prefix = directory.endsWith("/") ? directory : directory + "/";
+    Map<String, List<IPath>> animations = new HashMap<>();
+    // the index is sorted, so the frames of each animation are already in lexicographic order
+    AssetIndex.assetsIn(prefix)
+        .forEach(
+            file -> {
+              String relative = file.substring(prefix.length());
+              int separator = relative.indexOf('/');
+              // only direct files of the subdirectories are frames
+              if (separator <= 0 || relative.indexOf('/', separator + 1) >= 0) return;
+              animations
+                  .computeIfAbsent(relative.substring(0, separator), name -> new ArrayList<>())
+                  .add(new SimpleIPath(file));
+            });
+    if (animations.isEmpty() && AssetIndex.assetsIn(prefix).findAny().isEmpty())
+      return Optional.empty();
+    Map<String, List<IPath>> frames = new HashMap<>();
+    animations.forEach((name, list) -> frames.put(name, List.copyOf(list)));
+    return Optional.of(Map.copyOf(frames));
+  }
+}
@@ -1,10 +1,15 @@
 package core.utils.components.draw;
 
-import com.badlogic.gdx.graphics.g2d.Sprite;
+import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import core.level.elements.ILevel;
 import core.systems.CameraSystem;
 import core.utils.Point;
 import core.utils.components.path.IPath;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 /**
  * Draws the sprites on the batch.
@@ -14,10 +19,22 @@ import core.utils.components.path.IPath;
  * <p>Use {@link #draw(Point, IPath, PainterConfig)} to draw a sprite on the screen.
  *
  * <p>The Painter will only draw sprites that are currently visible on the camera. The Painter uses
- * the {@link TextureMap} to store already loaded textures to save performance and storage.
+ * the {@link TextureMap} to store already loaded textures to save performance and storage. Sprites
+ * that are packed into the atlas of the {@link TextureMap} share one texture, so they can be drawn
+ * without a texture switch.
  *
  * <p>Use the {@link PainterConfig} to configure the painting options.
  *
+ * <p>To reduce the number of draw calls, surround multiple calls of {@link #draw(Point, IPath,
+ * PainterConfig)} with {@link #begin()} and {@link #end()}. In between, the sprites are only
+ * queued. On {@link #flush()} or {@link #end()}, the queued sprites are sorted by their texture and
+ * drawn in one pass, so the {@link SpriteBatch} only needs to switch textures once per texture.
+ * Because of the sorting, sprites that have to be drawn on top of others must be drawn after a
+ * {@link #flush()}. Without {@link #begin()}, each sprite is drawn immediately.
+ *
+ * <p>The Painter counts the render calls, texture switches and drawn sprites, see {@link
+ * #renderCalls()}. The {@link core.game.FrameProfiler} reads and resets the counters each frame.
+ *
  * <p>The Painter is used by the {@link core.systems.DrawSystem} and {@link
  * core.systems.LevelSystem}.
  *
@@ -26,7 +43,19 @@ import core.utils.components.path.IPath;
  * @see core.systems.LevelSystem
  */
 public class Painter {
+  private static final int INITIAL_CAPACITY = 256;
+
   private final SpriteBatch batch;
+  private final Map<Texture, Integer> textureIds = new IdentityHashMap<>();
+  private TextureRegion[] regions = new TextureRegion[INITIAL_CAPACITY];
+  private float[] bounds = new float[INITIAL_CAPACITY * 4];
+  private long[] drawOrder = new long[INITIAL_CAPACITY];
+  private int queued = 0;
+  private boolean batching = false;
+  private Texture lastTexture;
+  private int renderCalls = 0;
+  private int textureSwitches = 0;
+  private int sprites = 0;
 
   /**
    * Create a new Painter.
@@ -37,11 +66,58 @@ public class Painter {
     this.batch = batch;
   }
 
+  /**
+   * Start a batch.
+   *
+   * <p>Until {@link #end()} is called, {@link #draw(Point, IPath, PainterConfig)} will only queue
+   * the sprites.
+   */
+  public void begin() {
+    if (batching) return;
+    batch.begin();
+    batching = true;
+  }
+
+  /**
+   * Draw all queued sprites, sorted by their texture.
+   *
+   * <p>Sprites that are drawn after the flush will be drawn on top of the flushed sprites.
+   */
+  public void flush() {
+    if (queued == 0) return;
+    Arrays.sort(drawOrder, 0, queued);
+    for (int i = 0; i < queued; i++) {
+      int index = (int) drawOrder[i];
+      int offset = index * 4;
+      count(regions[index]);
+      batch.draw(
+          regions[index],
+          bounds[offset],
+          bounds[offset + 1],
+          bounds[offset + 2],
+          bounds[offset + 3]);
+      regions[index] = null;
+    }
+    queued = 0;
+  }
+
+  /** Draw all queued sprites and end the batch. */
+  public void end() {
+    if (!batching) return;
+    flush();
+    batch.end();
+    renderCalls += batch.renderCalls;
+    batching = false;
+  }
+
   /**
    * Draw the given texture on the given point with the given configuration.
    *
    * <p>Will only draw the texture if it's in the frustum of the camera.
    *
+   * <p>If a batch was started with {@link #begin()}, the texture will be queued and drawn on the
+   * next {@link #flush()} or {@link #end()}.
+   *
    * @param position Position of the texture in the game world.
    * @param texturePath Path to the texture to draw.
    * @param config Painting configuration.
@@ -50,18 +126,107 @@ public class Painter {
     float realX = position.x + config.xOffset(); // including the drawOffset
     float realY = position.y + config.yOffset(); // including the drawOffset
     if (CameraSystem.isPointInFrustum(realX, realY)) {
-      Sprite sprite = new Sprite(TextureMap.instance().textureAt(texturePath));
-      // set up scaling of textures
-      sprite.setSize(config.xScaling(), config.yScaling());
-      // where to draw the sprite
-      sprite.setPosition(realX, realY);
-
-      // need to be called before drawing
-      batch.begin();
-      // draw sprite
-      sprite.draw(batch);
-      // need to be called after drawing
-      batch.end();
+      TextureRegion region = TextureMap.instance().regionAt(texturePath);
+      if (batching) queue(region, realX, realY, config.xScaling(), config.yScaling());
+      else {
+        count(region);
+        batch.begin();
+        batch.draw(region, realX, realY, config.xScaling(), config.yScaling());
+        batch.end();
+        renderCalls += batch.renderCalls;
+      }
     }
   }
+
+  /**
+   * Draw the visible chunks of the given static tile layer.
+   *
+   * <p>The layer is drawn immediately; if a batch was started with {@link #begin()}, the queued
+   * sprites are drawn first.
+   *
+   * @param layer The layer to draw.
+   * @param level The level to draw the static tiles of.
+   */
+  public void draw(final StaticTileLayer layer, final ILevel level) {
+    boolean wasBatching = batching;
+    end();
+    renderCalls += layer.draw(level, CameraSystem.camera());
+    // the layer uses its own textures
+    lastTexture = null;
+    if (wasBatching) begin();
+  }
+
+  /**
+   * Get the number of render calls (draw calls to OpenGL) since the last {@link
+   * #resetStatistics()}.
+   *
+   * @return Number of render calls.
+   */
+  public int renderCalls() {
+    return renderCalls;
+  }
+
+  /**
+   * Get the number of texture switches since the last {@link #resetStatistics()}.
+   *
+   * <p>A switch is counted each time a sprite is drawn with another texture than the previous one.
+   *
+   * @return Number of texture switches.
+   */
+  public int textureSwitches() {
+    return textureSwitches;
+  }
+
+  /**
+   * Get the number of drawn sprites since the last {@link #resetStatistics()}.
+   *
+   * <p>Sprites outside the frustum of the camera and the tiles of a {@link StaticTileLayer} are not
+   * counted.
+   *
+   * @return Number of drawn sprites.
+   */
+  public int spritesDrawn() {
+    return sprites;
+  }
+
+  /** Reset the render calls, texture switches and drawn sprites to zero. */
+  public void resetStatistics() {
+    renderCalls = 0;
+    textureSwitches = 0;
+    sprites = 0;
+  }
+
+  private void count(final TextureRegion region) {
+    sprites++;
+    if (region.getTexture() != lastTexture) {
+      textureSwitches++;
+      lastTexture = region.getTexture();
+    }
+  }
+
+  private void queue(
+      final TextureRegion region,
+      final float x,
+      final float y,
+      final float width,
+      final float height) {
+    if (queued == regions.length) grow();
+    int offset = queued * 4;
+    regions[queued] = region;
+    bounds[offset] = x;
+    bounds[offset + 1] = y;
+    bounds[offset + 2] = width;
+    bounds[offset + 3] = height;
+    // sort by texture first, keep the order of the draw calls for the same texture
+    long textureId = textureIds.computeIfAbsent(region.getTexture(), t -> textureIds.size());
+    drawOrder[queued] = (textureId << 32) | queued;
+    queued++;
+  }
+
+  private void grow() {
+    int capacity = regions.length * 2;
+    regions = Arrays.copyOf(regions, capacity);
+    bounds = Arrays.copyOf(bounds, capacity * 4);
+    drawOrder = Arrays.copyOf(drawOrder, capacity);
+  }
 }
@@ -1,6 +1,6 @@
 package core.utils.components.draw;
 
-import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import core.utils.components.path.IPath;
 
 /**
@@ -27,7 +27,7 @@ public final class PainterConfig {
    */
   public PainterConfig(final IPath texturePath, float xOffset, float yOffset) {
     // half the texture xOffset, yOffset is a quarter texture down
-    this(xOffset, yOffset, 1, TextureMap.instance().textureAt(texturePath));
+    this(xOffset, yOffset, 1, TextureMap.instance().regionAt(texturePath));
   }
 
   /**
@@ -38,7 +38,7 @@ public final class PainterConfig {
    * @param texturePath Path to the texture.
    */
   public PainterConfig(final IPath texturePath) {
-    this(TextureMap.instance().textureAt(texturePath));
+    this(TextureMap.instance().regionAt(texturePath));
   }
 
   private PainterConfig(float xOffset, float yOffset, float xScaling, float yScaling) {
@@ -48,11 +48,15 @@ public final class PainterConfig {
     this.yScaling = yScaling;
   }
 
-  private PainterConfig(float xOffset, float yOffset, float xScaling, final Texture texture) {
-    this(xOffset, yOffset, xScaling, ((float) texture.getHeight() / (float) texture.getWidth()));
+  private PainterConfig(float xOffset, float yOffset, float xScaling, final TextureRegion texture) {
+    this(
+        xOffset,
+        yOffset,
+        xScaling,
+        ((float) texture.getRegionHeight() / (float) texture.getRegionWidth()));
   }
 
-  private PainterConfig(Texture texture) {
+  private PainterConfig(TextureRegion texture) {
     this(0f, 0f, 1, texture);
   }
 
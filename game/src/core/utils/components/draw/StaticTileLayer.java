@@ -0,0 +1,206 @@
+package core.utils.components.draw;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.g2d.SpriteCache;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import core.level.Tile;
+import core.level.elements.ILevel;
+import core.level.elements.tile.DoorTile;
+import core.level.utils.LevelElement;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Pre-baked layer of the tiles of a level that do not change their look while the level is played.
+ *
+ * <p>The level is split into chunks of {@link #CHUNK_SIZE} x {@link #CHUNK_SIZE} tiles. The
+ * vertices of each chunk are stored once on the GPU in a {@link SpriteCache}, so drawing the level
+ * needs no work per tile; only the chunks that are visible to the camera are drawn.
+ *
+ * <p>If a tile of the level is replaced (see {@link ILevel#changeTileElementType(Tile,
+ * LevelElement)}) or changes its texture, the layer is notified over {@link
+ * ILevel#addTileChangeListener(Consumer)} and only rebuilds the chunk of that tile on the next
+ * draw. If another level is drawn, the whole layer is rebuilt and stops listening to the old level.
+ *
+ * <p>{@link DoorTile}s change their look if they are opened or closed; they are not part of this
+ * layer and have to be drawn each frame (see {@link #isStatic(Tile)}).
+ *
+ * <p>Needs a running libGDX application, the GPU resources are created on the first draw.
+ *
+ * @see Painter#draw(StaticTileLayer, ILevel)
+ */
+public final class StaticTileLayer {
+  /** Width and height of a chunk in tiles. */
+  public static final int CHUNK_SIZE = 16;
+
+  private static final int TILES_PER_CHUNK = CHUNK_SIZE * CHUNK_SIZE;
+
+  private final Function<Tile, PainterConfig> configs;
+  private final Consumer<Tile> tileChangeListener = this::tileChanged;
+  private final BoundingBox chunkBounds = new BoundingBox();
+  private final Vector3 chunkMin = new Vector3();
+  private final Vector3 chunkMax = new Vector3();
+  private SpriteCache cache;
+  private int capacity = 0;
+  private ILevel level;
+  private Tile[][] layout;
+  private int chunksX;
+  private int chunksY;
+  private int[] cacheIds = new int[0];
+  private boolean[] dirty = new boolean[0];
+  private boolean anyDirty = false;
+
+  /**
+   * Create a new, empty layer.
+   *
+   * @param configs Function that returns the painting configuration for the given tile.
+   */
+  public StaticTileLayer(final Function<Tile, PainterConfig> configs) {
+    this.configs = configs;
+  }
+
+  /**
+   * Check if the given tile is part of this layer.
+   *
+   * @param tile Tile to check.
+   * @return true if the tile is drawn by the layer, false if it has to be drawn each frame.
+   */
+  public static boolean isStatic(final Tile tile) {
+    return tile.levelElement() != LevelElement.SKIP && !(tile instanceof DoorTile);
+  }
+
+  /**
+   * Draw the visible chunks of the given level.
+   *
+   * <p>Will (re-)build the chunks if needed.
+   *
+   * @param level Level to draw.
+   * @param camera Camera to draw with.
+   * @return Number of render calls that were needed to draw the layer.
+   */
+  public int draw(final ILevel level, final Camera camera) {
+    if (level != this.level || level.layout() != layout) rebuild(level);
+    else if (anyDirty) rebuildDirtyChunks();
+    if (cache == null) return 0;
+
+    cache.setProjectionMatrix(camera.combined);
+    Gdx.gl.glEnable(GL20.GL_BLEND);
+    Gdx.gl.glBlendFunc(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
+    cache.begin();
+    for (int chunkY = 0; chunkY < chunksY; chunkY++)
+      for (int chunkX = 0; chunkX < chunksX; chunkX++) {
+        int chunk = chunkY * chunksX + chunkX;
+        if (cacheIds[chunk] >= 0 && isVisible(chunkX, chunkY, camera))
+          cache.draw(cacheIds[chunk]);
+      }
+    cache.end();
+    Gdx.gl.glDisable(GL20.GL_BLEND);
+    return cache.renderCalls;
+  }
+
+  /** Release the GPU resources of this layer. */
+  public void dispose() {
+    if (cache != null) cache.dispose();
+    cache = null;
+    capacity = 0;
+    if (level != null) level.removeTileChangeListener(tileChangeListener);
+    level = null;
+    layout = null;
+  }
+
+  private void tileChanged(final Tile tile) {
+    if (layout == null) return;
+    int chunk =
+        (tile.coordinate().y / CHUNK_SIZE) * chunksX + (tile.coordinate().x / CHUNK_SIZE);
+    if (chunk < 0 || chunk >= dirty.length) return;
+    dirty[chunk] = true;
+    anyDirty = true;
+  }
+
+  private void rebuild(final ILevel newLevel) {
+    if (level != null) level.removeTileChangeListener(tileChangeListener);
+    level = newLevel;
+    layout = newLevel.layout();
+    newLevel.addTileChangeListener(tileChangeListener);
+    chunksY = (layout.length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    chunksX = layout.length == 0 ? 0 : (layout[0].length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    cacheIds = new int[chunksX * chunksY];
+    dirty = new boolean[chunksX * chunksY];
+    anyDirty = false;
+    Arrays.fill(cacheIds, -1);
+
+    TextureRegion padding = firstStaticRegion();
+    if (padding == null) return;
+    int needed = cacheIds.length * TILES_PER_CHUNK;
+    if (cache == null || needed > capacity) {
+      if (cache != null) cache.dispose();
+      cache = new SpriteCache(needed, false);
+      capacity = needed;
+    } else cache.clear();
+
+    for (int chunkY = 0; chunkY < chunksY; chunkY++)
+      for (int chunkX = 0; chunkX < chunksX; chunkX++) {
+        cache.beginCache();
+        int added = addTiles(chunkX, chunkY);
+        // reserve room for each tile of the chunk, so a rebuild of the chunk fits in later
+        for (int i = added; i < TILES_PER_CHUNK; i++) cache.add(padding, 0, 0, 0, 0);
+        cacheIds[chunkY * chunksX + chunkX] = cache.endCache();
+      }
+  }
+
+  private void rebuildDirtyChunks() {
+    anyDirty = false;
+    if (cache == null) {
+      // the layer was empty, maybe there is something to draw now
+      rebuild(level);
+      return;
+    }
+    for (int chunk = 0; chunk < dirty.length; chunk++) {
+      if (!dirty[chunk]) continue;
+      dirty[chunk] = false;
+      cache.beginCache(cacheIds[chunk]);
+      addTiles(chunk % chunksX, chunk / chunksX);
+      cache.endCache();
+    }
+  }
+
+  private int addTiles(final int chunkX, final int chunkY) {
+    int added = 0;
+    int maxY = Math.min(layout.length, (chunkY + 1) * CHUNK_SIZE);
+    int maxX = Math.min(layout[0].length, (chunkX + 1) * CHUNK_SIZE);
+    for (int y = chunkY * CHUNK_SIZE; y < maxY; y++)
+      for (int x = chunkX * CHUNK_SIZE; x < maxX; x++) {
+        Tile tile = layout[y][x];
+        if (!isStatic(tile)) continue;
+        PainterConfig config = configs.apply(tile);
+        cache.add(
+            TextureMap.instance().regionAt(tile.texturePath()),
+            tile.position().x + config.xOffset(),
+            tile.position().y + config.yOffset(),
+            config.xScaling(),
+            config.yScaling());
+        added++;
+      }
+    return added;
+  }
+
+  private TextureRegion firstStaticRegion() {
+    for (Tile[] row : layout)
+      for (Tile tile : row)
+        if (isStatic(tile)) return TextureMap.instance().regionAt(tile.texturePath());
+    return null;
+  }
+
+  private boolean isVisible(final int chunkX, final int chunkY, final Camera camera) {
+    // one tile of margin, tiles can be drawn higher than one tile
+    chunkMin.set(chunkX * CHUNK_SIZE - 1, chunkY * CHUNK_SIZE - 1, 0);
+    chunkMax.set((chunkX + 1) * CHUNK_SIZE + 1, (chunkY + 1) * CHUNK_SIZE + 1, 0);
+    chunkBounds.set(chunkMin, chunkMax);
+    return camera.frustum.boundsInFrustum(chunkBounds);
+  }
+}
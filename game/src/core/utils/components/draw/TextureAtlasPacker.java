@@ -0,0 +1,130 @@
+package core.utils.components.draw;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.PixmapPackerIO;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import core.utils.components.path.AssetIndex;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * Packs the sprites of the game into a {@link TextureAtlas}.
+ *
+ * <p>All PNG files of the {@link AssetIndex} that are not larger than {@link #MAX_SPRITE_SIZE} are
+ * packed into a few large pages. If the sprites are drawn from the atlas, the {@link
+ * com.badlogic.gdx.graphics.g2d.SpriteBatch} rarely needs to switch textures, so most of a frame
+ * can be drawn in a single draw call. Larger images (e.g. HUD backgrounds or skins) stay standalone
+ * textures.
+ *
+ * <p>Packing takes some time, so the atlas is stored in the local {@link #CACHE_DIRECTORY}. On the
+ * next start, the cached atlas is loaded if the assets did not change since then. The assets count
+ * as changed if any PNG file was added, removed or edited (see {@link AssetIndex.Asset}).
+ *
+ * <p>Needs a running libGDX application, call {@link #loadOrPack()} on the render thread.
+ *
+ * @see TextureMap#regionAt(core.utils.components.path.IPath)
+ */
+public final class TextureAtlasPacker {
+  /** Local directory (relative to the working directory) to store the packed atlas in. */
+  public static final String CACHE_DIRECTORY = ".atlas-cache";
+
+  /** Images with a larger width or height will not be packed. */
+  public static final int MAX_SPRITE_SIZE = 128;
+
+  private static final Logger LOGGER = Logger.getLogger(TextureAtlasPacker.class.getSimpleName());
+  private static final int PAGE_SIZE = 2048;
+  private static final int PADDING = 2;
+  private static final String ATLAS_FILE = "sprites.atlas";
+  private static final String FINGERPRINT_FILE = "sprites.fingerprint";
+
+  private TextureAtlasPacker() {}
+
+  /**
+   * Load the cached sprite atlas, or pack a new one if the assets changed.
+   *
+   * @return The atlas, or an empty Optional if the atlas could not be created. In that case, all
+   *     sprites should be loaded as standalone textures.
+   */
+  public static Optional<TextureAtlas> loadOrPack() {
+    return loadOrPack(Gdx.files.local(CACHE_DIRECTORY));
+  }
+
+  /**
+   * Load the sprite atlas cached in the given directory, or pack a new one if the assets changed.
+   *
+   * @param cacheDirectory Directory to store the atlas in.
+   * @return The atlas, or an empty Optional if the atlas could not be created. In that case, all
+   *     sprites should be loaded as standalone textures.
+   */
+  public static Optional<TextureAtlas> loadOrPack(final FileHandle cacheDirectory) {
+    List<String> sprites =
+        AssetIndex.assets().keySet().stream().filter(path -> path.endsWith(".png")).toList();
+    String fingerprint = fingerprint(sprites);
+    FileHandle atlasFile = cacheDirectory.child(ATLAS_FILE);
+    FileHandle fingerprintFile = cacheDirectory.child(FINGERPRINT_FILE);
+    try {
+      if (!atlasFile.exists()
+          || !fingerprintFile.exists()
+          || !fingerprintFile.readString(StandardCharsets.UTF_8.name()).equals(fingerprint)) {
+        pack(sprites, cacheDirectory, atlasFile);
+        fingerprintFile.writeString(fingerprint, false, StandardCharsets.UTF_8.name());
+      }
+      return Optional.of(new TextureAtlas(atlasFile));
+    } catch (IOException | GdxRuntimeException e) {
+      LOGGER.warning("Could not create the sprite atlas: " + e.getMessage());
+      return Optional.empty();
+    }
+  }
+
+  private static void pack(
+      final List<String> sprites, final FileHandle cacheDirectory, final FileHandle atlasFile)
+      throws IOException {
+    cacheDirectory.mkdirs();
+    cacheDirectory.emptyDirectory();
+    PixmapPacker packer =
+        new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888, PADDING, false);
+    try {
+      int packed = 0;
+      for (String sprite : sprites) {
+        try {
+          Pixmap pixmap = new Pixmap(Gdx.files.internal(sprite));
+          if (pixmap.getWidth() <= MAX_SPRITE_SIZE && pixmap.getHeight() <= MAX_SPRITE_SIZE) {
+            packer.pack(sprite, pixmap);
+            packed++;
+          }
+          pixmap.dispose();
+        } catch (GdxRuntimeException e) {
+          LOGGER.warning("Could not pack " + sprite + ": " + e.getMessage());
+        }
+      }
+      new PixmapPackerIO().save(atlasFile, packer);
+      LOGGER.info(
+          "Packed " + packed + " sprites into " + packer.getPages().size + " atlas pages.");
+    } finally {
+      packer.dispose();
+    }
+  }
+
+  private static String fingerprint(final List<String> sprites) {
+    CRC32 crc = new CRC32();
+    String settings = MAX_SPRITE_SIZE + ":" + PAGE_SIZE + ":" + PADDING;
+    crc.update(settings.getBytes(StandardCharsets.UTF_8));
+    Map<String, AssetIndex.Asset> assets = AssetIndex.assets();
+    for (String sprite : sprites) {
+      AssetIndex.Asset asset = assets.get(sprite);
+      String identity =
+          sprite + ":" + asset.size() + ":" + asset.lastModified() + ":" + asset.crc() + "\n";
+      crc.update(identity.getBytes(StandardCharsets.UTF_8));
+    }
+    return Long.toHexString(crc.getValue());
+  }
+}
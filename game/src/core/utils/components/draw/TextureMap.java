@@ -1,8 +1,11 @@
 package core.utils.components.draw;
 
 import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import core.utils.components.path.IPath;
 import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Maps Paths to libGDX {@link Texture}s, to reduce unnecessary loading of textures.
@@ -10,11 +13,19 @@ import java.util.HashMap;
  * <p>Use {@link #instance()} to get the only instance of the {@link TextureMap}, and use {@link
  * #textureAt(IPath)} to get the texture that is stored at the given path.
  *
+ * <p>Use {@link #regionAt(IPath)} to get the sprite at the given path as {@link TextureRegion}. If
+ * a {@link TextureAtlas} is set via {@link #useAtlas(TextureAtlas)}, the region is taken from the
+ * atlas, so sprites from the atlas share their texture.
+ *
  * @see Painter
+ * @see TextureAtlasPacker
  */
 public final class TextureMap extends HashMap<String, Texture> {
   private static final TextureMap INSTANCE = new TextureMap();
 
+  private final Map<String, TextureRegion> regions = new HashMap<>();
+  private TextureAtlas atlas;
+
   /**
    * Get the instance of the TextureMap.
    *
@@ -43,4 +54,35 @@ public final class TextureMap extends HashMap<String, Texture> {
 
     return get(path.pathString());
   }
+
+  /**
+   * Set the atlas to look up the regions in.
+   *
+   * <p>Regions that were already looked up will be looked up again.
+   *
+   * @param atlas The atlas with the packed sprites, or null to use standalone textures only.
+   */
+  public void useAtlas(final TextureAtlas atlas) {
+    this.atlas = atlas;
+    regions.clear();
+  }
+
+  /**
+   * Get the sprite at the given path as region.
+   *
+   * <p>If the sprite is part of the atlas, the region of the atlas is returned. Otherwise, the
+   * region covers the whole texture from {@link #textureAt(IPath)}.
+   *
+   * @param path Path to the sprite.
+   * @return The region of the sprite.
+   */
+  public TextureRegion regionAt(final IPath path) {
+    TextureRegion region = regions.get(path.pathString());
+    if (region == null) {
+      if (atlas != null) region = atlas.findRegion(path.pathString());
+      if (region == null) region = new TextureRegion(textureAt(path));
+      regions.put(path.pathString(), region);
+    }
+    return region;
+  }
 }
@@ -0,0 +1,127 @@
+package core.utils.components.path;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Index of all asset files on the classpath.
+ *
+ * <p>The index is created once, on the first access, by scanning each entry of the classpath. If
+ * the game runs from a JAR, the entries of the JAR are read; if it runs from the IDE (or over the
+ * shell), the asset directories are walked. Class files and the packages of libraries are ignored.
+ *
+ * <p>Use {@link #assets()} to get all indexed asset paths (e.g. "character/knight/idle/idle_1.png")
+ * and their {@link Asset} info, or {@link #assetsIn(String)} to get the paths inside a directory.
+ *
+ * <p>This class is thread-safe.
+ */
+public final class AssetIndex {
+  private static final Logger LOGGER = Logger.getLogger(AssetIndex.class.getSimpleName());
+
+  /** Paths starting with one of these prefixes belong to libraries, not to the game assets. */
+  private static final List<String> IGNORED_PREFIXES =
+      List.of("META-INF/", "com/", "org/", "net/", "javax/", "junit/", "mockito/");
+
+  private static Map<String, Asset> assets;
+
+  private AssetIndex() {}
+
+  /**
+   * Identity of the content of an asset file.
+   *
+   * <p>If an asset file is edited, at least one of the values changes, so the values can be used to
+   * detect outdated caches (e.g. of the {@link core.utils.components.draw.TextureAtlasPacker}).
+   *
+   * @param size File size in bytes.
+   * @param lastModified Time of the last modification (of the file or the JAR entry) in
+   *     milliseconds, or -1 if unknown.
+   * @param crc CRC-32 of the content as stored in the JAR, or -1 if unknown (e.g. for files in a
+   *     directory).
+   */
+  public record Asset(long size, long lastModified, long crc) {}
+
+  /**
+   * Get all indexed asset files.
+   *
+   * <p>Scans the classpath on the first call.
+   *
+   * @return Unmodifiable map of the asset paths (separated by "/") to their {@link Asset} info,
+   *     sorted by the path.
+   */
+  public static synchronized Map<String, Asset> assets() {
+    if (assets == null) assets = Collections.unmodifiableMap(scan());
+    return assets;
+  }
+
+  /**
+   * Get the paths of all asset files inside the given directory (including subdirectories).
+   *
+   * @param directory Path of the directory, e.g. "character/knight".
+   * @return Sorted stream of the asset paths inside the directory.
+   */
+  public static Stream<String> assetsIn(final String directory) {
+    String prefix = directory.endsWith("/") ? directory : directory + "/";
+    return assets().keySet().stream().filter(path -> path.startsWith(prefix));
+  }
+
+  private static Map<String, Asset> scan() {
+    Map<String, Asset> found = new TreeMap<>();
+    for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+      File file = new File(entry);
+      try {
+        if (file.isDirectory()) scanDirectory(file.toPath(), found);
+        else if (file.isFile() && entry.endsWith(".jar")) scanJar(file, found);
+      } catch (IOException e) {
+        LOGGER.warning("Could not index assets in " + entry + ": " + e.getMessage());
+      }
+    }
+    LOGGER.info("Indexed " + found.size() + " asset files.");
+    return found;
+  }
+
+  private static void scanDirectory(final Path root, final Map<String, Asset> found)
+      throws IOException {
+    try (Stream<Path> files = Files.walk(root)) {
+      files
+          .filter(Files::isRegularFile)
+          .forEach(
+              file -> {
+                String path = root.relativize(file).toString().replace(File.separatorChar, '/');
+                if (isAsset(path)) {
+                  File asset = file.toFile();
+                  found.putIfAbsent(path, new Asset(asset.length(), asset.lastModified(), -1));
+                }
+              });
+    }
+  }
+
+  private static void scanJar(final File jarFile, final Map<String, Asset> found)
+      throws IOException {
+    try (JarFile jar = new JarFile(jarFile)) {
+      Enumeration<JarEntry> entries = jar.entries();
+      while (entries.hasMoreElements()) {
+        JarEntry entry = entries.nextElement();
+        if (!entry.isDirectory() && isAsset(entry.getName()))
+          found.putIfAbsent(
+              entry.getName(), new Asset(entry.getSize(), entry.getTime(), entry.getCrc()));
+      }
+    }
+  }
+
+  private static boolean isAsset(final String path) {
+    if (path.endsWith(".class") || path.endsWith(".java")) return false;
+    for (String prefix : IGNORED_PREFIXES) if (path.startsWith(prefix)) return false;
+    return true;
+  }
+}
@@ -0,0 +1,98 @@
+package dsl.binding;
+
+import dsl.annotation.DSLCallback;
+import dsl.annotation.DSLContextMember;
+import dsl.annotation.DSLType;
+import dsl.annotation.DSLTypeAdapter;
+import dsl.annotation.DSLTypeMember;
+import dsl.annotation.DSLTypeNameMember;
+import java.util.List;
+
+/**
+ * Binding of a Java class to the DSL, which is generated at compile time.
+ *
+ * <p>The annotation processor in the `processor` project generates a binding for each class
+ * annotated with {@link DSLType} and for each class, which contains methods annotated with {@link
+ * DSLTypeAdapter}. The binding contains the table of the member fields of the class and calls the
+ * constructor and the adapter methods of the class directly, so the DSL does not need to look up
+ * and invoke them by reflection.
+ *
+ * <p>The generated class is placed in the package of the bound class and named after the bound
+ * class (the names of enclosing classes are joined with `_`) with the suffix {@link #SUFFIX}. Use
+ * {@link DSLTypeBindings#get(Class)} to look up the binding of a class.
+ */
+public interface DSLTypeBinding {
+  /** Suffix of the name of a generated binding class. */
+  String SUFFIX = "_DSLBinding";
+
+  /**
+   * Get the bound class.
+   *
+   * @return the class this binding was generated for
+   */
+  Class<?> type();
+
+  /**
+   * Get the names of the fields, which are marked with {@link DSLTypeMember}, {@link
+   * DSLTypeNameMember} or {@link DSLCallback}.
+   *
+   * @return the names of the member fields in declaration order
+   */
+  default List<String> memberFields() {
+    return List.of();
+  }
+
+  /**
+   * Check, if the bound class can be instantiated with {@link #newInstance(Object[])}.
+   *
+   * @return true, if the binding calls a constructor of the class
+   */
+  default boolean isInstantiable() {
+    return false;
+  }
+
+  /**
+   * Get the names of the context members, which are passed to the constructor of a class (see
+   * {@link DSLContextMember}). The constructor of a record is called with the values of its
+   * {@link #memberFields()} instead.
+   *
+   * @return the names of the context members in the order of the constructor parameters
+   */
+  default List<String> constructorContextMembers() {
+    return List.of();
+  }
+
+  /**
+   * Create a new instance of the bound class.
+   *
+   * @param arguments the values of the constructor parameters
+   * @return the new instance
+   */
+  default Object newInstance(Object[] arguments) {
+    throw new UnsupportedOperationException(type().getName() + " can not be instantiated");
+  }
+
+  /**
+   * Check, if the binding calls the adapter method with the passed name and number of parameters.
+   * Overloaded adapter methods with the same number of parameters are not bound.
+   *
+   * @param methodName the name of the adapter method
+   * @param parameterCount the number of parameters of the adapter method
+   * @return true, if {@link #invokeAdapter(String, Object[])} calls the method
+   */
+  default boolean hasAdapter(String methodName, int parameterCount) {
+    return false;
+  }
+
+  /**
+   * Call a static method of the bound class, which is annotated with {@link DSLTypeAdapter}.
+   *
+   * @param methodName the name of the adapter method
+   * @param arguments the values of the method parameters
+   * @return the object created by the adapter method
+   */
+  default Object invokeAdapter(String methodName, Object[] arguments) {
+    throw new UnsupportedOperationException(
+        "No adapter method " + methodName + " with " + arguments.length + " parameters");
+  }
+}
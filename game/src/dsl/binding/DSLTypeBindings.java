@@ -0,0 +1,106 @@
+package dsl.binding;
+
+import dsl.annotation.DSLCallback;
+import dsl.annotation.DSLTypeMember;
+import dsl.annotation.DSLTypeNameMember;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lookup of the generated {@link DSLTypeBinding}s.
+ *
+ * <p>The binding of a class and the member fields of a class are looked up once and cached. If no
+ * binding was generated for a class (e.g. if the annotation processor did not run), the member
+ * fields are found by scanning the declared fields of the class. The same applies to bindings,
+ * which fail to load (e.g. because they were generated for an outdated version of the class).
+ */
+public final class DSLTypeBindings {
+  private static final Map<Class<?>, Optional<DSLTypeBinding>> BINDINGS =
+      new ConcurrentHashMap<>();
+  private static final Map<Class<?>, Field[]> MEMBER_FIELDS = new ConcurrentHashMap<>();
+
+  private DSLTypeBindings() {}
+
+  /**
+   * Get the generated binding of a class.
+   *
+   * @param clazz the bound class
+   * @return the binding of the class, or an empty Optional if no binding was generated
+   */
+  public static Optional<DSLTypeBinding> get(final Class<?> clazz) {
+    return BINDINGS.computeIfAbsent(clazz, DSLTypeBindings::load);
+  }
+
+  /**
+   * Get the fields of a class, which are marked with {@link DSLTypeMember}, {@link
+   * DSLTypeNameMember} or {@link DSLCallback}.
+   *
+   * <p>The fields are made accessible, if possible.
+   *
+   * @param clazz the class to get the fields from
+   * @return the member fields in declaration order
+   */
+  public static Field[] memberFields(final Class<?> clazz) {
+    return MEMBER_FIELDS.computeIfAbsent(clazz, DSLTypeBindings::findMemberFields);
+  }
+
+  /**
+   * Get the fully qualified name of the generated binding class for a class.
+   *
+   * @param clazz the bound class
+   * @return the name of the binding class
+   */
+  public static String bindingClassName(final Class<?> clazz) {
+    String packageName = clazz.getPackageName();
+    String className =
+        packageName.isEmpty() ? clazz.getName() : clazz.getName().substring(packageName.length());
+    return packageName + className.replace('$', '_') + DSLTypeBinding.SUFFIX;
+  }
+
+  private static Optional<DSLTypeBinding> load(final Class<?> clazz) {
+    try {
+      Class<?> bindingClass = Class.forName(bindingClassName(clazz), true, clazz.getClassLoader());
+      if (!DSLTypeBinding.class.isAssignableFrom(bindingClass)) {
+        return Optional.empty();
+      }
+      return Optional.of((DSLTypeBinding) bindingClass.getDeclaredConstructor().newInstance());
+    } catch (ReflectiveOperationException | LinkageError e) {
+      // a binding that cannot be loaded or initialized is treated like a missing binding
+      return Optional.empty();
+    }
+  }
+
+  private static Field[] findMemberFields(final Class<?> clazz) {
+    List<Field> fields = new ArrayList<>();
+    Optional<DSLTypeBinding> binding = get(clazz);
+    if (binding.isPresent()) {
+      for (String fieldName : binding.get().memberFields()) {
+        try {
+          fields.add(clazz.getDeclaredField(fieldName));
+        } catch (NoSuchFieldException e) {
+          // the binding is outdated, scan the class instead
+          fields.clear();
+          binding = Optional.empty();
+          break;
+        }
+      }
+    }
+    if (binding.isEmpty()) {
+      for (Field field : clazz.getDeclaredFields()) {
+        if (field.isAnnotationPresent(DSLTypeMember.class)
+            || field.isAnnotationPresent(DSLTypeNameMember.class)
+            || field.isAnnotationPresent(DSLCallback.class)) {
+          fields.add(field);
+        }
+      }
+    }
+    for (Field field : fields) {
+      field.trySetAccessible();
+    }
+    return fields.toArray(new Field[0]);
+  }
+}
@@ -0,0 +1,79 @@
+package core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import core.game.ECSManagment;
+import org.junit.After;
+import org.junit.Test;
+
+public class EntityIdsTest {
+
+  @After
+  public void cleanup() {
+    Game.removeAllEntities();
+    ECSManagment.releaseIds();
+  }
+
+  @Test
+  public void newEntity_getsNewId() {
+    Entity entity = new Entity();
+    assertTrue(entity.id() < EntityIds.capacity());
+    assertTrue(EntityIds.isAlive(entity));
+    assertEquals("_" + entity.id(), entity.toString());
+  }
+
+  @Test
+  public void release_idIsReused() {
+    Entity entity = new Entity();
+    int id = entity.id();
+    EntityIds.release(entity);
+    assertFalse(EntityIds.isAlive(entity));
+
+    Entity next = new Entity();
+    assertEquals(id, next.id());
+    assertEquals(entity.generation() + 1, next.generation());
+    assertTrue(EntityIds.isAlive(next));
+    assertFalse(EntityIds.isAlive(entity));
+  }
+
+  @Test
+  public void releaseIds_releasesRemovedEntities() {
+    Entity entity = new Entity();
+    Game.add(entity);
+    Game.remove(entity);
+    assertTrue("ids are released at the end of the frame", EntityIds.isAlive(entity));
+
+    ECSManagment.releaseIds();
+    assertFalse(EntityIds.isAlive(entity));
+    assertEquals(entity.id(), new Entity().id());
+  }
+
+  @Test
+  public void releaseIds_keepsReaddedEntities() {
+    Entity entity = new Entity();
+    Game.add(entity);
+    Game.remove(entity);
+    Game.add(entity);
+    ECSManagment.releaseIds();
+    assertTrue(EntityIds.isAlive(entity));
+    assertTrue(Game.entityStream().anyMatch(e -> e == entity));
+  }
+
+  @Test
+  public void add_renewsReleasedId() {
+    Entity entity = new Entity();
+    Game.add(entity);
+    Game.remove(entity);
+    ECSManagment.releaseIds();
+    Entity other = new Entity();
+    Game.add(other);
+
+    Game.add(entity);
+    assertTrue(EntityIds.isAlive(entity));
+    assertNotEquals(other.id(), entity.id());
+    assertEquals(2, Game.entityStream().count());
+  }
+}
@@ -0,0 +1,98 @@
+package core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import core.components.PositionComponent;
+import core.game.ECSManagment;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Test;
+
+public class EntityPoolTest {
+  private final List<Entity> resets = new ArrayList<>();
+
+  @After
+  public void cleanup() {
+    Game.removeAllEntities();
+    ECSManagment.releaseIds();
+  }
+
+  private EntityPool pool(int capacity) {
+    return new EntityPool(
+        () -> {
+          Entity entity = new Entity("pooled");
+          entity.add(new PositionComponent());
+          return entity;
+        },
+        resets::add,
+        capacity);
+  }
+
+  @Test
+  public void obtain_emptyPool_createsEntity() {
+    EntityPool pool = pool(2);
+    Entity first = pool.obtain();
+    Entity second = pool.obtain();
+    assertNotSame(first, second);
+    assertTrue(first.isPresent(PositionComponent.class));
+    assertEquals(0, pool.size());
+  }
+
+  @Test
+  public void remove_returnsEntityAtEndOfFrame() {
+    EntityPool pool = pool(2);
+    Entity entity = pool.obtain();
+    int id = entity.id();
+    Game.add(entity);
+    Game.remove(entity);
+    assertEquals("entities return at the end of the frame", 0, pool.size());
+
+    ECSManagment.releaseIds();
+    assertEquals(1, pool.size());
+    assertEquals(List.of(entity), resets);
+    assertTrue(EntityIds.isAlive(entity));
+
+    Entity reused = pool.obtain();
+    assertSame(entity, reused);
+    assertEquals(id, reused.id());
+    Game.add(reused);
+    assertTrue(Game.entityStream().anyMatch(e -> e == reused));
+  }
+
+  @Test
+  public void remove_readdedEntity_staysInGame() {
+    EntityPool pool = pool(2);
+    Entity entity = pool.obtain();
+    Game.add(entity);
+    Game.remove(entity);
+    Game.add(entity);
+    ECSManagment.releaseIds();
+    assertEquals(0, pool.size());
+    assertTrue(resets.isEmpty());
+  }
+
+  @Test
+  public void remove_fullPool_releasesId() {
+    EntityPool pool = pool(1);
+    Entity first = pool.obtain();
+    Entity second = pool.obtain();
+    Game.add(first);
+    Game.add(second);
+    Game.remove(first);
+    Game.remove(second);
+    ECSManagment.releaseIds();
+    assertEquals(1, pool.size());
+    assertFalse(EntityIds.isAlive(first) && EntityIds.isAlive(second));
+  }
+
+  @Test
+  public void recycle_notPooled() {
+    Entity entity = new Entity();
+    assertFalse(EntityPool.recycle(entity));
+  }
+}
@@ -44,28 +44,38 @@ public class EntityTest {
   }
 
   @Test
-  public void compareToLowerID() {
+  public void compareToCreatedEarlier() {
     Entity entity1 = new Entity();
     Entity entity2 = new Entity();
-    assertTrue(
-        "Entity which gets created earlier should have a lower id.", entity1.id() < entity2.id());
     assertTrue(
         "Entity which gets created earlier should return negative number.",
         entity1.compareTo(entity2) < 0);
   }
 
   @Test
-  public void compareToHigherID() {
+  public void compareToCreatedLater() {
     Entity entity1 = new Entity();
     Entity entity2 = new Entity();
-
-    assertTrue(
-        "Entity which gets created later should have a higher id.", entity2.id() > entity1.id());
     assertTrue(
         "Entity which gets created later should return a number higher then 0.",
         entity2.compareTo(entity1) > 0);
   }
 
+  @Test
+  public void compareToReusedID() {
+    Entity first = new Entity();
+    Entity second = new Entity();
+    EntityIds.release(first);
+    EntityIds.release(second);
+    // the most recently released id is reused first
+    Entity third = new Entity();
+    Entity fourth = new Entity();
+    assertEquals(second.id(), third.id());
+    assertEquals(first.id(), fourth.id());
+    assertTrue(third.compareTo(fourth) < 0);
+    assertTrue(second.compareTo(third) < 0);
+  }
+
   /** Gets called after each @Test and cleans up any Entity left in game. */
   @After
   public void tearDown() {
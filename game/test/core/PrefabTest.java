@@ -0,0 +1,95 @@
+package core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import core.components.DrawComponent;
+import core.components.PositionComponent;
+import core.components.VelocityComponent;
+import core.utils.Point;
+import core.utils.components.draw.Animation;
+import core.utils.components.draw.CoreAnimations;
+import core.utils.components.path.SimpleIPath;
+import java.util.List;
+import org.junit.Test;
+
+public class PrefabTest {
+
+  @Test
+  public void spawn_copiesComponents() {
+    Entity template = new Entity("template");
+    template.add(new PositionComponent(new Point(1, 2)));
+    template.add(new VelocityComponent(3, 4));
+    Prefab prefab = Prefab.of(template);
+
+    Entity first = prefab.spawn();
+    Entity second = prefab.spawn();
+    assertEquals("template", prefab.name());
+    assertTrue(first.toString().startsWith("template"));
+    assertEquals(2, first.componentStream().count());
+    VelocityComponent firstVelocity = first.fetch(VelocityComponent.class).orElseThrow();
+    VelocityComponent secondVelocity = second.fetch(VelocityComponent.class).orElseThrow();
+    assertNotSame(firstVelocity, secondVelocity);
+    assertEquals(3, secondVelocity.xVelocity(), 0.001f);
+
+    firstVelocity.xVelocity(10);
+    first.fetch(PositionComponent.class).orElseThrow().position(new Point(5, 5));
+    VelocityComponent thirdVelocity = prefab.spawn().fetch(VelocityComponent.class).orElseThrow();
+    assertEquals(3, thirdVelocity.xVelocity(), 0.001f);
+    assertEquals(1, second.fetch(PositionComponent.class).orElseThrow().position().x, 0.001f);
+  }
+
+  @Test
+  public void spawn_sharesAnimationFrames() {
+    Animation idle = Animation.fromCollection(List.of(new SimpleIPath("a"), new SimpleIPath("b")));
+    Entity template = new Entity();
+    template.add(new DrawComponent(idle));
+    Prefab prefab = Prefab.of(template);
+
+    DrawComponent first = prefab.spawn().fetch(DrawComponent.class).orElseThrow();
+    DrawComponent second = prefab.spawn().fetch(DrawComponent.class).orElseThrow();
+    assertNotSame(first.currentAnimation(), second.currentAnimation());
+    assertSame(
+        first.animation(CoreAnimations.IDLE_LEFT).orElseThrow(),
+        first.animation(CoreAnimations.IDLE_RIGHT).orElseThrow());
+    assertSame(first.currentAnimation(), first.animation(CoreAnimations.IDLE_LEFT).orElseThrow());
+
+    // the default animation shows each frame for 5 frames
+    for (int i = 0; i < 6; i++) first.currentAnimation().nextAnimationTexturePath();
+    assertEquals("b", first.currentAnimation().nextAnimationTexturePath().pathString());
+    assertEquals("a", second.currentAnimation().nextAnimationTexturePath().pathString());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void of_componentNotCopyable() {
+    Entity template = new Entity();
+    template.add(new PositionComponent());
+    template.add(new Component() {});
+    assertFalse(Prefab.isCopyable(template));
+    Prefab.of(template);
+  }
+
+  @Test
+  public void register_buildsTemplateOnce() {
+    int[] built = {0};
+    Prefab.register(
+        "PrefabTest",
+        () -> {
+          built[0]++;
+          Entity template = new Entity("registered");
+          template.add(new PositionComponent());
+          return template;
+        });
+    assertEquals(0, built[0]);
+
+    Entity first = Prefab.spawn("PrefabTest");
+    Entity second = Prefab.spawn("PrefabTest");
+    assertEquals(1, built[0]);
+    assertNotSame(first, second);
+    assertTrue(second.isPresent(PositionComponent.class));
+    assertTrue(Prefab.get("unknown").isEmpty());
+  }
+}
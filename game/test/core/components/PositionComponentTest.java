@@ -1,6 +1,7 @@
 package core.components;
 
 import static junit.framework.TestCase.assertTrue;
+import static org.junit.Assert.assertEquals;
 
 import core.utils.Point;
 import org.junit.Before;
@@ -23,4 +24,28 @@ public class PositionComponentTest {
     positionComponent.position(newPoint);
     assertTrue(newPoint.equals(positionComponent.position()));
   }
+
+  @Test
+  public void interpolatedPosition() {
+    positionComponent.position(new Point(1, 1));
+    positionComponent.storePreviousPosition();
+    positionComponent.position(new Point(1.5f, 1.8f));
+    Point interpolated = positionComponent.interpolatedPosition(0.5f);
+    assertEquals(1.25f, interpolated.x, 0.001f);
+    assertEquals(1.4f, interpolated.y, 0.001f);
+    assertTrue(new Point(1.5f, 1.8f).equals(positionComponent.interpolatedPosition(1f)));
+  }
+
+  @Test
+  public void interpolatedPosition_noPrevious() {
+    assertTrue(position.equals(positionComponent.interpolatedPosition(0.5f)));
+  }
+
+  @Test
+  public void interpolatedPosition_teleport() {
+    positionComponent.position(new Point(1, 1));
+    positionComponent.storePreviousPosition();
+    positionComponent.position(new Point(10, 10));
+    assertTrue(new Point(10, 10).equals(positionComponent.interpolatedPosition(0.5f)));
+  }
 }
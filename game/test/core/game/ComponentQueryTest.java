@@ -0,0 +1,113 @@
+package core.game;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import core.Component;
+import core.Entity;
+import core.Game;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Test;
+
+public class ComponentQueryTest {
+
+  @After
+  public void cleanup() {
+    Game.removeAllEntities();
+    Game.removeAllSystems();
+  }
+
+  @Test
+  public void forEach_matchingEntities() {
+    Entity both = new Entity();
+    DummyComponent dc = new DummyComponent();
+    OtherComponent oc = new OtherComponent();
+    both.add(dc);
+    both.add(oc);
+    Entity onlyDummy = new Entity();
+    onlyDummy.add(new DummyComponent());
+    Game.add(both);
+    Game.add(onlyDummy);
+
+    List<Entity> found = new ArrayList<>();
+    Game.query(DummyComponent.class, OtherComponent.class)
+        .forEach(
+            (entity, d, o) -> {
+              found.add(entity);
+              assertSame(dc, d);
+              assertSame(oc, o);
+            });
+    assertEquals(List.of(both), found);
+    assertEquals(2, Game.query(DummyComponent.class).count());
+  }
+
+  @Test
+  public void forEach_without() {
+    Entity both = new Entity();
+    both.add(new DummyComponent());
+    both.add(new OtherComponent());
+    Entity onlyDummy = new Entity();
+    onlyDummy.add(new DummyComponent());
+    Game.add(both);
+    Game.add(onlyDummy);
+
+    List<Entity> found = new ArrayList<>();
+    Game.query(DummyComponent.class)
+        .without(OtherComponent.class)
+        .forEach((entity, d) -> found.add(entity));
+    assertEquals(List.of(onlyDummy), found);
+  }
+
+  @Test
+  public void without_sameComponentTwice() {
+    Entity both = new Entity();
+    both.add(new DummyComponent());
+    both.add(new OtherComponent());
+    Game.add(both);
+
+    assertEquals(
+        0,
+        Game.query(DummyComponent.class)
+            .without(OtherComponent.class, OtherComponent.class)
+            .count());
+  }
+
+  @Test
+  public void componentChange_movesEntity() {
+    Entity e = new Entity();
+    e.add(new DummyComponent());
+    Game.add(e);
+    assertEquals(0, Game.query(DummyComponent.class, OtherComponent.class).count());
+    e.add(new OtherComponent());
+    assertEquals(1, Game.query(DummyComponent.class, OtherComponent.class).count());
+    e.remove(DummyComponent.class);
+    assertEquals(0, Game.query(DummyComponent.class).count());
+    assertEquals(1, Game.query(OtherComponent.class).count());
+  }
+
+  @Test
+  public void forEach_removeIsDeferred() {
+    for (int i = 0; i < 5; i++) {
+      Entity e = new Entity();
+      e.add(new DummyComponent());
+      Game.add(e);
+    }
+    int[] visited = {0};
+    Game.query(DummyComponent.class)
+        .forEach(
+            (entity, d) -> {
+              visited[0]++;
+              Game.remove(entity);
+            });
+    assertEquals(5, visited[0]);
+    assertEquals(0, Game.query(DummyComponent.class).count());
+    assertTrue(Game.entityStream().findAny().isEmpty());
+  }
+
+  private static class DummyComponent implements Component {}
+
+  private static class OtherComponent implements Component {}
+}
@@ -0,0 +1,162 @@
+package core.game;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import core.Component;
+import core.Entity;
+import core.Game;
+import core.System;
+import core.components.PlayerComponent;
+import java.util.List;
+import org.junit.After;
+import org.junit.Test;
+
+public class ECSManagmentTest {
+
+  @After
+  public void cleanup() {
+    Game.removeAllEntities();
+    Game.removeAllSystems();
+  }
+
+  @Test
+  public void informAboutChanges_appliedOncePerEntity() {
+    CountingSystem system = new CountingSystem();
+    Game.add(system);
+    Entity entity = new Entity();
+    Game.add(entity);
+
+    entity.add(new ComponentA());
+    entity.add(new ComponentB());
+    entity.remove(ComponentB.class);
+    entity.add(new ComponentB());
+    assertEquals("changes are buffered", 0, system.added);
+
+    ECSManagment.applyChanges();
+    assertEquals(1, system.added);
+    assertEquals(List.of(entity), system.entities());
+  }
+
+  @Test
+  public void informAboutChanges_appliedOnAccess() {
+    CountingSystem system = new CountingSystem();
+    Game.add(system);
+    Entity entity = new Entity();
+    Game.add(entity);
+    entity.add(new ComponentA());
+    entity.add(new ComponentB());
+
+    assertEquals(1, Game.entityStream(system).count());
+    assertEquals(1, system.added);
+  }
+
+  @Test
+  public void informAboutChanges_appliedBeforeNextSystem() {
+    CountingSystem system = new CountingSystem();
+    Entity entity = new Entity();
+    Game.add(entity);
+    System changing =
+        new ActionSystem(
+            () -> {
+              entity.add(new ComponentA());
+              entity.add(new ComponentB());
+            });
+    Game.add(system);
+    SystemScheduler.execute(List.of(changing, system), () -> false);
+    assertEquals(1, system.added);
+    assertEquals(1, system.executedWith);
+  }
+
+  @Test
+  public void informAboutChanges_entityNotInGame() {
+    CountingSystem system = new CountingSystem();
+    Game.add(system);
+    Entity entity = new Entity();
+    entity.add(new ComponentA());
+    entity.add(new ComponentB());
+    ECSManagment.applyChanges();
+    assertEquals(0, system.added);
+
+    Game.add(entity);
+    assertEquals(1, system.added);
+  }
+
+  @Test
+  public void informAboutChanges_removedEntity() {
+    CountingSystem system = new CountingSystem();
+    Game.add(system);
+    Entity entity = new Entity();
+    entity.add(new ComponentA());
+    entity.add(new ComponentB());
+    Game.add(entity);
+    entity.remove(ComponentB.class);
+    Game.remove(entity);
+    ECSManagment.applyChanges();
+    assertEquals(1, system.added);
+    assertEquals(1, system.removed);
+    assertTrue(Game.entityStream().findAny().isEmpty());
+  }
+
+  @Test
+  public void hero_followsPlayerComponent() {
+    Entity hero = new Entity();
+    Game.add(hero);
+    Game.add(new Entity());
+    assertTrue(Game.hero().isEmpty());
+
+    hero.add(new PlayerComponent());
+    assertEquals(hero, Game.hero().orElseThrow());
+    hero.remove(PlayerComponent.class);
+    assertTrue(Game.hero().isEmpty());
+  }
+
+  @Test
+  public void entities_indexedByComponent() {
+    Entity entity = new Entity();
+    entity.add(new ComponentA());
+    Game.add(entity);
+    Game.add(new Entity());
+    assertEquals(List.of(entity), Game.entities(ComponentA.class));
+    assertSame(Game.entities(ComponentA.class), Game.entities(ComponentA.class));
+
+    Game.remove(entity);
+    assertTrue(Game.entities(ComponentA.class).isEmpty());
+  }
+
+  private static final class ComponentA implements Component {}
+
+  private static final class ComponentB implements Component {}
+
+  private static final class ActionSystem extends System {
+    private final Runnable action;
+
+    ActionSystem(final Runnable action) {
+      super();
+      this.action = action;
+    }
+
+    @Override
+    public void execute() {
+      action.run();
+    }
+  }
+
+  private static final class CountingSystem extends System {
+    private int added = 0;
+    private int removed = 0;
+    private int executedWith = 0;
+
+    CountingSystem() {
+      super(ComponentA.class, ComponentB.class);
+      onEntityAdd = entity -> added++;
+      onEntityRemove = entity -> removed++;
+    }
+
+    @Override
+    public void execute() {
+      executedWith = entities().size();
+    }
+  }
+}
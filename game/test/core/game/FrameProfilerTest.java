@@ -0,0 +1,132 @@
+package core.game;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import core.Component;
+import core.Entity;
+import core.Game;
+import core.System;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class FrameProfilerTest {
+
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @After
+  public void cleanup() {
+    FrameProfiler.enabled(false);
+    FrameProfiler.history(FrameProfiler.DEFAULT_HISTORY);
+    FrameProfiler.dumpDirectory(null);
+    FrameProfiler.clear();
+    Game.removeAllEntities();
+    Game.removeAllSystems();
+  }
+
+  @Test
+  public void disabled_recordsNothing() {
+    Game.add(new TestSystem());
+    frame(Game.systems().values());
+    assertTrue(FrameProfiler.frames().isEmpty());
+  }
+
+  @Test
+  public void enabled_recordsSystemsAndEntities() {
+    TestSystem system = new TestSystem();
+    Game.add(system);
+    Entity entity = new Entity();
+    entity.add(new TestComponent());
+    Game.add(entity);
+    Game.add(new Entity());
+    FrameProfiler.enabled(true);
+
+    frame(Game.systems().values());
+
+    FrameProfiler.Frame frame = FrameProfiler.lastFrame().orElseThrow();
+    assertEquals(1, frame.ticks());
+    assertTrue(frame.nanos() > 0);
+    FrameProfiler.SystemSample sample = frame.systems().get("TestSystem");
+    assertEquals(1, sample.executions());
+    assertTrue(sample.nanos() > 0);
+    assertEquals(2, (int) frame.entities().get("all"));
+    assertEquals(1, (int) frame.entities().get("TestComponent"));
+  }
+
+  @Test
+  public void history_keepsLastFrames() {
+    FrameProfiler.enabled(true);
+    FrameProfiler.history(3);
+    for (int i = 0; i < 5; i++) frame(List.of());
+    List<FrameProfiler.Frame> frames = FrameProfiler.frames();
+    assertEquals(3, frames.size());
+    assertEquals(frames.get(0).index() + 2, frames.get(2).index());
+  }
+
+  @Test
+  public void enabled_takesEffectOnNextFrame() {
+    FrameProfiler.beginFrame();
+    FrameProfiler.enabled(true);
+    FrameProfiler.endFrame(null);
+    assertFalse(FrameProfiler.lastFrame().isPresent());
+  }
+
+  @Test
+  public void writeCsv() throws IOException {
+    Game.add(new TestSystem());
+    FrameProfiler.enabled(true);
+    frame(Game.systems().values());
+    frame(List.of());
+
+    StringWriter writer = new StringWriter();
+    FrameProfiler.writeCsv(FrameProfiler.frames(), writer);
+    String[] lines = writer.toString().split("\n");
+    assertEquals(3, lines.length);
+    assertTrue(lines[0].startsWith("frame,frame_ms,ticks,allocated_bytes,"));
+    assertTrue(lines[0].contains(",TestSystem_ms,TestSystem_bytes,"));
+    String[] header = lines[0].split(",", -1);
+    assertEquals(header.length, lines[1].split(",", -1).length);
+    assertEquals(header.length, lines[2].split(",", -1).length);
+    // the system was not executed in the second frame
+    int column = List.of(header).indexOf("TestSystem_ms");
+    assertEquals("", lines[2].split(",", -1)[column]);
+  }
+
+  @Test
+  public void dump() throws IOException {
+    FrameProfiler.enabled(true);
+    frame(List.of());
+    Path directory = temporaryFolder.newFolder("profiler").toPath();
+    FrameProfiler.dump(directory);
+    assertEquals(2, Files.readAllLines(directory.resolve("frames.csv")).size());
+    assertTrue(Files.readString(directory.resolve("frames.json")).startsWith("[{\"index\":"));
+  }
+
+  private static void frame(final java.util.Collection<System> systems) {
+    FrameProfiler.beginFrame();
+    FrameProfiler.tick();
+    SystemScheduler.execute(systems, () -> false);
+    FrameProfiler.endFrame(null);
+  }
+
+  private static final class TestComponent implements Component {}
+
+  private static final class TestSystem extends System {
+    TestSystem() {
+      super(TestComponent.class);
+    }
+
+    @Override
+    public void execute() {
+      entityStream().forEach(entity -> {});
+    }
+  }
+}
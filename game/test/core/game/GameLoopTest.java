@@ -0,0 +1,82 @@
+package core.game;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import core.Entity;
+import core.Game;
+import core.System;
+import core.systems.DrawSystem;
+import core.systems.LevelSystem;
+import java.util.Optional;
+import org.junit.After;
+import org.junit.Test;
+
+public class GameLoopTest {
+
+  @After
+  public void cleanup() {
+    PreRunConfiguration.headless(false);
+    PreRunConfiguration.userOnSetup(() -> {});
+    PreRunConfiguration.userOnFrame(() -> {});
+    Game.removeAllEntities();
+    Game.removeAllSystems();
+    Game.currentLevel(null);
+    ECSManagment.releaseIds();
+  }
+
+  @Test
+  public void runHeadless() {
+    int[] frames = {0};
+    int[] executed = {0};
+    boolean[] headless = {false};
+    PreRunConfiguration.userOnFrame(() -> frames[0]++);
+    PreRunConfiguration.userOnSetup(
+        () ->
+            Game.add(
+                new TestSystem(
+                    () -> {
+                      executed[0]++;
+                      headless[0] = Game.headless();
+                    })));
+    Game.runHeadless(10);
+    assertTrue(headless[0]);
+    assertFalse(Game.headless());
+    assertFalse(GameLoop.running());
+    assertEquals(10, frames[0]);
+    // the level is loaded in the first tick, which stops that tick
+    assertEquals(9, executed[0]);
+    assertNotNull(Game.currentLevel());
+    assertTrue(Game.systems().containsKey(LevelSystem.class));
+    assertTrue(Game.systems().containsKey(DrawSystem.class));
+    assertEquals(Optional.empty(), Game.stage());
+  }
+
+  @Test
+  public void runHeadless_tickThrows() {
+    PreRunConfiguration.userOnFrame(
+        () -> {
+          throw new IllegalStateException("tick failed");
+        });
+    assertThrows(IllegalStateException.class, () -> Game.runHeadless(10));
+    assertFalse(Game.headless());
+    assertFalse(GameLoop.running());
+  }
+
+  private static final class TestSystem extends System {
+    private final Runnable action;
+
+    TestSystem(final Runnable action) {
+      super();
+      this.action = action;
+    }
+
+    @Override
+    public void execute() {
+      action.run();
+    }
+  }
+}
@@ -0,0 +1,218 @@
+package core.game;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import core.Component;
+import core.Entity;
+import core.Game;
+import core.System;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Test;
+
+public class SystemSchedulerTest {
+
+  private final List<String> executed = Collections.synchronizedList(new ArrayList<>());
+
+  @After
+  public void cleanup() {
+    Game.removeAllEntities();
+    Game.removeAllSystems();
+  }
+
+  @Test
+  public void conflictsWith() {
+    System readsA = new TestSystem("readsA", () -> {}).reading(ComponentA.class);
+    System readsA2 = new TestSystem("readsA2", () -> {}).reading(ComponentA.class);
+    System writesA = new TestSystem("writesA", () -> {}).writing(ComponentA.class);
+    System writesB = new TestSystem("writesB", () -> {}).writing(ComponentB.class);
+    System undeclared = new TestSystem("undeclared", () -> {});
+    assertFalse(readsA.conflictsWith(readsA2));
+    assertTrue(readsA.conflictsWith(writesA));
+    assertTrue(writesA.conflictsWith(readsA));
+    assertFalse(writesA.conflictsWith(writesB));
+    assertTrue(writesB.conflictsWith(writesB));
+    assertTrue(readsA.conflictsWith(undeclared));
+  }
+
+  @Test
+  public void reads_sameComponentTwice() {
+    System readsA = new TestSystem("readsA", () -> {}).readingTwice(ComponentA.class);
+    assertEquals(Set.of(ComponentA.class), readsA.readComponents());
+  }
+
+  @Test
+  public void execute_nonConflictingSystemsRunConcurrently() {
+    Assume.assumeTrue(Runtime.getRuntime().availableProcessors() > 2);
+    CyclicBarrier barrier = new CyclicBarrier(2);
+    Runnable await =
+        () -> {
+          try {
+            barrier.await(5, TimeUnit.SECONDS);
+          } catch (Exception e) {
+            throw new IllegalStateException(e);
+          }
+        };
+    // both systems only finish if they are executed at the same time
+    SystemScheduler.execute(
+        List.of(
+            new TestSystem("a", await).writing(ComponentA.class),
+            new TestSystem("b", await).writing(ComponentB.class)),
+        () -> false);
+    assertEquals(2, executed.size());
+  }
+
+  @Test
+  public void execute_conflictingSystemsKeepOrder() {
+    List<System> systems = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      String name = String.valueOf(i);
+      systems.add(new TestSystem(name, () -> sleep()).writing(ComponentA.class));
+    }
+    SystemScheduler.execute(systems, () -> false);
+    assertEquals(List.of("0", "1", "2", "3", "4", "5", "6", "7", "8", "9"), executed);
+  }
+
+  @Test
+  public void execute_renderThreadSystemIsBarrier() {
+    SystemScheduler.execute(
+        List.of(
+            new TestSystem("a", () -> sleep()).reading(ComponentA.class),
+            new TestSystem("b", () -> sleep()).reading(ComponentB.class),
+            new TestSystem("render", () -> {}),
+            new TestSystem("c", () -> {}).reading(ComponentA.class),
+            new TestSystem("d", () -> {}).reading(ComponentB.class)),
+        () -> false);
+    assertEquals(5, executed.size());
+    assertEquals("render", executed.get(2));
+  }
+
+  @Test
+  public void execute_cancelled() {
+    boolean[] cancelled = {false};
+    SystemScheduler.execute(
+        List.of(
+            new TestSystem("a", () -> cancelled[0] = true),
+            new TestSystem("b", () -> {}),
+            new TestSystem("c", () -> {}).reading(ComponentA.class)),
+        () -> cancelled[0]);
+    assertEquals(List.of("a"), executed);
+  }
+
+  @Test
+  public void execute_entityChangesAreDeferred() {
+    Entity entity = new Entity();
+    Game.add(entity);
+    boolean[] presentWhileRunning = {false};
+    SystemScheduler.execute(
+        List.of(
+            new TestSystem("a", () -> Game.remove(entity)).writing(ComponentA.class),
+            new TestSystem(
+                    "b",
+                    () -> {
+                      sleep();
+                      presentWhileRunning[0] = Game.entityStream().anyMatch(entity::equals);
+                    })
+                .writing(ComponentA.class)),
+        () -> false);
+    assertTrue(presentWhileRunning[0]);
+    assertFalse(Game.entityStream().anyMatch(entity::equals));
+  }
+
+  @Test
+  public void execute_concurrentLookups() {
+    for (int i = 0; i < 50; i++) {
+      Entity entity = new Entity();
+      entity.add(new ComponentA());
+      if (i % 2 == 0) entity.add(new ComponentB());
+      Game.add(entity);
+    }
+    List<String> errors = Collections.synchronizedList(new ArrayList<>());
+    Runnable lookup =
+        () -> {
+          for (int i = 0; i < 200; i++) {
+            if (Game.entities(ComponentA.class).size() != 50) errors.add("A");
+            if (Game.entities(ComponentB.class).size() != 25) errors.add("B");
+            if (Game.hero().isPresent()) errors.add("hero");
+          }
+        };
+    List<System> systems = new ArrayList<>();
+    for (int i = 0; i < 4; i++)
+      systems.add(new TestSystem(String.valueOf(i), lookup).reading(ComponentA.class));
+    SystemScheduler.execute(systems, () -> false);
+
+    assertEquals(4, executed.size());
+    assertEquals(List.of(), errors);
+    // each mapper is only created once
+    long mappersOfA =
+        ECSManagment.activeEntityStorage().stream()
+            .filter(mapper -> mapper.equals(Set.of(ComponentA.class)))
+            .count();
+    assertEquals(1, mappersOfA);
+  }
+
+  @Test
+  public void execute_everyXFrames() {
+    TestSystem system = new TestSystem("a", () -> {}, 2);
+    SystemScheduler.execute(List.of(system), () -> false);
+    assertTrue(executed.isEmpty());
+    SystemScheduler.execute(List.of(system), () -> false);
+    assertEquals(List.of("a"), executed);
+  }
+
+  private static void sleep() {
+    try {
+      Thread.sleep(10);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static final class ComponentA implements Component {}
+
+  private static final class ComponentB implements Component {}
+
+  private final class TestSystem extends System {
+    private final String name;
+    private final Runnable action;
+
+    TestSystem(final String name, final Runnable action) {
+      this(name, action, DEFAULT_EVERY_FRAME_EXECUTE);
+    }
+
+    TestSystem(final String name, final Runnable action, final int everyXFrames) {
+      super(everyXFrames);
+      this.name = name;
+      this.action = action;
+    }
+
+    TestSystem reading(final Class<? extends Component> component) {
+      reads(component);
+      return this;
+    }
+
+    TestSystem readingTwice(final Class<? extends Component> component) {
+      reads(component, component);
+      return this;
+    }
+
+    TestSystem writing(final Class<? extends Component> component) {
+      writes(component);
+      return this;
+    }
+
+    @Override
+    public void execute() {
+      action.run();
+      executed.add(name);
+    }
+  }
+}
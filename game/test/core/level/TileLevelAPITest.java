@@ -1,7 +1,9 @@
 package core.level;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -11,6 +13,7 @@ import core.Game;
 import core.components.PlayerComponent;
 import core.components.PositionComponent;
 import core.level.elements.ILevel;
+import core.level.elements.tile.DoorTile;
 import core.level.generator.IGenerator;
 import core.level.utils.Coordinate;
 import core.level.utils.DesignLabel;
@@ -21,10 +24,12 @@ import core.utils.IVoidFunction;
 import core.utils.Point;
 import core.utils.components.draw.Painter;
 import core.utils.components.draw.PainterConfig;
+import core.utils.components.draw.StaticTileLayer;
 import core.utils.components.draw.TextureMap;
 import core.utils.components.path.IPath;
 import core.utils.components.path.SimpleIPath;
 import java.io.IOException;
+import java.util.List;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -117,68 +122,38 @@ public class TileLevelAPITest {
 
   @Test
   public void test_execute_draw() {
-    IPath textureT1 = new SimpleIPath("dummyPath1");
-    IPath textureT2 = new SimpleIPath("dummyPath2");
-    IPath textureT3 = new SimpleIPath("dummyPath3");
-    IPath textureT4 = new SimpleIPath("dummyPath4");
-    Coordinate coordinateT1 = new Coordinate(0, 0);
-    Coordinate coordinateT2 = new Coordinate(0, 1);
-    Coordinate coordinateT3 = new Coordinate(1, 0);
-    Coordinate coordinateT4 = new Coordinate(1, 1);
-    LevelElement elementT1 = LevelElement.WALL;
-    LevelElement elementT2 = LevelElement.EXIT;
-    LevelElement elementT3 = LevelElement.WALL;
-    LevelElement elementT4 = LevelElement.SKIP;
-    Tile[][] layout = new Tile[2][2];
-    layout[0][0] = Mockito.mock(Tile.class);
-    when(layout[0][0].levelElement()).thenReturn(elementT1);
-    when(layout[0][0].texturePath()).thenReturn(textureT1);
-    when(layout[0][0].position()).thenReturn(coordinateT1.toPoint());
-    layout[0][1] = Mockito.mock(Tile.class);
-    when(layout[0][1].levelElement()).thenReturn(elementT2);
-    when(layout[0][1].texturePath()).thenReturn(textureT2);
-    when(layout[0][1].position()).thenReturn(coordinateT2.toPoint());
-    layout[1][0] = Mockito.mock(Tile.class);
-    when(layout[1][0].levelElement()).thenReturn(elementT3);
-    when(layout[1][0].texturePath()).thenReturn(textureT3);
-    when(layout[1][0].position()).thenReturn(coordinateT3.toPoint());
-    layout[1][1] = Mockito.mock(Tile.class);
-    when(layout[1][1].levelElement()).thenReturn(elementT4);
-    when(layout[1][1].texturePath()).thenReturn(textureT4);
-    when(layout[1][1].position()).thenReturn(coordinateT4.toPoint());
-
-    when(level.layout()).thenReturn(layout);
+    IPath doorTexture = new SimpleIPath("dummyDoorPath");
+    DoorTile door = Mockito.mock(DoorTile.class);
+    when(door.texturePath()).thenReturn(doorTexture);
+    when(door.position()).thenReturn(new Coordinate(1, 1).toPoint());
+    when(level.doorTiles()).thenReturn(List.of(door));
 
     api.loadLevel(level);
     api.execute();
 
-    verify(level).layout();
+    // static tiles are drawn from the tile layer
+    verify(painter).draw(any(StaticTileLayer.class), eq(level));
+    // doors are drawn each frame, in one batch
+    verify(painter).begin();
+    verify(painter).draw(any(Point.class), eq(doorTexture), any(PainterConfig.class));
+    verify(painter).end();
+    verifyNoMoreInteractions(painter);
+    verify(level).doorTiles();
     verifyNoMoreInteractions(level);
+  }
 
-    verify(layout[0][0]).levelElement();
-    verify(layout[0][0]).texturePath();
-    verify(layout[0][0]).position();
-    // for some reason mockito.verify can't compare the points of the tile correctly
-    verify(painter, times(3)).draw(any(Point.class), any(IPath.class), any(PainterConfig.class));
-    verifyNoMoreInteractions(layout[0][0]);
-
-    verify(layout[0][1]).levelElement();
-    verify(layout[0][1]).texturePath();
-    verify(layout[0][1]).position();
-    // for some reason mockito.verify can't compare the points of the tile correctly
-    verify(painter, times(3)).draw(any(Point.class), any(IPath.class), any(PainterConfig.class));
-    verifyNoMoreInteractions(layout[0][1]);
-    verify(layout[1][0]).levelElement();
-    verify(layout[1][0]).texturePath();
-    verify(layout[1][0]).position();
-    // for some reason mockito.verify can't compare the points of the tile correctly
-    verify(painter, times(3)).draw(any(Point.class), any(IPath.class), any(PainterConfig.class));
-    verifyNoMoreInteractions(layout[1][0]);
-
-    // do not draw skip tiles
-    verify(layout[1][1]).levelElement();
-    verifyNoMoreInteractions(layout[1][1]);
-    verifyNoMoreInteractions(painter);
+  @Test
+  public void test_staticTiles() {
+    Tile wall = Mockito.mock(Tile.class);
+    when(wall.levelElement()).thenReturn(LevelElement.WALL);
+    Tile skip = Mockito.mock(Tile.class);
+    when(skip.levelElement()).thenReturn(LevelElement.SKIP);
+    DoorTile door = Mockito.mock(DoorTile.class);
+    when(door.levelElement()).thenReturn(LevelElement.DOOR);
+
+    assertTrue(StaticTileLayer.isStatic(wall));
+    assertFalse(StaticTileLayer.isStatic(skip));
+    assertFalse(StaticTileLayer.isStatic(door));
   }
 
   @Test
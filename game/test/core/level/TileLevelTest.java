@@ -16,6 +16,7 @@ import core.utils.components.path.SimpleIPath;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import org.junit.Test;
 
 public class TileLevelTest {
@@ -267,6 +268,34 @@ public class TileLevelTest {
     assertEquals(layout[0][2], path.get(4));
   }
 
+  @Test
+  public void test_findPath_reusesPathFinder() {
+    var levelElement = new LevelElement[3][3];
+    for (LevelElement[] row : levelElement) Arrays.fill(row, LevelElement.FLOOR);
+    var level = new TileLevel(levelElement, DesignLabel.randomDesign());
+    var start = level.tileAt(new Coordinate(0, 0));
+    var end = level.tileAt(new Coordinate(2, 2));
+    var pathFinder = level.pathFinder();
+    assertEquals(5, level.findPath(start, end).getCount());
+    assertEquals(5, level.findPath(end, start).getCount());
+    assertSame(pathFinder, level.pathFinder());
+
+    // the node count changes, so the pathfinder has to be replaced
+    level.changeTileElementType(level.tileAt(new Coordinate(1, 1)), LevelElement.WALL);
+    assertNotSame(pathFinder, level.pathFinder());
+    assertEquals(5, level.findPath(start, end).getCount());
+  }
+
+  @Test
+  public void test_tileHeuristic_isManhattanDistance() {
+    var levelElement = new LevelElement[3][3];
+    for (LevelElement[] row : levelElement) Arrays.fill(row, LevelElement.FLOOR);
+    var level = new TileLevel(levelElement, DesignLabel.randomDesign());
+    var start = level.tileAt(new Coordinate(0, 0));
+    var end = level.tileAt(new Coordinate(2, 1));
+    assertEquals(3f, level.tileHeuristic().estimate(start, end), 0.001f);
+  }
+
   @Test
   public void test_findPath_withSkips() {
     var levelElement = new LevelElement[3][2];
@@ -716,4 +745,28 @@ public class TileLevelTest {
     assertNotEquals(LevelElement.WALL, level.tileAt(new Coordinate(1, 0)).levelElement());
     assertEquals(3, counter.get());
   }
+
+  @Test
+  public void test_tileChangeListeners() {
+    TileLevel level =
+        new TileLevel(
+            new LevelElement[][] {new LevelElement[] {LevelElement.FLOOR, LevelElement.FLOOR}},
+            DesignLabel.DEFAULT);
+    Tile tile = level.tileAt(new Coordinate(0, 0));
+    AtomicInteger first = new AtomicInteger();
+    AtomicInteger second = new AtomicInteger();
+    Consumer<Tile> firstListener = changed -> first.incrementAndGet();
+    level.addTileChangeListener(firstListener);
+    level.addTileChangeListener(changed -> second.incrementAndGet());
+
+    level.tileChanged(tile);
+    assertEquals(1, first.get());
+    assertEquals(1, second.get());
+
+    assertTrue(level.removeTileChangeListener(firstListener));
+    assertFalse(level.removeTileChangeListener(firstListener));
+    level.tileChanged(tile);
+    assertEquals(1, first.get());
+    assertEquals(2, second.get());
+  }
 }
@@ -0,0 +1,127 @@
+package core.level.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import core.Entity;
+import core.Game;
+import core.components.PlayerComponent;
+import core.components.PositionComponent;
+import core.level.Tile;
+import core.level.TileLevel;
+import core.level.elements.tile.DoorTile;
+import core.level.generator.IGenerator;
+import core.systems.LevelSystem;
+import core.utils.IVoidFunction;
+import core.utils.components.draw.Painter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class FlowFieldTest {
+
+  private TileLevel level;
+
+  // layout is:
+  //
+  // F F F
+  // W W F
+  // F F F
+  @Before
+  public void setup() {
+    level =
+        new TileLevel(
+            new LevelElement[][] {
+              {LevelElement.FLOOR, LevelElement.FLOOR, LevelElement.FLOOR},
+              {LevelElement.WALL, LevelElement.WALL, LevelElement.FLOOR},
+              {LevelElement.FLOOR, LevelElement.FLOOR, LevelElement.FLOOR}
+            },
+            DesignLabel.DEFAULT);
+  }
+
+  @After
+  public void cleanup() {
+    Game.removeAllEntities();
+    Game.currentLevel(null);
+    Game.removeAllSystems();
+  }
+
+  @Test
+  public void distance() {
+    FlowField field = new FlowField(level);
+    field.target(level.tileAt(new Coordinate(0, 0)));
+    assertEquals(0, field.distance(level.tileAt(new Coordinate(0, 0))));
+    assertEquals(2, field.distance(level.tileAt(new Coordinate(2, 0))));
+    // around the wall
+    assertEquals(6, field.distance(level.tileAt(new Coordinate(0, 2))));
+    assertEquals(FlowField.UNREACHABLE, field.distance(level.tileAt(new Coordinate(0, 1))));
+  }
+
+  @Test
+  public void next_descendsTheField() {
+    FlowField field = new FlowField(level);
+    Tile target = level.tileAt(new Coordinate(0, 0));
+    field.target(target);
+    Tile tile = level.tileAt(new Coordinate(0, 2));
+    int steps = 0;
+    while (tile != target) {
+      tile = field.next(tile).orElseThrow();
+      steps++;
+    }
+    assertEquals(6, steps);
+    assertTrue(field.next(target).isEmpty());
+  }
+
+  @Test
+  public void target_recalculatesOnLevelChange() {
+    FlowField field = new FlowField(level);
+    field.target(level.tileAt(new Coordinate(0, 0)));
+    level.changeTileElementType(level.tileAt(new Coordinate(1, 1)), LevelElement.FLOOR);
+    field.target(level.tileAt(new Coordinate(0, 0)));
+    assertEquals(4, field.distance(level.tileAt(new Coordinate(0, 2))));
+  }
+
+  @Test
+  public void target_recalculatesOnDoorChange() {
+    level.changeTileElementType(level.tileAt(new Coordinate(2, 1)), LevelElement.DOOR);
+    DoorTile door = (DoorTile) level.tileAt(new Coordinate(2, 1));
+    FlowField field = new FlowField(level);
+    field.target(level.tileAt(new Coordinate(0, 0)));
+    assertEquals(6, field.distance(level.tileAt(new Coordinate(0, 2))));
+
+    door.close();
+    field.target(level.tileAt(new Coordinate(0, 0)));
+    assertEquals(FlowField.UNREACHABLE, field.distance(level.tileAt(new Coordinate(0, 2))));
+
+    door.open();
+    field.target(level.tileAt(new Coordinate(0, 0)));
+    assertEquals(6, field.distance(level.tileAt(new Coordinate(0, 2))));
+  }
+
+  @Test
+  public void toHero() {
+    Game.add(
+        new LevelSystem(
+            Mockito.mock(Painter.class),
+            Mockito.mock(IGenerator.class),
+            Mockito.mock(IVoidFunction.class)));
+    Game.currentLevel(level);
+    assertTrue(FlowField.toHero().isEmpty());
+
+    Entity hero = new Entity();
+    hero.add(new PlayerComponent());
+    hero.add(new PositionComponent(new Coordinate(2, 2).toPoint()));
+    Game.add(hero);
+    FlowField field = FlowField.toHero().orElseThrow();
+    assertSame(level.tileAt(new Coordinate(2, 2)), field.target());
+    assertEquals(4, field.distance(level.tileAt(new Coordinate(0, 0))));
+
+    hero.fetch(PositionComponent.class)
+        .orElseThrow()
+        .position(new Coordinate(0, 0).toPoint());
+    assertSame(field, FlowField.toHero().orElseThrow());
+    assertEquals(0, field.distance(level.tileAt(new Coordinate(0, 0))));
+  }
+}
@@ -0,0 +1,53 @@
+package core.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import core.Entity;
+import java.util.List;
+import java.util.Set;
+import org.junit.Test;
+
+public class EntitySystemMapperTest {
+
+  @Test
+  public void entities_sameSnapshotWithoutChanges() {
+    EntitySystemMapper mapper = new EntitySystemMapper(Set.of());
+    mapper.add(new Entity());
+    List<Entity> first = mapper.entities();
+    assertSame(first, mapper.entities());
+    assertEquals(1, first.size());
+  }
+
+  @Test
+  public void entities_newSnapshotAfterChange() {
+    EntitySystemMapper mapper = new EntitySystemMapper(Set.of());
+    Entity entity = new Entity();
+    mapper.add(entity);
+    List<Entity> before = mapper.entities();
+    int version = mapper.version();
+    mapper.remove(entity);
+    List<Entity> after = mapper.entities();
+    assertNotSame(before, after);
+    assertEquals(1, before.size());
+    assertEquals(0, after.size());
+    assertEquals(version + 1, mapper.version());
+  }
+
+  @Test
+  public void forEach_changesDoNotAffectRunningIteration() {
+    EntitySystemMapper mapper = new EntitySystemMapper(Set.of());
+    mapper.add(new Entity());
+    mapper.add(new Entity());
+    int[] visited = {0};
+    mapper.forEach(
+        entity -> {
+          visited[0]++;
+          mapper.remove(entity);
+          mapper.add(new Entity());
+        });
+    assertEquals(2, visited[0]);
+    assertEquals(2, mapper.size());
+  }
+}
@@ -0,0 +1,51 @@
+package core.utils.components.draw;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import core.components.DrawComponent;
+import core.utils.components.path.IPath;
+import core.utils.components.path.SimpleIPath;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+
+public class AnimationRegistryTest {
+
+  private final IPath animationPath = new SimpleIPath("textures/test_hero");
+
+  @Test
+  public void animationFrames() {
+    Map<String, List<IPath>> frames =
+        AnimationRegistry.animationFrames(animationPath).orElseThrow();
+    assertTrue(frames.containsKey(CoreAnimations.IDLE_LEFT.pathString()));
+    assertTrue(frames.containsKey(CoreAnimations.RUN_LEFT.pathString()));
+    assertFalse(frames.containsKey(CoreAnimations.RUN_DOWN.pathString()));
+    List<IPath> idle = frames.get(CoreAnimations.IDLE_LEFT.pathString());
+    assertTrue(idle.get(0).pathString().startsWith("textures/test_hero/idle_left/"));
+  }
+
+  @Test
+  public void animationFrames_missingPath() {
+    assertTrue(AnimationRegistry.animationFrames(new SimpleIPath("does/not/exist")).isEmpty());
+  }
+
+  @Test
+  public void animationFrames_shared() throws IOException {
+    assertSame(
+        AnimationRegistry.animationFrames(animationPath).orElseThrow(),
+        AnimationRegistry.animationFrames(new SimpleIPath("textures/test_hero")).orElseThrow());
+
+    DrawComponent first = new DrawComponent(animationPath);
+    DrawComponent second = new DrawComponent(animationPath);
+    Animation firstIdle = first.animation(CoreAnimations.IDLE_LEFT).orElseThrow();
+    Animation secondIdle = second.animation(CoreAnimations.IDLE_LEFT).orElseThrow();
+    // the frames are shared, the playback state is not
+    assertEquals(firstIdle.animationFrames(), secondIdle.animationFrames());
+    firstIdle.loop(false);
+    assertTrue(secondIdle.isLooping());
+  }
+}
@@ -0,0 +1,128 @@
+package dsl.binding;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import dsl.annotation.DSLCallback;
+import dsl.annotation.DSLType;
+import dsl.annotation.DSLTypeMember;
+import dsl.annotation.DSLTypeNameMember;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.Test;
+
+public class DSLTypeBindingsTest {
+
+  @DSLType
+  static class Scanned {
+    @DSLTypeNameMember String name;
+    int notAMember;
+    @DSLTypeMember int value;
+    @DSLCallback Consumer<String> callback;
+  }
+
+  @DSLType
+  record Bound(@DSLTypeMember int first, @DSLTypeMember String second) {}
+
+  @DSLType
+  record Broken(@DSLTypeMember int value) {}
+
+  @Test
+  public void memberFields_withoutBinding_scansAnnotatedFields() {
+    assertFalse(DSLTypeBindings.get(Scanned.class).isPresent());
+
+    Field[] fields = DSLTypeBindings.memberFields(Scanned.class);
+    assertEquals(3, fields.length);
+    assertEquals("name", fields[0].getName());
+    assertEquals("value", fields[1].getName());
+    assertEquals("callback", fields[2].getName());
+    assertTrue(fields[1].canAccess(new Scanned()));
+  }
+
+  @Test
+  public void memberFields_isCached() {
+    assertSame(
+        DSLTypeBindings.memberFields(Scanned.class), DSLTypeBindings.memberFields(Scanned.class));
+  }
+
+  @Test
+  public void get_findsBinding() {
+    DSLTypeBinding binding = DSLTypeBindings.get(Bound.class).orElseThrow();
+    assertTrue(binding instanceof DSLTypeBindingsTest_Bound_DSLBinding);
+    assertSame(binding, DSLTypeBindings.get(Bound.class).orElseThrow());
+
+    Field[] fields = DSLTypeBindings.memberFields(Bound.class);
+    assertArrayEquals(
+        new String[] {"second", "first"},
+        new String[] {fields[0].getName(), fields[1].getName()});
+  }
+
+  @Test
+  public void get_bindingFailsToInitialize() {
+    assertFalse(DSLTypeBindings.get(Broken.class).isPresent());
+    assertEquals("value", DSLTypeBindings.memberFields(Broken.class)[0].getName());
+  }
+
+  @Test
+  public void newInstance() {
+    DSLTypeBinding binding = DSLTypeBindings.get(Bound.class).orElseThrow();
+    assertTrue(binding.isInstantiable());
+    assertEquals(new Bound(42, "test"), binding.newInstance(new Object[] {42, "test"}));
+    assertFalse(binding.hasAdapter("build", 1));
+  }
+
+  @Test
+  public void bindingClassName_nestedClass() {
+    assertEquals(
+        "dsl.binding.DSLTypeBindingsTest_Bound_DSLBinding",
+        DSLTypeBindings.bindingClassName(Bound.class));
+    assertEquals("java.lang.String_DSLBinding", DSLTypeBindings.bindingClassName(String.class));
+  }
+}
+
+/** Binding of {@link DSLTypeBindingsTest.Bound}, as it would be generated. */
+final class DSLTypeBindingsTest_Bound_DSLBinding implements DSLTypeBinding {
+  @Override
+  public Class<?> type() {
+    return DSLTypeBindingsTest.Bound.class;
+  }
+
+  @Override
+  public List<String> memberFields() {
+    // reversed, to check that the order of the binding is used
+    return List.of("second", "first");
+  }
+
+  @Override
+  public boolean isInstantiable() {
+    return true;
+  }
+
+  @Override
+  public Object newInstance(Object[] a) {
+    return new DSLTypeBindingsTest.Bound(((Number) a[0]).intValue(), (String) a[1]);
+  }
+}
+
+/** Binding of {@link DSLTypeBindingsTest.Broken}, which cannot be initialized. */
+final class DSLTypeBindingsTest_Broken_DSLBinding implements DSLTypeBinding {
+  static {
+    if (true) {
+      throw new IllegalStateException("broken binding");
+    }
+  }
+
+  @Override
+  public Class<?> type() {
+    return DSLTypeBindingsTest.Broken.class;
+  }
+
+  @Override
+  public List<String> memberFields() {
+    return List.of("value");
+  }
+}
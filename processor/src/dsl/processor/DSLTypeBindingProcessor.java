@@ -0,0 +1,331 @@
+package dsl.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * Annotation processor, which generates an implementation of `dsl.binding.DSLTypeBinding` for each
+ * class annotated with `@DSLType` and for each class, which contains methods annotated with
+ * `@DSLTypeAdapter`.
+ *
+ * <p>The generated binding lists the member fields of the class and calls the constructor and the
+ * adapter methods of the class directly. Constructors, methods and types, which are private, are
+ * not accessible from the generated class and are left to the reflection-based fallback of the
+ * `TypeInstantiator`.
+ *
+ * <p>The annotations are referenced by their names, so this project does not depend on the
+ * `game` project.
+ */
+@SupportedAnnotationTypes({
+  DSLTypeBindingProcessor.DSL_TYPE,
+  DSLTypeBindingProcessor.DSL_TYPE_ADAPTER
+})
+public class DSLTypeBindingProcessor extends AbstractProcessor {
+  static final String DSL_TYPE = "dsl.annotation.DSLType";
+  static final String DSL_TYPE_ADAPTER = "dsl.annotation.DSLTypeAdapter";
+  private static final String DSL_TYPE_MEMBER = "dsl.annotation.DSLTypeMember";
+  private static final String DSL_TYPE_NAME_MEMBER = "dsl.annotation.DSLTypeNameMember";
+  private static final String DSL_CALLBACK = "dsl.annotation.DSLCallback";
+  private static final String DSL_CONTEXT_MEMBER = "dsl.annotation.DSLContextMember";
+  private static final String BINDING_INTERFACE = "dsl.binding.DSLTypeBinding";
+  private static final String SUFFIX = "_DSLBinding";
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    Set<TypeElement> boundTypes = new LinkedHashSet<>();
+    for (TypeElement annotation : annotations) {
+      String annotationName = annotation.getQualifiedName().toString();
+      for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+        if (annotationName.equals(DSL_TYPE) && element instanceof TypeElement typeElement) {
+          boundTypes.add(typeElement);
+        } else if (annotationName.equals(DSL_TYPE_ADAPTER)
+            && element.getKind() == ElementKind.METHOD) {
+          boundTypes.add((TypeElement) element.getEnclosingElement());
+        }
+      }
+    }
+
+    for (TypeElement type : boundTypes) {
+      if (isAccessible(type)) {
+        writeBinding(type);
+      }
+    }
+
+    // the annotations are used by the DSL at runtime as well
+    return false;
+  }
+
+  private void writeBinding(TypeElement type) {
+    PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(type);
+    String packageName = packageElement.getQualifiedName().toString();
+    String bindingName = bindingName(type);
+    String typeName = erasure(type.asType());
+
+    StringBuilder source = new StringBuilder();
+    if (!packageName.isEmpty()) {
+      source.append("package ").append(packageName).append(";\n\n");
+    }
+    source.append("/** Generated binding of {@link ").append(typeName).append("}. */\n");
+    source.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+    source
+        .append("public final class ")
+        .append(bindingName)
+        .append(" implements ")
+        .append(BINDING_INTERFACE)
+        .append(" {\n");
+
+    source.append("  @Override\n  public Class<?> type() {\n");
+    source.append("    return ").append(typeName).append(".class;\n  }\n");
+
+    List<VariableElement> memberFields = memberFields(type);
+    source.append("\n  @Override\n  public java.util.List<String> memberFields() {\n");
+    source.append("    return java.util.List.of(").append(joinNames(memberFields)).append(");\n");
+    source.append("  }\n");
+
+    ExecutableElement constructor = instantiationConstructor(type, memberFields);
+    if (constructor != null) {
+      appendInstantiation(source, type, typeName, constructor);
+    }
+    appendAdapters(source, type, typeName);
+    source.append("}\n");
+
+    String qualifiedName = packageName.isEmpty() ? bindingName : packageName + "." + bindingName;
+    try (Writer writer =
+        processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+      writer.write(source.toString());
+    } catch (IOException e) {
+      processingEnv
+          .getMessager()
+          .printMessage(
+              Diagnostic.Kind.ERROR, "Could not write DSL binding: " + e.getMessage(), type);
+    }
+  }
+
+  private void appendInstantiation(
+      StringBuilder source, TypeElement type, String typeName, ExecutableElement constructor) {
+    source.append("\n  @Override\n  public boolean isInstantiable() {\n    return true;\n  }\n");
+    if (type.getKind() != ElementKind.RECORD) {
+      List<String> contextMembers = new ArrayList<>();
+      for (VariableElement parameter : constructor.getParameters()) {
+        contextMembers.add(
+            "\"" + annotationValue(annotation(parameter, DSL_CONTEXT_MEMBER), "name") + "\"");
+      }
+      source.append("\n  @Override\n");
+      source.append("  public java.util.List<String> constructorContextMembers() {\n");
+      source.append("    return java.util.List.of(").append(String.join(", ", contextMembers));
+      source.append(");\n  }\n");
+    }
+    source.append("\n  @Override\n  public Object newInstance(Object[] a) {\n");
+    source.append("    return new ").append(typeName).append("(");
+    source.append(arguments(constructor)).append(");\n  }\n");
+  }
+
+  private void appendAdapters(StringBuilder source, TypeElement type, String typeName) {
+    // adapter methods are identified by their name and number of parameters
+    Map<String, ExecutableElement> adapters = new HashMap<>();
+    Set<String> ambiguous = new LinkedHashSet<>();
+    List<String> keys = new ArrayList<>();
+    for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+      if (annotation(method, DSL_TYPE_ADAPTER) == null
+          || !method.getModifiers().contains(Modifier.STATIC)
+          || method.getModifiers().contains(Modifier.PRIVATE)) {
+        continue;
+      }
+      String key = method.getSimpleName() + "/" + method.getParameters().size();
+      if (adapters.put(key, method) != null) {
+        ambiguous.add(key);
+      } else {
+        keys.add(key);
+      }
+    }
+    keys.removeAll(ambiguous);
+    if (keys.isEmpty()) {
+      return;
+    }
+
+    source.append("\n  @Override\n");
+    source.append("  public boolean hasAdapter(String methodName, int parameterCount) {\n");
+    source.append("    return switch (methodName) {\n");
+    Map<String, List<String>> countsByName = new LinkedHashMap<>();
+    for (String key : keys) {
+      ExecutableElement method = adapters.get(key);
+      countsByName
+          .computeIfAbsent(method.getSimpleName().toString(), name -> new ArrayList<>())
+          .add("parameterCount == " + method.getParameters().size());
+    }
+    for (Map.Entry<String, List<String>> entry : countsByName.entrySet()) {
+      source.append("      case \"").append(entry.getKey()).append("\" -> ");
+      source.append(String.join(" || ", entry.getValue())).append(";\n");
+    }
+    source.append("      default -> false;\n    };\n  }\n");
+
+    source.append("\n  @Override\n");
+    source.append("  public Object invokeAdapter(String methodName, Object[] a) {\n");
+    for (String key : keys) {
+      ExecutableElement method = adapters.get(key);
+      source.append("    if (methodName.equals(\"").append(method.getSimpleName());
+      source.append("\") && a.length == ").append(method.getParameters().size()).append(") {\n");
+      source.append("      return ").append(typeName).append(".").append(method.getSimpleName());
+      source.append("(").append(arguments(method)).append(");\n    }\n");
+    }
+    source.append("    return ").append(BINDING_INTERFACE).append(".super.invokeAdapter");
+    source.append("(methodName, a);\n  }\n");
+  }
+
+  private ExecutableElement instantiationConstructor(
+      TypeElement type, List<VariableElement> memberFields) {
+    if (annotation(type, DSL_TYPE) == null
+        || type.getModifiers().contains(Modifier.ABSTRACT)
+        || (type.getKind() != ElementKind.CLASS && type.getKind() != ElementKind.RECORD)) {
+      return null;
+    }
+    List<ExecutableElement> constructors =
+        ElementFilter.constructorsIn(type.getEnclosedElements());
+    if (type.getKind() == ElementKind.RECORD) {
+      // the canonical constructor is called with the values of all record components
+      List<VariableElement> components = ElementFilter.fieldsIn(type.getEnclosedElements());
+      components.removeIf(field -> field.getModifiers().contains(Modifier.STATIC));
+      boolean allMembers =
+          components.equals(memberFields)
+              && components.stream()
+                  .allMatch(field -> annotation(field, DSL_TYPE_NAME_MEMBER) == null);
+      if (!allMembers || constructors.size() != 1) {
+        return null;
+      }
+      ExecutableElement constructor = constructors.get(0);
+      return constructor.getModifiers().contains(Modifier.PRIVATE) ? null : constructor;
+    }
+
+    // inner classes can not be instantiated by the DSL
+    if (type.getNestingKind() == NestingKind.MEMBER) {
+      return null;
+    }
+    // same selection as the TypeInstantiator: the first constructor with only context members
+    for (ExecutableElement constructor : constructors) {
+      boolean onlyContextMembers =
+          constructor.getParameters().stream()
+              .allMatch(parameter -> annotation(parameter, DSL_CONTEXT_MEMBER) != null);
+      if (onlyContextMembers) {
+        return constructor.getModifiers().contains(Modifier.PRIVATE) ? null : constructor;
+      }
+    }
+    return null;
+  }
+
+  private List<VariableElement> memberFields(TypeElement type) {
+    List<VariableElement> fields = new ArrayList<>();
+    for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+      if (annotation(field, DSL_TYPE_MEMBER) != null
+          || annotation(field, DSL_TYPE_NAME_MEMBER) != null
+          || annotation(field, DSL_CALLBACK) != null) {
+        fields.add(field);
+      }
+    }
+    return fields;
+  }
+
+  private String arguments(ExecutableElement executable) {
+    List<String> arguments = new ArrayList<>();
+    List<? extends VariableElement> parameters = executable.getParameters();
+    for (int i = 0; i < parameters.size(); i++) {
+      arguments.add(cast(parameters.get(i).asType(), "a[" + i + "]"));
+    }
+    return String.join(", ", arguments);
+  }
+
+  private String cast(TypeMirror type, String argument) {
+    TypeKind kind = type.getKind();
+    return switch (kind) {
+      case BOOLEAN -> "(Boolean) " + argument;
+      case CHAR -> "(Character) " + argument;
+      case BYTE, SHORT, INT, LONG, FLOAT, DOUBLE ->
+          "((Number) " + argument + ")." + kind.name().toLowerCase() + "Value()";
+      default -> "(" + erasure(type) + ") " + argument;
+    };
+  }
+
+  private String erasure(TypeMirror type) {
+    return processingEnv.getTypeUtils().erasure(type).toString();
+  }
+
+  private static String bindingName(TypeElement type) {
+    StringBuilder name = new StringBuilder(type.getSimpleName());
+    Element enclosing = type.getEnclosingElement();
+    while (enclosing instanceof TypeElement enclosingType) {
+      name.insert(0, enclosingType.getSimpleName() + "_");
+      enclosing = enclosingType.getEnclosingElement();
+    }
+    return name + SUFFIX;
+  }
+
+  private static boolean isAccessible(TypeElement type) {
+    Element element = type;
+    while (element instanceof TypeElement typeElement) {
+      if (typeElement.getModifiers().contains(Modifier.PRIVATE)
+          || typeElement.getNestingKind() == NestingKind.LOCAL
+          || typeElement.getNestingKind() == NestingKind.ANONYMOUS) {
+        return false;
+      }
+      element = typeElement.getEnclosingElement();
+    }
+    return true;
+  }
+
+  private static String joinNames(List<VariableElement> fields) {
+    List<String> names = new ArrayList<>();
+    for (VariableElement field : fields) {
+      names.add("\"" + field.getSimpleName() + "\"");
+    }
+    return String.join(", ", names);
+  }
+
+  private static AnnotationMirror annotation(Element element, String annotationName) {
+    for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+      TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+      if (annotationType.getQualifiedName().contentEquals(annotationName)) {
+        return mirror;
+      }
+    }
+    return null;
+  }
+
+  private static Object annotationValue(AnnotationMirror mirror, String name) {
+    for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry :
+        mirror.getElementValues().entrySet()) {
+      if (entry.getKey().getSimpleName().contentEquals(name)) {
+        return entry.getValue().getValue();
+      }
+    }
+    return "";
+  }
+}